@@ -0,0 +1,104 @@
+package com.books.benchmark;
+
+import com.books.external.api.payload.kakao.response.KotlinKakaoSearchResponse;
+import com.books.external.api.payload.response.aladin.AladinBookResponse;
+import com.books.external.api.payload.response.aladin.KotlinAladinBookResponse;
+import com.books.external.api.payload.response.kakao.KakaoBookResponse;
+import com.books.external.api.payload.response.naver.KotlinNaverBookResponse;
+import com.books.external.api.payload.response.naver.NaverBookResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 제공자 응답 역직렬화: Java record vs Kotlin data class (jackson-module-kotlin), ObjectMapper 설정별.
+ * spring    - 애플리케이션과 같은 Jackson2ObjectMapperBuilder 기본 설정 (알 수 없는 필드 무시, Kotlin 모듈 자동 등록)
+ * blackbird - spring + BlackbirdModule (리플렉션 대신 LambdaMetafactory 접근자)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DeserializationBenchmark {
+
+    @Param({"spring", "blackbird"})
+    public String mapper;
+
+    private byte[] aladin;
+    private byte[] kakao;
+    private byte[] naver;
+
+    private ObjectReader aladinJava;
+    private ObjectReader aladinKotlin;
+    private ObjectReader kakaoJava;
+    private ObjectReader kakaoKotlin;
+    private ObjectReader naverJava;
+    private ObjectReader naverKotlin;
+
+    @Setup
+    public void setUp() {
+
+        aladin = Fixtures.load(Fixtures.ALADIN);
+        kakao = Fixtures.load(Fixtures.KAKAO);
+        naver = Fixtures.load(Fixtures.NAVER);
+
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("blackbird".equals(mapper)) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        ObjectMapper objectMapper = builder.build();
+
+        aladinJava = objectMapper.readerFor(AladinBookResponse.class);
+        aladinKotlin = objectMapper.readerFor(KotlinAladinBookResponse.class);
+        kakaoJava = objectMapper.readerFor(KakaoBookResponse.class);
+        kakaoKotlin = objectMapper.readerFor(KotlinKakaoSearchResponse.class);
+        naverJava = objectMapper.readerFor(NaverBookResponse.class);
+        naverKotlin = objectMapper.readerFor(KotlinNaverBookResponse.class);
+    }
+
+    @Benchmark
+    public AladinBookResponse aladinJavaRecord() throws IOException {
+
+        return aladinJava.readValue(aladin);
+    }
+
+    @Benchmark
+    public KotlinAladinBookResponse aladinKotlinDataClass() throws IOException {
+
+        return aladinKotlin.readValue(aladin);
+    }
+
+    @Benchmark
+    public KakaoBookResponse kakaoJavaRecord() throws IOException {
+
+        return kakaoJava.readValue(kakao);
+    }
+
+    @Benchmark
+    public KotlinKakaoSearchResponse kakaoKotlinDataClass() throws IOException {
+
+        return kakaoKotlin.readValue(kakao);
+    }
+
+    @Benchmark
+    public NaverBookResponse naverJavaRecord() throws IOException {
+
+        return naverJava.readValue(naver);
+    }
+
+    @Benchmark
+    public KotlinNaverBookResponse naverKotlinDataClass() throws IOException {
+
+        return naverKotlin.readValue(naver);
+    }
+}
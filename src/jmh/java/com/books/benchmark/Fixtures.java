@@ -0,0 +1,30 @@
+package com.books.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * src/test/resources/fixtures 의 실제 크기 응답 (알라딘 50건, 카카오 50건, 네이버 100건)
+ */
+public final class Fixtures {
+
+    public static final String ALADIN = "fixtures/aladin-search-50.json";
+    public static final String KAKAO = "fixtures/kakao-search-50.json";
+    public static final String NAVER = "fixtures/naver-search-100.json";
+
+    private Fixtures() {
+    }
+
+    public static byte[] load(String path) {
+
+        try (InputStream in = Fixtures.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException(path + " not found");
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
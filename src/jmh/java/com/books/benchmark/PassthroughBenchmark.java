@@ -0,0 +1,92 @@
+package com.books.benchmark;
+
+import com.books.external.api.payload.response.aladin.AladinBookResponse;
+import com.books.external.application.passthrough.JsonFieldStripper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+/**
+ * 단일 제공자 응답 처리 비용 (알라딘 50건, 8KB 청크로 도착한다고 가정).
+ * decodeEncode - 기존 경로: record 로 역직렬화 후 다시 직렬화
+ * strip        - passthrough + 스트리밍 필드 제거 (application.yml 의 알라딘 strip-fields)
+ * raw          - passthrough 만: 버퍼를 그대로 넘김 (비교 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PassthroughBenchmark {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private byte[] aladin;
+    private ObjectMapper objectMapper;
+    private JsonFieldStripper stripper;
+
+    @Setup
+    public void setUp() {
+
+        aladin = Fixtures.load(Fixtures.ALADIN);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        stripper = new JsonFieldStripper(objectMapper.getFactory(), Set.of("version", "logo", "searchCategoryId",
+            "searchCategoryName", "mallType", "stockStatus", "mileage", "salesPoint", "customerReviewRank", "bestRank",
+            "fixedPrice", "searchTarget"));
+    }
+
+    @Benchmark
+    public byte[] decodeEncode() throws IOException {
+
+        DataBuffer joined = DataBufferUtils.join(Flux.fromIterable(chunks())).block();
+        try {
+            AladinBookResponse response = objectMapper.readValue(joined.asInputStream(), AladinBookResponse.class);
+            return objectMapper.writeValueAsBytes(response);
+        } finally {
+            DataBufferUtils.release(joined);
+        }
+    }
+
+    @Benchmark
+    public long strip() {
+
+        return stripper.strip(Flux.fromIterable(chunks()), DefaultDataBufferFactory.sharedInstance)
+            .map(DataBuffer::readableByteCount)
+            .reduce(0L, Long::sum)
+            .block();
+    }
+
+    @Benchmark
+    public long raw() {
+
+        return Flux.fromIterable(chunks())
+            .map(DataBuffer::readableByteCount)
+            .reduce(0L, Long::sum)
+            .block();
+    }
+
+    // 네트워크에서 받은 버퍼 흉내: 매 호출 새로 복사해 각 경로가 같은 입력 비용을 치르게 한다
+    private List<DataBuffer> chunks() {
+
+        List<DataBuffer> chunks = new ArrayList<>();
+        for (int offset = 0; offset < aladin.length; offset += CHUNK_SIZE) {
+            chunks.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                Arrays.copyOfRange(aladin, offset, Math.min(aladin.length, offset + CHUNK_SIZE))));
+        }
+        return chunks;
+    }
+}
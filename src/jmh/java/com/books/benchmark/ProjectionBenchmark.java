@@ -0,0 +1,84 @@
+package com.books.benchmark;
+
+import com.books.book.domain.Book;
+import com.books.external.api.payload.response.aladin.AladinBookResponse;
+import com.books.external.api.payload.response.kakao.KakaoBookResponse;
+import com.books.external.api.payload.response.naver.NaverBookResponse;
+import com.books.external.api.payload.response.projection.ProjectedSearchResponse;
+import com.books.external.application.BookMapper;
+import com.books.external.application.BookProvider;
+import com.books.external.application.projection.BookField;
+import com.books.external.application.projection.ProjectionDecoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * fields= projection 디코딩 vs 전체 역직렬화 + BookMapper (-prof gc 의 gc.alloc.rate.norm 으로 요청당 할당량 비교).
+ * full      - 기존 경로: record 로 전체 역직렬화 후 Book 으로 변환
+ * summary   - title, authors, isbn, price, cover 만
+ * all       - projection 디코더로 모든 필드 (스트리밍 파서 자체 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProjectionBenchmark {
+
+    private static final Set<BookField> SUMMARY =
+        EnumSet.of(BookField.TITLE, BookField.AUTHORS, BookField.ISBN, BookField.PRICE, BookField.COVER);
+
+    @Param({"aladin", "kakao", "naver"})
+    public String provider;
+
+    private BookProvider bookProvider;
+    private byte[] body;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+
+        bookProvider = BookProvider.valueOf(provider.toUpperCase(Locale.ROOT));
+        body = Fixtures.load(switch (bookProvider) {
+            case ALADIN -> Fixtures.ALADIN;
+            case KAKAO -> Fixtures.KAKAO;
+            case NAVER -> Fixtures.NAVER;
+        });
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public List<Book> full() throws IOException {
+
+        return switch (bookProvider) {
+            case ALADIN -> objectMapper.readValue(body, AladinBookResponse.class).item().stream().map(BookMapper::from).toList();
+            case KAKAO -> objectMapper.readValue(body, KakaoBookResponse.class).documents().stream().map(BookMapper::from).toList();
+            case NAVER -> objectMapper.readValue(body, NaverBookResponse.class).items().stream().map(BookMapper::from).toList();
+        };
+    }
+
+    @Benchmark
+    public ProjectedSearchResponse summary() throws IOException {
+
+        return ProjectionDecoder.decode(bookProvider, new ByteArrayInputStream(body), SUMMARY);
+    }
+
+    @Benchmark
+    public ProjectedSearchResponse all() throws IOException {
+
+        return ProjectionDecoder.decode(bookProvider, new ByteArrayInputStream(body), EnumSet.allOf(BookField.class));
+    }
+}
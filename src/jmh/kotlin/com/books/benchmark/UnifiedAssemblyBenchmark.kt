@@ -0,0 +1,100 @@
+package com.books.benchmark
+
+import com.books.book.application.BookCatalogWriter
+import com.books.book.domain.Book
+import com.books.book.domain.BookMerger
+import com.books.config.BlockingIo
+import com.books.config.BooksProperties
+import com.books.external.api.payload.kakao.request.KotlinKakaoSearchRequest
+import com.books.external.api.payload.kakao.response.KotlinKakaoSearchResponse
+import com.books.external.api.payload.request.aladin.KotlinAladinBookRequest
+import com.books.external.api.payload.request.naver.KotlinNaverSearchRequest
+import com.books.external.api.payload.response.aladin.KotlinAladinBookResponse
+import com.books.external.api.payload.response.naver.KotlinNaverBookResponse
+import com.books.external.application.BookMapper
+import com.books.external.application.KotlinUnifiedBooksFacade
+import com.books.external.application.UnifiedSearchResult
+import com.books.external.application.aladin.KotlinAladinBookService
+import com.books.external.application.cache.SearchResponseCache
+import com.books.external.application.canonical.QueryCanonicalizer
+import com.books.external.application.hotkeys.HotKeywordTracker
+import com.books.external.application.kakao.KotlinKakaoBooksService
+import com.books.external.application.metrics.FacadeMetrics
+import com.books.external.application.naver.KotlinNaverBookService
+import com.books.external.application.searchlog.SearchLogStatistics
+import com.books.external.application.searchlog.SearchLogWriter
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.module.kotlin.readValue
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import kotlinx.coroutines.runBlocking
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.springframework.boot.context.properties.bind.Binder
+import org.springframework.core.env.StandardEnvironment
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder
+import org.springframework.jdbc.core.JdbcTemplate
+import reactor.core.publisher.Mono
+import java.util.concurrent.TimeUnit
+
+// 통합 검색 결과 조립 비용 (제공자 응답은 역직렬화된 상태로 고정)
+// mapAndMerge - 세 응답을 Book 으로 매핑하고 ISBN13 으로 병합
+// searchAll   - KotlinUnifiedBooksFacade.searchAll 전체 (캐시 적중 + 코루틴 병렬 호출 + 조립)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+open class UnifiedAssemblyBenchmark {
+
+    private lateinit var aladin: KotlinAladinBookResponse
+    private lateinit var kakao: KotlinKakaoSearchResponse
+    private lateinit var naver: KotlinNaverBookResponse
+    private lateinit var facade: KotlinUnifiedBooksFacade
+
+    @Setup
+    fun setUp() {
+        val objectMapper = Jackson2ObjectMapperBuilder.json().build<ObjectMapper>()
+        aladin = objectMapper.readValue(Fixtures.load(Fixtures.ALADIN))
+        kakao = objectMapper.readValue(Fixtures.load(Fixtures.KAKAO))
+        naver = objectMapper.readValue(Fixtures.load(Fixtures.NAVER))
+
+        val properties = Binder.get(StandardEnvironment()).bindOrCreate("books", BooksProperties::class.java)
+
+        facade = KotlinUnifiedBooksFacade(
+            object : KotlinAladinBookService {
+                override suspend fun search(request: KotlinAladinBookRequest) = aladin
+                override fun searchMono(request: KotlinAladinBookRequest) = Mono.just(aladin)
+            },
+            object : KotlinKakaoBooksService {
+                override suspend fun search(request: KotlinKakaoSearchRequest) = kakao
+                override fun searchMono(request: KotlinKakaoSearchRequest) = Mono.just(kakao)
+            },
+            object : KotlinNaverBookService {
+                override suspend fun search(request: KotlinNaverSearchRequest) = naver
+                override fun searchMono(request: KotlinNaverSearchRequest) = Mono.just(naver)
+            },
+            SearchResponseCache(properties),
+            // 시작하지 않은 writer: 캐시 미스일 때 큐에만 쌓인다
+            BookCatalogWriter(JdbcTemplate(), properties),
+            FacadeMetrics(SimpleMeterRegistry()),
+            // 시작하지 않은 writer: ring buffer 가 차면 이후 검색 로그는 버려진다 (dropped 카운터만 증가)
+            SearchLogWriter(JdbcTemplate(), properties),
+            SearchLogStatistics(JdbcTemplate(), BlockingIo.platform()),
+            HotKeywordTracker(properties),
+            QueryCanonicalizer(properties)
+        )
+    }
+
+    @Benchmark
+    fun mapAndMerge(): List<Book> = BookMerger.merge(
+        aladin.item.map { BookMapper.from(it) } +
+            kakao.documents.map { BookMapper.from(it) } +
+            naver.items.map { BookMapper.from(it) }
+    )
+
+    @Benchmark
+    fun searchAll(): UnifiedSearchResult = runBlocking { facade.searchAll("클린 코드") }
+}
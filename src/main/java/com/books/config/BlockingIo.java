@@ -0,0 +1,45 @@
+package com.books.config;
+
+import java.util.concurrent.Executor;
+import kotlinx.coroutines.CoroutineDispatcher;
+import kotlinx.coroutines.Dispatchers;
+import kotlinx.coroutines.ExecutorsKt;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 블로킹 호출(JPA / JDBC, InputStream 읽기)을 넘기는 곳. Reactor 는 scheduler, 코루틴은 dispatcher 를 쓴다.
+ * 플랫폼 스레드 모드는 기존대로 boundedElastic / Dispatchers.IO (둘 다 스레드 수 상한이 있음),
+ * 가상 스레드 모드는 작업마다 가상 스레드를 만들어 블로킹 동시성이 스레드 풀 크기에 묶이지 않는다.
+ */
+public final class BlockingIo {
+
+    private final Scheduler scheduler;
+    private final CoroutineDispatcher dispatcher;
+
+    private BlockingIo(Scheduler scheduler, CoroutineDispatcher dispatcher) {
+
+        this.scheduler = scheduler;
+        this.dispatcher = dispatcher;
+    }
+
+    public static BlockingIo platform() {
+
+        return new BlockingIo(Schedulers.boundedElastic(), Dispatchers.getIO());
+    }
+
+    public static BlockingIo on(Executor executor) {
+
+        return new BlockingIo(Schedulers.fromExecutor(executor), ExecutorsKt.from(executor));
+    }
+
+    public Scheduler scheduler() {
+
+        return scheduler;
+    }
+
+    public CoroutineDispatcher dispatcher() {
+
+        return dispatcher;
+    }
+}
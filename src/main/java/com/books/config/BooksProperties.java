@@ -0,0 +1,241 @@
+package com.books.config;
+
+import com.books.external.application.BookProvider;
+import com.books.external.application.canonical.CanonicalRule;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "books")
+public record BooksProperties(
+
+        @DefaultValue ProviderProperties aladin,
+        @DefaultValue ProviderProperties kakao,
+        @DefaultValue ProviderProperties naver,
+        @DefaultValue HealthProperties health,
+        @DefaultValue CatalogProperties catalog,
+        @DefaultValue BulkProperties bulk,
+        @DefaultValue VirtualThreadsProperties virtualThreads,
+        @DefaultValue SearchLogProperties searchLog,
+        @DefaultValue HotKeywordsProperties hotKeywords,
+        @DefaultValue DiskCacheProperties diskCache,
+        @DefaultValue MissingIsbnProperties missingIsbn,
+        @DefaultValue CanonicalProperties canonical) {
+
+    public ProviderProperties provider(BookProvider provider) {
+
+        return switch (provider) {
+            case ALADIN -> aladin;
+            case KAKAO -> kakao;
+            case NAVER -> naver;
+        };
+    }
+
+    /**
+     * deadline - 통합 검색에서 제공자 응답을 기다리는 최대 시간 (초과 시 TIMEOUT 으로 부분 결과 반환)
+     * bulk-concurrency - ISBN 일괄 조회에서 이 제공자로 동시에 보내는 최대 요청 수
+     * base-url - API 주소 재정의 (없으면 BookProvider 의 실제 주소, 부하 테스트에서 가짜 제공자로 교체)
+     */
+    public record ProviderProperties(
+
+            String baseUrl,
+            @DefaultValue("3s") Duration deadline,
+            @DefaultValue("8") int bulkConcurrency,
+            @DefaultValue HttpProperties http,
+            @DefaultValue CacheProperties cache,
+            @DefaultValue CircuitBreakerProperties circuitBreaker,
+            @DefaultValue RateLimitProperties rateLimit,
+            @DefaultValue RetryProperties retry,
+            @DefaultValue PassthroughProperties passthrough) {
+    }
+
+    /**
+     * books.&lt;provider&gt;.http.* - 제공자별 커넥션 풀과 타임아웃
+     */
+    public record HttpProperties(
+
+            @DefaultValue("50") int maxConnections,
+            @DefaultValue("100") int pendingAcquireMaxCount,
+            @DefaultValue("2s") Duration pendingAcquireTimeout,
+            @DefaultValue("20s") Duration maxIdleTime,
+            @DefaultValue("5m") Duration maxLifeTime,
+            @DefaultValue("30s") Duration evictionInterval,
+            @DefaultValue("2s") Duration connectTimeout,
+            @DefaultValue("5s") Duration responseTimeout,
+            @DefaultValue("5s") Duration readTimeout,
+            @DefaultValue("5s") Duration writeTimeout,
+            @DefaultValue("true") boolean keepAlive) {
+    }
+
+    /**
+     * books.&lt;provider&gt;.cache.* - 검색 응답 캐시 TTL 과 추정 바이트 기준 최대 크기.
+     * 결과가 0건인 응답은 negative-ttl 동안만 보관한다 (L2 에는 쓰지 않음)
+     */
+    public record CacheProperties(
+
+            @DefaultValue("10m") Duration ttl,
+            @DefaultValue("32MB") DataSize maxSize,
+            @DefaultValue("30s") Duration negativeTtl) {
+    }
+
+    /**
+     * books.&lt;provider&gt;.circuit-breaker.* - 최근 N건 기준 실패율 / 느린 호출 비율 임계치
+     */
+    public record CircuitBreakerProperties(
+
+            @DefaultValue("20") int slidingWindowSize,
+            @DefaultValue("10") int minimumNumberOfCalls,
+            @DefaultValue("50") float failureRateThreshold,
+            @DefaultValue("2s") Duration slowCallDurationThreshold,
+            @DefaultValue("80") float slowCallRateThreshold,
+            @DefaultValue("30s") Duration waitDurationInOpenState,
+            @DefaultValue("3") int permittedCallsInHalfOpenState) {
+    }
+
+    /**
+     * books.&lt;provider&gt;.rate-limit.* - 초당 요청 수 / 버스트, 토큰 대기 한도, 일일 쿼터 (0 이면 제한 없음)
+     */
+    public record RateLimitProperties(
+
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("10") double permitsPerSecond,
+            @DefaultValue("10") int burst,
+            @DefaultValue("500ms") Duration maxWait,
+            @DefaultValue("0") long dailyQuota) {
+    }
+
+    /**
+     * books.&lt;provider&gt;.retry.* - 최대 시도 횟수(첫 호출 포함), 백오프 범위, 요청 대비 재시도 예산 비율 / 최대 적립 횟수
+     */
+    public record RetryProperties(
+
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("3") int maxAttempts,
+            @DefaultValue("50ms") Duration initialBackoff,
+            @DefaultValue("1s") Duration maxBackoff,
+            @DefaultValue("10") double budgetPercent,
+            @DefaultValue("10") int budgetBurst) {
+    }
+
+    /**
+     * books.&lt;provider&gt;.passthrough.* - passthrough 응답에서 스트리밍으로 걷어낼 제공자 내부 필드 (모든 깊이의 같은 이름, 비어 있으면 원본 그대로)
+     */
+    public record PassthroughProperties(
+
+            @DefaultValue List<String> stripFields) {
+    }
+
+    /**
+     * books.health.* - 실제 트래픽 기반 제공자 상태 집계와 유휴 제공자 프로브
+     * slow-call-threshold - 응답 전에 취소된 호출 중 이 시간을 넘긴 것은 실패로 기록한다 (제공자 deadline 보다 짧게)
+     */
+    public record HealthProperties(
+
+            @DefaultValue("100") int sampleSize,
+            @DefaultValue("5m") Duration window,
+            @DefaultValue("0.9") double degradedBelow,
+            @DefaultValue("0.5") double downBelow,
+            @DefaultValue("true") boolean probeEnabled,
+            @DefaultValue("1m") Duration idleProbeAfter,
+            @DefaultValue("1s") Duration slowCallThreshold) {
+    }
+
+    /**
+     * books.catalog.* - 검색 결과를 로컬 카탈로그에 반영하는 write-behind 큐
+     */
+    public record CatalogProperties(
+
+            @DefaultValue("10000") int queueCapacity,
+            @DefaultValue("500") int batchSize,
+            @DefaultValue("500ms") Duration flushInterval) {
+    }
+
+    /**
+     * books.bulk.* - ISBN 일괄 조회의 전체 동시 처리 수와 요청당 최대 ISBN 수
+     */
+    public record BulkProperties(
+
+            @DefaultValue("32") int concurrency,
+            @DefaultValue("10000") int maxItems) {
+    }
+
+    /**
+     * books.virtual-threads.* - 가상 스레드 모드에서 이 시간 이상 캐리어 스레드에 고정(pinned)된 경우를 메트릭으로 기록
+     */
+    public record VirtualThreadsProperties(
+
+            @DefaultValue("20ms") Duration pinnedThreshold) {
+    }
+
+    /**
+     * books.search-log.* - 검색 로그 ring buffer (capacity 는 2 의 거듭제곱으로 올림) 와 H2 batch 반영 주기.
+     * search_log 원본 행은 retention 이 지나거나 최근 max-rows 행 밖으로 밀려나면 prune-interval 마다 지운다 (집계는 남는다)
+     */
+    public record SearchLogProperties(
+
+            @DefaultValue("16384") int bufferCapacity,
+            @DefaultValue("500") int batchSize,
+            @DefaultValue("500ms") Duration flushInterval,
+            @DefaultValue("1h") Duration retention,
+            @DefaultValue("100000") long maxRows,
+            @DefaultValue("1m") Duration pruneInterval) {
+    }
+
+    /**
+     * books.hot-keywords.* - 인기 검색어 집계 (window 를 buckets 개로 나눈 Count-Min Sketch, width 는 2 의 거듭제곱으로 올림) 와
+     * 상위 prewarm-count 개 키워드의 통합 검색 캐시를 만료 refresh-ahead 전에 다시 채우는 주기
+     */
+    public record HotKeywordsProperties(
+
+            @DefaultValue("10m") Duration window,
+            @DefaultValue("10") int buckets,
+            @DefaultValue("4") int depth,
+            @DefaultValue("1024") int width,
+            @DefaultValue("50") int topK,
+            @DefaultValue("true") boolean prewarmEnabled,
+            @DefaultValue("20") int prewarmCount,
+            @DefaultValue("30s") Duration refreshInterval,
+            @DefaultValue("2m") Duration refreshAhead) {
+    }
+
+    /**
+     * books.disk-cache.* - 검색 응답 L2 (directory 아래 segment-size 크기 memory-mapped 파일, 전체 max-size 까지).
+     * 살아 있는 항목이 compact-below 비율 아래로 줄어든 segment 는 compact-interval 마다 새 segment 로 옮겨 정리한다
+     */
+    public record DiskCacheProperties(
+
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("search-cache") String directory,
+            @DefaultValue("1h") Duration ttl,
+            @DefaultValue("64MB") DataSize segmentSize,
+            @DefaultValue("1GB") DataSize maxSize,
+            @DefaultValue("8192") int bufferCapacity,
+            @DefaultValue("0.5") double compactBelow,
+            @DefaultValue("1m") Duration compactInterval) {
+    }
+
+    /**
+     * books.missing-isbn.* - 모든 제공자에서 없다고 확인된 ISBN 의 Bloom filter (expected-entries 개 기준 false-positive-rate).
+     * 확인 후 ttl 이 지난 ISBN 은 rebuild-interval 마다 filter 를 새로 만들 때 빠진다
+     */
+    public record MissingIsbnProperties(
+
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("100000") int expectedEntries,
+            @DefaultValue("0.001") double falsePositiveRate,
+            @DefaultValue("6h") Duration ttl,
+            @DefaultValue("5m") Duration rebuildInterval) {
+    }
+
+    /**
+     * books.canonical.* - 검색 요청 정규화. disabled-rules 에 적은 규칙(nfc, isbn, punctuation, whitespace, case, defaults)만 끈다
+     */
+    public record CanonicalProperties(
+
+            @DefaultValue("true") boolean enabled,
+            Set<CanonicalRule> disabledRules) {
+    }
+}
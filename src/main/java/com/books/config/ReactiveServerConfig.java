@@ -0,0 +1,22 @@
+package com.books.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * reactive 모드 (spring.main.web-application-type=reactive) 의 내장 서버.
+ * Tomcat 이 클래스패스에 있으면 자동 설정이 Tomcat 을 reactive 어댑터로 띄우므로 Reactor Netty 를 직접 지정한다.
+ * 요청은 Netty 이벤트 루프에서 처리되므로 블로킹 호출(JPA 등)은 BlockingIo 로 넘겨야 한다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+
+        return new NettyReactiveWebServerFactory();
+    }
+}
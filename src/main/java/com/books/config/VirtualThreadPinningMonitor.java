@@ -0,0 +1,105 @@
+package com.books.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정(pinned)되는 구간을 JFR 이벤트 스트림으로 받아 메트릭으로 남긴다.
+ * Java 21 에서는 synchronized 블록 / 네이티브 프레임 안에서 블로킹하면 고정되며, H2 / JDBC 드라이버의 모니터가 대표적이다.
+ * 메트릭: books.virtualthreads.pinned{site} (고정 시간), books.virtualthreads.submit.failed
+ * site 는 스택에서 JDK 밖의 첫 프레임 (클래스.메서드) 이라 고정을 일으킨 라이브러리 / 코드 위치를 가리킨다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED = "jdk.VirtualThreadSubmitFailed";
+
+    private static final List<String> PLATFORM_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final MeterRegistry registry;
+    private final Duration threshold;
+    private final Counter submitFailed;
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry registry, BooksProperties properties) {
+
+        this.registry = registry;
+        this.threshold = properties.virtualThreads().pinnedThreshold();
+        this.submitFailed = Counter.builder("books.virtualthreads.submit.failed")
+            .description("virtual thread start / unpark failures")
+            .register(registry);
+    }
+
+    @Override
+    public void start() {
+
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED).withThreshold(threshold).withStackTrace();
+        recording.enable(SUBMIT_FAILED);
+        recording.onEvent(PINNED, this::onPinned);
+        recording.onEvent(SUBMIT_FAILED, event -> submitFailed.increment());
+        recording.startAsync();
+
+        stream = recording;
+        log.info("virtual thread pinning monitor started (threshold {})", threshold);
+    }
+
+    @Override
+    public void stop() {
+
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+
+        Timer.builder("books.virtualthreads.pinned")
+            .description("time a virtual thread stayed pinned to its carrier")
+            .tag("site", site(event.getStackTrace()))
+            .register(registry)
+            .record(event.getDuration());
+    }
+
+    static String site(RecordedStackTrace stackTrace) {
+
+        if (stackTrace == null) {
+            return "unknown";
+        }
+
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame() || frame.getMethod() == null) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (PLATFORM_PACKAGES.stream().noneMatch(type::startsWith)) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return "jdk";
+    }
+}
@@ -0,0 +1,30 @@
+package com.books.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true, virtual-threads 프로필).
+ * Spring Boot 가 Tomcat 요청 처리와 @Scheduled 를 가상 스레드로 바꾸고,
+ * 여기서는 우리 코드가 블로킹 호출을 넘기는 BlockingIo 를 맞춘다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class VirtualThreadsConfig {
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public BlockingIo virtualBlockingIo() {
+
+        return BlockingIo.on(new VirtualThreadTaskExecutor("books-io-"));
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public BlockingIo platformBlockingIo() {
+
+        return BlockingIo.platform();
+    }
+}
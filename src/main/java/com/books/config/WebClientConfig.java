@@ -1,33 +1,143 @@
 package com.books.config;
 
+import com.books.external.application.BookProvider;
+import com.books.external.application.health.ProviderHealthTracker;
+import com.books.external.application.metrics.ProviderCallMetrics;
+import com.books.external.application.resilience.ProviderRateLimiters;
+import com.books.external.application.resilience.ProviderRetries;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
+@EnableConfigurationProperties(BooksProperties.class)
 public class WebClientConfig {
 
+    private final BooksProperties properties;
+    private final ProviderHealthTracker healthTracker;
+    private final ProviderRateLimiters rateLimiters;
+    private final ProviderRetries retries;
+    private final ProviderCallMetrics callMetrics;
+
+    public WebClientConfig(
+        BooksProperties properties,
+        ProviderHealthTracker healthTracker,
+        ProviderRateLimiters rateLimiters,
+        ProviderRetries retries,
+        ProviderCallMetrics callMetrics) {
+        this.properties = properties;
+        this.healthTracker = healthTracker;
+        this.rateLimiters = rateLimiters;
+        this.retries = retries;
+        this.callMetrics = callMetrics;
+    }
+
+    @Bean(name = "naverConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider naverConnectionProvider() {
+
+        return connectionProvider(BookProvider.NAVER);
+    }
+
+    @Bean(name = "kakaoConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider kakaoConnectionProvider() {
+
+        return connectionProvider(BookProvider.KAKAO);
+    }
+
+    @Bean(name = "aladinConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider aladinConnectionProvider() {
+
+        return connectionProvider(BookProvider.ALADIN);
+    }
+
     @Bean(name = "naverWebClient")
-    public WebClient naverWebClient() {
+    public WebClient naverWebClient(
+        @Qualifier("naverConnectionProvider") ConnectionProvider connectionProvider) {
 
         return WebClient.builder()
-                .baseUrl("https://openapi.naver.com")
+                .baseUrl(baseUrl(BookProvider.NAVER))
+                .clientConnector(connector(BookProvider.NAVER, connectionProvider))
+                .filter(callMetrics.filter(BookProvider.NAVER))
+                .filter(retries.filter(BookProvider.NAVER))
+                .filter(rateLimiters.filter(BookProvider.NAVER))
+                .filter(healthTracker.filter(BookProvider.NAVER))
                 .build();
     }
 
     @Bean(name = "kakaoWebClient")
-    public WebClient kakaoWebClient() {
+    public WebClient kakaoWebClient(
+        @Qualifier("kakaoConnectionProvider") ConnectionProvider connectionProvider) {
 
         return WebClient.builder()
-                .baseUrl("https://dapi.kakao.com")
+                .baseUrl(baseUrl(BookProvider.KAKAO))
+                .clientConnector(connector(BookProvider.KAKAO, connectionProvider))
+                .filter(callMetrics.filter(BookProvider.KAKAO))
+                .filter(retries.filter(BookProvider.KAKAO))
+                .filter(rateLimiters.filter(BookProvider.KAKAO))
+                .filter(healthTracker.filter(BookProvider.KAKAO))
                 .build();
     }
 
     @Bean(name = "aladinWebClient")
-    public WebClient aladinWebClient() {
+    public WebClient aladinWebClient(
+        @Qualifier("aladinConnectionProvider") ConnectionProvider connectionProvider) {
 
         return WebClient.builder()
-                .baseUrl("http://www.aladin.co.kr")
+                .baseUrl(baseUrl(BookProvider.ALADIN))
+                .clientConnector(connector(BookProvider.ALADIN, connectionProvider))
+                .filter(callMetrics.filter(BookProvider.ALADIN))
+                .filter(retries.filter(BookProvider.ALADIN))
+                .filter(rateLimiters.filter(BookProvider.ALADIN))
+                .filter(healthTracker.filter(BookProvider.ALADIN))
                 .build();
     }
-}
\ No newline at end of file
+
+    private String baseUrl(BookProvider provider) {
+
+        return Objects.requireNonNullElse(properties.provider(provider).baseUrl(), provider.defaultBaseUrl());
+    }
+
+    // 제공자별 전용 풀: 느린 제공자가 다른 제공자의 커넥션을 점유하지 않도록 분리
+    // metrics(true) -> reactor.netty.connection.provider.{active,idle,pending}.connections{name=<provider>}
+    private ConnectionProvider connectionProvider(BookProvider provider) {
+
+        BooksProperties.HttpProperties http = properties.provider(provider).http();
+
+        return ConnectionProvider.builder(provider.id())
+                .maxConnections(http.maxConnections())
+                .pendingAcquireMaxCount(http.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(http.pendingAcquireTimeout())
+                .maxIdleTime(http.maxIdleTime())
+                .maxLifeTime(http.maxLifeTime())
+                .evictInBackground(http.evictionInterval())
+                .metrics(true)
+                .build();
+    }
+
+    private ReactorClientHttpConnector connector(BookProvider provider, ConnectionProvider connectionProvider) {
+
+        BooksProperties.HttpProperties http = properties.provider(provider).http();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) http.connectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, http.keepAlive())
+                .keepAlive(http.keepAlive())
+                .responseTimeout(http.responseTimeout())
+                // 요청 단위로 추가된 핸들러는 커넥션이 풀로 반환될 때 제거된다
+                .doOnRequest((request, connection) -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(http.readTimeout().toMillis(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(http.writeTimeout().toMillis(), TimeUnit.MILLISECONDS)));
+
+        return new ReactorClientHttpConnector(httpClient);
+    }
+}
@@ -0,0 +1,103 @@
+package com.books.external.api;
+
+import com.books.config.BlockingIo;
+import com.books.external.api.payload.response.bulk.IsbnLookupResult;
+import com.books.external.application.bulk.BulkIsbnLookupService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * ISBN 일괄 조회. 결과는 조회가 끝나는 순서대로 한 줄씩 (NDJSON) 내려간다.
+ */
+@Tag(name = "외부 도서 호출")
+@RestController
+@RequestMapping("/api/external/isbn")
+public class BulkIsbnController {
+
+    private final BulkIsbnLookupService bulkIsbnLookupService;
+
+    public BulkIsbnController(BulkIsbnLookupService bulkIsbnLookupService) {
+        this.bulkIsbnLookupService = bulkIsbnLookupService;
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<IsbnLookupResult> lookup(@RequestBody List<String> isbns) {
+
+        return bulkIsbnLookupService.lookup(isbns);
+    }
+
+    // 한 줄에 ISBN 하나 ("9788966260959" 또는 따옴표 없이). 본문을 다 받기 전에 조회를 시작한다
+    private static Flux<IsbnLookupResult> lookupLines(BulkIsbnLookupService service, Flux<String> lines) {
+
+        return service.lookup(lines
+            .map(BulkIsbnController::unquote)
+            .filter(line -> !line.isEmpty()));
+    }
+
+    private static String unquote(String line) {
+
+        String trimmed = line.strip();
+
+        return trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")
+            ? trimmed.substring(1, trimmed.length() - 1).strip()
+            : trimmed;
+    }
+
+    // 서블릿 모드: 요청 본문 InputStream 을 BlockingIo 에서 줄 단위로 읽는다
+    @RestController
+    @RequestMapping("/api/external/isbn")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletNdjson {
+
+        private final BulkIsbnLookupService bulkIsbnLookupService;
+        private final BlockingIo blockingIo;
+
+        ServletNdjson(BulkIsbnLookupService bulkIsbnLookupService, BlockingIo blockingIo) {
+            this.bulkIsbnLookupService = bulkIsbnLookupService;
+            this.blockingIo = blockingIo;
+        }
+
+        @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public Flux<IsbnLookupResult> lookupStream(InputStream body) {
+
+            Flux<String> lines = Flux.fromStream(
+                    () -> new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)).lines())
+                .subscribeOn(blockingIo.scheduler());
+
+            return lookupLines(bulkIsbnLookupService, lines);
+        }
+    }
+
+    // reactive 모드: StringDecoder 가 본문을 줄 단위로 나눠 도착하는 대로 흘려보낸다
+    @RestController
+    @RequestMapping("/api/external/isbn")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactiveNdjson {
+
+        private final BulkIsbnLookupService bulkIsbnLookupService;
+
+        ReactiveNdjson(BulkIsbnLookupService bulkIsbnLookupService) {
+            this.bulkIsbnLookupService = bulkIsbnLookupService;
+        }
+
+        @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public Flux<IsbnLookupResult> lookupStream(@RequestBody Flux<String> lines) {
+
+            return lookupLines(bulkIsbnLookupService, lines);
+        }
+    }
+}
@@ -6,13 +6,20 @@ import com.books.external.api.payload.request.naver.NaverSearchRequest;
 import com.books.external.api.payload.response.aladin.AladinBookResponse;
 import com.books.external.api.payload.response.kakao.KakaoBookResponse;
 import com.books.external.api.payload.response.naver.NaverBookResponse;
+import com.books.external.api.payload.response.projection.ProjectedSearchResponse;
+import com.books.external.api.payload.response.unified.UnifiedBookResponse;
 import com.books.external.application.ExternalBooksFacade;
+import com.books.external.application.hotkeys.HotKeyword;
+import com.books.external.application.projection.BookField;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Mono;
 
@@ -48,4 +55,43 @@ public class ExternalController {
 
         return ResponseEntity.ok(booksFacade.search(request));
     }
+
+    // ?fields=title,authors,isbn,price,cover 처럼 필요한 필드만 받는다 (passthrough=true 와 함께 쓰면 passthrough 가 우선)
+    @PostMapping(value = "/aladin", params = {"fields", "passthrough!=true"})
+    public ResponseEntity<Mono<ProjectedSearchResponse>> search(
+        @RequestBody AladinBookRequest request,
+        @RequestParam String fields) {
+
+        return ResponseEntity.ok(booksFacade.search(request, BookField.parse(fields)));
+    }
+
+    @PostMapping(value = "/kakao", params = {"fields", "passthrough!=true"})
+    public ResponseEntity<Mono<ProjectedSearchResponse>> search(
+        @RequestBody KakaoSearchRequest request,
+        @RequestParam String fields) {
+
+        return ResponseEntity.ok(booksFacade.search(request, BookField.parse(fields)));
+    }
+
+    @PostMapping(value = "/naver", params = {"fields", "passthrough!=true"})
+    public ResponseEntity<Mono<ProjectedSearchResponse>> search(
+        @RequestBody NaverSearchRequest request,
+        @RequestParam String fields) {
+
+        return ResponseEntity.ok(booksFacade.search(request, BookField.parse(fields)));
+    }
+
+    @GetMapping(value = "/unified")
+    public ResponseEntity<Mono<UnifiedBookResponse>> searchAll(
+        @RequestParam String keyword) {
+
+        return ResponseEntity.ok(booksFacade.searchAll(keyword));
+    }
+
+    @GetMapping(value = "/keywords/hot")
+    public ResponseEntity<List<HotKeyword>> hotKeywords(
+        @RequestParam(defaultValue = "20") int limit) {
+
+        return ResponseEntity.ok(booksFacade.hotKeywords(limit));
+    }
 }
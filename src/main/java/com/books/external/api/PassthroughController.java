@@ -0,0 +1,111 @@
+package com.books.external.api;
+
+import com.books.external.api.payload.request.aladin.AladinBookRequest;
+import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
+import com.books.external.api.payload.request.naver.NaverSearchRequest;
+import com.books.external.application.passthrough.ProviderPassthrough;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 단일 제공자 검색의 passthrough 모드 (?passthrough=true). upstream 본문을 역직렬화하지 않고 그대로 흘려보낸다.
+ * reactive 모드는 DataBuffer 를 그대로 쓰고, 서블릿 모드는 StreamingResponseBody 로 비동기 실행기에서 복사한다.
+ */
+final class PassthroughController {
+
+    private PassthroughController() {
+    }
+
+    @Tag(name = "외부 도서 호출")
+    @RestController
+    @RequestMapping("/api/external")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class Reactive {
+
+        private final ProviderPassthrough passthrough;
+
+        Reactive(ProviderPassthrough passthrough) {
+            this.passthrough = passthrough;
+        }
+
+        @PostMapping(value = "/aladin", params = "passthrough=true")
+        public Mono<ResponseEntity<Flux<DataBuffer>>> search(@RequestBody AladinBookRequest request) {
+
+            return passthrough.search(request);
+        }
+
+        @PostMapping(value = "/kakao", params = "passthrough=true")
+        public Mono<ResponseEntity<Flux<DataBuffer>>> search(@RequestBody KakaoSearchRequest request) {
+
+            return passthrough.search(request);
+        }
+
+        @PostMapping(value = "/naver", params = "passthrough=true")
+        public Mono<ResponseEntity<Flux<DataBuffer>>> search(@RequestBody NaverSearchRequest request) {
+
+            return passthrough.search(request);
+        }
+    }
+
+    @Tag(name = "외부 도서 호출")
+    @RestController
+    @RequestMapping("/api/external")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class Servlet {
+
+        private final ProviderPassthrough passthrough;
+
+        Servlet(ProviderPassthrough passthrough) {
+            this.passthrough = passthrough;
+        }
+
+        @PostMapping(value = "/aladin", params = "passthrough=true")
+        public Mono<ResponseEntity<StreamingResponseBody>> search(@RequestBody AladinBookRequest request) {
+
+            return passthrough.search(request).map(Servlet::streaming);
+        }
+
+        @PostMapping(value = "/kakao", params = "passthrough=true")
+        public Mono<ResponseEntity<StreamingResponseBody>> search(@RequestBody KakaoSearchRequest request) {
+
+            return passthrough.search(request).map(Servlet::streaming);
+        }
+
+        @PostMapping(value = "/naver", params = "passthrough=true")
+        public Mono<ResponseEntity<StreamingResponseBody>> search(@RequestBody NaverSearchRequest request) {
+
+            return passthrough.search(request).map(Servlet::streaming);
+        }
+
+        // 버퍼가 도착하는 대로 응답 스트림에 쓴다. 도중에 실패하거나 클라이언트가 끊으면 Stream.close 가 upstream 을 취소한다
+        private static ResponseEntity<StreamingResponseBody> streaming(ResponseEntity<Flux<DataBuffer>> response) {
+
+            Flux<DataBuffer> body = response.getBody() != null ? response.getBody() : Flux.empty();
+
+            StreamingResponseBody stream = out -> {
+                try (Stream<DataBuffer> buffers = body.toStream(8)) {
+                    Iterator<DataBuffer> iterator = buffers.iterator();
+                    while (iterator.hasNext()) {
+                        try (InputStream in = iterator.next().asInputStream(true)) {
+                            in.transferTo(out);
+                        }
+                    }
+                }
+            };
+
+            return new ResponseEntity<>(stream, response.getHeaders(), response.getStatusCode());
+        }
+    }
+}
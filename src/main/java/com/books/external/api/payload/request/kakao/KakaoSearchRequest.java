@@ -12,5 +12,16 @@ public record KakaoSearchRequest(
                 description = """
                         검색 필드 제한, 사용 가능한 값: title(제목), isbn (ISBN), publisher(출판사), person(인명)
                         """, defaultValue = "title")
-        String target) {
+        String target,
+
+        @Schema(name = "page", description = "결과 페이지 번호, 1~50 사이의 값 (기본값: 1)", defaultValue = "1")
+        Integer page,
+
+        @Schema(name = "size", description = "한 페이지에 보여질 문서 수, 1~50 사이의 값 (기본값: 10)", defaultValue = "10")
+        Integer size) {
+
+    public KakaoSearchRequest(String query, String target) {
+
+        this(query, target, null, null);
+    }
 }
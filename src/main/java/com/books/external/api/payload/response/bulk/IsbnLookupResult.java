@@ -0,0 +1,40 @@
+package com.books.external.api.payload.response.bulk;
+
+import com.books.book.domain.Book;
+
+/**
+ * ISBN 일괄 조회의 한 줄 결과. source 는 책을 찾은 곳 (catalog / 제공자 id).
+ */
+public record IsbnLookupResult(
+
+        String isbn,
+        String isbn13,
+        Status status,
+        String source,
+        Book book,
+        String error) {
+
+    public enum Status {
+        FOUND, NOT_FOUND, INVALID, FAILED
+    }
+
+    public static IsbnLookupResult found(String isbn, String source, Book book) {
+
+        return new IsbnLookupResult(isbn, book.getIsbn13(), Status.FOUND, source, book, null);
+    }
+
+    public static IsbnLookupResult notFound(String isbn, String isbn13) {
+
+        return new IsbnLookupResult(isbn, isbn13, Status.NOT_FOUND, null, null, null);
+    }
+
+    public static IsbnLookupResult invalid(String isbn) {
+
+        return new IsbnLookupResult(isbn, null, Status.INVALID, null, null, "invalid isbn");
+    }
+
+    public static IsbnLookupResult failed(String isbn, String isbn13, Throwable error) {
+
+        return new IsbnLookupResult(isbn, isbn13, Status.FAILED, null, null, error.toString());
+    }
+}
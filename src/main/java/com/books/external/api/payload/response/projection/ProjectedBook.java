@@ -0,0 +1,24 @@
+package com.books.external.api.payload.response.projection;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * fields= 로 요청한 필드만 채운 도서. 요청하지 않았거나 제공자가 주지 않은 필드는 응답에서 빠진다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProjectedBook(
+
+        String title,
+        List<String> authors,
+        String isbn13,
+        String isbn10,
+        Long listPrice,
+        Long salePrice,
+        String cover,
+        String publisher,
+        LocalDate publishedDate,
+        String description,
+        String link) {
+}
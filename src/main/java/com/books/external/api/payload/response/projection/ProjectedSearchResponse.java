@@ -0,0 +1,13 @@
+package com.books.external.api.payload.response.projection;
+
+import java.util.List;
+
+/**
+ * 단일 제공자 검색의 projection 응답. total 은 제공자가 알려준 전체 결과 수.
+ */
+public record ProjectedSearchResponse(
+
+        String provider,
+        long total,
+        List<ProjectedBook> items) {
+}
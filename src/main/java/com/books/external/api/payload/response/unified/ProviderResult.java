@@ -0,0 +1,35 @@
+package com.books.external.api.payload.response.unified;
+
+import com.books.external.application.ProviderStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * body 는 통합 응답의 books 로 병합되어 나가므로 직렬화하지 않는다.
+ */
+public record ProviderResult<T>(
+
+        ProviderStatus status,
+        @JsonIgnore T body,
+        long elapsedMillis,
+        String error) {
+
+    public static <T> ProviderResult<T> success(T body, long elapsedMillis) {
+
+        return new ProviderResult<>(ProviderStatus.SUCCESS, body, elapsedMillis, null);
+    }
+
+    public static <T> ProviderResult<T> timeout(long elapsedMillis) {
+
+        return new ProviderResult<>(ProviderStatus.TIMEOUT, null, elapsedMillis, "deadline exceeded");
+    }
+
+    public static <T> ProviderResult<T> failed(Throwable error, long elapsedMillis) {
+
+        return new ProviderResult<>(ProviderStatus.FAILED, null, elapsedMillis, error.getMessage());
+    }
+
+    public static <T> ProviderResult<T> skipped(String reason) {
+
+        return new ProviderResult<>(ProviderStatus.SKIPPED, null, 0, reason);
+    }
+}
@@ -0,0 +1,17 @@
+package com.books.external.api.payload.response.unified;
+
+import com.books.book.domain.Book;
+import com.books.external.api.payload.response.aladin.AladinBookResponse;
+import com.books.external.api.payload.response.kakao.KakaoBookResponse;
+import com.books.external.api.payload.response.naver.NaverBookResponse;
+import java.util.List;
+
+public record UnifiedBookResponse(
+
+        String keyword,
+        List<Book> books,
+        ProviderResult<AladinBookResponse> aladin,
+        ProviderResult<KakaoBookResponse> kakao,
+        ProviderResult<NaverBookResponse> naver,
+        long searchTimestamp) {
+}
@@ -2,10 +2,20 @@ package com.books.external.application;
 
 import com.books.external.api.payload.request.aladin.AladinBookRequest;
 import com.books.external.api.payload.response.aladin.AladinBookResponse;
+import com.books.external.api.payload.response.projection.ProjectedSearchResponse;
+import com.books.external.application.passthrough.ProviderPassthrough;
+import com.books.external.application.projection.BookField;
+import com.books.external.application.projection.ProjectionDecoder;
+import com.books.external.application.resilience.ProviderCircuitBreakers;
+import com.books.external.application.resilience.ProviderRetries;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Service
@@ -17,8 +27,35 @@ public class AladinBookServiceImpl implements AladinBookService{
 
     private final WebClient aladinWebClient;
 
+    private final ProviderCircuitBreakers circuitBreakers;
+
+    private final SingleFlight<AladinBookRequest, AladinBookResponse> inFlight = new SingleFlight<>();
+
+    // 서킷 브레이커는 합쳐진 upstream 호출 하나에만 걸어, 합류한 요청 수와 관계없이 결과를 한 번만 센다
     public Mono<AladinBookResponse> search(AladinBookRequest request) {
 
+        return inFlight.execute(request, () -> circuitBreakers.protect(BookProvider.ALADIN, fetch(request)));
+    }
+
+    private Mono<AladinBookResponse> fetch(AladinBookRequest request) {
+
+        return request(request)
+            .retrieve()
+            .bodyToMono(AladinBookResponse.class);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> passthrough(AladinBookRequest request) {
+
+        return ProviderPassthrough.retrieveRaw(request(request));
+    }
+
+    public Mono<ProjectedSearchResponse> search(AladinBookRequest request, Set<BookField> fields) {
+
+        return ProjectionDecoder.retrieve(BookProvider.ALADIN, request(request), fields);
+    }
+
+    private WebClient.RequestHeadersSpec<?> request(AladinBookRequest request) {
+
         return aladinWebClient.post()
             .uri(uriBuilder -> uriBuilder
                 .path("/ttb/api/ItemSearch.aspx")
@@ -32,7 +69,7 @@ public class AladinBookServiceImpl implements AladinBookService{
                 .queryParam("output", request.output())
                 .queryParam("Version", request.version())
                 .build())
-            .retrieve()
-            .bodyToMono(AladinBookResponse.class);
+            // 조회 전용 POST 라 재시도해도 안전하다
+            .attribute(ProviderRetries.IDEMPOTENT, true);
     }
 }
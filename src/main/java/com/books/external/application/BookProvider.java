@@ -0,0 +1,26 @@
+package com.books.external.application;
+
+public enum BookProvider {
+
+    ALADIN("aladin", "http://www.aladin.co.kr"),
+    KAKAO("kakao", "https://dapi.kakao.com"),
+    NAVER("naver", "https://openapi.naver.com");
+
+    private final String id;
+    private final String defaultBaseUrl;
+
+    BookProvider(String id, String defaultBaseUrl) {
+        this.id = id;
+        this.defaultBaseUrl = defaultBaseUrl;
+    }
+
+    // 설정 키(books.<id>.*), 커넥션 풀 이름, 메트릭 태그에 사용
+    public String id() {
+        return id;
+    }
+
+    // books.<id>.base-url 이 없을 때 사용하는 실제 API 주소
+    public String defaultBaseUrl() {
+        return defaultBaseUrl;
+    }
+}
@@ -1,45 +1,403 @@
 package com.books.external.application;
 
+import com.books.book.application.BookCatalogWriter;
+import com.books.book.domain.Book;
+import com.books.book.domain.BookMerger;
+import com.books.config.BooksProperties;
 import com.books.external.api.payload.request.aladin.AladinBookRequest;
 import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
 import com.books.external.api.payload.request.naver.NaverSearchRequest;
 import com.books.external.api.payload.response.aladin.AladinBookResponse;
 import com.books.external.api.payload.response.kakao.KakaoBookResponse;
+import com.books.external.api.payload.response.kakao.KakaoMeta;
 import com.books.external.api.payload.response.naver.NaverBookResponse;
+import com.books.external.api.payload.response.projection.ProjectedSearchResponse;
+import com.books.external.api.payload.response.unified.ProviderResult;
+import com.books.external.api.payload.response.unified.UnifiedBookResponse;
+import com.books.external.application.cache.MissingIsbnFilter;
+import com.books.external.application.cache.SearchResponseCache;
+import com.books.external.application.canonical.CanonicalRequest;
+import com.books.external.application.canonical.QueryCanonicalizer;
+import com.books.external.application.canonical.SearchKey;
+import com.books.external.application.hotkeys.HotKeyword;
+import com.books.external.application.hotkeys.HotKeywordTracker;
+import com.books.external.application.metrics.FacadeMetrics;
+import com.books.external.application.projection.BookField;
+import com.books.external.application.resilience.CallNotPermittedException;
+import com.books.external.application.resilience.ProviderCircuitBreakers;
+import com.books.external.application.resilience.RateLimitExceededException;
+import com.books.external.application.searchlog.ProviderOutcome;
+import com.books.external.application.searchlog.SearchLogEntry;
+import com.books.external.application.searchlog.SearchLogWriter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Service
 @Slf4j
 public class ExternalBooksFacade {
 
+    // 모든 제공자에서 없다고 확인된 ISBN 에 돌려주는 0건 응답
+    private static final AladinBookResponse NO_ALADIN_RESULTS =
+        new AladinBookResponse(null, null, null, null, null, 0, 1, null, 0, null, List.of());
+    private static final KakaoBookResponse NO_KAKAO_RESULTS =
+        new KakaoBookResponse(List.of(), new KakaoMeta(true, 0, 0));
+    private static final NaverBookResponse NO_NAVER_RESULTS =
+        new NaverBookResponse(null, 0, 1, 0, List.of());
+
     private final AladinBookService aladinBookService;
     private final KakaoBookService kakaoBookService;
     private final NaverBookService naverBookService;
+    private final SearchResponseCache searchResponseCache;
+    private final ProviderCircuitBreakers circuitBreakers;
+    private final BookCatalogWriter bookCatalogWriter;
+    private final FacadeMetrics facadeMetrics;
+    private final SearchLogWriter searchLogWriter;
+    private final HotKeywordTracker hotKeywordTracker;
+    private final MissingIsbnFilter missingIsbnFilter;
+    private final QueryCanonicalizer queryCanonicalizer;
+    private final BooksProperties properties;
 
     public ExternalBooksFacade(
         AladinBookService aladinBookService,
         KakaoBookService kakaoBookService,
-        NaverBookService naverBookService) {
+        NaverBookService naverBookService,
+        SearchResponseCache searchResponseCache,
+        ProviderCircuitBreakers circuitBreakers,
+        BookCatalogWriter bookCatalogWriter,
+        FacadeMetrics facadeMetrics,
+        SearchLogWriter searchLogWriter,
+        HotKeywordTracker hotKeywordTracker,
+        MissingIsbnFilter missingIsbnFilter,
+        QueryCanonicalizer queryCanonicalizer,
+        BooksProperties properties) {
 
         this.aladinBookService = aladinBookService;
         this.kakaoBookService = kakaoBookService;
         this.naverBookService = naverBookService;
+        this.searchResponseCache = searchResponseCache;
+        this.circuitBreakers = circuitBreakers;
+        this.bookCatalogWriter = bookCatalogWriter;
+        this.facadeMetrics = facadeMetrics;
+        this.searchLogWriter = searchLogWriter;
+        this.hotKeywordTracker = hotKeywordTracker;
+        this.missingIsbnFilter = missingIsbnFilter;
+        this.queryCanonicalizer = queryCanonicalizer;
+        this.properties = properties;
     }
 
+    // 요청은 먼저 정규화하고(QueryCanonicalizer), 캐시 미스일 때만 서킷 브레이커를 거쳐 upstream 호출한다.
+    // 결과는 카탈로그 write-behind 큐에 넣는다. ISBN 조회의 첫 페이지이고 그 ISBN 이 모든 제공자에서 없다고 확인됐으면
+    // 캐시도 거치지 않고 0건으로 답한다 (bulk 조회가 확인할 때 보낸 것과 같은 모양의 요청만)
     public Mono<AladinBookResponse> search(AladinBookRequest request) {
 
-        return aladinBookService.search(request);
+        CanonicalRequest<AladinBookRequest> canonical = queryCanonicalizer.canonicalize(request);
+        hotKeywordTracker.record(canonical.request().query());
+        return searchCanonical(canonical);
     }
 
     public Mono<KakaoBookResponse> search(KakaoSearchRequest request) {
 
-        return kakaoBookService.search(request);
+        CanonicalRequest<KakaoSearchRequest> canonical = queryCanonicalizer.canonicalize(request);
+        hotKeywordTracker.record(canonical.request().query());
+        return searchCanonical(canonical);
     }
 
     public Mono<NaverBookResponse> search(NaverSearchRequest request) {
 
-        return naverBookService.search(request);
+        CanonicalRequest<NaverSearchRequest> canonical = queryCanonicalizer.canonicalize(request);
+        hotKeywordTracker.record(canonical.request().keyword());
+        return searchCanonical(canonical);
+    }
+
+    // 페이지 순회용 검색: 인기 검색어에 세지 않는다. 순회 한 번에 recordKeyword 를 한 번 부른다 (ExternalBooksPager)
+    public Mono<AladinBookResponse> searchPage(AladinBookRequest request) {
+
+        return searchCanonical(queryCanonicalizer.canonicalize(request));
+    }
+
+    public Mono<KakaoBookResponse> searchPage(KakaoSearchRequest request) {
+
+        return searchCanonical(queryCanonicalizer.canonicalize(request));
+    }
+
+    public Mono<NaverBookResponse> searchPage(NaverSearchRequest request) {
+
+        return searchCanonical(queryCanonicalizer.canonicalize(request));
+    }
+
+    public void recordKeyword(String keyword) {
+
+        hotKeywordTracker.record(queryCanonicalizer.keyword(keyword));
+    }
+
+    private Mono<AladinBookResponse> searchCanonical(CanonicalRequest<AladinBookRequest> canonical) {
+
+        if (confirmedMissing(canonical.request())) {
+            return Mono.just(NO_ALADIN_RESULTS);
+        }
+        return cachedAladin(canonical);
+    }
+
+    private Mono<KakaoBookResponse> searchCanonical(CanonicalRequest<KakaoSearchRequest> canonical) {
+
+        if (confirmedMissing(canonical.request())) {
+            return Mono.just(NO_KAKAO_RESULTS);
+        }
+        return cachedKakao(canonical);
+    }
+
+    private Mono<NaverBookResponse> searchCanonical(CanonicalRequest<NaverSearchRequest> canonical) {
+
+        if (confirmedMissing(canonical.request())) {
+            return Mono.just(NO_NAVER_RESULTS);
+        }
+        return cachedNaver(canonical);
+    }
+
+    private boolean confirmedMissing(AladinBookRequest request) {
+
+        return "Keyword".equalsIgnoreCase(request.queryType()) && "1".equals(request.start())
+            && missingIsbnFilter.isConfirmedMissing(request.query());
+    }
+
+    // DEFAULTS 규칙이 꺼져 있으면 page 가 비어 있을 수 있다. 카카오는 빈 page 를 1 로 본다
+    private boolean confirmedMissing(KakaoSearchRequest request) {
+
+        return "isbn".equalsIgnoreCase(request.target()) && (request.page() == null || request.page() == 1)
+            && missingIsbnFilter.isConfirmedMissing(request.query());
+    }
+
+    private boolean confirmedMissing(NaverSearchRequest request) {
+
+        return request.start() == 1 && missingIsbnFilter.isConfirmedMissing(request.keyword());
+    }
+
+    // fields= projection: 요청한 필드만 디코딩한다. 전체 응답이 아니므로 응답 캐시 / 카탈로그 반영은 거치지 않는다
+    public Mono<ProjectedSearchResponse> search(AladinBookRequest request, Set<BookField> fields) {
+
+        AladinBookRequest canonical = queryCanonicalizer.canonicalize(request).request();
+        hotKeywordTracker.record(canonical.query());
+        return project(BookProvider.ALADIN, aladinBookService.search(canonical, fields));
+    }
+
+    public Mono<ProjectedSearchResponse> search(KakaoSearchRequest request, Set<BookField> fields) {
+
+        KakaoSearchRequest canonical = queryCanonicalizer.canonicalize(request).request();
+        hotKeywordTracker.record(canonical.query());
+        return project(BookProvider.KAKAO, kakaoBookService.search(canonical, fields));
+    }
+
+    public Mono<ProjectedSearchResponse> search(NaverSearchRequest request, Set<BookField> fields) {
+
+        NaverSearchRequest canonical = queryCanonicalizer.canonicalize(request).request();
+        hotKeywordTracker.record(canonical.keyword());
+        return project(BookProvider.NAVER, naverBookService.search(canonical, fields));
+    }
+
+    // 통합 검색: 세 제공자를 동시에 호출하고 제공자별 deadline 안에 도착한 결과만 담는다.
+    // 응답에는 받은 키워드를 그대로 싣고, 캐시 / 인기 검색어 / 검색 로그는 정규화한 키워드를 쓴다
+    public Mono<UnifiedBookResponse> searchAll(String keyword) {
+
+        CanonicalRequest<String> canonical = queryCanonicalizer.canonicalize(keyword);
+        String query = canonical.request();
+        hotKeywordTracker.record(query);
+
+        Mono<ProviderResult<AladinBookResponse>> aladin = withDeadline(BookProvider.ALADIN,
+            cachedAladin(unified(unifiedAladinRequest(query), SearchKey::of, canonical)));
+
+        Mono<ProviderResult<KakaoBookResponse>> kakao = withDeadline(BookProvider.KAKAO,
+            cachedKakao(unified(unifiedKakaoRequest(query), SearchKey::of, canonical)));
+
+        Mono<ProviderResult<NaverBookResponse>> naver = withDeadline(BookProvider.NAVER,
+            cachedNaver(unified(unifiedNaverRequest(query), SearchKey::of, canonical)));
+
+        return facadeMetrics.timed("searchAll", Mono.zip(aladin, kakao, naver)
+            .doOnNext(results -> record(query, results.getT1(), results.getT2(), results.getT3()))
+            .map(results -> new UnifiedBookResponse(
+                keyword,
+                mergeBooks(results.getT1(), results.getT2(), results.getT3()),
+                results.getT1(),
+                results.getT2(),
+                results.getT3(),
+                System.currentTimeMillis())));
+    }
+
+    // 최근 window 동안 많이 검색된 키워드 (Java / Kotlin 검색 API 합산)
+    public List<HotKeyword> hotKeywords(int limit) {
+
+        return hotKeywordTracker.top(limit);
+    }
+
+    // 인기 키워드 pre-warm: 통합 검색이 쓰는 캐시 항목 중 ahead 안에 만료될 것만 다시 받아 둔다. 갱신한 항목 수를 돌려주고,
+    // 한 제공자가 실패해도 나머지는 끝까지 갱신한 뒤 오류를 낸다. 키는 searchAll 과 같게 정규화한 키워드로 만든다
+    public Mono<Long> refresh(String keyword, Duration ahead) {
+
+        String query = queryCanonicalizer.keyword(keyword);
+        AladinBookRequest aladin = unifiedAladinRequest(query);
+        KakaoSearchRequest kakao = unifiedKakaoRequest(query);
+        NaverSearchRequest naver = unifiedNaverRequest(query);
+
+        return Flux.mergeDelayError(3,
+                searchResponseCache.refreshIfExpiring(BookProvider.ALADIN, SearchKey.of(aladin), ahead, () -> load(aladin)),
+                searchResponseCache.refreshIfExpiring(BookProvider.KAKAO, SearchKey.of(kakao), ahead, () -> load(kakao)),
+                searchResponseCache.refreshIfExpiring(BookProvider.NAVER, SearchKey.of(naver), ahead, () -> load(naver)))
+            .filter(Boolean::booleanValue)
+            .count();
+    }
+
+    // 캐시 키는 요청 record 대신 정규화 때 만든 SearchKey. loader 가 불리면 정규화 후에도 미스라 규칙별 미스로 센다
+    private Mono<AladinBookResponse> cachedAladin(CanonicalRequest<AladinBookRequest> canonical) {
+
+        return searchResponseCache.get(BookProvider.ALADIN, canonical.key(), () -> {
+            queryCanonicalizer.recordMiss(canonical.rules());
+            return load(canonical.request());
+        });
+    }
+
+    private Mono<KakaoBookResponse> cachedKakao(CanonicalRequest<KakaoSearchRequest> canonical) {
+
+        return searchResponseCache.get(BookProvider.KAKAO, canonical.key(), () -> {
+            queryCanonicalizer.recordMiss(canonical.rules());
+            return load(canonical.request());
+        });
+    }
+
+    private Mono<NaverBookResponse> cachedNaver(CanonicalRequest<NaverSearchRequest> canonical) {
+
+        return searchResponseCache.get(BookProvider.NAVER, canonical.key(), () -> {
+            queryCanonicalizer.recordMiss(canonical.rules());
+            return load(canonical.request());
+        });
+    }
+
+    // 통합 검색 요청은 이미 정규화한 키워드와 기본값이 모두 채워진 필드로 만들므로 키만 붙이고 규칙은 키워드 것을 쓴다
+    private static <R> CanonicalRequest<R> unified(R request, Function<R, SearchKey> key, CanonicalRequest<String> keyword) {
+
+        return new CanonicalRequest<>(request, key.apply(request), keyword.rules());
+    }
+
+    // 서킷 브레이커는 서비스의 single-flight 안에서 upstream 호출 하나에 걸린다
+    private Mono<AladinBookResponse> load(AladinBookRequest request) {
+
+        return aladinBookService.search(request)
+            .doOnNext(this::catalog);
+    }
+
+    private Mono<KakaoBookResponse> load(KakaoSearchRequest request) {
+
+        return kakaoBookService.search(request)
+            .doOnNext(this::catalog);
+    }
+
+    private Mono<NaverBookResponse> load(NaverSearchRequest request) {
+
+        return naverBookService.search(request)
+            .doOnNext(this::catalog);
+    }
+
+    private static AladinBookRequest unifiedAladinRequest(String keyword) {
+
+        return new AladinBookRequest(keyword, "Keyword", "10", "1", "Book", "PublishTime", "JS", "20131101");
+    }
+
+    private static KakaoSearchRequest unifiedKakaoRequest(String keyword) {
+
+        return new KakaoSearchRequest(keyword, "title", 1, 10);
+    }
+
+    private static NaverSearchRequest unifiedNaverRequest(String keyword) {
+
+        return new NaverSearchRequest(keyword, 10, 1);
+    }
+
+    // 제공자 순서(알라딘 -> 카카오 -> 네이버)대로 ISBN13 기준 병합
+    private static List<Book> mergeBooks(
+        ProviderResult<AladinBookResponse> aladin,
+        ProviderResult<KakaoBookResponse> kakao,
+        ProviderResult<NaverBookResponse> naver) {
+
+        Stream<Book> books = Stream.of(
+                items(aladin, AladinBookResponse::item).map(BookMapper::from),
+                items(kakao, KakaoBookResponse::documents).map(BookMapper::from),
+                items(naver, NaverBookResponse::items).map(BookMapper::from))
+            .flatMap(Function.identity());
+
+        return BookMerger.merge(books.toList());
+    }
+
+    private Mono<ProjectedSearchResponse> project(BookProvider provider, Mono<ProjectedSearchResponse> search) {
+
+        return facadeMetrics.timed("projection." + provider.id(), circuitBreakers.protect(provider, search));
+    }
+
+    // 검색 로그 ring buffer 에 넣기만 한다 (H2 반영은 SearchLogWriter 스레드)
+    private void record(
+        String keyword,
+        ProviderResult<AladinBookResponse> aladin,
+        ProviderResult<KakaoBookResponse> kakao,
+        ProviderResult<NaverBookResponse> naver) {
+
+        searchLogWriter.record(new SearchLogEntry(keyword, "unified", Instant.now(), List.of(
+            outcome(BookProvider.ALADIN, aladin),
+            outcome(BookProvider.KAKAO, kakao),
+            outcome(BookProvider.NAVER, naver))));
+    }
+
+    private static ProviderOutcome outcome(BookProvider provider, ProviderResult<?> result) {
+
+        return new ProviderOutcome(provider, result.status(), result.elapsedMillis(),
+            ProviderOutcome.resultCount(result.body()), result.error());
+    }
+
+    private void catalog(Object response) {
+
+        bookCatalogWriter.enqueue(BookMapper.fromResponse(response));
+    }
+
+    private static <T, I> Stream<I> items(ProviderResult<T> result, Function<T, List<I>> items) {
+
+        return Optional.ofNullable(result.body())
+            .map(items)
+            .stream()
+            .flatMap(List::stream);
+    }
+
+    private <T> Mono<ProviderResult<T>> withDeadline(BookProvider provider, Mono<T> search) {
+
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+
+            return search
+                .timeout(properties.provider(provider).deadline())
+                .map(body -> ProviderResult.success(body, elapsedMillis(startedAt)))
+                .switchIfEmpty(Mono.fromSupplier(() -> ProviderResult.<T>failed(
+                    new IllegalStateException(provider.id() + " returned no body"), elapsedMillis(startedAt))))
+                .onErrorResume(error -> error instanceof CallNotPermittedException
+                        || error instanceof RateLimitExceededException,
+                    error -> Mono.just(ProviderResult.<T>skipped(error.getMessage())))
+                .onErrorResume(error -> {
+                    log.warn("[{}] unified search failed: {}", provider.id(), error.toString());
+
+                    return Mono.just(error instanceof TimeoutException
+                        ? ProviderResult.<T>timeout(elapsedMillis(startedAt))
+                        : ProviderResult.<T>failed(error, elapsedMillis(startedAt)));
+                });
+        });
+    }
+
+    private static long elapsedMillis(long startedAt) {
+
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
     }
 }
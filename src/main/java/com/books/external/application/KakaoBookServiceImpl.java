@@ -2,10 +2,20 @@ package com.books.external.application;
 
 import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
 import com.books.external.api.payload.response.kakao.KakaoBookResponse;
+import com.books.external.api.payload.response.projection.ProjectedSearchResponse;
+import com.books.external.application.passthrough.ProviderPassthrough;
+import com.books.external.application.projection.BookField;
+import com.books.external.application.projection.ProjectionDecoder;
+import com.books.external.application.resilience.ProviderCircuitBreakers;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Service
@@ -17,16 +27,43 @@ public class KakaoBookServiceImpl implements KakaoBookService{
 
     private final WebClient kakaoWebClient;
 
+    private final ProviderCircuitBreakers circuitBreakers;
+
+    private final SingleFlight<KakaoSearchRequest, KakaoBookResponse> inFlight = new SingleFlight<>();
+
+    // 서킷 브레이커는 합쳐진 upstream 호출 하나에만 걸어, 합류한 요청 수와 관계없이 결과를 한 번만 센다
     public Mono<KakaoBookResponse> search(KakaoSearchRequest request) {
 
+        return inFlight.execute(request, () -> circuitBreakers.protect(BookProvider.KAKAO, fetch(request)));
+    }
+
+    private Mono<KakaoBookResponse> fetch(KakaoSearchRequest request) {
+
+        return request(request)
+            .retrieve()
+            .bodyToMono(KakaoBookResponse.class);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> passthrough(KakaoSearchRequest request) {
+
+        return ProviderPassthrough.retrieveRaw(request(request));
+    }
+
+    public Mono<ProjectedSearchResponse> search(KakaoSearchRequest request, Set<BookField> fields) {
+
+        return ProjectionDecoder.retrieve(BookProvider.KAKAO, request(request), fields);
+    }
+
+    private WebClient.RequestHeadersSpec<?> request(KakaoSearchRequest request) {
+
         return kakaoWebClient.get()
             .uri(uriBuilder -> uriBuilder
                 .path("/v3/search/book")
                 .queryParam("query", request.query())
                 .queryParam("target", request.target())
+                .queryParamIfPresent("page", Optional.ofNullable(request.page()))
+                .queryParamIfPresent("size", Optional.ofNullable(request.size()))
                 .build())
-            .header("Authorization", "KakaoAK " + kakaoAK)
-            .retrieve()
-            .bodyToMono(KakaoBookResponse.class);
+            .header("Authorization", "KakaoAK " + kakaoAK);
     }
 }
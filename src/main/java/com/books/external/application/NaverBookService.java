@@ -3,9 +3,21 @@ package com.books.external.application;
 
 import com.books.external.api.payload.request.naver.NaverSearchRequest;
 import com.books.external.api.payload.response.naver.NaverBookResponse;
+import com.books.external.api.payload.response.projection.ProjectedSearchResponse;
+import com.books.external.application.projection.BookField;
+import java.util.Set;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface NaverBookService {
 
     Mono<NaverBookResponse> search(NaverSearchRequest request);
+
+    // 본문을 역직렬화하지 않고 upstream 상태 코드 / 헤더와 함께 DataBuffer 그대로 넘긴다
+    Mono<ResponseEntity<Flux<DataBuffer>>> passthrough(NaverSearchRequest request);
+
+    // fields 에 해당하는 값만 스트리밍 파서로 읽는다 (나머지 필드는 할당 없이 건너뜀)
+    Mono<ProjectedSearchResponse> search(NaverSearchRequest request, Set<BookField> fields);
 }
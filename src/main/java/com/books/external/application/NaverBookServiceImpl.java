@@ -2,10 +2,19 @@ package com.books.external.application;
 
 import com.books.external.api.payload.request.naver.NaverSearchRequest;
 import com.books.external.api.payload.response.naver.NaverBookResponse;
+import com.books.external.api.payload.response.projection.ProjectedSearchResponse;
+import com.books.external.application.passthrough.ProviderPassthrough;
+import com.books.external.application.projection.BookField;
+import com.books.external.application.projection.ProjectionDecoder;
+import com.books.external.application.resilience.ProviderCircuitBreakers;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Service
@@ -20,18 +29,43 @@ public class NaverBookServiceImpl implements NaverBookService {
 
     private final WebClient naverWebClient;
 
+    private final ProviderCircuitBreakers circuitBreakers;
+
+    private final SingleFlight<NaverSearchRequest, NaverBookResponse> inFlight = new SingleFlight<>();
+
+    // 서킷 브레이커는 합쳐진 upstream 호출 하나에만 걸어, 합류한 요청 수와 관계없이 결과를 한 번만 센다
     public Mono<NaverBookResponse> search(NaverSearchRequest request) {
 
+        return inFlight.execute(request, () -> circuitBreakers.protect(BookProvider.NAVER, fetch(request)));
+    }
+
+    private Mono<NaverBookResponse> fetch(NaverSearchRequest request) {
+
+        return request(request)
+            .retrieve()
+            .bodyToMono(NaverBookResponse.class);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> passthrough(NaverSearchRequest request) {
+
+        return ProviderPassthrough.retrieveRaw(request(request));
+    }
+
+    public Mono<ProjectedSearchResponse> search(NaverSearchRequest request, Set<BookField> fields) {
+
+        return ProjectionDecoder.retrieve(BookProvider.NAVER, request(request), fields);
+    }
+
+    private WebClient.RequestHeadersSpec<?> request(NaverSearchRequest request) {
+
         return naverWebClient.get()
             .uri(uriBuilder -> uriBuilder
                 .path("/v1/search/book.json")
                 .queryParam("query", request.keyword())
                 .queryParam("display", request.display())
-                .queryParam("start", request.display())
+                .queryParam("start", request.start())
                 .build())
             .header("X-Naver-Client-Id", clientId)
-            .header("X-Naver-Client-Secret", clientSecret)
-            .retrieve()
-            .bodyToMono(NaverBookResponse.class);
+            .header("X-Naver-Client-Secret", clientSecret);
     }
 }
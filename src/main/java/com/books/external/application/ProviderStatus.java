@@ -0,0 +1,9 @@
+package com.books.external.application;
+
+public enum ProviderStatus {
+
+    SUCCESS,
+    TIMEOUT,
+    FAILED,
+    SKIPPED
+}
@@ -0,0 +1,42 @@
+package com.books.external.application;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * 동일한 키로 진행 중인 upstream 호출을 하나로 합친다.
+ * 늦게 들어온 구독자는 진행 중인 Mono 에 합류하고 (값이 이미 나왔으면 그 값을 바로 받는다),
+ * upstream 취소는 마지막 구독자가 떠날 때만 전파된다 (Mono.share()).
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> share(k, call)));
+    }
+
+    public int inFlightCount() {
+
+        return inFlight.size();
+    }
+
+    private Mono<V> share(K key, Supplier<Mono<V>> call) {
+
+        AtomicReference<Mono<V>> self = new AtomicReference<>();
+
+        // 종료 신호가 구독자에게 전달되기 전에 제거해 끝난 호출에 새 요청이 합류하지 않도록 한다.
+        // 값과 완료 사이에 합류한 구독자도 share() 가 값을 남겨 두므로 빈 결과를 받지 않는다
+        Mono<V> shared = Mono.defer(call)
+                .doOnTerminate(() -> inFlight.remove(key, self.get()))
+                .doOnCancel(() -> inFlight.remove(key, self.get()))
+                .share();
+
+        self.set(shared);
+        return shared;
+    }
+}
@@ -0,0 +1,195 @@
+package com.books.external.application.bulk;
+
+import com.books.book.application.BookCatalogWriter;
+import com.books.book.domain.Book;
+import com.books.book.domain.Isbn;
+import com.books.book.entity.BookEntity;
+import com.books.book.entity.BookRepository;
+import com.books.config.BlockingIo;
+import com.books.config.BooksProperties;
+import com.books.external.api.payload.request.aladin.AladinBookRequest;
+import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
+import com.books.external.api.payload.request.naver.NaverSearchRequest;
+import com.books.external.api.payload.response.bulk.IsbnLookupResult;
+import com.books.external.application.AladinBookService;
+import com.books.external.application.BookMapper;
+import com.books.external.application.BookProvider;
+import com.books.external.application.KakaoBookService;
+import com.books.external.application.NaverBookService;
+import com.books.external.application.cache.MissingIsbnFilter;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ISBN 목록을 로컬 카탈로그 -> 카카오 -> 알라딘 -> 네이버 순으로 조회해 끝나는 순서대로 흘려보낸다.
+ * 요청 하나의 동시 처리 수는 books.bulk.concurrency, 제공자별 동시 호출 수는 모든 요청이 공유하는
+ * books.&lt;provider&gt;.bulk-concurrency 로 제한한다. ISBN 단건 조회라 검색 응답 캐시는 거치지 않는다.
+ * 모든 제공자가 오류 없이 결과 없음으로 답한 ISBN 은 MissingIsbnFilter 에 넣고, 이후 같은 ISBN 은 제공자를 부르지 않고 NOT_FOUND 로 답한다.
+ */
+@Service
+@Slf4j
+public class BulkIsbnLookupService {
+
+    private static final List<BookProvider> LOOKUP_ORDER = List.of(BookProvider.KAKAO, BookProvider.ALADIN, BookProvider.NAVER);
+
+    private final AladinBookService aladinBookService;
+    private final KakaoBookService kakaoBookService;
+    private final NaverBookService naverBookService;
+    private final BookRepository bookRepository;
+    private final BookCatalogWriter bookCatalogWriter;
+    private final BlockingIo blockingIo;
+    private final MissingIsbnFilter missingIsbnFilter;
+    private final BooksProperties.BulkProperties bulk;
+    private final Map<BookProvider, ConcurrencyLimiter> limiters = new EnumMap<>(BookProvider.class);
+
+    public BulkIsbnLookupService(
+        AladinBookService aladinBookService,
+        KakaoBookService kakaoBookService,
+        NaverBookService naverBookService,
+        BookRepository bookRepository,
+        BookCatalogWriter bookCatalogWriter,
+        BlockingIo blockingIo,
+        MissingIsbnFilter missingIsbnFilter,
+        BooksProperties properties) {
+
+        this.aladinBookService = aladinBookService;
+        this.kakaoBookService = kakaoBookService;
+        this.naverBookService = naverBookService;
+        this.bookRepository = bookRepository;
+        this.bookCatalogWriter = bookCatalogWriter;
+        this.blockingIo = blockingIo;
+        this.missingIsbnFilter = missingIsbnFilter;
+        this.bulk = properties.bulk();
+
+        for (BookProvider provider : BookProvider.values()) {
+            limiters.put(provider, new ConcurrencyLimiter(properties.provider(provider).bulkConcurrency()));
+        }
+    }
+
+    // 목록 크기를 미리 알 수 있으면 응답을 시작하기 전에 거절한다
+    public Flux<IsbnLookupResult> lookup(List<String> isbns) {
+
+        if (isbns.size() > bulk.maxItems()) {
+            throw new TooManyIsbnsException(bulk.maxItems());
+        }
+        return lookup(Flux.fromIterable(isbns.stream().filter(Objects::nonNull).toList()));
+    }
+
+    public Flux<IsbnLookupResult> lookup(Flux<String> isbns) {
+
+        int maxItems = bulk.maxItems();
+
+        return isbns
+            .index()
+            .<String>handle((indexed, sink) -> {
+                if (indexed.getT1() < maxItems) {
+                    sink.next(indexed.getT2());
+                } else {
+                    sink.error(new TooManyIsbnsException(maxItems));
+                }
+            })
+            .flatMap(this::lookupOne, bulk.concurrency());
+    }
+
+    private Mono<IsbnLookupResult> lookupOne(String raw) {
+
+        String isbn13 = Isbn.parse(raw).getIsbn13();
+
+        if (isbn13 == null) {
+            return Mono.just(IsbnLookupResult.invalid(raw));
+        }
+
+        return fromCatalog(isbn13)
+            .map(book -> IsbnLookupResult.found(raw, "catalog", book))
+            .switchIfEmpty(Mono.defer(() -> missingIsbnFilter.isConfirmedMissing(isbn13)
+                ? Mono.just(IsbnLookupResult.notFound(raw, isbn13))
+                : fromProviders(raw, isbn13)))
+            .onErrorResume(error -> Mono.just(IsbnLookupResult.failed(raw, isbn13, error)));
+    }
+
+    private Mono<Book> fromCatalog(String isbn13) {
+
+        return Mono.fromCallable(() -> bookRepository.findById(isbn13))
+            .flatMap(Mono::justOrEmpty)
+            .map(BookEntity::toBook)
+            .subscribeOn(blockingIo.scheduler());
+    }
+
+    // 앞 제공자가 찾으면 뒤 제공자는 호출하지 않는다. 모든 제공자가 실패했을 때만 FAILED
+    private Mono<IsbnLookupResult> fromProviders(String raw, String isbn13) {
+
+        return Flux.fromIterable(LOOKUP_ORDER)
+            .concatMap(provider -> fetch(provider, isbn13)
+                .map(book -> Attempt.found(provider, book))
+                .defaultIfEmpty(Attempt.miss())
+                .onErrorResume(error -> {
+                    log.debug("[{}] isbn lookup failed: {}", provider.id(), error.toString());
+                    return Mono.just(Attempt.failed(error));
+                }))
+            .takeUntil(attempt -> attempt.book() != null)
+            .collectList()
+            .map(attempts -> {
+                Attempt last = attempts.get(attempts.size() - 1);
+
+                if (last.book() != null) {
+                    return IsbnLookupResult.found(raw, last.provider().id(), last.book());
+                }
+                if (attempts.stream().allMatch(attempt -> attempt.error() != null)) {
+                    return IsbnLookupResult.failed(raw, isbn13, last.error());
+                }
+                if (attempts.stream().noneMatch(attempt -> attempt.error() != null)) {
+                    missingIsbnFilter.confirm(isbn13);
+                }
+                return IsbnLookupResult.notFound(raw, isbn13);
+            });
+    }
+
+    private Mono<Book> fetch(BookProvider provider, String isbn13) {
+
+        return switch (provider) {
+            case KAKAO -> fetch(provider, isbn13,
+                () -> kakaoBookService.search(new KakaoSearchRequest(isbn13, "isbn")));
+            case ALADIN -> fetch(provider, isbn13,
+                () -> aladinBookService.search(
+                    new AladinBookRequest(isbn13, "Keyword", "1", "1", "Book", "Accuracy", "JS", "20131101")));
+            case NAVER -> fetch(provider, isbn13,
+                () -> naverBookService.search(new NaverSearchRequest(isbn13, 10, 1)));
+        };
+    }
+
+    // 키워드 검색 결과에서 ISBN13 이 일치하는 책만 채택하고 카탈로그에 반영한다
+    private <T> Mono<Book> fetch(BookProvider provider, String isbn13, Supplier<Mono<T>> call) {
+
+        return limiters.get(provider)
+            .execute(call)
+            .flatMapIterable(BookMapper::fromResponse)
+            .filter(book -> isbn13.equals(book.getIsbn13()))
+            .next()
+            .doOnNext(book -> bookCatalogWriter.enqueue(List.of(book)));
+    }
+
+    private record Attempt(BookProvider provider, Book book, Throwable error) {
+
+        static Attempt found(BookProvider provider, Book book) {
+
+            return new Attempt(provider, book, null);
+        }
+
+        static Attempt miss() {
+
+            return new Attempt(null, null, null);
+        }
+
+        static Attempt failed(Throwable error) {
+
+            return new Attempt(null, null, error);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.books.external.application.bulk;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * 동시에 구독되는 Mono 수를 permits 개로 제한한다. 초과분은 FIFO 로 대기하며 호출 스레드를 막지 않는다.
+ * 대기 중에 취소되면 대기열에서 빠지고, 실행 중에 취소되면 upstream 도 취소된 뒤 permit 을 반납한다.
+ * 대기자는 drain loop 한 곳에서만 시작하므로, 바로 끝나는 호출이 이어져도 release -> 다음 시작이 재귀로 쌓이지 않는다.
+ */
+public final class ConcurrencyLimiter {
+
+    private final int permits;
+    private final Queue<Runnable> waiters = new ArrayDeque<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private int active;
+
+    public ConcurrencyLimiter(int permits) {
+
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits must be positive");
+        }
+        this.permits = permits;
+    }
+
+    public <T> Mono<T> execute(Supplier<Mono<T>> call) {
+
+        return Mono.create(sink -> {
+            // 취소 동작은 대기 중엔 대기열 제거, 실행 후엔 upstream 구독 해제로 바뀐다
+            Disposable.Swap cancel = Disposables.swap();
+            Runnable start = () -> run(call, sink, cancel);
+
+            cancel.update(() -> cancelWaiting(start));
+            sink.onCancel(cancel);
+
+            enqueue(start);
+            drain();
+        });
+    }
+
+    public synchronized int active() {
+
+        return active;
+    }
+
+    public synchronized int waiting() {
+
+        return waiters.size();
+    }
+
+    private <T> void run(Supplier<Mono<T>> call, MonoSink<T> sink, Disposable.Swap cancel) {
+
+        Disposable subscription = Mono.defer(call)
+            .doFinally(signal -> release())
+            .subscribe(sink::success, sink::error, sink::success);
+
+        // 이미 취소됐다면 replace 가 바로 구독을 해제한다
+        cancel.replace(subscription);
+    }
+
+    private synchronized void enqueue(Runnable start) {
+
+        waiters.add(start);
+    }
+
+    // permit 이 남아 있으면 다음 대기자를 꺼내고 permit 을 잡는다
+    private synchronized Runnable acquireNext() {
+
+        if (active >= permits) {
+            return null;
+        }
+        Runnable next = waiters.poll();
+        if (next != null) {
+            active++;
+        }
+        return next;
+    }
+
+    private synchronized void cancelWaiting(Runnable start) {
+
+        waiters.remove(start);
+    }
+
+    private void release() {
+
+        synchronized (this) {
+            active--;
+        }
+        drain();
+    }
+
+    // 한 스레드만 대기자를 시작한다. 시작한 호출 안에서 release / execute 가 다시 불리면 wip 만 올리고 돌아오고, 바깥 루프가 이어서 꺼낸다
+    private void drain() {
+
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            Runnable next;
+            while ((next = acquireNext()) != null) {
+                next.run();
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
@@ -0,0 +1,13 @@
+package com.books.external.application.bulk;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class TooManyIsbnsException extends RuntimeException {
+
+    public TooManyIsbnsException(int maxItems) {
+
+        super("at most " + maxItems + " isbns per request");
+    }
+}
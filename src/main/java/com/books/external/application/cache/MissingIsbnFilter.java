@@ -0,0 +1,265 @@
+package com.books.external.application.cache;
+
+import com.books.config.BooksProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 제공자에서 결과가 없다고 확인된 ISBN 의 Bloom filter 와 그 확인 목록.
+ * ISBN-13 을 long 하나로 보고(ISBN-10 / 하이픈 표기는 그 자리에서 변환) 비트를 확인하므로 조회에 할당이 없다.
+ * Bloom filter 에 걸린 ISBN 만 확인 목록(long open addressing, 최대 expected-entries 개)과 대조하므로
+ * false positive 로 있는 책을 없다고 답하지 않는다. 대조에서 빠진 건수가 books.isbn.missing.false-positives 다.
+ * 지울 수 없는 filter 는 rebuild-interval 마다 ttl 안의 ISBN 만으로 새로 만들고, ttl 이 지난 ISBN 은 rebuild 전에도 없다고 답하지 않는다.
+ * 메트릭: books.isbn.missing.entries, books.isbn.missing.hits, books.isbn.missing.false-positives, books.isbn.missing.confirmed
+ */
+@Component
+public class MissingIsbnFilter implements MeterBinder {
+
+    private static final long NOT_ISBN = -1;
+    private static final long EMPTY = 0;
+
+    private final BooksProperties.MissingIsbnProperties properties;
+    private final LongSupplier nanoClock;
+    private final int bits;
+    private final int hashes;
+    private final int slots;
+    private final int capacity;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder confirmedCount = new LongAdder();
+    private volatile Snapshot snapshot;
+    private volatile int entries;
+
+    @Autowired
+    public MissingIsbnFilter(BooksProperties properties) {
+
+        this(properties, System::nanoTime);
+    }
+
+    MissingIsbnFilter(BooksProperties properties, LongSupplier nanoClock) {
+
+        this.properties = properties.missingIsbn();
+        this.nanoClock = nanoClock;
+
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        int expected = Math.max(1, this.properties.expectedEntries());
+        double bitsPerEntry = -Math.log(this.properties.falsePositiveRate()) / (Math.log(2) * Math.log(2));
+        this.bits = (int) Math.min(Integer.MAX_VALUE - 63, Math.ceil(expected * bitsPerEntry));
+        this.hashes = Math.max(1, (int) Math.round(bitsPerEntry * Math.log(2)));
+
+        // 확인 목록은 절반 이상 채우지 않는다 (선형 탐사가 짧게 끝나도록)
+        this.slots = Integer.highestOneBit((int) Math.min(1 << 29, expected * 2L - 1)) << 1;
+        this.capacity = Math.min(expected, slots / 2);
+        this.snapshot = new Snapshot(new AtomicLongArray((bits + 63) >>> 6),
+            new AtomicLongArray(slots), new AtomicLongArray(slots));
+    }
+
+    // 요청 경로: ISBN 이 아닌 값은 첫 글자에서 바로 false, 있는 ISBN 은 대부분 Bloom filter 에서 false
+    public boolean isConfirmedMissing(CharSequence isbn) {
+
+        if (!properties.enabled() || isbn == null) {
+            return false;
+        }
+
+        long key = key(isbn);
+        Snapshot current = snapshot;
+        if (key == NOT_ISBN || !contains(current.filter(), key)) {
+            return false;
+        }
+
+        int slot = slot(current.keys(), key);
+        if (current.keys().get(slot) != key) {
+            falsePositives.increment();
+            return false;
+        }
+        if (current.confirmedAt().get(slot) - expiredBefore() <= 0) {
+            return false;
+        }
+        hits.increment();
+        return true;
+    }
+
+    // 모든 제공자가 오류 없이 0건을 돌려준 ISBN 만 넣는다. 조회 스레드가 키를 보면 확인 시각도 보이도록 시각을 먼저 쓴다
+    public synchronized void confirm(CharSequence isbn) {
+
+        long key = key(isbn);
+        if (!properties.enabled() || key == NOT_ISBN) {
+            return;
+        }
+
+        Snapshot current = snapshot;
+        int slot = slot(current.keys(), key);
+        boolean known = current.keys().get(slot) == key;
+        if (!known && entries >= capacity) {
+            return;
+        }
+
+        current.confirmedAt().set(slot, nanoClock.getAsLong());
+        if (!known) {
+            current.keys().set(slot, key);
+            add(current.filter(), key);
+            entries++;
+        }
+        confirmedCount.increment();
+    }
+
+    // ttl 이 지난 ISBN 을 빼고 filter 와 확인 목록을 새로 만들어 교체한다. 교체 전까지 조회는 이전 것을 본다
+    @Scheduled(fixedDelayString = "${books.missing-isbn.rebuild-interval:5m}",
+        initialDelayString = "${books.missing-isbn.rebuild-interval:5m}")
+    public synchronized void rebuild() {
+
+        long expiredBefore = expiredBefore();
+        Snapshot current = snapshot;
+        Snapshot rebuilt = new Snapshot(new AtomicLongArray(current.filter().length()),
+            new AtomicLongArray(slots), new AtomicLongArray(slots));
+        int kept = 0;
+
+        for (int i = 0; i < slots; i++) {
+            long key = current.keys().get(i);
+            long confirmedAt = current.confirmedAt().get(i);
+            if (key == EMPTY || confirmedAt - expiredBefore <= 0) {
+                continue;
+            }
+
+            int slot = slot(rebuilt.keys(), key);
+            rebuilt.confirmedAt().set(slot, confirmedAt);
+            rebuilt.keys().set(slot, key);
+            add(rebuilt.filter(), key);
+            kept++;
+        }
+
+        snapshot = rebuilt;
+        entries = kept;
+    }
+
+    private long expiredBefore() {
+
+        return nanoClock.getAsLong() - properties.ttl().toNanos();
+    }
+
+    // key 가 있는 칸, 없으면 key 를 넣을 빈 칸 (ISBN-13 은 0 이 될 수 없어서 0 을 빈 칸으로 쓴다)
+    private int slot(AtomicLongArray keys, long key) {
+
+        int mask = slots - 1;
+        int slot = (int) mix(key) & mask;
+
+        long current;
+        while ((current = keys.get(slot)) != EMPTY && current != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void add(AtomicLongArray target, long key) {
+
+        long h1 = mix(key);
+        long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+
+        for (int i = 0; i < hashes; i++) {
+            int bit = (int) Long.remainderUnsigned(h1 + i * h2, bits);
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+
+            long current;
+            while (((current = target.get(word)) & mask) == 0
+                && !target.compareAndSet(word, current, current | mask)) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private boolean contains(AtomicLongArray target, long key) {
+
+        long h1 = mix(key);
+        long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+
+        for (int i = 0; i < hashes; i++) {
+            int bit = (int) Long.remainderUnsigned(h1 + i * h2, bits);
+            if ((target.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 하이픈 / 공백을 건너뛰고 ISBN-13 숫자를 long 으로. ISBN-10 은 978 을 붙이고 체크 디지트를 다시 계산한다 (Isbn.toIsbn13 과 같은 값)
+    static long key(CharSequence isbn) {
+
+        long value = 0;
+        int digits = 0;
+        boolean tenCheckX = false;
+
+        for (int i = 0; i < isbn.length(); i++) {
+            char c = isbn.charAt(i);
+
+            if (c == '-' || Character.isWhitespace(c)) {
+                continue;
+            }
+            if (digits == 9 && (c == 'X' || c == 'x')) {
+                tenCheckX = true;
+            } else if (c < '0' || c > '9' || tenCheckX || digits == 13) {
+                return NOT_ISBN;
+            } else {
+                value = value * 10 + (c - '0');
+            }
+            digits++;
+        }
+
+        if (digits == 13 && !tenCheckX) {
+            return value;
+        }
+        if (digits != 10) {
+            return NOT_ISBN;
+        }
+
+        // ISBN-10 의 체크 디지트는 버리고 978 + 앞 9자리로 ISBN-13 체크 디지트를 만든다
+        long body = 978_000_000_000L + (tenCheckX ? value : value / 10);
+        int sum = 0;
+        long rest = body;
+        for (int position = 11; position >= 0; position--) {
+            int digit = (int) (rest % 10);
+            sum += position % 2 == 0 ? digit : digit * 3;
+            rest /= 10;
+        }
+        return body * 10 + (10 - sum % 10) % 10;
+    }
+
+    // murmur3 fmix64
+    private static long mix(long h) {
+
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53a87ecL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        Gauge.builder("books.isbn.missing.entries", this, missing -> missing.entries)
+            .register(registry);
+
+        FunctionCounter.builder("books.isbn.missing.hits", hits, LongAdder::sum)
+            .register(registry);
+
+        FunctionCounter.builder("books.isbn.missing.false-positives", falsePositives, LongAdder::sum)
+            .register(registry);
+
+        FunctionCounter.builder("books.isbn.missing.confirmed", confirmedCount, LongAdder::sum)
+            .register(registry);
+    }
+
+    private record Snapshot(AtomicLongArray filter, AtomicLongArray keys, AtomicLongArray confirmedAt) {
+    }
+}
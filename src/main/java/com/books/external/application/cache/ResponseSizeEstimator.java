@@ -0,0 +1,170 @@
+package com.books.external.application.cache;
+
+import com.books.external.api.payload.kakao.response.KotlinKakaoDocument;
+import com.books.external.api.payload.kakao.response.KotlinKakaoSearchResponse;
+import com.books.external.api.payload.response.aladin.AladinBookResponse;
+import com.books.external.api.payload.response.aladin.AladinSearchResponse;
+import com.books.external.api.payload.response.aladin.KotlinAladinBookResponse;
+import com.books.external.api.payload.response.aladin.KotlinAladinSearchResponse;
+import com.books.external.api.payload.response.kakao.KakaoBookResponse;
+import com.books.external.api.payload.response.kakao.KakaoDocument;
+import com.books.external.api.payload.response.naver.KotlinNaverBookResponse;
+import com.books.external.api.payload.response.naver.KotlinNaverSearchResponse;
+import com.books.external.api.payload.response.naver.NaverBookResponse;
+import com.books.external.api.payload.response.naver.NaverSearchResponse;
+import java.util.List;
+
+/**
+ * 캐시 weigher 용 힙 점유량 추정치.
+ * 정확한 측정이 아니라 응답 간 상대 크기를 맞추는 것이 목적이다.
+ */
+final class ResponseSizeEstimator {
+
+    private static final long OBJECT_OVERHEAD = 16;
+    private static final long REFERENCE = 8;
+    private static final long STRING_OVERHEAD = 40;
+    private static final long UNKNOWN = 1024;
+
+    private ResponseSizeEstimator() {
+    }
+
+    static int estimate(Object response) {
+
+        long bytes = switch (response) {
+            case AladinBookResponse aladin -> aladin(aladin);
+            case KakaoBookResponse kakao -> kakao(kakao);
+            case NaverBookResponse naver -> naver(naver);
+            case KotlinAladinBookResponse aladin -> kotlinAladin(aladin);
+            case KotlinKakaoSearchResponse kakao -> kotlinKakao(kakao);
+            case KotlinNaverBookResponse naver -> kotlinNaver(naver);
+            default -> UNKNOWN;
+        };
+
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static long aladin(AladinBookResponse response) {
+
+        long bytes = object(11) + strings(response.version(), response.logo(), response.title(), response.link(),
+                response.pubDate(), response.query(), response.searchCategoryName());
+
+        for (AladinSearchResponse item : nullSafe(response.item())) {
+            bytes += REFERENCE + object(23) + strings(item.title(), item.link(), item.author(), item.pubDate(),
+                    item.description(), item.isbn(), item.isbn13(), item.mallType(), item.stockStatus(),
+                    item.cover(), item.categoryName(), item.publisher());
+
+            if (item.seriesInfo() != null) {
+                bytes += object(3) + strings(item.seriesInfo().seriesLink(), item.seriesInfo().seriesName());
+            }
+        }
+
+        return bytes;
+    }
+
+    private static long kakao(KakaoBookResponse response) {
+
+        long bytes = object(2) + object(3);
+
+        for (KakaoDocument document : nullSafe(response.documents())) {
+            bytes += REFERENCE + object(12) + strings(document.contents(), document.datetime(), document.isbn(),
+                    document.publisher(), document.status(), document.thumbnail(), document.title(), document.url())
+                    + array(document.authors()) + array(document.translators());
+        }
+
+        return bytes;
+    }
+
+    private static long naver(NaverBookResponse response) {
+
+        long bytes = object(5) + strings(response.lastBuildDate());
+
+        for (NaverSearchResponse item : nullSafe(response.items())) {
+            bytes += REFERENCE + object(9) + strings(item.title(), item.link(), item.image(), item.author(),
+                    item.discount(), item.publisher(), item.pubdate(), item.isbn(), item.description());
+        }
+
+        return bytes;
+    }
+
+    private static long kotlinAladin(KotlinAladinBookResponse response) {
+
+        long bytes = object(11) + strings(response.getVersion(), response.getLogo(), response.getTitle(),
+                response.getLink(), response.getPubDate(), response.getQuery(), response.getSearchCategoryName());
+
+        for (KotlinAladinSearchResponse item : nullSafe(response.getItem())) {
+            bytes += REFERENCE + object(20) + strings(item.getTitle(), item.getAuthor(), item.getPubDate(),
+                    item.getDescription(), item.getIsbn(), item.getIsbn13(), item.getItemId(), item.getPriceSales(),
+                    item.getPriceStandard(), item.getMallType(), item.getStockStatus(), item.getCover(),
+                    item.getCategoryName(), item.getPublisher(), item.getSearchTarget());
+
+            if (item.getSubInfo() != null) {
+                bytes += object(4) + strings(item.getSubInfo().getSubbarcode(), item.getSubInfo().getSubTitle(),
+                        item.getSubInfo().getOriginalTitle());
+
+                for (String image : nullSafe(item.getSubInfo().getCardReviewImgList())) {
+                    bytes += REFERENCE + strings(image);
+                }
+            }
+
+            if (item.getSeriesInfo() != null) {
+                bytes += object(2) + strings(item.getSeriesInfo().getSeriesId(), item.getSeriesInfo().getSeriesLink());
+            }
+        }
+
+        return bytes;
+    }
+
+    private static long kotlinKakao(KotlinKakaoSearchResponse response) {
+
+        long bytes = object(2) + object(3);
+
+        for (KotlinKakaoDocument document : nullSafe(response.getDocuments())) {
+            bytes += REFERENCE + object(12) + strings(document.getContents(), document.getDatetime(),
+                    document.getIsbn(), document.getPublisher(), document.getStatus(), document.getThumbnail(),
+                    document.getTitle(), document.getUrl())
+                    + array(document.getAuthors()) + array(document.getTranslators());
+        }
+
+        return bytes;
+    }
+
+    private static long kotlinNaver(KotlinNaverBookResponse response) {
+
+        long bytes = object(5) + strings(response.getLastBuildDate());
+
+        for (KotlinNaverSearchResponse item : nullSafe(response.getItems())) {
+            bytes += REFERENCE + object(9) + strings(item.getTitle(), item.getImage(), item.getAuthor(),
+                    item.getPrice(), item.getDiscount(), item.getPublisher(), item.getPubdate(), item.getIsbn(),
+                    item.getDescription());
+        }
+
+        return bytes;
+    }
+
+    private static long object(int fields) {
+
+        return OBJECT_OVERHEAD + fields * REFERENCE;
+    }
+
+    private static long array(String[] values) {
+
+        return values == null ? 0 : OBJECT_OVERHEAD + values.length * REFERENCE + strings(values);
+    }
+
+    // 한글 위주라 UTF-16(2바이트/문자)로 계산
+    private static long strings(String... values) {
+
+        long bytes = 0;
+        for (String value : values) {
+            if (value != null) {
+                bytes += STRING_OVERHEAD + 2L * value.length();
+            }
+        }
+        return bytes;
+    }
+
+    private static <T> List<T> nullSafe(List<T> values) {
+
+        return values == null ? List.of() : values;
+    }
+}
@@ -0,0 +1,225 @@
+package com.books.external.application.cache;
+
+import com.books.config.BlockingIo;
+import com.books.config.BooksProperties;
+import com.books.external.application.BookProvider;
+import com.books.external.application.searchlog.ProviderOutcome;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 제공자별 검색 응답 read-through 캐시.
+ * 키는 요청 record / data class 또는 정규화한 SearchKey 이며, 크기 제한은 추정 바이트 기준이다.
+ * L1(Caffeine) 미스는 L2(SearchResponseDiskCache) 를 거쳐 upstream 으로 가고, L2 에서 찾은 응답은 L1 에 다시 올린다.
+ * L2 조회는 매핑된 페이지를 읽는 블로킹 호출이라 BlockingIo 에서 하고, L1 에는 L2 에 기록된 때부터 남은 ttl 만큼만 올린다.
+ * 오류는 캐시하지 않는다. 결과 0건 응답(없는 ISBN 등)은 ttl 이 아니라 negative-ttl 동안 L1 에만 둔다.
+ * 같은 요청이 반복돼도 upstream 은 그 주기에 한 번만 간다.
+ * hit / miss / eviction 은 cache.gets, cache.evictions{cache=books.search, provider=...} 로 노출된다.
+ */
+@Component
+public class SearchResponseCache implements MeterBinder {
+
+    private final Map<BookProvider, Cache<Object, Object>> caches = new EnumMap<>(BookProvider.class);
+    private final Map<BookProvider, Duration> ttls = new EnumMap<>(BookProvider.class);
+
+    @Nullable
+    private final SearchResponseDiskCache diskCache;
+    private final BlockingIo blockingIo;
+
+    // L2 없이 (테스트 / 벤치마크)
+    public SearchResponseCache(BooksProperties properties) {
+
+        this(properties, null);
+    }
+
+    public SearchResponseCache(BooksProperties properties, @Nullable SearchResponseDiskCache diskCache) {
+
+        this(properties, diskCache, BlockingIo.platform());
+    }
+
+    @Autowired
+    public SearchResponseCache(BooksProperties properties, @Nullable SearchResponseDiskCache diskCache, BlockingIo blockingIo) {
+
+        this(properties, diskCache, blockingIo, Ticker.systemTicker());
+    }
+
+    SearchResponseCache(BooksProperties properties, @Nullable SearchResponseDiskCache diskCache, Ticker ticker) {
+
+        this(properties, diskCache, BlockingIo.platform(), ticker);
+    }
+
+    SearchResponseCache(
+        BooksProperties properties, @Nullable SearchResponseDiskCache diskCache, BlockingIo blockingIo, Ticker ticker) {
+
+        this.diskCache = diskCache;
+        this.blockingIo = blockingIo;
+
+        for (BookProvider provider : BookProvider.values()) {
+            BooksProperties.CacheProperties cache = properties.provider(provider).cache();
+            ttls.put(provider, cache.ttl());
+
+            caches.put(provider, Caffeine.newBuilder()
+                    .expireAfter(new ResponseExpiry(cache.ttl(), cache.negativeTtl()))
+                    .maximumWeight(cache.maxSize().toBytes())
+                    .weigher((Object key, Object value) -> ResponseSizeEstimator.estimate(value))
+                    .ticker(ticker)
+                    .recordStats()
+                    .build());
+        }
+    }
+
+    public <T> Mono<T> get(BookProvider provider, Object request, Supplier<Mono<T>> loader) {
+
+        return Mono.defer(() -> {
+            T cached = getIfPresentInMemory(provider, request);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            return this.<T>getFromDisk(provider, request)
+                .switchIfEmpty(Mono.defer(() -> loader.get().doOnNext(response -> put(provider, request, response))));
+        });
+    }
+
+    // L1 만 본다 (블로킹 없음)
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T getIfPresentInMemory(BookProvider provider, Object request) {
+
+        return (T) caches.get(provider).getIfPresent(request);
+    }
+
+    // L1 미스 후 L2 를 BlockingIo 에서 읽는다. L2 가 없거나 미스면 빈 Mono
+    public <T> Mono<T> getFromDisk(BookProvider provider, Object request) {
+
+        if (diskCache == null) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> this.<T>promote(provider, request))
+            .subscribeOn(blockingIo.scheduler());
+    }
+
+    // L1 -> L2 를 호출한 스레드에서 차례로 본다 (L2 를 읽으면 블로킹이므로 이벤트 루프에서는 get / getFromDisk 를 쓴다)
+    @Nullable
+    public <T> T getIfPresent(BookProvider provider, Object request) {
+
+        T cached = getIfPresentInMemory(provider, request);
+        return cached != null || diskCache == null ? cached : promote(provider, request);
+    }
+
+    // L2 에 기록된 지 L1 ttl 이 지난 응답은 쓰지 않고, 그 전이면 남은 시간만큼만 L1 에 둔다 (L1 + L2 를 합쳐 ttl 을 넘지 않게)
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private <T> T promote(BookProvider provider, Object request) {
+
+        SearchResponseDiskCache.Hit hit = diskCache.get(provider, request);
+        if (hit == null) {
+            return null;
+        }
+
+        Duration remaining = ttls.get(provider).minus(hit.age());
+        if (remaining.isNegative() || remaining.isZero()) {
+            return null;
+        }
+
+        caches.get(provider).policy().expireVariably()
+            .ifPresent(expiration -> expiration.put(request, hit.value(), remaining));
+        return (T) hit.value();
+    }
+
+    public void put(BookProvider provider, Object request, Object response) {
+
+        caches.get(provider).put(request, response);
+        if (diskCache != null && !isEmpty(response)) {
+            diskCache.put(provider, request, response);
+        }
+    }
+
+    // 캐시에 있고 ahead 안에 만료될 항목만 loader 로 다시 받아 덮어쓴다. 없는 항목은 만들지 않는다 (pre-warm 용)
+    public <T> Mono<Boolean> refreshIfExpiring(
+        BookProvider provider, Object request, Duration ahead, Supplier<Mono<T>> loader) {
+
+        return Mono.defer(() -> {
+            if (!expiresWithin(provider, request, ahead)) {
+                return Mono.just(false);
+            }
+
+            return loader.get()
+                .doOnNext(response -> put(provider, request, response))
+                .map(response -> true)
+                .defaultIfEmpty(false);
+        });
+    }
+
+    // negative 항목은 짧게 두는 것이 목적이므로 미리 갱신하지 않는다
+    public boolean expiresWithin(BookProvider provider, Object request, Duration ahead) {
+
+        Cache<Object, Object> cache = caches.get(provider);
+        Object cached = cache.policy().getIfPresentQuietly(request);
+        if (cached == null || isEmpty(cached)) {
+            return false;
+        }
+
+        return cache.policy().expireVariably()
+            .flatMap(expiration -> expiration.getExpiresAfter(request))
+            .map(remaining -> remaining.compareTo(ahead) <= 0)
+            .orElse(false);
+    }
+
+    static boolean isEmpty(Object response) {
+
+        Long count = ProviderOutcome.resultCount(response);
+        return count != null && count == 0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        caches.forEach((provider, cache) ->
+                CaffeineCacheMetrics.monitor(registry, cache, "books.search", "provider", provider.id()));
+    }
+
+    // 쓰기 / 덮어쓰기 때마다 응답에 따라 ttl 또는 negative-ttl, 읽기는 수명을 바꾸지 않는다
+    private static final class ResponseExpiry implements Expiry<Object, Object> {
+
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        ResponseExpiry(Duration ttl, Duration negativeTtl) {
+
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = Math.min(negativeTtl.toNanos(), ttlNanos);
+        }
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+
+            return isEmpty(value) ? negativeTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,594 @@
+package com.books.external.application.cache;
+
+import com.books.config.BooksProperties;
+import com.books.external.application.BookProvider;
+import com.books.external.application.searchlog.MpscRingBuffer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 응답 L2 캐시. directory 아래 고정 크기 segment 파일을 memory-map 해 append-only 로 기록하므로 재시작해도 남는다.
+ * 힙에는 키 해시 -> (segment, offset, 길이, 만료 시각) 색인만 두고, 응답은 Smile(바이너리 JSON)로 인코딩해 두었다가 읽을 때 디코딩한다.
+ * 시작할 때 segment 의 레코드 헤더만 훑어 색인을 다시 만들고(값은 읽지 않음), 쓰기 / compaction 은 전용 스레드 하나가 맡는다.
+ * 메트릭: books.cache.disk.{entries,segments,hits,misses,written,dropped,compacted}
+ */
+@Slf4j
+@Component
+public class SearchResponseDiskCache implements SmartLifecycle, MeterBinder {
+
+    // magic | length | keyHash | expiresAt | keyLength | typeLength | valueLength | key | type | value | crc32c
+    private static final int MAGIC = 0xB00C5E6D;
+    private static final int HEADER = 4 + 4 + 8 + 8 + 2 + 2 + 4;
+    private static final int TRAILER = 4;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+
+    // 디코딩할 수 있는 응답 타입 (파일에 적힌 클래스 이름을 그대로 믿지 않는다)
+    private static final String PAYLOAD_PACKAGE = "com.books.external.api.payload.";
+
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final BooksProperties.DiskCacheProperties properties;
+    private final LongSupplier clock;
+    private final ObjectMapper smile = Jackson2ObjectMapperBuilder.smile().build();
+    private final MpscRingBuffer<Pending> buffer;
+
+    private final Map<Long, Location> index = new ConcurrentHashMap<>();
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final Map<String, Class<?>> types = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder compacted = new LongAdder();
+
+    private volatile boolean running;
+    private Segment active;
+    private FileChannel lockChannel;
+    private FileLock lock;
+    private Thread worker;
+
+    @Autowired
+    public SearchResponseDiskCache(BooksProperties properties) {
+
+        this(properties, System::currentTimeMillis);
+    }
+
+    SearchResponseDiskCache(BooksProperties properties, LongSupplier clock) {
+
+        this.properties = properties.diskCache();
+        this.clock = clock;
+        this.buffer = new MpscRingBuffer<>(this.properties.bufferCapacity());
+    }
+
+    // L1 미스일 때 BlockingIo 에서 호출된다. 매핑된 페이지에서 복사해 디코딩하며, 깨진 레코드는 색인에서 빼고 미스로 본다
+    @Nullable
+    public Hit get(BookProvider provider, Object request) {
+
+        if (!running) {
+            return null;
+        }
+
+        try {
+            byte[] key = key(provider, request);
+            long hash = hash(key);
+            Location location = index.get(hash);
+            long now = clock.getAsLong();
+
+            if (location == null || location.expiresAt() <= now) {
+                misses.increment();
+                return null;
+            }
+
+            Object value = read(location, key);
+            if (value == null) {
+                index.remove(hash, location);
+                misses.increment();
+                return null;
+            }
+
+            hits.increment();
+            return new Hit(value, Duration.ofMillis(now - (location.expiresAt() - properties.ttl().toMillis())));
+        } catch (IOException | RuntimeException e) {
+            log.debug("disk cache read failed for {}: {}", provider.id(), e.toString());
+            misses.increment();
+            return null;
+        }
+    }
+
+    // 인코딩과 기록은 쓰기 스레드에서 한다. 버퍼가 가득 차면 버린다 (L1 에는 이미 들어 있다)
+    public void put(BookProvider provider, Object request, Object response) {
+
+        if (running && !buffer.offer(new Pending(provider, request, response))) {
+            dropped.increment();
+        }
+    }
+
+    // 웹 서버보다 먼저 시작해 첫 요청부터 색인을 쓰고, 웹 서버가 멈춘 뒤에 남은 쓰기를 반영한다
+    @Override
+    public int getPhase() {
+
+        return 0;
+    }
+
+    @Override
+    public void start() {
+
+        if (!properties.enabled()) {
+            return;
+        }
+
+        try {
+            if (!open()) {
+                return;
+            }
+        } catch (IOException e) {
+            log.warn("disk cache disabled, cannot open {}: {}", properties.directory(), e.toString());
+            return;
+        }
+
+        running = true;
+        worker = Thread.ofPlatform()
+            .name("search-disk-cache")
+            .daemon(true)
+            .start(this::writeLoop);
+    }
+
+    @Override
+    public void stop() {
+
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        close();
+    }
+
+    @Override
+    public boolean isRunning() {
+
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        Gauge.builder("books.cache.disk.entries", index, Map::size).register(registry);
+        Gauge.builder("books.cache.disk.segments", segments, List::size).register(registry);
+        FunctionCounter.builder("books.cache.disk.hits", hits, LongAdder::sum).register(registry);
+        FunctionCounter.builder("books.cache.disk.misses", misses, LongAdder::sum).register(registry);
+        FunctionCounter.builder("books.cache.disk.written", written, LongAdder::sum).register(registry);
+        FunctionCounter.builder("books.cache.disk.dropped", dropped, LongAdder::sum).register(registry);
+        FunctionCounter.builder("books.cache.disk.compacted", compacted, LongAdder::sum).register(registry);
+    }
+
+    // 디렉터리를 잠그고 segment 를 매핑해 색인을 만든다. 다른 프로세스(또는 같은 JVM 의 다른 컨텍스트)가 쓰고 있으면 L2 없이 동작한다
+    boolean open() throws IOException {
+
+        Path directory = Path.of(properties.directory());
+        Files.createDirectories(directory);
+
+        lockChannel = FileChannel.open(directory.resolve("lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            log.warn("disk cache disabled, {} is in use by another instance", directory);
+            lockChannel.close();
+            return false;
+        }
+
+        long startedAt = System.nanoTime();
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                .sorted()
+                .toList();
+        }
+
+        long now = clock.getAsLong();
+        for (Path file : files) {
+            Segment segment = map(file, segmentId(file));
+            scan(segment, now);
+            segments.add(segment);
+        }
+
+        active = segments.isEmpty() ? roll() : segments.get(segments.size() - 1);
+        running = true;
+
+        log.info("disk cache loaded {} entries from {} segments in {} ms",
+            index.size(), segments.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return true;
+    }
+
+    // 테스트 / 종료 시 쓰기 스레드 없이 버퍼를 비운다
+    void flushRemaining() {
+
+        List<Pending> batch = new ArrayList<>();
+        while (buffer.drainTo(batch, 256) > 0) {
+            batch.forEach(this::write);
+            batch.clear();
+        }
+    }
+
+    void close() {
+
+        running = false;
+        flushRemaining();
+
+        for (Segment segment : segments) {
+            segment.buffer.force();
+            closeQuietly(segment.channel);
+        }
+        segments.clear();
+        index.clear();
+
+        try {
+            if (lock != null) {
+                lock.release();
+            }
+            lockChannel.close();
+        } catch (IOException e) {
+            log.debug("disk cache lock release failed: {}", e.toString());
+        }
+    }
+
+    // 살아 있는 비율이 compact-below 아래인 segment 의 항목을 활성 segment 로 옮기고 파일을 지운다. 전부 만료된 segment 는 바로 지운다.
+    // 전체 크기가 max-size 를 넘으면 가장 오래된 segment 부터 버린다
+    void compact() throws IOException {
+
+        long now = clock.getAsLong();
+
+        for (Segment segment : List.copyOf(segments)) {
+            if (segment == active) {
+                continue;
+            }
+
+            if (segment.maxExpiresAt <= now) {
+                drop(segment);
+            } else if (segment.liveBytes.get() < segment.position * properties.compactBelow()) {
+                relocate(segment, now);
+                drop(segment);
+            }
+        }
+
+        while (segments.size() > 1 && (long) segments.size() * segmentSize() > properties.maxSize().toBytes()) {
+            drop(segments.get(0));
+        }
+    }
+
+    private void writeLoop() {
+
+        List<Pending> batch = new ArrayList<>();
+        long lastCompaction = System.nanoTime();
+
+        while (running) {
+            if (buffer.drainTo(batch, 256) > 0) {
+                batch.forEach(this::write);
+                batch.clear();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+
+            if (System.nanoTime() - lastCompaction >= properties.compactInterval().toNanos()) {
+                compactQuietly();
+                lastCompaction = System.nanoTime();
+            }
+        }
+    }
+
+    private void compactQuietly() {
+
+        try {
+            compact();
+        } catch (IOException | RuntimeException e) {
+            log.warn("disk cache compaction failed: {}", e.toString());
+        }
+    }
+
+    private void write(Pending pending) {
+
+        try {
+            byte[] key = key(pending.provider(), pending.request());
+            byte[] type = pending.response().getClass().getName().getBytes(StandardCharsets.UTF_8);
+            byte[] value = smile.writeValueAsBytes(pending.response());
+            long expiresAt = clock.getAsLong() + properties.ttl().toMillis();
+
+            int length = HEADER + key.length + type.length + value.length + TRAILER;
+            if (length > segmentSize() || key.length > Short.MAX_VALUE || type.length > Short.MAX_VALUE) {
+                dropped.increment();
+                return;
+            }
+
+            ByteBuffer record = ByteBuffer.allocate(length);
+            record.putInt(0)
+                .putInt(length)
+                .putLong(hash(key))
+                .putLong(expiresAt)
+                .putShort((short) key.length)
+                .putShort((short) type.length)
+                .putInt(value.length)
+                .put(key)
+                .put(type)
+                .put(value)
+                .putInt(crc(record.array(), HEADER, length - HEADER - TRAILER));
+
+            append(record.array(), hash(key), expiresAt);
+            written.increment();
+        } catch (IOException | RuntimeException e) {
+            dropped.increment();
+            log.debug("disk cache write failed for {}: {}", pending.provider().id(), e.toString());
+        }
+    }
+
+    // magic 을 마지막에 써서, 쓰다 만 레코드는 다음 시작 때 scan 이 여기서 멈추게 한다
+    private void append(byte[] record, long hash, long expiresAt) throws IOException {
+
+        if (active.position + record.length > active.size) {
+            active.buffer.force();
+            active = roll();
+        }
+
+        int offset = active.position;
+        active.buffer.put(offset + 4, record, 4, record.length - 4);
+        active.buffer.putInt(offset, MAGIC);
+        active.position = offset + record.length;
+
+        index(hash, new Location(active, offset, record.length, expiresAt));
+    }
+
+    private void index(long hash, Location location) {
+
+        location.segment().liveBytes.addAndGet(location.length());
+        location.segment().maxExpiresAt = Math.max(location.segment().maxExpiresAt, location.expiresAt());
+
+        Location previous = index.put(hash, location);
+        if (previous != null) {
+            previous.segment().liveBytes.addAndGet(-previous.length());
+        }
+    }
+
+    private void relocate(Segment segment, long now) throws IOException {
+
+        for (Map.Entry<Long, Location> entry : index.entrySet()) {
+            Location location = entry.getValue();
+            if (location.segment() != segment) {
+                continue;
+            }
+            if (location.expiresAt() <= now) {
+                index.remove(entry.getKey(), location);
+                continue;
+            }
+
+            byte[] record = new byte[location.length()];
+            segment.buffer.get(location.offset(), record);
+
+            if (active.position + record.length > active.size) {
+                active.buffer.force();
+                active = roll();
+            }
+            int offset = active.position;
+            active.buffer.put(offset + 4, record, 4, record.length - 4);
+            active.buffer.putInt(offset, MAGIC);
+            active.position = offset + record.length;
+
+            Location moved = new Location(active, offset, record.length, location.expiresAt());
+            if (index.replace(entry.getKey(), location, moved)) {
+                active.liveBytes.addAndGet(moved.length());
+                active.maxExpiresAt = Math.max(active.maxExpiresAt, moved.expiresAt());
+            }
+        }
+    }
+
+    // 이미 색인을 받아 간 읽기는 매핑이 GC 될 때까지 남아 있으므로 파일을 지워도 안전하다 (POSIX)
+    private void drop(Segment segment) throws IOException {
+
+        index.values().removeIf(location -> location.segment() == segment);
+        segments.remove(segment);
+        closeQuietly(segment.channel);
+        Files.deleteIfExists(segment.path);
+        compacted.increment();
+    }
+
+    private Segment roll() throws IOException {
+
+        long id = segments.isEmpty() ? 1 : segments.get(segments.size() - 1).id + 1;
+        Path file = Path.of(properties.directory(), "%s%012d%s".formatted(SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+
+        Segment segment = map(file, id);
+        segments.add(segment);
+        return segment;
+    }
+
+    private Segment map(Path file, long id) throws IOException {
+
+        FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        int size = (int) Math.max(channel.size(), segmentSize());
+
+        return new Segment(id, file, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+
+    // 헤더만 읽어 만료되지 않은 레코드를 색인에 올린다. 뒤에 쓴 같은 키가 앞의 것을 덮는다
+    private void scan(Segment segment, long now) {
+
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = 0;
+
+        while (offset + HEADER + TRAILER <= segment.size && buffer.getInt(offset) == MAGIC) {
+            int length = buffer.getInt(offset + 4);
+            if (length < HEADER + TRAILER || offset + length > segment.size) {
+                break;
+            }
+
+            long hash = buffer.getLong(offset + 8);
+            long expiresAt = buffer.getLong(offset + 16);
+            if (expiresAt > now) {
+                index(hash, new Location(segment, offset, length, expiresAt));
+            }
+            offset += length;
+        }
+        segment.position = offset;
+    }
+
+    @Nullable
+    private Object read(Location location, byte[] key) throws IOException {
+
+        byte[] record = new byte[location.length()];
+        location.segment().buffer.get(location.offset(), record);
+        ByteBuffer header = ByteBuffer.wrap(record);
+
+        int keyLength = header.getShort(24);
+        int typeLength = header.getShort(26);
+        int valueLength = header.getInt(28);
+        int end = HEADER + keyLength + typeLength + valueLength;
+
+        if (header.getInt(0) != MAGIC || end + TRAILER != location.length()
+            || header.getInt(end) != crc(record, HEADER, end - HEADER)
+            || !Arrays.equals(record, HEADER, HEADER + keyLength, key, 0, key.length)) {
+            return null;
+        }
+
+        String type = new String(record, HEADER + keyLength, typeLength, StandardCharsets.UTF_8);
+        return smile.readValue(record, HEADER + keyLength + typeLength, valueLength, type(type));
+    }
+
+    private Class<?> type(String name) {
+
+        return types.computeIfAbsent(name, type -> {
+            if (!type.startsWith(PAYLOAD_PACKAGE)) {
+                throw new IllegalStateException("unexpected cached type " + type);
+            }
+            try {
+                return Class.forName(type, false, SearchResponseDiskCache.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("unknown cached type " + type, e);
+            }
+        });
+    }
+
+    // 제공자 + 요청 타입 + 요청 값. 요청 record / data class 는 선언 순서대로 직렬화되어 재시작 후에도 같은 키가 나온다
+    private byte[] key(BookProvider provider, Object request) throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        out.write((provider.id() + '|' + request.getClass().getName() + '|').getBytes(StandardCharsets.UTF_8));
+        smile.writeValue(out, request);
+        return out.toByteArray();
+    }
+
+    // FNV-1a 64
+    private static long hash(byte[] key) {
+
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static int crc(byte[] bytes, int offset, int length) {
+
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private int segmentSize() {
+
+        return (int) Math.min(Integer.MAX_VALUE, properties.segmentSize().toBytes());
+    }
+
+    private static long segmentId(Path file) {
+
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("disk cache segment close failed: {}", e.toString());
+        }
+    }
+
+    // age - 기록한 뒤 지난 시간 (만료 시각 - ttl 로 계산하므로 ttl 을 바꾸고 재시작하면 근사값)
+    public record Hit(Object value, Duration age) {
+    }
+
+    private record Pending(BookProvider provider, Object request, Object response) {
+    }
+
+    private record Location(Segment segment, int offset, int length, long expiresAt) {
+    }
+
+    // position / maxExpiresAt 은 쓰기 스레드만 바꾸고, 읽기는 색인(ConcurrentHashMap)을 거쳐 쓰기 이후의 내용만 본다
+    private static final class Segment {
+
+        private final long id;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final int size;
+        private final AtomicLong liveBytes = new AtomicLong();
+        private int position;
+        private volatile long maxExpiresAt;
+
+        Segment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.size = buffer.capacity();
+        }
+    }
+}
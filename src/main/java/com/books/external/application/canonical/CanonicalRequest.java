@@ -0,0 +1,7 @@
+package com.books.external.application.canonical;
+
+/**
+ * 정규화된 요청, 그 캐시 키, 원래 요청에서 실제로 바뀐 규칙 (CanonicalRule 비트).
+ */
+public record CanonicalRequest<T>(T request, SearchKey key, int rules) {
+}
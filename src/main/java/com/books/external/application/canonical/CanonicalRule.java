@@ -0,0 +1,29 @@
+package com.books.external.application.canonical;
+
+/**
+ * 검색 요청 정규화 규칙. 적용 순서도 이 순서다 (ISBN 으로 인식되면 뒤의 검색어 규칙은 건너뛴다).
+ */
+public enum CanonicalRule {
+
+    NFC("nfc"),
+    ISBN("isbn"),
+    PUNCTUATION("punctuation"),
+    WHITESPACE("whitespace"),
+    CASE("case"),
+    DEFAULTS("defaults");
+
+    private final String id;
+
+    CanonicalRule(String id) {
+        this.id = id;
+    }
+
+    // books.canonical.disabled-rules 값, 메트릭 태그에 사용
+    public String id() {
+        return id;
+    }
+
+    int bit() {
+        return 1 << ordinal();
+    }
+}
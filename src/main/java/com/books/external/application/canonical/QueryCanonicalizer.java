@@ -0,0 +1,342 @@
+package com.books.external.application.canonical;
+
+import com.books.book.domain.Isbn;
+import com.books.config.BooksProperties;
+import com.books.external.api.payload.kakao.request.KotlinKakaoSearchRequest;
+import com.books.external.api.payload.request.aladin.AladinBookRequest;
+import com.books.external.api.payload.request.aladin.KotlinAladinBookRequest;
+import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
+import com.books.external.api.payload.request.naver.KotlinNaverSearchRequest;
+import com.books.external.api.payload.request.naver.NaverSearchRequest;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.text.Normalizer;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * facade 에 들어온 검색 요청을 정규화해 응답 캐시 / single-flight / 인기 검색어가 같은 검색을 같은 키로 보게 한다.
+ * 검색어: NFC -> ISBN (전체가 ISBN-10 / 13 이면 하이픈 없는 ISBN-13 으로 바꾸고 끝) -> 문장부호 -> 공백 -> 소문자.
+ * 요청 필드: 비어 있는 값은 제공자 기본값으로 채운다 (defaults).
+ * 규칙마다 실제로 바꾼 요청 수(applied)와 그중 캐시 미스 수(miss)를 세므로, 1 - miss / applied 가 그 규칙이 모은 요청의 적중률이다.
+ * books.canonical.disabled-rules 로 규칙을 하나씩 꺼서 전후 cache.gets 를 비교할 수 있다.
+ * 메트릭: books.query.canonical{rule, outcome=applied|miss}, books.query.canonical.requests
+ */
+@Component
+public class QueryCanonicalizer implements MeterBinder {
+
+    private static final int HANGUL_FIRST = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+
+    // C# / .NET / 3.1 / A&B 처럼 검색어의 일부인 기호는 남긴다
+    private static final String KEPT_PUNCTUATION = "#&.%*/@'";
+
+    private final EnumSet<CanonicalRule> enabled = EnumSet.allOf(CanonicalRule.class);
+    private final Map<CanonicalRule, LongAdder> applied = new EnumMap<>(CanonicalRule.class);
+    private final Map<CanonicalRule, LongAdder> misses = new EnumMap<>(CanonicalRule.class);
+    private final LongAdder requests = new LongAdder();
+
+    public QueryCanonicalizer(BooksProperties properties) {
+
+        BooksProperties.CanonicalProperties canonical = properties.canonical();
+        if (!canonical.enabled()) {
+            enabled.clear();
+        } else if (canonical.disabledRules() != null) {
+            enabled.removeAll(canonical.disabledRules());
+        }
+
+        for (CanonicalRule rule : CanonicalRule.values()) {
+            applied.put(rule, new LongAdder());
+            misses.put(rule, new LongAdder());
+        }
+    }
+
+    // 통합 검색 키워드
+    public CanonicalRequest<String> canonicalize(String keyword) {
+
+        Folded folded = fold(keyword);
+        return record(new CanonicalRequest<>(folded.value(), new SearchKey(folded.value()), folded.rules()));
+    }
+
+    // 검색 로그 / 인기 검색어 / 통계 조회 / 예열에 쓰는 키워드. 캐시를 거치지 않으므로 applied / miss 에 세지 않는다
+    public String keyword(String keyword) {
+
+        return fold(keyword).value();
+    }
+
+    public CanonicalRequest<AladinBookRequest> canonicalize(AladinBookRequest request) {
+
+        Folded query = fold(request.query());
+        int defaults = enabled.contains(CanonicalRule.DEFAULTS)
+            && (missing(request.queryType()) || missing(request.maxResults()) || missing(request.start())
+                || missing(request.searchTarget()) || missing(request.sort()) || missing(request.output())
+                || missing(request.version())) ? CanonicalRule.DEFAULTS.bit() : 0;
+
+        // 기본값은 알라딘 API 기본값과 같다. output / version 만 JSON 응답을 받기 위한 값
+        AladinBookRequest canonical = (query.rules() | defaults) == 0 ? request
+            : defaults == 0
+                ? new AladinBookRequest(query.value(), request.queryType(), request.maxResults(), request.start(),
+                    request.searchTarget(), request.sort(), request.output(), request.version())
+                : new AladinBookRequest(query.value(),
+                    orDefault(request.queryType(), "Keyword"),
+                    orDefault(request.maxResults(), "10"),
+                    orDefault(request.start(), "1"),
+                    orDefault(request.searchTarget(), "Book"),
+                    orDefault(request.sort(), "Accuracy"),
+                    orDefault(request.output(), "JS"),
+                    orDefault(request.version(), "20131101"));
+
+        return record(new CanonicalRequest<>(canonical, SearchKey.of(canonical), query.rules() | defaults));
+    }
+
+    // target 이 없으면 카카오는 모든 필드를 검색하므로 target 은 채우지 않는다
+    public CanonicalRequest<KakaoSearchRequest> canonicalize(KakaoSearchRequest request) {
+
+        Folded query = fold(request.query());
+        boolean defaulted = enabled.contains(CanonicalRule.DEFAULTS) && (request.page() == null || request.size() == null);
+        int defaults = defaulted ? CanonicalRule.DEFAULTS.bit() : 0;
+
+        KakaoSearchRequest canonical = (query.rules() | defaults) == 0 ? request
+            : new KakaoSearchRequest(query.value(), request.target(),
+                defaulted && request.page() == null ? Integer.valueOf(1) : request.page(),
+                defaulted && request.size() == null ? Integer.valueOf(10) : request.size());
+
+        return record(new CanonicalRequest<>(canonical, SearchKey.of(canonical), query.rules() | defaults));
+    }
+
+    // JSON 에서 빠진 int 필드는 0 으로 들어온다
+    public CanonicalRequest<NaverSearchRequest> canonicalize(NaverSearchRequest request) {
+
+        Folded keyword = fold(request.keyword());
+        boolean defaulted = enabled.contains(CanonicalRule.DEFAULTS) && (request.display() <= 0 || request.start() <= 0);
+        int defaults = defaulted ? CanonicalRule.DEFAULTS.bit() : 0;
+
+        NaverSearchRequest canonical = (keyword.rules() | defaults) == 0 ? request
+            : new NaverSearchRequest(keyword.value(),
+                defaulted && request.display() <= 0 ? 10 : request.display(),
+                defaulted && request.start() <= 0 ? 1 : request.start());
+
+        return record(new CanonicalRequest<>(canonical, SearchKey.of(canonical), keyword.rules() | defaults));
+    }
+
+    // Kotlin 요청은 data class 기본값이 필드를 채우므로 검색어만 접는다 (카카오 page / size 만 비어 있을 수 있다)
+    public CanonicalRequest<KotlinAladinBookRequest> canonicalize(KotlinAladinBookRequest request) {
+
+        Folded query = fold(request.getQuery());
+        KotlinAladinBookRequest canonical = query.rules() == 0 ? request
+            : new KotlinAladinBookRequest(query.value(), request.getQueryType(), request.getMaxResults(),
+                request.getStart(), request.getSearchTarget(), request.getSort(), request.getOutput(), request.getVersion());
+
+        return record(new CanonicalRequest<>(canonical, SearchKey.of(canonical), query.rules()));
+    }
+
+    public CanonicalRequest<KotlinKakaoSearchRequest> canonicalize(KotlinKakaoSearchRequest request) {
+
+        Folded query = fold(request.getQuery());
+        boolean defaulted = enabled.contains(CanonicalRule.DEFAULTS) && (request.getPage() == null || request.getSize() == null);
+        int defaults = defaulted ? CanonicalRule.DEFAULTS.bit() : 0;
+
+        KotlinKakaoSearchRequest canonical = (query.rules() | defaults) == 0 ? request
+            : new KotlinKakaoSearchRequest(query.value(), request.getTarget(),
+                defaulted && request.getPage() == null ? Integer.valueOf(1) : request.getPage(),
+                defaulted && request.getSize() == null ? Integer.valueOf(10) : request.getSize());
+
+        return record(new CanonicalRequest<>(canonical, SearchKey.of(canonical), query.rules() | defaults));
+    }
+
+    // 접어서 비는 검색어(기호만 있는 경우)는 KotlinNaverSearchRequest 가 받지 않으므로 원래 요청을 쓴다
+    public CanonicalRequest<KotlinNaverSearchRequest> canonicalize(KotlinNaverSearchRequest request) {
+
+        Folded keyword = fold(request.getKeyword());
+        if (keyword.rules() == 0 || keyword.value().isBlank()) {
+            return record(new CanonicalRequest<>(request, SearchKey.of(request), 0));
+        }
+
+        KotlinNaverSearchRequest canonical = new KotlinNaverSearchRequest(keyword.value(), request.getDisplay(), request.getStart());
+        return record(new CanonicalRequest<>(canonical, SearchKey.of(canonical), keyword.rules()));
+    }
+
+    // 캐시 loader 가 불렸을 때 (= 정규화 후에도 미스) 그 요청을 바꾼 규칙마다 센다
+    public void recordMiss(int rules) {
+
+        for (CanonicalRule rule : CanonicalRule.values()) {
+            if ((rules & rule.bit()) != 0) {
+                misses.get(rule).increment();
+            }
+        }
+    }
+
+    private <T> CanonicalRequest<T> record(CanonicalRequest<T> canonical) {
+
+        requests.increment();
+        for (CanonicalRule rule : CanonicalRule.values()) {
+            if ((canonical.rules() & rule.bit()) != 0) {
+                applied.get(rule).increment();
+            }
+        }
+        return canonical;
+    }
+
+    // 규칙마다 값이 바뀌었을 때만 비트를 켠다. 바뀌지 않은 단계는 같은 String 을 그대로 넘긴다
+    private Folded fold(String raw) {
+
+        if (raw == null) {
+            return new Folded(null, 0);
+        }
+
+        String value = raw;
+        int rules = 0;
+
+        if (enabled.contains(CanonicalRule.NFC) && !Normalizer.isNormalized(value, Normalizer.Form.NFC)) {
+            value = Normalizer.normalize(value, Normalizer.Form.NFC);
+            rules |= CanonicalRule.NFC.bit();
+        }
+
+        if (enabled.contains(CanonicalRule.ISBN)) {
+            String isbn13 = isbn13(value);
+            if (isbn13 != null) {
+                return new Folded(isbn13, isbn13.equals(value) ? rules : rules | CanonicalRule.ISBN.bit());
+            }
+        }
+
+        if (enabled.contains(CanonicalRule.PUNCTUATION)) {
+            String folded = foldPunctuation(value);
+            if (folded != value) {
+                value = folded;
+                rules |= CanonicalRule.PUNCTUATION.bit();
+            }
+        }
+
+        if (enabled.contains(CanonicalRule.WHITESPACE)) {
+            String folded = foldWhitespace(value);
+            if (!folded.equals(value)) {
+                value = folded;
+                rules |= CanonicalRule.WHITESPACE.bit();
+            }
+        }
+
+        if (enabled.contains(CanonicalRule.CASE)) {
+            String folded = value.toLowerCase(Locale.ROOT);
+            if (!folded.equals(value)) {
+                value = folded;
+                rules |= CanonicalRule.CASE.bit();
+            }
+        }
+
+        return new Folded(value, rules);
+    }
+
+    // 숫자 / 하이픈 / 공백 / X 만으로 된 값이 ISBN-10 / 13 이면 ISBN-13
+    private static String isbn13(String value) {
+
+        StringBuilder digits = new StringBuilder(13);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c == '-' || Character.isWhitespace(c)) {
+                continue;
+            }
+            if (((c < '0' || c > '9') && c != 'X' && c != 'x') || digits.length() == 13) {
+                return null;
+            }
+            digits.append(Character.toUpperCase(c));
+        }
+
+        String compact = digits.toString();
+        if (Isbn.isIsbn13(compact)) {
+            return compact;
+        }
+        return Isbn.isIsbn10(compact) ? Isbn.toIsbn13(compact) : null;
+    }
+
+    private static String foldPunctuation(String value) {
+
+        StringBuilder folded = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (isFoldedPunctuation(c)) {
+                if (folded == null) {
+                    folded = new StringBuilder(value);
+                }
+                folded.setCharAt(i, ' ');
+            }
+        }
+        return folded == null ? value : folded.toString();
+    }
+
+    private static boolean isFoldedPunctuation(char c) {
+
+        return switch (Character.getType(c)) {
+            case Character.DASH_PUNCTUATION, Character.START_PUNCTUATION, Character.END_PUNCTUATION,
+                 Character.CONNECTOR_PUNCTUATION, Character.INITIAL_QUOTE_PUNCTUATION,
+                 Character.FINAL_QUOTE_PUNCTUATION -> true;
+            case Character.OTHER_PUNCTUATION -> KEPT_PUNCTUATION.indexOf(c) < 0;
+            default -> false;
+        };
+    }
+
+    // 앞뒤 공백 제거, 연속 공백은 하나로. 한글 음절 사이 공백은 띄어쓰기가 제각각이라 없앤다 ("클린 코드" == "클린코드")
+    private static String foldWhitespace(String value) {
+
+        StringBuilder folded = new StringBuilder(value.length());
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                pendingSpace = !folded.isEmpty();
+                continue;
+            }
+            if (pendingSpace && !(isHangul(folded.charAt(folded.length() - 1)) && isHangul(c))) {
+                folded.append(' ');
+            }
+            pendingSpace = false;
+            folded.append(c);
+        }
+        return folded.toString();
+    }
+
+    private static boolean isHangul(char c) {
+
+        return c >= HANGUL_FIRST && c <= HANGUL_LAST;
+    }
+
+    private static boolean missing(String value) {
+
+        return value == null || value.isBlank();
+    }
+
+    private static String orDefault(String value, String defaultValue) {
+
+        return missing(value) ? defaultValue : value;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        FunctionCounter.builder("books.query.canonical.requests", requests, LongAdder::sum)
+            .register(registry);
+
+        for (CanonicalRule rule : CanonicalRule.values()) {
+            FunctionCounter.builder("books.query.canonical", applied.get(rule), LongAdder::sum)
+                .tag("rule", rule.id())
+                .tag("outcome", "applied")
+                .register(registry);
+
+            FunctionCounter.builder("books.query.canonical", misses.get(rule), LongAdder::sum)
+                .tag("rule", rule.id())
+                .tag("outcome", "miss")
+                .register(registry);
+        }
+    }
+
+    private record Folded(String value, int rules) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.books.external.application.canonical;
+
+import com.books.external.api.payload.kakao.request.KotlinKakaoSearchRequest;
+import com.books.external.api.payload.request.aladin.AladinBookRequest;
+import com.books.external.api.payload.request.aladin.KotlinAladinBookRequest;
+import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
+import com.books.external.api.payload.request.naver.KotlinNaverSearchRequest;
+import com.books.external.api.payload.request.naver.NaverSearchRequest;
+
+/**
+ * 요청 record 대신 쓰는 응답 캐시 키. 정규화된 필드를 '|' 로 이은 문자열 하나라서
+ * hashCode 는 String 에 한 번 계산되어 남고 equals 는 문자열 비교 한 번이다.
+ * 검색어는 '|' 를 포함할 수 있으므로 항상 마지막에 둔다. 제공자 구분은 제공자별 캐시가 한다.
+ * Kotlin 요청의 키는 응답 타입이 Java 와 달라 같은 캐시에서 섞이지 않도록 앞에 "kt|" 를 붙인다.
+ */
+public record SearchKey(String value) {
+
+    private static final String KOTLIN = "kt|";
+
+    public static SearchKey of(AladinBookRequest request) {
+
+        return new SearchKey(request.queryType() + '|' + request.maxResults() + '|' + request.start()
+            + '|' + request.searchTarget() + '|' + request.sort() + '|' + request.output() + '|' + request.version()
+            + '|' + request.query());
+    }
+
+    public static SearchKey of(KakaoSearchRequest request) {
+
+        return new SearchKey(request.target() + '|' + request.page() + '|' + request.size() + '|' + request.query());
+    }
+
+    public static SearchKey of(NaverSearchRequest request) {
+
+        return new SearchKey(request.display() + "|" + request.start() + '|' + request.keyword());
+    }
+
+    public static SearchKey of(KotlinAladinBookRequest request) {
+
+        return new SearchKey(KOTLIN + request.getQueryType() + '|' + request.getMaxResults() + '|' + request.getStart()
+            + '|' + request.getSearchTarget() + '|' + request.getSort() + '|' + request.getOutput()
+            + '|' + request.getVersion() + '|' + request.getQuery());
+    }
+
+    public static SearchKey of(KotlinKakaoSearchRequest request) {
+
+        return new SearchKey(KOTLIN + request.getTarget() + '|' + request.getPage() + '|' + request.getSize()
+            + '|' + request.getQuery());
+    }
+
+    public static SearchKey of(KotlinNaverSearchRequest request) {
+
+        return new SearchKey(KOTLIN + request.getDisplay() + '|' + request.getStart() + '|' + request.getKeyword());
+    }
+}
@@ -0,0 +1,85 @@
+package com.books.external.application.health;
+
+import com.books.config.BooksProperties;
+import com.books.external.api.payload.request.aladin.AladinBookRequest;
+import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
+import com.books.external.api.payload.request.naver.NaverSearchRequest;
+import com.books.external.application.AladinBookService;
+import com.books.external.application.BookProvider;
+import com.books.external.application.KakaoBookService;
+import com.books.external.application.NaverBookService;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * books.health.idle-probe-after 동안 실제 트래픽이 없던 제공자에만 1건짜리 검색을 보낸다.
+ * 결과는 WebClient 필터를 거쳐 ProviderHealthTracker 에 그대로 기록된다.
+ */
+@Slf4j
+@Component
+public class IdleProviderProbe {
+
+    private static final String PROBE_KEYWORD = "health";
+
+    private final AladinBookService aladinBookService;
+    private final KakaoBookService kakaoBookService;
+    private final NaverBookService naverBookService;
+    private final ProviderHealthTracker healthTracker;
+    private final BooksProperties.HealthProperties properties;
+    private final Map<BookProvider, AtomicBoolean> probing = new EnumMap<>(BookProvider.class);
+
+    public IdleProviderProbe(
+        AladinBookService aladinBookService,
+        KakaoBookService kakaoBookService,
+        NaverBookService naverBookService,
+        ProviderHealthTracker healthTracker,
+        BooksProperties properties) {
+
+        this.aladinBookService = aladinBookService;
+        this.kakaoBookService = kakaoBookService;
+        this.naverBookService = naverBookService;
+        this.healthTracker = healthTracker;
+        this.properties = properties.health();
+
+        for (BookProvider provider : BookProvider.values()) {
+            probing.put(provider, new AtomicBoolean());
+        }
+    }
+
+    @Scheduled(fixedDelay = 5, initialDelay = 5, timeUnit = TimeUnit.SECONDS)
+    public void probeIdleProviders() {
+
+        if (!properties.probeEnabled()) {
+            return;
+        }
+
+        for (BookProvider provider : BookProvider.values()) {
+            AtomicBoolean inProgress = probing.get(provider);
+
+            // 이전 프로브가 아직 끝나지 않았으면 겹쳐 보내지 않는다
+            if (healthTracker.isIdle(provider) && inProgress.compareAndSet(false, true)) {
+                probe(provider)
+                    .doFinally(signal -> inProgress.set(false))
+                    .subscribe(
+                        response -> log.debug("{} idle probe succeeded", provider.id()),
+                        error -> log.debug("{} idle probe failed: {}", provider.id(), error.toString()));
+            }
+        }
+    }
+
+    private Mono<?> probe(BookProvider provider) {
+
+        return switch (provider) {
+            case ALADIN -> aladinBookService.search(new AladinBookRequest(
+                PROBE_KEYWORD, "Keyword", "1", "1", "Book", "Accuracy", "JS", "20131101"));
+            case KAKAO -> kakaoBookService.search(new KakaoSearchRequest(PROBE_KEYWORD, "title"));
+            case NAVER -> naverBookService.search(new NaverSearchRequest(PROBE_KEYWORD, 1, 1));
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.books.external.application.health;
+
+import java.time.Instant;
+
+/**
+ * 최근 window 동안의 실제 호출로 계산한 제공자 상태 스냅샷
+ */
+public record ProviderHealth(
+
+        Status status,
+        int sampleCount,
+        double successRate,
+        long p50Millis,
+        long p95Millis,
+        long p99Millis,
+        String lastError,
+        Instant lastErrorAt,
+        Instant lastSeenAt) {
+
+    public enum Status {
+        UP,
+        DEGRADED,
+        DOWN,
+        UNKNOWN
+    }
+}
@@ -0,0 +1,199 @@
+package com.books.external.application.health;
+
+import com.books.config.BooksProperties;
+import com.books.external.application.BookProvider;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * 실제 upstream 호출 결과를 제공자별 고정 크기 링 버퍼에 기록해 상태를 수동(passive)으로 계산한다.
+ * 상태 조회는 upstream 호출 없이 메모리만 읽는다.
+ */
+@Component
+public class ProviderHealthTracker {
+
+    private final BooksProperties.HealthProperties properties;
+    private final LongSupplier clock;
+    private final Map<BookProvider, Samples> samples = new EnumMap<>(BookProvider.class);
+
+    @Autowired
+    public ProviderHealthTracker(BooksProperties properties) {
+
+        this(properties, System::currentTimeMillis);
+    }
+
+    ProviderHealthTracker(BooksProperties properties, LongSupplier clock) {
+
+        this.properties = properties.health();
+        this.clock = clock;
+
+        for (BookProvider provider : BookProvider.values()) {
+            samples.put(provider, new Samples(this.properties.sampleSize()));
+        }
+    }
+
+    // WebClient 필터: 5xx / 4xx (400, 404 제외) / 연결 오류를 실패로 기록.
+    // 통합 검색 deadline 은 응답 / 읽기 timeout 보다 짧아서 멈춘 제공자는 timeout 전에 취소되므로, slow-call-threshold 를 넘겨 취소된 호출도 실패로 기록한다
+    public ExchangeFilterFunction filter(BookProvider provider) {
+
+        long slowCallNanos = properties.slowCallThreshold().toNanos();
+
+        return (request, next) -> Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+
+            return next.exchange(request)
+                .doOnSuccess(response -> {
+                    HttpStatusCode status = response.statusCode();
+
+                    if (isFailure(status)) {
+                        recordFailure(provider, System.nanoTime() - startedAt, "HTTP " + status.value());
+                    } else {
+                        recordSuccess(provider, System.nanoTime() - startedAt);
+                    }
+                })
+                .doOnError(error -> recordFailure(provider, System.nanoTime() - startedAt, error.toString()))
+                .doOnCancel(() -> {
+                    long elapsed = System.nanoTime() - startedAt;
+                    if (elapsed >= slowCallNanos) {
+                        recordFailure(provider, elapsed, "cancelled after " + elapsed / 1_000_000 + "ms");
+                    }
+                });
+        });
+    }
+
+    // 400 / 404 는 잘못된 검색어 / 없는 결과라 제공자 상태와 무관하다. 401 / 403 (키 만료 등), 429 는 제공자를 못 쓰는 상태다
+    static boolean isFailure(HttpStatusCode status) {
+
+        return status.is5xxServerError()
+            || (status.is4xxClientError() && status.value() != 400 && status.value() != 404);
+    }
+
+    public void recordSuccess(BookProvider provider, long latencyNanos) {
+
+        samples.get(provider).add(clock.getAsLong(), latencyNanos, true, null);
+    }
+
+    public void recordFailure(BookProvider provider, long latencyNanos, String error) {
+
+        samples.get(provider).add(clock.getAsLong(), latencyNanos, false, error);
+    }
+
+    // 마지막 호출 이후 idleProbeAfter 이상 트래픽이 없는 제공자
+    public boolean isIdle(BookProvider provider) {
+
+        long lastSeenAt = samples.get(provider).lastSeenAt();
+        return lastSeenAt == 0 || clock.getAsLong() - lastSeenAt >= properties.idleProbeAfter().toMillis();
+    }
+
+    public ProviderHealth health(BookProvider provider) {
+
+        return samples.get(provider).snapshot(clock.getAsLong() - properties.window().toMillis(), properties);
+    }
+
+    public Map<BookProvider, ProviderHealth> snapshot() {
+
+        Map<BookProvider, ProviderHealth> snapshot = new EnumMap<>(BookProvider.class);
+        for (BookProvider provider : BookProvider.values()) {
+            snapshot.put(provider, health(provider));
+        }
+        return snapshot;
+    }
+
+    private static final class Samples {
+
+        private final long[] timestamps;
+        private final long[] latencies;
+        private final boolean[] successes;
+        private int head;
+        private int size;
+
+        private long lastSeenAt;
+        private long lastErrorAt;
+        private String lastError;
+
+        Samples(int capacity) {
+
+            this.timestamps = new long[capacity];
+            this.latencies = new long[capacity];
+            this.successes = new boolean[capacity];
+        }
+
+        synchronized void add(long now, long latencyNanos, boolean success, String error) {
+
+            timestamps[head] = now;
+            latencies[head] = latencyNanos;
+            successes[head] = success;
+            head = (head + 1) % timestamps.length;
+            size = Math.min(size + 1, timestamps.length);
+
+            lastSeenAt = now;
+            if (!success) {
+                lastErrorAt = now;
+                lastError = error;
+            }
+        }
+
+        synchronized long lastSeenAt() {
+
+            return lastSeenAt;
+        }
+
+        synchronized ProviderHealth snapshot(long since, BooksProperties.HealthProperties properties) {
+
+            long[] window = new long[size];
+            int count = 0;
+            int succeeded = 0;
+
+            for (int i = 0; i < size; i++) {
+                if (timestamps[i] >= since) {
+                    window[count++] = latencies[i];
+                    succeeded += successes[i] ? 1 : 0;
+                }
+            }
+
+            Instant seenAt = lastSeenAt == 0 ? null : Instant.ofEpochMilli(lastSeenAt);
+            Instant errorAt = lastErrorAt == 0 ? null : Instant.ofEpochMilli(lastErrorAt);
+
+            if (count == 0) {
+                return new ProviderHealth(ProviderHealth.Status.UNKNOWN, 0, 0, 0, 0, 0, lastError, errorAt, seenAt);
+            }
+
+            Arrays.sort(window, 0, count);
+            double successRate = (double) succeeded / count;
+
+            return new ProviderHealth(
+                status(successRate, properties),
+                count,
+                successRate,
+                percentileMillis(window, count, 0.50),
+                percentileMillis(window, count, 0.95),
+                percentileMillis(window, count, 0.99),
+                lastError,
+                errorAt,
+                seenAt);
+        }
+
+        private static ProviderHealth.Status status(double successRate, BooksProperties.HealthProperties properties) {
+
+            if (successRate < properties.downBelow()) {
+                return ProviderHealth.Status.DOWN;
+            }
+            return successRate < properties.degradedBelow() ? ProviderHealth.Status.DEGRADED : ProviderHealth.Status.UP;
+        }
+
+        // nearest-rank
+        private static long percentileMillis(long[] sorted, int count, double percentile) {
+
+            int rank = (int) Math.ceil(percentile * count);
+            return sorted[Math.max(rank - 1, 0)] / 1_000_000;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.books.external.application.hotkeys;
+
+/**
+ * 최근 window 동안의 키워드 검색 수 (Count-Min 추정치)
+ */
+public record HotKeyword(String keyword, long count) {
+}
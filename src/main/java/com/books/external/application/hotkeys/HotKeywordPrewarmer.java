@@ -0,0 +1,97 @@
+package com.books.external.application.hotkeys;
+
+import com.books.config.BooksProperties;
+import com.books.external.application.ExternalBooksFacade;
+import com.books.external.application.KotlinUnifiedBooksFacade;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인기 키워드 상위 prewarm-count 개의 통합 검색 캐시 항목(Java / Kotlin 각각)을 만료되기 refresh-ahead 전에 다시 받아 둔다.
+ * 캐시에 없는 항목은 만들지 않으므로 실제로 검색된 조합만 갱신되고, 호출은 서킷 브레이커 / rate limit 을 그대로 거친다.
+ * 메트릭: books.hotkeys.prewarm{outcome=refreshed (갱신한 캐시 항목 수)|failed (실패한 키워드 x facade 수)}
+ */
+@Slf4j
+@Component
+public class HotKeywordPrewarmer implements MeterBinder {
+
+    // 한 번에 upstream 으로 나가는 키워드 수 (키워드마다 최대 제공자 3곳)
+    private static final int CONCURRENCY = 4;
+
+    private final HotKeywordTracker hotKeywordTracker;
+    private final ExternalBooksFacade externalBooksFacade;
+    private final KotlinUnifiedBooksFacade kotlinUnifiedBooksFacade;
+    private final BooksProperties.HotKeywordsProperties properties;
+
+    private final AtomicBoolean inProgress = new AtomicBoolean();
+    private final LongAdder refreshed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public HotKeywordPrewarmer(
+        HotKeywordTracker hotKeywordTracker,
+        ExternalBooksFacade externalBooksFacade,
+        KotlinUnifiedBooksFacade kotlinUnifiedBooksFacade,
+        BooksProperties properties) {
+
+        this.hotKeywordTracker = hotKeywordTracker;
+        this.externalBooksFacade = externalBooksFacade;
+        this.kotlinUnifiedBooksFacade = kotlinUnifiedBooksFacade;
+        this.properties = properties.hotKeywords();
+    }
+
+    @Scheduled(fixedDelayString = "${books.hot-keywords.refresh-interval:30s}",
+        initialDelayString = "${books.hot-keywords.refresh-interval:30s}")
+    public void prewarm() {
+
+        // 이전 갱신이 아직 끝나지 않았으면 겹쳐 보내지 않는다
+        if (!properties.prewarmEnabled() || !inProgress.compareAndSet(false, true)) {
+            return;
+        }
+
+        refresh(hotKeywordTracker.top(properties.prewarmCount()))
+            .doFinally(signal -> inProgress.set(false))
+            .subscribe(count -> log.debug("hot keyword prewarm refreshed {} entries", count));
+    }
+
+    Mono<Long> refresh(List<HotKeyword> keywords) {
+
+        return Flux.fromIterable(keywords)
+            .flatMap(hot -> Flux.merge(
+                    guarded(hot, externalBooksFacade.refresh(hot.keyword(), properties.refreshAhead())),
+                    guarded(hot, kotlinUnifiedBooksFacade.refresh(hot.keyword(), properties.refreshAhead()))),
+                CONCURRENCY)
+            .doOnNext(refreshed::add)
+            .reduce(0L, Long::sum);
+    }
+
+    // 실패는 세고 넘어간다. 다음 주기에도 만료 전이면 다시 시도되고, 이미 만료됐으면 다음 검색이 채운다
+    private Mono<Long> guarded(HotKeyword hot, Mono<Long> refresh) {
+
+        return refresh.onErrorResume(error -> {
+            failed.increment();
+            log.debug("hot keyword prewarm for '{}' failed: {}", hot.keyword(), error.toString());
+            return Mono.just(0L);
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        FunctionCounter.builder("books.hotkeys.prewarm", refreshed, LongAdder::sum)
+            .tag("outcome", "refreshed")
+            .register(registry);
+
+        FunctionCounter.builder("books.hotkeys.prewarm", failed, LongAdder::sum)
+            .tag("outcome", "failed")
+            .register(registry);
+    }
+}
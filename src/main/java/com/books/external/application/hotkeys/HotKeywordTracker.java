@@ -0,0 +1,231 @@
+package com.books.external.application.hotkeys;
+
+import com.books.config.BooksProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 window 동안 많이 검색된 키워드 (heavy hitter) 를 고정 메모리로 센다.
+ * window 를 buckets 개의 시간 bucket 으로 나누고, bucket 마다 depth x width Count-Min Sketch 를 스레드 stripe 별로 둔다.
+ * 요청 스레드는 자기 stripe 의 카운터만 올리므로(AtomicLongArray) 할당도 경합도 거의 없다.
+ * bucket 주기가 바뀌면 비운 배열을 재사용하지 않고 새로 할당한 bucket 으로 교체(CAS)하므로, 이전 bucket 을 잡고 있던 스레드의 늦은 기록은 새 주기로 새지 않는다.
+ * 키워드 문자열은 top-K 후보(최대 topK * 4 개)만 보관하고, 후보는 현재 bucket 추정치가 top-K 최소치의 bucket 평균 이상일 때 들어온다.
+ * 메트릭: books.hotkeys.recorded, books.hotkeys.candidates
+ */
+@Component
+public class HotKeywordTracker implements MeterBinder {
+
+    private static final int MAX_STRIPES = 8;
+
+    private final BooksProperties.HotKeywordsProperties properties;
+    private final LongSupplier nanoClock;
+    private final long bucketNanos;
+    private final int depth;
+    private final int widthBits;
+    private final int stripes;
+    private final int capacity;
+    private final int counters;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    private final ConcurrentHashMap<String, Boolean> candidates = new ConcurrentHashMap<>();
+    private final LongAdder recorded = new LongAdder();
+    private volatile long admitThreshold = 1;
+
+    @Autowired
+    public HotKeywordTracker(BooksProperties properties) {
+
+        this(properties, System::nanoTime);
+    }
+
+    HotKeywordTracker(BooksProperties properties, LongSupplier nanoClock) {
+
+        this.properties = properties.hotKeywords();
+        this.nanoClock = nanoClock;
+        this.bucketNanos = Math.max(1, this.properties.window().toNanos() / this.properties.buckets());
+        this.depth = this.properties.depth();
+        this.widthBits = 32 - Integer.numberOfLeadingZeros(Math.max(2, this.properties.width()) - 1);
+        this.stripes = Math.min(MAX_STRIPES,
+            Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+        this.capacity = this.properties.topK() * 4;
+
+        this.counters = stripes * depth << widthBits;
+
+        // 아직 쓰지 않은 자리: 어떤 주기에도 속하지 않으므로 카운터가 필요 없다
+        Bucket unused = new Bucket(Long.MIN_VALUE, 0);
+        this.buckets = new AtomicReferenceArray<>(this.properties.buckets());
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, unused);
+        }
+    }
+
+    // 요청 경로: 키워드 hashCode(String 에 캐시됨)로 카운터 위치를 정하고 올리기만 한다
+    public void record(String keyword) {
+
+        if (keyword == null || keyword.isBlank()) {
+            return;
+        }
+
+        long slot = Math.floorDiv(nanoClock.getAsLong(), bucketNanos);
+        Bucket bucket = bucket(slot);
+        if (bucket == null) {
+            return;
+        }
+
+        int h1 = mix(keyword.hashCode());
+        int h2 = mix(h1 ^ 0x9e3779b9) | 1;
+        int stripe = (int) Thread.currentThread().threadId() & (stripes - 1);
+
+        for (int row = 0; row < depth; row++) {
+            bucket.counters.getAndIncrement(index(stripe, row, h1, h2));
+        }
+        recorded.increment();
+
+        if (!candidates.containsKey(keyword)
+            && candidates.size() < capacity
+            && estimate(bucket, h1, h2) >= admitThreshold) {
+            candidates.putIfAbsent(keyword, Boolean.TRUE);
+        }
+    }
+
+    // window 추정치 내림차순. Count-Min 이라 실제보다 크게 나올 수는 있어도 작게 나오지는 않는다
+    public synchronized List<HotKeyword> top(int limit) {
+
+        long current = Math.floorDiv(nanoClock.getAsLong(), bucketNanos);
+        List<HotKeyword> ranked = new ArrayList<>(candidates.size());
+
+        for (String keyword : candidates.keySet()) {
+            long count = windowEstimate(keyword, current);
+            if (count > 0) {
+                ranked.add(new HotKeyword(keyword, count));
+            }
+        }
+        ranked.sort(Comparator.comparingLong(HotKeyword::count).reversed()
+            .thenComparing(HotKeyword::keyword));
+
+        return List.copyOf(ranked.subList(0, Math.clamp(limit, 0, ranked.size())));
+    }
+
+    // window 밖으로 밀려난 후보를 지우고 상위 capacity / 2 개만 남겨 새 후보가 들어올 자리를 만든다
+    @Scheduled(fixedDelay = 5, initialDelay = 5, timeUnit = TimeUnit.SECONDS)
+    public synchronized void compact() {
+
+        List<HotKeyword> ranked = top(capacity);
+        List<HotKeyword> kept = ranked.subList(0, Math.min(capacity / 2, ranked.size()));
+
+        candidates.keySet().retainAll(kept.stream().map(HotKeyword::keyword).collect(Collectors.toSet()));
+
+        admitThreshold = kept.size() < properties.topK()
+            ? 1
+            : Math.max(1, kept.get(properties.topK() - 1).count() / buckets.length());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        FunctionCounter.builder("books.hotkeys.recorded", recorded, LongAdder::sum)
+            .register(registry);
+
+        Gauge.builder("books.hotkeys.candidates", candidates, ConcurrentHashMap::size)
+            .register(registry);
+    }
+
+    // slot 이 바뀌면 (bucket 주기마다 한 번) 처음 본 스레드가 새 bucket 을 할당해 CAS 로 교체한다. 잠금도 비우기도 없다
+    private Bucket bucket(long slot) {
+
+        int index = (int) Math.floorMod(slot, buckets.length());
+        Bucket bucket = buckets.get(index);
+
+        while (bucket.slot < slot) {
+            Bucket fresh = new Bucket(slot, counters);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+            bucket = buckets.get(index);
+        }
+
+        // 이미 다음 주기로 넘어간 bucket: 늦게 도착한 기록은 버린다
+        return bucket.slot == slot ? bucket : null;
+    }
+
+    private long windowEstimate(String keyword, long current) {
+
+        int h1 = mix(keyword.hashCode());
+        int h2 = mix(h1 ^ 0x9e3779b9) | 1;
+        long min = Long.MAX_VALUE;
+
+        for (int row = 0; row < depth; row++) {
+            long sum = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                Bucket bucket = buckets.get(i);
+                if (bucket.slot <= current && bucket.slot > current - buckets.length()) {
+                    sum += sum(bucket, row, h1, h2);
+                }
+            }
+            min = Math.min(min, sum);
+        }
+        return min;
+    }
+
+    private long estimate(Bucket bucket, int h1, int h2) {
+
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, sum(bucket, row, h1, h2));
+        }
+        return min;
+    }
+
+    private long sum(Bucket bucket, int row, int h1, int h2) {
+
+        long sum = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            sum += bucket.counters.get(index(stripe, row, h1, h2));
+        }
+        return sum;
+    }
+
+    // stripe 마다 depth x width 연속 구간. 행마다 h1 + row * h2 로 다른 열을 고른다 (double hashing)
+    private int index(int stripe, int row, int h1, int h2) {
+
+        int column = (h1 + row * h2) & ((1 << widthBits) - 1);
+        return ((stripe * depth + row) << widthBits) + column;
+    }
+
+    // murmur3 fmix32
+    private static int mix(int h) {
+
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static final class Bucket {
+
+        private final long slot;
+        private final AtomicLongArray counters;
+
+        Bucket(long slot, int length) {
+
+            this.slot = slot;
+            this.counters = new AtomicLongArray(length);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.books.external.application.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 파사드 진입점 단위 타이머: books.facade.requests{operation,outcome} (p50/p95/p99 + 히스토그램)
+ */
+@Component
+public class FacadeMetrics {
+
+    private final MeterRegistry registry;
+
+    public FacadeMetrics(MeterRegistry registry) {
+
+        this.registry = registry;
+    }
+
+    public <T> Mono<T> timed(String operation, Mono<T> call) {
+
+        return Mono.defer(() -> {
+            Timer.Sample sample = start();
+
+            return call
+                .doOnSuccess(result -> stop(sample, operation, "SUCCESS"))
+                .doOnError(error -> stop(sample, operation, "ERROR"))
+                .doOnCancel(() -> stop(sample, operation, "CANCELLED"));
+        });
+    }
+
+    public Timer.Sample start() {
+
+        return Timer.start(registry);
+    }
+
+    public void stop(Timer.Sample sample, String operation, String outcome) {
+
+        sample.stop(Timer.builder("books.facade.requests")
+            .tags("operation", operation, "outcome", outcome)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(registry));
+    }
+}
@@ -0,0 +1,155 @@
+package com.books.external.application.metrics;
+
+import com.books.external.application.BookProvider;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 제공자 호출 1건(재시도 포함)을 응답 본문을 다 읽을 때까지 측정한다. Java / Kotlin 서비스가 같은 WebClient 필터를 공유한다.
+ * books.provider.requests{provider,outcome,status,exception} (p50/p95/p99 + 히스토그램),
+ * books.provider.errors{provider,status,exception}, books.provider.inflight{provider},
+ * books.provider.response.size{provider}
+ */
+@Component
+public class ProviderCallMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry registry;
+    private final Map<BookProvider, AtomicInteger> inFlight = new EnumMap<>(BookProvider.class);
+    private final Map<BookProvider, DistributionSummary> responseSizes = new EnumMap<>(BookProvider.class);
+
+    public ProviderCallMetrics(MeterRegistry registry) {
+
+        this.registry = registry;
+
+        for (BookProvider provider : BookProvider.values()) {
+            AtomicInteger counter = new AtomicInteger();
+            inFlight.put(provider, counter);
+
+            Gauge.builder("books.provider.inflight", counter, AtomicInteger::get)
+                .tag("provider", provider.id())
+                .register(registry);
+
+            responseSizes.put(provider, DistributionSummary.builder("books.provider.response.size")
+                .baseUnit("bytes")
+                .tag("provider", provider.id())
+                .publishPercentiles(PERCENTILES)
+                .register(registry));
+        }
+    }
+
+    // 가장 바깥 필터: 재시도 / rate limit 대기까지 포함한 호출 시간
+    public ExchangeFilterFunction filter(BookProvider provider) {
+
+        return (request, next) -> Mono.defer(() -> {
+            Call call = new Call(provider);
+
+            return next.exchange(request)
+                .map(response -> measureBody(call, response))
+                .doOnError(call::failed)
+                .doOnCancel(call::cancelled);
+        });
+    }
+
+    // 본문을 읽다가 끊기거나(deadline 초과 등) 읽기에 실패하면 응답 상태가 아니라 취소 / 오류로 기록한다
+    private ClientResponse measureBody(Call call, ClientResponse response) {
+
+        AtomicLong size = new AtomicLong();
+
+        return response.mutate()
+            .body(body -> body
+                .doOnNext(buffer -> size.addAndGet(buffer.readableByteCount()))
+                .doOnError(call::failed)
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        call.cancelled();
+                    } else {
+                        call.completed(response.statusCode(), size.get());
+                    }
+                }))
+            .build();
+    }
+
+    private final class Call {
+
+        private final BookProvider provider;
+        private final Timer.Sample sample;
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        Call(BookProvider provider) {
+
+            this.provider = provider;
+            this.sample = Timer.start(registry);
+            inFlight.get(provider).incrementAndGet();
+        }
+
+        void completed(HttpStatusCode status, long bytes) {
+
+            if (finish(outcome(status), String.valueOf(status.value()), "none")) {
+                responseSizes.get(provider).record(bytes);
+            }
+        }
+
+        void failed(Throwable error) {
+
+            finish("ERROR", "IO_ERROR", exception(error));
+        }
+
+        void cancelled() {
+
+            finish("CANCELLED", "CLIENT_CLOSED", "none");
+        }
+
+        private boolean finish(String outcome, String status, String exception) {
+
+            if (!finished.compareAndSet(false, true)) {
+                return false;
+            }
+
+            inFlight.get(provider).decrementAndGet();
+            sample.stop(Timer.builder("books.provider.requests")
+                .tags("provider", provider.id(), "outcome", outcome, "status", status, "exception", exception)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(registry));
+
+            if (!"SUCCESS".equals(outcome) && !"CANCELLED".equals(outcome)) {
+                registry.counter("books.provider.errors",
+                    "provider", provider.id(), "status", status, "exception", exception).increment();
+            }
+            return true;
+        }
+
+        private static String outcome(HttpStatusCode status) {
+
+            if (status.is2xxSuccessful()) {
+                return "SUCCESS";
+            }
+            return status.is4xxClientError() ? "CLIENT_ERROR" : "SERVER_ERROR";
+        }
+
+        // 연결 오류는 감싼 원인의 타입으로 태깅
+        private static String exception(Throwable error) {
+
+            Throwable cause = error instanceof WebClientRequestException && error.getCause() != null
+                ? error.getCause()
+                : error;
+            return cause.getClass().getSimpleName();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.books.external.application.paging;
+
+import com.books.external.api.payload.request.aladin.AladinBookRequest;
+import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
+import com.books.external.api.payload.request.naver.NaverSearchRequest;
+import com.books.external.api.payload.response.aladin.AladinBookResponse;
+import com.books.external.api.payload.response.aladin.AladinSearchResponse;
+import com.books.external.api.payload.response.kakao.KakaoBookResponse;
+import com.books.external.api.payload.response.kakao.KakaoDocument;
+import com.books.external.api.payload.response.naver.NaverBookResponse;
+import com.books.external.api.payload.response.naver.NaverSearchResponse;
+import com.books.external.application.ExternalBooksFacade;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 검색어 하나의 전체 결과를 제공자별 페이지 한도까지 순회한다.
+ * 다음 페이지는 이전 페이지가 소비될 때만 요청하며 (prefetchPages 만큼만 앞서 가져옴),
+ * 구독을 취소하면 진행 중인 upstream 호출도 함께 취소된다. 인기 검색어는 페이지마다가 아니라 순회 한 번에 한 번 센다.
+ */
+@Component
+public class ExternalBooksPager {
+
+    // 네이버: start 최대 1000, display 최대 100
+    static final int NAVER_MAX_START = 1000;
+    static final int NAVER_MAX_DISPLAY = 100;
+
+    // 카카오: page 최대 50, size 최대 50, meta.is_end 로 종료
+    static final int KAKAO_MAX_PAGE = 50;
+    static final int KAKAO_MAX_SIZE = 50;
+
+    // 알라딘: start 는 페이지 번호, MaxResults 최대 50, 검색 결과는 200건까지만 조회 가능
+    static final int ALADIN_MAX_RESULTS = 50;
+    static final int ALADIN_MAX_ITEMS = 200;
+
+    private final ExternalBooksFacade booksFacade;
+
+    public ExternalBooksPager(ExternalBooksFacade booksFacade) {
+
+        this.booksFacade = booksFacade;
+    }
+
+    public Flux<NaverSearchResponse> naver(String keyword, int prefetchPages) {
+
+        return pages(keyword, new NaverSearchRequest(keyword, NAVER_MAX_DISPLAY, 1), booksFacade::searchPage,
+            (request, response) -> {
+                int next = request.start() + request.display();
+                boolean more = !items(response.items()).isEmpty()
+                    && next <= Math.min(NAVER_MAX_START, response.total());
+
+                return more ? new NaverSearchRequest(keyword, request.display(), next) : null;
+            })
+            .concatMapIterable(response -> items(response.items()), prefetchPages);
+    }
+
+    public Flux<KakaoDocument> kakao(String keyword, String target, int prefetchPages) {
+
+        return pages(keyword, new KakaoSearchRequest(keyword, target, 1, KAKAO_MAX_SIZE), booksFacade::searchPage,
+            (request, response) -> {
+                boolean more = response.meta() != null && !response.meta().is_end()
+                    && request.page() < KAKAO_MAX_PAGE;
+
+                return more ? new KakaoSearchRequest(keyword, target, request.page() + 1, request.size()) : null;
+            })
+            .concatMapIterable(response -> items(response.documents()), prefetchPages);
+    }
+
+    public Flux<AladinSearchResponse> aladin(String keyword, int prefetchPages) {
+
+        return pages(keyword, aladinRequest(keyword, 1), booksFacade::searchPage,
+            (request, response) -> {
+                int page = Integer.parseInt(request.start());
+                boolean more = !items(response.item()).isEmpty()
+                    && (long) page * ALADIN_MAX_RESULTS < Math.min(ALADIN_MAX_ITEMS, response.totalResults());
+
+                return more ? aladinRequest(keyword, page + 1) : null;
+            })
+            .concatMapIterable(response -> items(response.item()), prefetchPages);
+    }
+
+    private static AladinBookRequest aladinRequest(String keyword, int page) {
+
+        return new AladinBookRequest(keyword, "Keyword", String.valueOf(ALADIN_MAX_RESULTS), String.valueOf(page),
+            "Book", "Accuracy", "JS", "20131101");
+    }
+
+    // 첫 페이지부터 next 가 null 을 돌려줄 때까지 한 페이지씩 이어서 요청. 인기 검색어는 만들 때가 아니라 구독할 때 센다
+    private <Q, P> Flux<P> pages(String keyword, Q first, Function<Q, Mono<P>> fetch, BiFunction<Q, P, Q> next) {
+
+        return Flux.defer(() -> {
+            booksFacade.recordKeyword(keyword);
+            return fetch.apply(first)
+                .map(response -> new Page<>(first, response))
+                .expand(page -> {
+                    Q nextRequest = next.apply(page.request(), page.response());
+
+                    return nextRequest == null
+                        ? Mono.empty()
+                        : fetch.apply(nextRequest).map(response -> new Page<>(nextRequest, response));
+                })
+                .map(Page::response);
+        });
+    }
+
+    private static <T> List<T> items(List<T> items) {
+
+        return Objects.requireNonNullElse(items, List.of());
+    }
+
+    private record Page<Q, P>(Q request, P response) {
+    }
+}
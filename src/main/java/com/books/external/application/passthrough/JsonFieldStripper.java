@@ -0,0 +1,152 @@
+package com.books.external.application.passthrough;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * JSON 을 객체로 만들지 않고 토큰 단위로 복사하면서 지정한 이름의 필드(깊이와 무관)를 값째로 걷어낸다.
+ * Jackson 비동기 파서에 DataBuffer 를 도착하는 대로 먹이고, 입력 버퍼마다 그때까지 쓴 출력을 한 버퍼로 내보낸다.
+ * 토큰이 버퍼 경계에 걸쳐도 파서가 이어 붙이므로 청크 크기와 무관하게 결과가 같다.
+ */
+public final class JsonFieldStripper {
+
+    private final JsonFactory jsonFactory;
+    private final Set<String> fields;
+
+    public JsonFieldStripper(JsonFactory jsonFactory, Set<String> fields) {
+
+        this.jsonFactory = jsonFactory;
+        this.fields = Set.copyOf(fields);
+    }
+
+    public Set<String> fields() {
+
+        return fields;
+    }
+
+    public Flux<DataBuffer> strip(Flux<DataBuffer> body, DataBufferFactory bufferFactory) {
+
+        return Flux.using(
+            () -> new Session(jsonFactory, fields),
+            session -> body
+                .concatMap(buffer -> Mono.justOrEmpty(session.feed(buffer, bufferFactory)))
+                .concatWith(Mono.fromSupplier(() -> session.finish(bufferFactory))),
+            Session::close);
+    }
+
+    private static final class Session {
+
+        private final Set<String> fields;
+        private final JsonParser parser;
+        private final ByteBufferFeeder feeder;
+        private final ByteArrayBuilder output = new ByteArrayBuilder();
+        private final JsonGenerator generator;
+
+        // 걷어내는 중인 객체 / 배열의 깊이, 다음 값을 건너뛸지
+        private int skipDepth;
+        private boolean skipNextValue;
+
+        Session(JsonFactory jsonFactory, Set<String> fields) {
+
+            this.fields = fields;
+            try {
+                this.parser = jsonFactory.createNonBlockingByteBufferParser();
+                this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+                this.generator = jsonFactory.createGenerator(output);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // 입력 버퍼는 다 읽은 뒤 반납한다. 이번 입력으로 완성된 토큰이 없으면 null
+        DataBuffer feed(DataBuffer buffer, DataBufferFactory bufferFactory) {
+
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer chunk = iterator.next();
+                    feeder.feedInput(chunk);
+                    drain();
+                }
+                return flush(bufferFactory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        DataBuffer finish(DataBufferFactory bufferFactory) {
+
+            try {
+                feeder.endOfInput();
+                drain();
+                generator.close();
+                byte[] bytes = output.toByteArray();
+                output.reset();
+                return bufferFactory.wrap(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void drain() throws IOException {
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (skipDepth > 0) {
+                    if (token.isStructStart()) {
+                        skipDepth++;
+                    } else if (token.isStructEnd()) {
+                        skipDepth--;
+                    }
+                    continue;
+                }
+                if (skipNextValue) {
+                    skipNextValue = false;
+                    if (token.isStructStart()) {
+                        skipDepth = 1;
+                    }
+                    continue;
+                }
+                if (token == JsonToken.FIELD_NAME && fields.contains(parser.currentName())) {
+                    skipNextValue = true;
+                    continue;
+                }
+                generator.copyCurrentEventExact(parser);
+            }
+        }
+
+        private DataBuffer flush(DataBufferFactory bufferFactory) throws IOException {
+
+            generator.flush();
+            if (output.size() == 0) {
+                return null;
+            }
+            byte[] bytes = output.toByteArray();
+            output.reset();
+            return bufferFactory.wrap(bytes);
+        }
+
+        void close() {
+
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // 입력은 이미 메모리에 있다
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.books.external.application.passthrough;
+
+import com.books.config.BooksProperties;
+import com.books.external.api.payload.request.aladin.AladinBookRequest;
+import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
+import com.books.external.api.payload.request.naver.NaverSearchRequest;
+import com.books.external.application.AladinBookService;
+import com.books.external.application.BookProvider;
+import com.books.external.application.KakaoBookService;
+import com.books.external.application.NaverBookService;
+import com.books.external.application.metrics.FacadeMetrics;
+import com.books.external.application.resilience.ProviderCircuitBreakers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 단일 제공자 검색의 passthrough 모드. upstream 본문을 역직렬화 / 재직렬화하지 않고 DataBuffer 그대로 흘려보낸다.
+ * 상태 코드와 Content-Type 은 유지하고, books.&lt;provider&gt;.passthrough.strip-fields 가 있으면 2xx 본문에서 해당 필드만 스트리밍으로 걷어낸다.
+ * 응답 캐시 / single-flight / 카탈로그 반영은 거치지 않으며 서킷 브레이커와 WebClient 필터(rate limit, 재시도, 메트릭)는 그대로 적용된다.
+ */
+@Component
+public class ProviderPassthrough {
+
+    private final AladinBookService aladinBookService;
+    private final KakaoBookService kakaoBookService;
+    private final NaverBookService naverBookService;
+    private final ProviderCircuitBreakers circuitBreakers;
+    private final FacadeMetrics facadeMetrics;
+    private final Map<BookProvider, JsonFieldStripper> strippers = new EnumMap<>(BookProvider.class);
+
+    public ProviderPassthrough(
+        AladinBookService aladinBookService,
+        KakaoBookService kakaoBookService,
+        NaverBookService naverBookService,
+        ProviderCircuitBreakers circuitBreakers,
+        FacadeMetrics facadeMetrics,
+        BooksProperties properties,
+        ObjectMapper objectMapper) {
+
+        this.aladinBookService = aladinBookService;
+        this.kakaoBookService = kakaoBookService;
+        this.naverBookService = naverBookService;
+        this.circuitBreakers = circuitBreakers;
+        this.facadeMetrics = facadeMetrics;
+
+        for (BookProvider provider : BookProvider.values()) {
+            List<String> fields = properties.provider(provider).passthrough().stripFields();
+            if (!fields.isEmpty()) {
+                strippers.put(provider, new JsonFieldStripper(objectMapper.getFactory(), Set.copyOf(fields)));
+            }
+        }
+    }
+
+    // 상태 코드와 관계없이 본문을 그대로 받는다 (4xx / 5xx 도 클라이언트에게 그대로 전달)
+    public static Mono<ResponseEntity<Flux<DataBuffer>>> retrieveRaw(WebClient.RequestHeadersSpec<?> request) {
+
+        return request.retrieve()
+            .onStatus(status -> true, response -> Mono.empty())
+            .toEntityFlux(DataBuffer.class);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> search(AladinBookRequest request) {
+
+        return relay(BookProvider.ALADIN, aladinBookService.passthrough(request));
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> search(KakaoSearchRequest request) {
+
+        return relay(BookProvider.KAKAO, kakaoBookService.passthrough(request));
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> search(NaverSearchRequest request) {
+
+        return relay(BookProvider.NAVER, naverBookService.passthrough(request));
+    }
+
+    private Mono<ResponseEntity<Flux<DataBuffer>>> relay(BookProvider provider, Mono<ResponseEntity<Flux<DataBuffer>>> call) {
+
+        // 5xx 는 브레이커에 실패로 기록한 뒤 응답은 그대로 돌려준다
+        Mono<ResponseEntity<Flux<DataBuffer>>> guarded = circuitBreakers.protect(provider, call
+                .flatMap(response -> response.getStatusCode().is5xxServerError()
+                    ? Mono.error(new UpstreamServerError(response))
+                    : Mono.just(response)))
+            .onErrorResume(UpstreamServerError.class, error -> Mono.just(error.response));
+
+        return facadeMetrics.timed("passthrough." + provider.id(), guarded.map(response -> shape(provider, response)));
+    }
+
+    private ResponseEntity<Flux<DataBuffer>> shape(BookProvider provider, ResponseEntity<Flux<DataBuffer>> response) {
+
+        HttpHeaders upstream = response.getHeaders();
+        HttpHeaders headers = new HttpHeaders();
+        MediaType contentType = upstream.getContentType();
+        if (contentType != null) {
+            headers.setContentType(contentType);
+        }
+
+        Flux<DataBuffer> body = response.getBody() != null ? response.getBody() : Flux.empty();
+        JsonFieldStripper stripper = strippers.get(provider);
+
+        if (stripper != null && response.getStatusCode().is2xxSuccessful()) {
+            body = stripper.strip(body, DefaultDataBufferFactory.sharedInstance);
+        } else if (upstream.getContentLength() >= 0) {
+            headers.setContentLength(upstream.getContentLength());
+        }
+
+        return new ResponseEntity<>(body.doOnDiscard(DataBuffer.class, DataBufferUtils::release),
+            headers, response.getStatusCode());
+    }
+
+    private static final class UpstreamServerError extends RuntimeException {
+
+        private final transient ResponseEntity<Flux<DataBuffer>> response;
+
+        UpstreamServerError(ResponseEntity<Flux<DataBuffer>> response) {
+
+            super("upstream " + response.getStatusCode(), null, false, false);
+            this.response = response;
+        }
+    }
+}
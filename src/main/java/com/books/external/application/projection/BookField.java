@@ -0,0 +1,59 @@
+package com.books.external.application.projection;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * fields= 로 고를 수 있는 도서 필드. isbn 은 ISBN-10 / ISBN-13, price 는 정가 / 판매가를 함께 채운다.
+ */
+public enum BookField {
+
+    TITLE("title"),
+    AUTHORS("authors"),
+    ISBN("isbn"),
+    PRICE("price"),
+    COVER("cover"),
+    PUBLISHER("publisher"),
+    PUBLISHED_DATE("publishedDate"),
+    DESCRIPTION("description"),
+    LINK("link");
+
+    private final String id;
+
+    BookField(String id) {
+        this.id = id;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    // "title,authors, isbn" -> {TITLE, AUTHORS, ISBN} (대소문자 무시)
+    public static Set<BookField> parse(String fields) {
+
+        EnumSet<BookField> parsed = EnumSet.noneOf(BookField.class);
+
+        for (String token : fields.split(",")) {
+            String name = token.trim();
+            if (!name.isEmpty()) {
+                parsed.add(of(name));
+            }
+        }
+
+        if (parsed.isEmpty()) {
+            throw new InvalidFieldsException("fields must not be empty");
+        }
+        return parsed;
+    }
+
+    private static BookField of(String name) {
+
+        for (BookField field : values()) {
+            if (field.id.toLowerCase(Locale.ROOT).equals(name.toLowerCase(Locale.ROOT))) {
+                return field;
+            }
+        }
+        throw new InvalidFieldsException("unknown field: " + name);
+    }
+}
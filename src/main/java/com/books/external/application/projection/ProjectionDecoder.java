@@ -0,0 +1,264 @@
+package com.books.external.application.projection;
+
+import com.books.book.domain.Isbn;
+import com.books.external.api.payload.response.projection.ProjectedBook;
+import com.books.external.api.payload.response.projection.ProjectedSearchResponse;
+import com.books.external.application.BookMapper;
+import com.books.external.application.BookProvider;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * 제공자 JSON 을 스트리밍 파서로 읽으면서 fields 에 해당하는 값만 만든다.
+ * 요청하지 않은 필드는 skipChildren 으로 토큰만 건너뛰어 문자열 / 배열 / 중첩 객체(seriesInfo, subInfo 등)를 할당하지 않는다.
+ * 값 정규화(HTML 태그 제거, 저자 분리, 날짜 / ISBN 파싱)는 BookMapper 와 같은 규칙을 쓴다.
+ */
+public final class ProjectionDecoder {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private static final Map<BookProvider, Layout> LAYOUTS = new EnumMap<>(BookProvider.class);
+
+    static {
+        LAYOUTS.put(BookProvider.ALADIN, new Layout(new String[]{"totalResults"}, "item", Map.ofEntries(
+            slot("title", BookField.TITLE, (p, item) -> item.title = BookMapper.text(p.getText())),
+            slot("author", BookField.AUTHORS, (p, item) -> item.authors = BookMapper.aladinAuthors(p.getText())),
+            slot("isbn", BookField.ISBN, (p, item) -> item.isbn = p.getText()),
+            slot("isbn13", BookField.ISBN, (p, item) -> item.isbn13 = p.getText()),
+            slot("priceStandard", BookField.PRICE, (p, item) -> item.listPrice = price(p)),
+            slot("priceSales", BookField.PRICE, (p, item) -> item.salePrice = price(p)),
+            slot("cover", BookField.COVER, (p, item) -> item.cover = BookMapper.text(p.getText())),
+            slot("publisher", BookField.PUBLISHER, (p, item) -> item.publisher = BookMapper.text(p.getText())),
+            slot("pubDate", BookField.PUBLISHED_DATE,
+                (p, item) -> item.publishedDate = BookMapper.date(p.getText(), DateTimeFormatter.ISO_LOCAL_DATE)),
+            slot("description", BookField.DESCRIPTION, (p, item) -> item.description = BookMapper.text(p.getText())),
+            slot("link", BookField.LINK, (p, item) -> item.link = BookMapper.text(p.getText())))));
+
+        // 카카오 isbn 은 "ISBN10 ISBN13" 한 필드
+        LAYOUTS.put(BookProvider.KAKAO, new Layout(new String[]{"meta", "total_count"}, "documents", Map.ofEntries(
+            slot("title", BookField.TITLE, (p, item) -> item.title = BookMapper.text(p.getText())),
+            slot("authors", BookField.AUTHORS, (p, item) -> item.authors = strings(p)),
+            slot("isbn", BookField.ISBN, (p, item) -> item.isbn = p.getText()),
+            slot("price", BookField.PRICE, (p, item) -> item.listPrice = price(p)),
+            slot("sale_price", BookField.PRICE, (p, item) -> item.salePrice = price(p)),
+            slot("salePrice", BookField.PRICE, (p, item) -> item.salePrice = price(p)),
+            slot("thumbnail", BookField.COVER, (p, item) -> item.cover = BookMapper.text(p.getText())),
+            slot("publisher", BookField.PUBLISHER, (p, item) -> item.publisher = BookMapper.text(p.getText())),
+            slot("datetime", BookField.PUBLISHED_DATE, (p, item) -> item.publishedDate = kakaoDate(p.getText())),
+            slot("contents", BookField.DESCRIPTION, (p, item) -> item.description = BookMapper.text(p.getText())),
+            slot("url", BookField.LINK, (p, item) -> item.link = BookMapper.text(p.getText())))));
+
+        LAYOUTS.put(BookProvider.NAVER, new Layout(new String[]{"total"}, "items", Map.ofEntries(
+            slot("title", BookField.TITLE, (p, item) -> item.title = BookMapper.text(p.getText())),
+            slot("author", BookField.AUTHORS, (p, item) -> item.authors = BookMapper.naverAuthors(p.getText())),
+            slot("isbn", BookField.ISBN, (p, item) -> item.isbn = p.getText()),
+            slot("price", BookField.PRICE, (p, item) -> item.listPrice = price(p)),
+            slot("discount", BookField.PRICE, (p, item) -> item.salePrice = price(p)),
+            slot("image", BookField.COVER, (p, item) -> item.cover = BookMapper.text(p.getText())),
+            slot("publisher", BookField.PUBLISHER, (p, item) -> item.publisher = BookMapper.text(p.getText())),
+            slot("pubdate", BookField.PUBLISHED_DATE,
+                (p, item) -> item.publishedDate = BookMapper.date(p.getText(), DateTimeFormatter.BASIC_ISO_DATE)),
+            slot("description", BookField.DESCRIPTION, (p, item) -> item.description = BookMapper.text(p.getText())),
+            slot("link", BookField.LINK, (p, item) -> item.link = BookMapper.text(p.getText())))));
+    }
+
+    private ProjectionDecoder() {
+    }
+
+    // 본문을 한 버퍼로 모은 뒤 디코딩한다. 상태 코드 처리(4xx / 5xx -> WebClientResponseException)는 bodyToMono 와 같다
+    public static Mono<ProjectedSearchResponse> retrieve(
+        BookProvider provider, WebClient.RequestHeadersSpec<?> request, Set<BookField> fields) {
+
+        return request.retrieve()
+            .bodyToMono(DataBuffer.class)
+            .map(body -> decode(provider, body, fields));
+    }
+
+    // body 는 읽은 뒤 반납한다
+    public static ProjectedSearchResponse decode(BookProvider provider, DataBuffer body, Set<BookField> fields) {
+
+        try (InputStream in = body.asInputStream(true)) {
+            return decode(provider, in, fields);
+        } catch (IOException e) {
+            throw new DecodingException(provider.id() + " projection decoding failed: " + e.getMessage(), e);
+        }
+    }
+
+    public static ProjectedSearchResponse decode(BookProvider provider, InputStream in, Set<BookField> fields)
+        throws IOException {
+
+        Layout layout = LAYOUTS.get(provider);
+        long total = 0;
+        List<ProjectedBook> items = List.of();
+
+        try (JsonParser parser = JSON.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("expected a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if (name.equals(layout.items) && value == JsonToken.START_ARRAY) {
+                    items = items(parser, layout, fields);
+                } else if (name.equals(layout.total[0])) {
+                    total = total(parser, layout.total, 1);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return new ProjectedSearchResponse(provider.id(), total, items);
+    }
+
+    private static List<ProjectedBook> items(JsonParser parser, Layout layout, Set<BookField> fields) throws IOException {
+
+        List<ProjectedBook> items = new ArrayList<>();
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            Item item = new Item();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Slot slot = layout.slots.get(parser.currentName());
+                JsonToken value = parser.nextToken();
+
+                if (slot == null || value == JsonToken.VALUE_NULL || !fields.contains(slot.field)) {
+                    // 문자열 값도 내용을 디코딩하지 않고 건너뛴다
+                    parser.skipChildren();
+                } else {
+                    slot.reader.read(parser, item);
+                }
+            }
+            items.add(item.toBook());
+        }
+        return items;
+    }
+
+    // meta.total_count 처럼 중첩된 경로도 따라간다
+    private static long total(JsonParser parser, String[] path, int depth) throws IOException {
+
+        if (depth == path.length) {
+            Long total = price(parser);
+            return total != null ? total : 0;
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return 0;
+        }
+
+        long total = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+
+            if (name.equals(path[depth])) {
+                total = total(parser, path, depth + 1);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return total;
+    }
+
+    // 알라딘 / 카카오는 숫자, 네이버는 문자열로 준다. 0 이하는 값 없음
+    private static Long price(JsonParser parser) throws IOException {
+
+        return switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT -> parser.getLongValue() > 0 ? parser.getLongValue() : null;
+            case VALUE_STRING -> BookMapper.price(parser.getText());
+            default -> {
+                parser.skipChildren();
+                yield null;
+            }
+        };
+    }
+
+    private static List<String> strings(JsonParser parser) throws IOException {
+
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return List.of();
+        }
+
+        List<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String value = parser.currentToken() == JsonToken.VALUE_STRING ? BookMapper.text(parser.getText()) : null;
+            if (value != null) {
+                values.add(value);
+            }
+            parser.skipChildren();
+        }
+        return values;
+    }
+
+    // "2009-09-07T00:00:00.000+09:00" -> 날짜 부분만
+    private static LocalDate kakaoDate(String datetime) {
+
+        return BookMapper.date(datetime.length() > 10 ? datetime.substring(0, 10) : datetime,
+            DateTimeFormatter.ISO_LOCAL_DATE);
+    }
+
+    private static Map.Entry<String, Slot> slot(String name, BookField field, Reader reader) {
+
+        return Map.entry(name, new Slot(field, reader));
+    }
+
+    private record Layout(String[] total, String items, Map<String, Slot> slots) {
+    }
+
+    private record Slot(BookField field, Reader reader) {
+    }
+
+    @FunctionalInterface
+    private interface Reader {
+
+        void read(JsonParser parser, Item item) throws IOException;
+    }
+
+    private static final class Item {
+
+        private String title;
+        private List<String> authors;
+        // 제공자 원문 그대로 두고 toBook 에서 Isbn.parse 로 나눈다
+        private String isbn;
+        private String isbn13;
+        private Long listPrice;
+        private Long salePrice;
+        private String cover;
+        private String publisher;
+        private LocalDate publishedDate;
+        private String description;
+        private String link;
+
+        ProjectedBook toBook() {
+
+            Isbn parsed = isbn != null || isbn13 != null ? Isbn.parse(isbn, isbn13) : null;
+
+            return new ProjectedBook(title, authors,
+                parsed != null ? parsed.getIsbn13() : null,
+                parsed != null ? parsed.getIsbn10() : null,
+                listPrice, salePrice, cover, publisher,
+                publishedDate, description, link);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.books.external.application.resilience;
+
+import com.books.external.application.BookProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class CallNotPermittedException extends RuntimeException {
+
+    private final BookProvider provider;
+
+    public CallNotPermittedException(BookProvider provider) {
+
+        super(provider.id() + " circuit breaker is open");
+        this.provider = provider;
+    }
+
+    public BookProvider getProvider() {
+
+        return provider;
+    }
+}
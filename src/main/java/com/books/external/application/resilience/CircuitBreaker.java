@@ -0,0 +1,175 @@
+package com.books.external.application.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 N건(count-based sliding window)의 실패율 / 느린 호출 비율로 열리는 서킷 브레이커.
+ * CLOSED -> (임계치 초과) -> OPEN -> (대기 시간 경과) -> HALF_OPEN -> (시험 호출 결과) -> CLOSED / OPEN
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final double slowCallRateThreshold;
+    private final long waitInOpenNanos;
+    private final int halfOpenPermits;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int head;
+    private int recorded;
+    private int failureCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenIssued;
+    private int halfOpenCompleted;
+
+    public CircuitBreaker(
+        int windowSize,
+        int minimumCalls,
+        double failureRateThreshold,
+        Duration slowCallDuration,
+        double slowCallRateThreshold,
+        Duration waitInOpen,
+        int halfOpenPermits,
+        LongSupplier nanoClock) {
+
+        if (windowSize < 1 || minimumCalls < 1 || halfOpenPermits < 1) {
+            throw new IllegalArgumentException("windowSize, minimumCalls, halfOpenPermits must be positive");
+        }
+
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallDuration.toNanos();
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.waitInOpenNanos = waitInOpen.toNanos();
+        this.halfOpenPermits = halfOpenPermits;
+        this.nanoClock = nanoClock;
+        this.failed = new boolean[windowSize];
+        this.slow = new boolean[windowSize];
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+
+        if (state == State.CLOSED) {
+            return true;
+        }
+
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < waitInOpenNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (halfOpenIssued >= halfOpenPermits) {
+            return false;
+        }
+
+        halfOpenIssued++;
+        return true;
+    }
+
+    public void onSuccess(long durationNanos) {
+
+        record(false, durationNanos >= slowCallNanos);
+    }
+
+    public void onError(long durationNanos) {
+
+        record(true, durationNanos >= slowCallNanos);
+    }
+
+    // 호출자가 먼저 떠난 경우: 느린 호출 기준을 넘겼으면 느린 호출로, 아니면 기록 없이 허가만 반납
+    public synchronized void onCancel(long durationNanos) {
+
+        if (durationNanos >= slowCallNanos) {
+            record(false, true);
+        } else {
+            releasePermission();
+        }
+    }
+
+    public synchronized void releasePermission() {
+
+        if (state == State.HALF_OPEN && halfOpenIssued > halfOpenCompleted) {
+            halfOpenIssued--;
+        }
+    }
+
+    public synchronized State state() {
+
+        return state;
+    }
+
+    private synchronized void record(boolean failure, boolean slowCall) {
+
+        if (state == State.OPEN) {
+            return;
+        }
+
+        if (recorded == windowSize) {
+            failureCount -= failed[head] ? 1 : 0;
+            slowCount -= slow[head] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+
+        failed[head] = failure;
+        slow[head] = slowCall;
+        failureCount += failure ? 1 : 0;
+        slowCount += slowCall ? 1 : 0;
+        head = (head + 1) % windowSize;
+
+        if (state == State.HALF_OPEN) {
+            halfOpenCompleted++;
+            if (halfOpenCompleted >= halfOpenPermits) {
+                transitionTo(thresholdExceeded() ? State.OPEN : State.CLOSED);
+            }
+            return;
+        }
+
+        if (recorded >= minimumCalls && thresholdExceeded()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private boolean thresholdExceeded() {
+
+        return failureCount * 100.0 / recorded >= failureRateThreshold
+            || slowCount * 100.0 / recorded >= slowCallRateThreshold;
+    }
+
+    private void transitionTo(State next) {
+
+        state = next;
+        head = 0;
+        recorded = 0;
+        failureCount = 0;
+        slowCount = 0;
+        Arrays.fill(failed, false);
+        Arrays.fill(slow, false);
+
+        if (next == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+        }
+        if (next == State.HALF_OPEN) {
+            halfOpenIssued = 0;
+            halfOpenCompleted = 0;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.books.external.application.resilience;
+
+import com.books.config.BooksProperties;
+import com.books.external.application.BookProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 제공자별 서킷 브레이커. Java / Kotlin 서비스 구현이 같은 브레이커를 공유한다.
+ * 상태는 books.provider.circuit.state{provider} (0=CLOSED, 1=OPEN, 2=HALF_OPEN) 로 노출된다.
+ */
+@Component
+public class ProviderCircuitBreakers implements MeterBinder {
+
+    private final Map<BookProvider, CircuitBreaker> breakers = new EnumMap<>(BookProvider.class);
+
+    public ProviderCircuitBreakers(BooksProperties properties) {
+
+        for (BookProvider provider : BookProvider.values()) {
+            BooksProperties.CircuitBreakerProperties circuitBreaker = properties.provider(provider).circuitBreaker();
+
+            breakers.put(provider, new CircuitBreaker(
+                circuitBreaker.slidingWindowSize(),
+                circuitBreaker.minimumNumberOfCalls(),
+                circuitBreaker.failureRateThreshold(),
+                circuitBreaker.slowCallDurationThreshold(),
+                circuitBreaker.slowCallRateThreshold(),
+                circuitBreaker.waitDurationInOpenState(),
+                circuitBreaker.permittedCallsInHalfOpenState(),
+                System::nanoTime));
+        }
+    }
+
+    public CircuitBreaker get(BookProvider provider) {
+
+        return breakers.get(provider);
+    }
+
+    // 열려 있으면 upstream 을 구독하지 않고 즉시 CallNotPermittedException
+    public <T> Mono<T> protect(BookProvider provider, Mono<T> call) {
+
+        CircuitBreaker breaker = breakers.get(provider);
+
+        return Mono.defer(() -> {
+            if (!breaker.tryAcquirePermission()) {
+                return Mono.error(new CallNotPermittedException(provider));
+            }
+
+            long startedAt = System.nanoTime();
+
+            return call
+                .doOnSuccess(response -> breaker.onSuccess(System.nanoTime() - startedAt))
+                .doOnError(error -> {
+                    // 로컬 rate limit 거절은 제공자 상태와 무관하므로 실패로 세지 않는다
+                    if (error instanceof RateLimitExceededException) {
+                        breaker.releasePermission();
+                    } else {
+                        breaker.onError(System.nanoTime() - startedAt);
+                    }
+                })
+                .doOnCancel(() -> breaker.onCancel(System.nanoTime() - startedAt));
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        breakers.forEach((provider, breaker) ->
+            Gauge.builder("books.provider.circuit.state", breaker, b -> b.state().ordinal())
+                .tag("provider", provider.id())
+                .register(registry));
+    }
+}
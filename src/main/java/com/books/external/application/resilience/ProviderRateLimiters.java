@@ -0,0 +1,179 @@
+package com.books.external.application.resilience;
+
+import com.books.config.BooksProperties;
+import com.books.external.application.BookProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * 제공자별 초당 요청 수(토큰 버킷)와 일일 쿼터. Java / Kotlin 서비스가 같은 WebClient 필터를 공유한다.
+ * 토큰이 없으면 maxWait 까지 대기 후 전송하고, 그 이상 기다려야 하면 upstream 에 보내지 않고 바로 거절한다.
+ * 메트릭: books.provider.ratelimit.{wait,rejected}, books.provider.quota.{used,limit}
+ */
+@Component
+public class ProviderRateLimiters implements MeterBinder {
+
+    // 세 제공자 모두 일일 쿼터가 한국 시간 자정에 초기화된다
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final Map<BookProvider, Limiter> limiters = new EnumMap<>(BookProvider.class);
+
+    @Autowired
+    public ProviderRateLimiters(BooksProperties properties) {
+
+        this(properties, Clock.system(QUOTA_ZONE), System::nanoTime);
+    }
+
+    ProviderRateLimiters(BooksProperties properties, Clock clock, LongSupplier nanoClock) {
+
+        for (BookProvider provider : BookProvider.values()) {
+            BooksProperties.RateLimitProperties rateLimit = properties.provider(provider).rateLimit();
+
+            limiters.put(provider, new Limiter(rateLimit,
+                new TokenBucket(rateLimit.permitsPerSecond(), rateLimit.burst(), nanoClock), clock));
+        }
+    }
+
+    // 헬스 필터보다 바깥에 두어 대기 시간과 거절이 제공자 지연 / 실패로 기록되지 않게 한다
+    public ExchangeFilterFunction filter(BookProvider provider) {
+
+        Limiter limiter = limiters.get(provider);
+
+        return (request, next) -> Mono.defer(() -> {
+            if (!limiter.rateLimit.enabled()) {
+                return next.exchange(request);
+            }
+            if (limiter.quotaExhausted()) {
+                limiter.rejectedByQuota.increment();
+                return Mono.error(new RateLimitExceededException(provider, "daily quota exhausted"));
+            }
+
+            long waitNanos = limiter.bucket.reserve(limiter.rateLimit.maxWait().toNanos());
+
+            if (waitNanos < 0) {
+                limiter.rejectedByWait.increment();
+                return Mono.error(new RateLimitExceededException(provider, "rate limit wait exceeded"));
+            }
+
+            Mono<ClientResponse> exchange = Mono.defer(() -> {
+                limiter.countQuota();
+                return next.exchange(request);
+            });
+
+            if (waitNanos == 0) {
+                return exchange;
+            }
+
+            limiter.delayed.increment();
+            limiter.waitedNanos.add(waitNanos);
+
+            return Mono.delay(Duration.ofNanos(waitNanos)).then(exchange);
+        });
+    }
+
+    public long quotaUsed(BookProvider provider) {
+
+        return limiters.get(provider).quotaUsed();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        limiters.forEach((provider, limiter) -> {
+            FunctionTimer.builder("books.provider.ratelimit.wait", limiter,
+                    l -> l.delayed.sum(), l -> l.waitedNanos.sum(), TimeUnit.NANOSECONDS)
+                .tag("provider", provider.id())
+                .register(registry);
+
+            FunctionCounter.builder("books.provider.ratelimit.rejected", limiter.rejectedByWait, LongAdder::sum)
+                .tags("provider", provider.id(), "reason", "wait")
+                .register(registry);
+
+            FunctionCounter.builder("books.provider.ratelimit.rejected", limiter.rejectedByQuota, LongAdder::sum)
+                .tags("provider", provider.id(), "reason", "quota")
+                .register(registry);
+
+            Gauge.builder("books.provider.quota.used", limiter, Limiter::quotaUsed)
+                .tag("provider", provider.id())
+                .register(registry);
+
+            Gauge.builder("books.provider.quota.limit", limiter, l -> l.rateLimit.dailyQuota())
+                .tag("provider", provider.id())
+                .register(registry);
+        });
+    }
+
+    private static final class Limiter {
+
+        private final BooksProperties.RateLimitProperties rateLimit;
+        private final TokenBucket bucket;
+        private final Clock clock;
+
+        private final LongAdder delayed = new LongAdder();
+        private final LongAdder waitedNanos = new LongAdder();
+        private final LongAdder rejectedByWait = new LongAdder();
+        private final LongAdder rejectedByQuota = new LongAdder();
+
+        // 날짜가 바뀌면 첫 호출이 카운터를 초기화한다
+        private final AtomicLong quotaDay = new AtomicLong();
+        private final AtomicLong quotaUsed = new AtomicLong();
+
+        Limiter(BooksProperties.RateLimitProperties rateLimit, TokenBucket bucket, Clock clock) {
+
+            this.rateLimit = rateLimit;
+            this.bucket = bucket;
+            this.clock = clock;
+            this.quotaDay.set(today());
+        }
+
+        boolean quotaExhausted() {
+
+            return rateLimit.dailyQuota() > 0 && quotaUsed() >= rateLimit.dailyQuota();
+        }
+
+        void countQuota() {
+
+            rollOver();
+            quotaUsed.incrementAndGet();
+        }
+
+        long quotaUsed() {
+
+            rollOver();
+            return quotaUsed.get();
+        }
+
+        private void rollOver() {
+
+            long today = today();
+            long day = quotaDay.get();
+
+            if (day != today && quotaDay.compareAndSet(day, today)) {
+                quotaUsed.set(0);
+            }
+        }
+
+        private long today() {
+
+            return LocalDate.now(clock.withZone(QUOTA_ZONE)).toEpochDay();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.books.external.application.resilience;
+
+import com.books.config.BooksProperties;
+import com.books.external.application.BookProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.netty.handler.timeout.TimeoutException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+
+/**
+ * 멱등 요청의 일시적 실패(연결 오류, 429, 5xx)를 지수 백오프 + full jitter 로 재시도한다.
+ * 429 / 503 의 Retry-After 가 있으면 그만큼 기다리고, maxBackoff 보다 길면 재시도하지 않는다.
+ * 재시도는 제공자별 예산(최근 요청 수의 budgetPercent %, 최대 budgetBurst 회 적립)에서 차감되어
+ * 장애 중에 재시도가 트래픽을 증폭시키지 않는다.
+ * 메트릭: books.provider.retry{outcome=retried|budget_exhausted}, books.provider.retry.budget
+ */
+@Component
+public class ProviderRetries implements MeterBinder {
+
+    // GET 이 아닌 멱등 요청 (알라딘 검색은 POST) 은 이 속성을 true 로 지정한다
+    public static final String IDEMPOTENT = ProviderRetries.class.getName() + ".idempotent";
+
+    private final Map<BookProvider, Retrier> retriers = new EnumMap<>(BookProvider.class);
+
+    public ProviderRetries(BooksProperties properties) {
+
+        for (BookProvider provider : BookProvider.values()) {
+            retriers.put(provider, new Retrier(properties.provider(provider).retry()));
+        }
+    }
+
+    // rate limit 필터보다 바깥에 두어 재시도도 토큰을 받아 나가고, 각 시도는 헬스 필터에 기록된다
+    public ExchangeFilterFunction filter(BookProvider provider) {
+
+        Retrier retrier = retriers.get(provider);
+
+        return (request, next) -> {
+            if (!retrier.retry.enabled() || !idempotent(request)) {
+                return next.exchange(request);
+            }
+
+            return Mono.defer(() -> {
+                retrier.deposit();
+                return attempt(retrier, request, next, 1);
+            });
+        };
+    }
+
+    private static Mono<ClientResponse> attempt(Retrier retrier, ClientRequest request, ExchangeFunction next, int attempt) {
+
+        return next.exchange(request)
+            .materialize()
+            .flatMap(signal -> {
+                Duration delay = retrier.delay(signal, attempt);
+
+                if (delay == null) {
+                    return Mono.just(signal).<ClientResponse>dematerialize();
+                }
+
+                Mono<Void> release = signal.hasValue() ? signal.get().releaseBody() : Mono.empty();
+
+                return release
+                    .then(Mono.delay(delay))
+                    .then(attempt(retrier, request, next, attempt + 1));
+            });
+    }
+
+    private static boolean idempotent(ClientRequest request) {
+
+        HttpMethod method = request.method();
+
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method)
+            || Boolean.TRUE.equals(request.attribute(IDEMPOTENT).orElse(null));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        retriers.forEach((provider, retrier) -> {
+            FunctionCounter.builder("books.provider.retry", retrier.retried, LongAdder::sum)
+                .tags("provider", provider.id(), "outcome", "retried")
+                .register(registry);
+
+            FunctionCounter.builder("books.provider.retry", retrier.budgetExhausted, LongAdder::sum)
+                .tags("provider", provider.id(), "outcome", "budget_exhausted")
+                .register(registry);
+
+            Gauge.builder("books.provider.retry.budget", retrier, Retrier::budget)
+                .tag("provider", provider.id())
+                .register(registry);
+        });
+    }
+
+    private static final class Retrier {
+
+        // 예산은 재시도 1회 = 1000 단위로 적립 / 차감한다
+        private static final long UNIT = 1000;
+
+        private final BooksProperties.RetryProperties retry;
+        private final long depositPerRequest;
+        private final long maxBalance;
+        private final AtomicLong balance;
+
+        private final LongAdder retried = new LongAdder();
+        private final LongAdder budgetExhausted = new LongAdder();
+
+        Retrier(BooksProperties.RetryProperties retry) {
+
+            this.retry = retry;
+            this.depositPerRequest = Math.round(retry.budgetPercent() * UNIT / 100);
+            this.maxBalance = retry.budgetBurst() * UNIT;
+            this.balance = new AtomicLong(maxBalance);
+        }
+
+        void deposit() {
+
+            balance.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(maxBalance, current + deposit));
+        }
+
+        double budget() {
+
+            return (double) balance.get() / UNIT;
+        }
+
+        // 재시도하지 않을 때 null
+        Duration delay(Signal<ClientResponse> signal, int attempt) {
+
+            if (attempt >= retry.maxAttempts()) {
+                return null;
+            }
+
+            Duration delay;
+            if (signal.hasValue()) {
+                ClientResponse response = signal.get();
+                if (!retryable(response.statusCode())) {
+                    return null;
+                }
+                Duration retryAfter = retryAfter(response.headers().asHttpHeaders());
+                delay = retryAfter != null ? retryAfter : backoff(attempt);
+            } else if (signal.hasError() && retryable(signal.getThrowable())) {
+                delay = backoff(attempt);
+            } else {
+                return null;
+            }
+
+            if (delay.compareTo(retry.maxBackoff()) > 0) {
+                return null;
+            }
+            if (!withdraw()) {
+                budgetExhausted.increment();
+                return null;
+            }
+
+            retried.increment();
+            return delay;
+        }
+
+        private boolean withdraw() {
+
+            while (true) {
+                long current = balance.get();
+                if (current < UNIT) {
+                    return false;
+                }
+                if (balance.compareAndSet(current, current - UNIT)) {
+                    return true;
+                }
+            }
+        }
+
+        // full jitter: [0, min(maxBackoff, initialBackoff * 2^(attempt-1))]
+        private Duration backoff(int attempt) {
+
+            long capMillis = Math.min(retry.maxBackoff().toMillis(),
+                retry.initialBackoff().toMillis() << Math.min(attempt - 1, 20));
+
+            return Duration.ofMillis(ThreadLocalRandom.current().nextLong(capMillis + 1));
+        }
+
+        private static boolean retryable(HttpStatusCode status) {
+
+            int code = status.value();
+            return code == 429 || code == 500 || code == 502 || code == 503 || code == 504;
+        }
+
+        // 요청이 전송되지 못했거나 응답 전에 연결이 끊긴 경우. 읽기 / 쓰기 타임아웃은 느린 제공자를 더 두드리므로 제외
+        private static boolean retryable(Throwable error) {
+
+            return error instanceof WebClientRequestException
+                && !(error.getCause() instanceof TimeoutException);
+        }
+
+        // 초 단위 또는 HTTP-date
+        private static Duration retryAfter(HttpHeaders headers) {
+
+            String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+
+            try {
+                return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+            } catch (NumberFormatException ignored) {
+                // HTTP-date 형식
+            }
+
+            try {
+                Duration until = Duration.between(ZonedDateTime.now(),
+                    ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return until.isNegative() ? Duration.ZERO : until;
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+}
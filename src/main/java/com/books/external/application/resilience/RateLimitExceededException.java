@@ -0,0 +1,22 @@
+package com.books.external.application.resilience;
+
+import com.books.external.application.BookProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class RateLimitExceededException extends RuntimeException {
+
+    private final BookProvider provider;
+
+    public RateLimitExceededException(BookProvider provider, String reason) {
+
+        super(provider.id() + " " + reason);
+        this.provider = provider;
+    }
+
+    public BookProvider getProvider() {
+
+        return provider;
+    }
+}
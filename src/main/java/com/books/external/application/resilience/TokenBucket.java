@@ -0,0 +1,46 @@
+package com.books.external.application.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 락 없는 토큰 버킷 (GCRA). 토큰이 모자라면 거절하는 대신 토큰이 생기는 시점까지의 대기 시간을 예약해 준다.
+ * burst 개까지는 대기 없이 통과하고, 이후에는 1 / permitsPerSecond 간격으로 고르게 흘려보낸다.
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoClock;
+
+    // 다음 토큰이 "이론상" 도착하는 시각. 버킷이 가득 찬 상태는 now 이하
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstToleranceNanos = intervalNanos * (burst - 1);
+        this.nanoClock = nanoClock;
+        this.theoreticalArrival = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    // 토큰 하나를 예약하고 기다려야 할 시간(ns)을 반환. maxWait 를 넘기면 예약하지 않고 -1
+    public long reserve(long maxWaitNanos) {
+
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long arrival = theoreticalArrival.get();
+            long waitNanos = Math.max(0, arrival - burstToleranceNanos - now);
+
+            if (waitNanos > maxWaitNanos) {
+                return -1;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, Math.max(arrival, now) + intervalNanos)) {
+                return waitNanos;
+            }
+        }
+    }
+}
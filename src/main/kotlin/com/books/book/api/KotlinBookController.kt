@@ -11,7 +11,7 @@ import org.springframework.web.bind.annotation.*
 class KotlinBookController(private val service: KotlinBookService) {
 
     @GetMapping("/name")
-    fun getBookName(@RequestParam isbn: String): ResponseEntity<String> {
+    suspend fun getBookName(@RequestParam isbn: String): ResponseEntity<String> {
 
         return ResponseEntity.ok(service.getBookNameByIsbn(isbn))
     }
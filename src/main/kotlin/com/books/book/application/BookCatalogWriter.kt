@@ -0,0 +1,156 @@
+package com.books.book.application
+
+import com.books.book.domain.Book
+import com.books.book.domain.BookMerger
+import com.books.book.entity.BookEntity
+import com.books.config.BooksProperties
+import io.micrometer.core.instrument.FunctionCounter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.MeterBinder
+import org.slf4j.LoggerFactory
+import org.springframework.context.SmartLifecycle
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.stereotype.Component
+import java.time.Instant
+import java.time.ZoneOffset
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 검색 결과를 요청 경로 밖에서 카탈로그(book 테이블)에 반영하는 write-behind 큐.
+ * 큐가 가득 차면 버리고(dropped) 요청 스레드를 막지 않으며, 전용 스레드가 batch-size 단위로 JDBC batch MERGE 한다.
+ */
+@Component
+class BookCatalogWriter(
+    private val jdbcTemplate: JdbcTemplate,
+    properties: BooksProperties
+) : SmartLifecycle, MeterBinder {
+
+    private val catalog = properties.catalog()
+    private val queue = ArrayBlockingQueue<Book>(catalog.queueCapacity())
+    private val written = AtomicLong()
+    private val dropped = AtomicLong()
+
+    @Volatile
+    private var running = false
+    private var worker: Thread? = null
+
+    // ISBN13 이 없는 책은 키가 없으므로 저장하지 않는다
+    fun enqueue(books: Collection<Book>) {
+        for (book in books) {
+            if (book.isbn13 != null && !queue.offer(book)) {
+                dropped.incrementAndGet()
+            }
+        }
+    }
+
+    // 큐를 거치지 않고 바로 반영 (조회 fallback 결과처럼 곧바로 다시 읽힐 데이터)
+    fun upsert(books: Collection<Book>) {
+        val now = Instant.now()
+        val rows = BookMerger.merge(books.filter { it.isbn13 != null })
+            .map { BookEntity.of(it, now) }
+
+        if (rows.isEmpty()) {
+            return
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows.map { it.toRow() })
+        written.addAndGet(rows.size.toLong())
+    }
+
+    override fun start() {
+        running = true
+        worker = Thread.ofPlatform()
+            .name("book-catalog-writer")
+            .daemon(true)
+            .start { drainLoop() }
+    }
+
+    // 진행 중인 batch 를 마치고 남은 큐까지 비운 뒤 종료
+    override fun stop() {
+        running = false
+        worker?.join(TimeUnit.SECONDS.toMillis(5))
+
+        val remaining = ArrayList<Book>()
+        queue.drainTo(remaining)
+        remaining.chunked(catalog.batchSize()).forEach { flush(it) }
+    }
+
+    override fun isRunning(): Boolean = running
+
+    override fun bindTo(registry: MeterRegistry) {
+        Gauge.builder("books.catalog.queue.size", queue) { it.size.toDouble() }
+            .register(registry)
+        FunctionCounter.builder("books.catalog.written", written) { it.get().toDouble() }
+            .register(registry)
+        FunctionCounter.builder("books.catalog.dropped", dropped) { it.get().toDouble() }
+            .register(registry)
+    }
+
+    private fun drainLoop() {
+        val batch = ArrayList<Book>(catalog.batchSize())
+
+        while (running) {
+            try {
+                val first = queue.poll(catalog.flushInterval().toMillis(), TimeUnit.MILLISECONDS) ?: continue
+                batch.add(first)
+                queue.drainTo(batch, catalog.batchSize() - 1)
+                flush(batch)
+            } catch (e: InterruptedException) {
+                Thread.currentThread().interrupt()
+                return
+            } finally {
+                batch.clear()
+            }
+        }
+    }
+
+    private fun flush(batch: List<Book>) {
+        try {
+            upsert(batch)
+        } catch (e: Exception) {
+            log.warn("book catalog batch of {} failed: {}", batch.size, e.toString())
+        }
+    }
+
+    private fun BookEntity.toRow(): Array<Any?> = arrayOf(
+        isbn13, isbn10, title, authors, publisher, publishedDate, description, thumbnail,
+        listPrice, salePrice, updatedAt?.atOffset(ZoneOffset.UTC)
+    )
+
+    companion object {
+
+        private val log = LoggerFactory.getLogger(BookCatalogWriter::class.java)
+
+        // 이미 있는 행은 새 값이 비어 있으면 기존 값을 유지한다
+        private val UPSERT_SQL = """
+            MERGE INTO book b
+            USING (SELECT CAST(? AS VARCHAR(13)) isbn13, CAST(? AS VARCHAR(10)) isbn10,
+                          CAST(? AS VARCHAR(500)) title, CAST(? AS VARCHAR(1000)) authors,
+                          CAST(? AS VARCHAR(255)) publisher, CAST(? AS DATE) published_date,
+                          CAST(? AS VARCHAR(4000)) description, CAST(? AS VARCHAR(1000)) thumbnail,
+                          CAST(? AS BIGINT) list_price, CAST(? AS BIGINT) sale_price,
+                          CAST(? AS TIMESTAMP WITH TIME ZONE) updated_at) s
+            ON b.isbn13 = s.isbn13
+            WHEN MATCHED THEN UPDATE SET
+                isbn10 = COALESCE(s.isbn10, b.isbn10),
+                title = COALESCE(NULLIF(s.title, ''), b.title),
+                authors = COALESCE(s.authors, b.authors),
+                publisher = COALESCE(s.publisher, b.publisher),
+                published_date = COALESCE(s.published_date, b.published_date),
+                description = COALESCE(s.description, b.description),
+                thumbnail = COALESCE(s.thumbnail, b.thumbnail),
+                list_price = COALESCE(s.list_price, b.list_price),
+                sale_price = COALESCE(s.sale_price, b.sale_price),
+                updated_at = s.updated_at
+            WHEN NOT MATCHED THEN INSERT
+                (isbn13, isbn10, title, authors, publisher, published_date, description, thumbnail,
+                 list_price, sale_price, updated_at)
+            VALUES
+                (s.isbn13, s.isbn10, s.title, s.authors, s.publisher, s.published_date, s.description, s.thumbnail,
+                 s.list_price, s.sale_price, s.updated_at)
+        """.trimIndent()
+    }
+}
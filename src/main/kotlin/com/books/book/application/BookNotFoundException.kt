@@ -0,0 +1,7 @@
+package com.books.book.application
+
+import org.springframework.http.HttpStatus
+import org.springframework.web.bind.annotation.ResponseStatus
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+class BookNotFoundException(isbn: String) : RuntimeException("book not found: $isbn")
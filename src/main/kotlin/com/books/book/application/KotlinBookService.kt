@@ -3,5 +3,5 @@ package com.books.book.application
 
 interface KotlinBookService{
 
-    fun getBookNameByIsbn(isbn: String): String
-}
\ No newline at end of file
+    suspend fun getBookNameByIsbn(isbn: String): String
+}
@@ -1,13 +1,54 @@
 package com.books.book.application
 
+import com.books.book.domain.Book
+import com.books.book.domain.Isbn
+import com.books.book.entity.BookRepository
+import com.books.config.BlockingIo
+import com.books.external.api.payload.kakao.request.KotlinKakaoSearchRequest
+import com.books.external.api.payload.request.naver.KotlinNaverSearchRequest
+import com.books.external.application.BookMapper
+import com.books.external.application.KotlinUnifiedBooksFacade
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.withContext
+import org.springframework.data.repository.findByIdOrNull
 import org.springframework.stereotype.Service
 
 @Service
-class KotlinBookServiceImpl : KotlinBookService {
+class KotlinBookServiceImpl(
+    private val bookRepository: BookRepository,
+    private val kotlinUnifiedBooksFacade: KotlinUnifiedBooksFacade,
+    private val bookCatalogWriter: BookCatalogWriter,
+    private val blockingIo: BlockingIo
+) : KotlinBookService {
 
-    override fun getBookNameByIsbn(isbn: String): String {
+    // 로컬 카탈로그(PK 조회)를 먼저 보고, 없을 때만 제공자에 ISBN 검색 후 바로 카탈로그에 반영
+    override suspend fun getBookNameByIsbn(isbn: String): String {
+        val isbn13 = Isbn.parse(isbn).isbn13 ?: throw BookNotFoundException(isbn)
 
+        withContext(blockingIo.dispatcher()) { bookRepository.findByIdOrNull(isbn13) }
+            ?.let { return it.title }
 
-        return "클린코드"
+        val book = searchProviders(isbn13) ?: throw BookNotFoundException(isbn)
+        withContext(blockingIo.dispatcher()) { bookCatalogWriter.upsert(listOf(book)) }
+
+        return book.title
+    }
+
+    private suspend fun searchProviders(isbn13: String): Book? {
+        return findIn(isbn13) {
+            BookMapper.fromResponse(kotlinUnifiedBooksFacade.searchKakao(KotlinKakaoSearchRequest(query = isbn13, target = "isbn")))
+        } ?: findIn(isbn13) {
+            BookMapper.fromResponse(kotlinUnifiedBooksFacade.searchNaver(KotlinNaverSearchRequest(keyword = isbn13)))
+        }
+    }
+
+    private suspend fun findIn(isbn13: String, search: suspend () -> List<Book>): Book? {
+        return try {
+            search().firstOrNull { it.isbn13 == isbn13 }
+        } catch (e: CancellationException) {
+            throw e
+        } catch (e: Exception) {
+            null
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,4 +1,35 @@
 package com.books.book.domain
 
-class Book {
-}
\ No newline at end of file
+import java.time.LocalDate
+
+// 제공자와 무관한 도서 모델 (ISBN13 이 같으면 같은 책)
+data class Book(
+    val isbn13: String?,
+    val isbn10: String?,
+    val title: String,
+    val authors: List<String>,
+    val publisher: String?,
+    val publishedDate: LocalDate?,
+    val description: String?,
+    val thumbnail: String?,
+    val listPrice: Long?,
+    val salePrice: Long?,
+    val sources: List<String>,
+    val links: Map<String, String> = emptyMap()
+) {
+
+    // 비어 있는 필드만 other 로 채운다 (먼저 들어온 제공자 값 우선)
+    fun mergeWith(other: Book): Book = copy(
+        isbn10 = isbn10 ?: other.isbn10,
+        title = title.ifBlank { other.title },
+        authors = authors.ifEmpty { other.authors },
+        publisher = publisher ?: other.publisher,
+        publishedDate = publishedDate ?: other.publishedDate,
+        description = description ?: other.description,
+        thumbnail = thumbnail ?: other.thumbnail,
+        listPrice = listPrice ?: other.listPrice,
+        salePrice = salePrice ?: other.salePrice,
+        sources = (sources + other.sources).distinct(),
+        links = other.links + links
+    )
+}
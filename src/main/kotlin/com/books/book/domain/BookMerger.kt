@@ -0,0 +1,17 @@
+package com.books.book.domain
+
+object BookMerger {
+
+    // ISBN13 이 같은 책을 하나로 합치고 처음 등장한 순서를 유지한다. ISBN13 이 없는 책은 합치지 않는다.
+    @JvmStatic
+    fun merge(books: Iterable<Book>): List<Book> {
+        val merged = LinkedHashMap<Any, Book>()
+
+        for (book in books) {
+            val key: Any = book.isbn13 ?: Any()
+            merged[key] = merged[key]?.mergeWith(book) ?: book
+        }
+
+        return merged.values.toList()
+    }
+}
@@ -0,0 +1,48 @@
+package com.books.book.domain
+
+// 제공자별 isbn 표기를 ISBN-10 / ISBN-13 으로 분리한다.
+// 카카오 / 네이버: "ISBN10 ISBN13" (한쪽만 있을 수도 있음), 알라딘: isbn / isbn13 필드 분리
+data class Isbn(val isbn10: String?, val isbn13: String?) {
+
+    companion object {
+
+        @JvmStatic
+        fun parse(vararg raw: String?): Isbn {
+            var isbn10: String? = null
+            var isbn13: String? = null
+
+            raw.filterNotNull()
+                .flatMap { it.split(' ', ',') }
+                .map { normalize(it) }
+                .forEach { token ->
+                    when {
+                        isbn13 == null && isIsbn13(token) -> isbn13 = token
+                        isbn10 == null && isIsbn10(token) -> isbn10 = token
+                    }
+                }
+
+            return Isbn(isbn10, isbn13 ?: isbn10?.let { toIsbn13(it) })
+        }
+
+        // 978 접두어를 붙이고 체크 디지트를 다시 계산
+        @JvmStatic
+        fun toIsbn13(isbn10: String): String {
+            val body = "978" + isbn10.substring(0, 9)
+            return body + checkDigit13(body)
+        }
+
+        @JvmStatic
+        fun isIsbn13(value: String): Boolean = value.length == 13 && value.all { it.isDigit() }
+
+        @JvmStatic
+        fun isIsbn10(value: String): Boolean =
+            value.length == 10 && value.substring(0, 9).all { it.isDigit() } && (value[9].isDigit() || value[9] == 'X')
+
+        private fun normalize(token: String): String = token.filter { it != '-' && !it.isWhitespace() }.uppercase()
+
+        private fun checkDigit13(body: String): Char {
+            val sum = body.mapIndexed { index, c -> (c - '0') * (if (index % 2 == 0) 1 else 3) }.sum()
+            return ((10 - sum % 10) % 10).digitToChar()
+        }
+    }
+}
@@ -1,4 +1,78 @@
 package com.books.book.entity
 
-class BookEntity {
-}
\ No newline at end of file
+import com.books.book.domain.Book
+import jakarta.persistence.Column
+import jakarta.persistence.Entity
+import jakarta.persistence.Id
+import jakarta.persistence.Table
+import java.time.Instant
+import java.time.LocalDate
+
+// 검색 결과로 채워지는 로컬 카탈로그 (쓰기는 BookCatalogWriter 의 JDBC batch MERGE 로만 한다)
+@Entity
+@Table(name = "book")
+class BookEntity(
+
+    @Id
+    @Column(length = 13)
+    var isbn13: String = "",
+
+    @Column(length = 10)
+    var isbn10: String? = null,
+
+    @Column(nullable = false, length = 500)
+    var title: String = "",
+
+    @Column(length = 1000)
+    var authors: String? = null,
+
+    @Column(length = 255)
+    var publisher: String? = null,
+
+    var publishedDate: LocalDate? = null,
+
+    @Column(length = 4000)
+    var description: String? = null,
+
+    @Column(length = 1000)
+    var thumbnail: String? = null,
+
+    var listPrice: Long? = null,
+
+    var salePrice: Long? = null,
+
+    var updatedAt: Instant? = null
+) {
+
+    fun toBook(): Book = Book(
+        isbn13 = isbn13,
+        isbn10 = isbn10,
+        title = title,
+        authors = authors?.split(", ") ?: emptyList(),
+        publisher = publisher,
+        publishedDate = publishedDate,
+        description = description,
+        thumbnail = thumbnail,
+        listPrice = listPrice,
+        salePrice = salePrice,
+        sources = listOf("catalog")
+    )
+
+    companion object {
+
+        // 컬럼 길이를 넘는 값은 잘라서 담는다
+        fun of(book: Book, updatedAt: Instant): BookEntity = BookEntity(
+            isbn13 = requireNotNull(book.isbn13) { "isbn13 is required" },
+            isbn10 = book.isbn10,
+            title = book.title.take(500),
+            authors = book.authors.joinToString(", ").take(1000).ifEmpty { null },
+            publisher = book.publisher?.take(255),
+            publishedDate = book.publishedDate,
+            description = book.description?.take(4000),
+            thumbnail = book.thumbnail?.take(1000),
+            listPrice = book.listPrice,
+            salePrice = book.salePrice,
+            updatedAt = updatedAt
+        )
+    }
+}
@@ -0,0 +1,5 @@
+package com.books.book.entity
+
+import org.springframework.data.jpa.repository.JpaRepository
+
+interface BookRepository : JpaRepository<BookEntity, String>
@@ -1,17 +1,26 @@
 package com.books.external.api
 
+import com.books.book.domain.Book
 import com.books.external.api.payload.kakao.request.KotlinKakaoSearchRequest
 import com.books.external.api.payload.kakao.response.KotlinKakaoSearchResponse
 import com.books.external.api.payload.request.aladin.KotlinAladinBookRequest
 import com.books.external.api.payload.request.naver.KotlinNaverSearchRequest
 import com.books.external.api.payload.response.aladin.KotlinAladinBookResponse
 import com.books.external.api.payload.response.naver.KotlinNaverBookResponse
+import com.books.external.application.BookProvider
 import com.books.external.application.KotlinUnifiedBooksFacade
+import com.books.external.application.ProviderSearchEvent
 import com.books.external.application.SearchStatistics
 import com.books.external.application.UnifiedSearchResult
+import com.books.external.application.health.ProviderHealth
+import com.books.external.application.health.ProviderHealthTracker
+import com.books.external.application.paging.KotlinBooksPager
 import io.swagger.v3.oas.annotations.Operation
 import io.swagger.v3.oas.annotations.Parameter
 import io.swagger.v3.oas.annotations.tags.Tag
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.take
+import org.springframework.http.MediaType
 import org.springframework.http.ResponseEntity
 import org.springframework.web.bind.annotation.*
 import reactor.core.publisher.Mono
@@ -20,7 +29,9 @@ import reactor.core.publisher.Mono
 @RequestMapping("/api/external/kotlin/advanced")
 @Tag(name = "Kotlin 고급 외부 도서 호출", description = "Kotlin 고급 기능이 포함된 외부 도서 검색 API")
 class KotlinAdvancedController(
-    private val kotlinUnifiedBooksFacade: KotlinUnifiedBooksFacade
+    private val kotlinUnifiedBooksFacade: KotlinUnifiedBooksFacade,
+    private val kotlinBooksPager: KotlinBooksPager,
+    private val providerHealthTracker: ProviderHealthTracker
 ) {
 
     // ==================== Java Controller와 동일한 구조 ====================
@@ -60,6 +71,34 @@ class KotlinAdvancedController(
         return kotlinUnifiedBooksFacade.searchAll(keyword)
     }
 
+    @GetMapping(
+        "/search/unified/stream",
+        produces = [MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE]
+    )
+    @Operation(summary = "통합 검색 (Streaming)", description = "제공자 응답이 도착하는 즉시 SSE / NDJSON 으로 하나씩 전송")
+    fun unifiedSearchStream(
+        @Parameter(description = "검색 키워드", example = "클린코드")
+        @RequestParam keyword: String
+    ): Flow<ProviderSearchEvent> {
+        return kotlinUnifiedBooksFacade.searchStream(keyword)
+    }
+
+    @GetMapping("/search/pages", produces = [MediaType.APPLICATION_NDJSON_VALUE])
+    @Operation(summary = "전체 페이지 수집 (Streaming)", description = "제공자 페이지 한도까지 순회하며 소비 속도에 맞춰 다음 페이지를 요청")
+    fun searchAllPages(
+        @Parameter(description = "검색 키워드", example = "클린코드")
+        @RequestParam keyword: String,
+
+        @Parameter(description = "제공자 (ALADIN, KAKAO, NAVER)", example = "KAKAO")
+        @RequestParam provider: BookProvider,
+
+        @Parameter(description = "최대 건수 (도달하면 남은 페이지는 요청하지 않음)", example = "500")
+        @RequestParam(required = false) limit: Int?
+    ): Flow<Book> {
+        val books = kotlinBooksPager.books(provider, keyword)
+        return if (limit != null) books.take(limit) else books
+    }
+
     @GetMapping("/search/multiple")
     @Operation(summary = "선택적 다중 검색", description = "원하는 API들만 선택하여 병렬 검색")
     suspend fun searchMultiple(
@@ -88,39 +127,26 @@ class KotlinAdvancedController(
     }
 
     @GetMapping("/health")
-    @Operation(summary = "API 상태 체크", description = "모든 외부 API의 연결 상태를 병렬로 체크")
-    suspend fun healthCheck(): Map<String, Any> {
-        return try {
-            val testResult = kotlinUnifiedBooksFacade.searchMultiple(
-                keyword = "health-check",
-                includeAladin = true,
-                includeKakao = true,
-                includeNaver = true
-            )
-            
-            mapOf(
-                "status" to "UP",
-                "timestamp" to System.currentTimeMillis(),
-                "services" to mapOf(
-                    "aladin" to (if (testResult.aladinResult != null) "UP" else "DOWN"),
-                    "kakao" to (if (testResult.kakaoResult != null) "UP" else "DOWN"),
-                    "naver" to (if (testResult.naverResult != null) "UP" else "DOWN")
-                ),
-                "successfulApis" to testResult.getSuccessfulApiCount(),
-                "totalApis" to 3,
-                "searchKeyword" to "health-check"
-            )
-        } catch (e: Exception) {
-            mapOf(
-                "status" to "DOWN", 
-                "timestamp" to System.currentTimeMillis(),
-                "error" to (e.message ?: "Unknown error"),
-                "services" to mapOf(
-                    "aladin" to "UNKNOWN",
-                    "kakao" to "UNKNOWN", 
-                    "naver" to "UNKNOWN"
-                )
-            )
+    @Operation(summary = "API 상태 체크", description = "최근 실제 호출 기반 제공자 상태 (upstream 호출 없이 메모리에서 응답)")
+    fun healthCheck(): Map<String, Any> {
+        val providers = providerHealthTracker.snapshot()
+        val statuses = providers.values.map { it.status }
+
+        // 기동 직후처럼 아직 호출 기록이 없으면 UP 이라고 단정하지 않는다
+        val overall = when {
+            statuses.all { it == ProviderHealth.Status.UNKNOWN } -> "UNKNOWN"
+            statuses.all { it == ProviderHealth.Status.DOWN } -> "DOWN"
+            statuses.any { it == ProviderHealth.Status.DOWN || it == ProviderHealth.Status.DEGRADED } -> "DEGRADED"
+            else -> "UP"
         }
+
+        return mapOf(
+            "status" to overall,
+            "timestamp" to System.currentTimeMillis(),
+            "services" to providers.entries.associate { (provider, health) -> provider.id() to health.status.name },
+            "details" to providers.entries.associate { (provider, health) -> provider.id() to health },
+            "successfulApis" to statuses.count { it == ProviderHealth.Status.UP },
+            "totalApis" to providers.size
+        )
     }
-}
\ No newline at end of file
+}
@@ -18,5 +18,11 @@ data class KotlinKakaoSearchRequest(
         """,
         defaultValue = "title"
     )
-    val target: String
+    val target: String,
+
+    @Schema(name = "page", description = "결과 페이지 번호, 1~50 사이의 값 (기본값: 1)", defaultValue = "1")
+    val page: Int? = null,
+
+    @Schema(name = "size", description = "한 페이지에 보여질 문서 수, 1~50 사이의 값 (기본값: 10)", defaultValue = "10")
+    val size: Int? = null
 )
\ No newline at end of file
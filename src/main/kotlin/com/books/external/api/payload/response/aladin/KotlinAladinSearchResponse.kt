@@ -20,5 +20,6 @@ data class KotlinAladinSearchResponse(
     val bestRank: Int,
     val searchTarget: String,
     val subInfo: KotlinSubInfo? = null,
-    val seriesInfo: KotlinSeriesInfo? = null
+    val seriesInfo: KotlinSeriesInfo? = null,
+    val link: String? = null
 )
\ No newline at end of file
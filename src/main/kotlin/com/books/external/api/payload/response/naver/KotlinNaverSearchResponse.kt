@@ -9,5 +9,6 @@ data class KotlinNaverSearchResponse(
     val publisher: String,
     val pubdate: String,
     val isbn: String,
-    val description: String
+    val description: String,
+    val link: String? = null
 )
\ No newline at end of file
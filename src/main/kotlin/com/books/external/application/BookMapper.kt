@@ -0,0 +1,195 @@
+package com.books.external.application
+
+import com.books.book.domain.Book
+import com.books.book.domain.Isbn
+import com.books.external.api.payload.kakao.response.KotlinKakaoDocument
+import com.books.external.api.payload.kakao.response.KotlinKakaoSearchResponse
+import com.books.external.api.payload.response.aladin.AladinBookResponse
+import com.books.external.api.payload.response.aladin.AladinSearchResponse
+import com.books.external.api.payload.response.aladin.KotlinAladinBookResponse
+import com.books.external.api.payload.response.aladin.KotlinAladinSearchResponse
+import com.books.external.api.payload.response.kakao.KakaoBookResponse
+import com.books.external.api.payload.response.kakao.KakaoDocument
+import com.books.external.api.payload.response.naver.KotlinNaverBookResponse
+import com.books.external.api.payload.response.naver.KotlinNaverSearchResponse
+import com.books.external.api.payload.response.naver.NaverBookResponse
+import com.books.external.api.payload.response.naver.NaverSearchResponse
+import java.time.LocalDate
+import java.time.format.DateTimeFormatter
+import java.time.format.DateTimeParseException
+
+// 제공자 응답 -> Book (Java / Kotlin 응답 모델 모두 지원)
+object BookMapper {
+
+    private val HTML_TAG = Regex("<[^>]*>")
+    private val ROLE = Regex("\\s*\\([^)]*\\)\\s*$")
+
+    // 제공자 검색 응답 전체 -> Book 목록 (알 수 없는 타입은 빈 목록)
+    @JvmStatic
+    fun fromResponse(response: Any?): List<Book> = when (response) {
+        is AladinBookResponse -> response.item().orEmpty().map { from(it) }
+        is KakaoBookResponse -> response.documents().orEmpty().map { from(it) }
+        is NaverBookResponse -> response.items().orEmpty().map { from(it) }
+        is KotlinAladinBookResponse -> response.item.map { from(it) }
+        is KotlinKakaoSearchResponse -> response.documents.map { from(it) }
+        is KotlinNaverBookResponse -> response.items.map { from(it) }
+        else -> emptyList()
+    }
+
+    @JvmStatic
+    fun from(item: AladinSearchResponse): Book {
+        val isbn = Isbn.parse(item.isbn(), item.isbn13())
+
+        return Book(
+            isbn13 = isbn.isbn13,
+            isbn10 = isbn.isbn10,
+            title = item.title().orEmpty().trim(),
+            authors = aladinAuthors(item.author()),
+            publisher = item.publisher().clean(),
+            publishedDate = date(item.pubDate(), DateTimeFormatter.ISO_LOCAL_DATE),
+            description = item.description().clean(),
+            thumbnail = item.cover().clean(),
+            listPrice = item.priceStandard().takeIf { it > 0 },
+            salePrice = item.priceSales().takeIf { it > 0 },
+            sources = listOf(BookProvider.ALADIN.id()),
+            links = link(BookProvider.ALADIN, item.link())
+        )
+    }
+
+    @JvmStatic
+    fun from(item: KotlinAladinSearchResponse): Book {
+        val isbn = Isbn.parse(item.isbn, item.isbn13)
+
+        return Book(
+            isbn13 = isbn.isbn13,
+            isbn10 = isbn.isbn10,
+            title = item.title.trim(),
+            authors = aladinAuthors(item.author),
+            publisher = item.publisher.clean(),
+            publishedDate = date(item.pubDate, DateTimeFormatter.ISO_LOCAL_DATE),
+            description = item.description.clean(),
+            thumbnail = item.cover.clean(),
+            listPrice = price(item.priceStandard),
+            salePrice = price(item.priceSales),
+            sources = listOf(BookProvider.ALADIN.id()),
+            links = link(BookProvider.ALADIN, item.link)
+        )
+    }
+
+    @JvmStatic
+    fun from(document: KakaoDocument): Book {
+        val isbn = Isbn.parse(document.isbn())
+
+        return Book(
+            isbn13 = isbn.isbn13,
+            isbn10 = isbn.isbn10,
+            title = document.title().orEmpty().trim(),
+            authors = document.authors()?.mapNotNull { it.clean() }.orEmpty(),
+            publisher = document.publisher().clean(),
+            publishedDate = date(document.datetime()?.take(10), DateTimeFormatter.ISO_LOCAL_DATE),
+            description = document.contents().clean(),
+            thumbnail = document.thumbnail().clean(),
+            listPrice = document.price().toLong().takeIf { it > 0 },
+            salePrice = document.salePrice().toLong().takeIf { it > 0 },
+            sources = listOf(BookProvider.KAKAO.id()),
+            links = link(BookProvider.KAKAO, document.url())
+        )
+    }
+
+    @JvmStatic
+    fun from(document: KotlinKakaoDocument): Book {
+        val isbn = Isbn.parse(document.isbn)
+
+        return Book(
+            isbn13 = isbn.isbn13,
+            isbn10 = isbn.isbn10,
+            title = document.title.trim(),
+            authors = document.authors.mapNotNull { it.clean() },
+            publisher = document.publisher.clean(),
+            publishedDate = date(document.datetime.take(10), DateTimeFormatter.ISO_LOCAL_DATE),
+            description = document.contents.clean(),
+            thumbnail = document.thumbnail.clean(),
+            listPrice = document.price.toLong().takeIf { it > 0 },
+            salePrice = document.salePrice.toLong().takeIf { it > 0 },
+            sources = listOf(BookProvider.KAKAO.id()),
+            links = link(BookProvider.KAKAO, document.url)
+        )
+    }
+
+    @JvmStatic
+    fun from(item: NaverSearchResponse): Book {
+        val isbn = Isbn.parse(item.isbn())
+
+        return Book(
+            isbn13 = isbn.isbn13,
+            isbn10 = isbn.isbn10,
+            title = item.title().clean().orEmpty(),
+            authors = naverAuthors(item.author()),
+            publisher = item.publisher().clean(),
+            publishedDate = date(item.pubdate(), DateTimeFormatter.BASIC_ISO_DATE),
+            description = item.description().clean(),
+            thumbnail = item.image().clean(),
+            listPrice = null,
+            salePrice = price(item.discount()),
+            sources = listOf(BookProvider.NAVER.id()),
+            links = link(BookProvider.NAVER, item.link())
+        )
+    }
+
+    @JvmStatic
+    fun from(item: KotlinNaverSearchResponse): Book {
+        val isbn = Isbn.parse(item.isbn)
+
+        return Book(
+            isbn13 = isbn.isbn13,
+            isbn10 = isbn.isbn10,
+            title = item.title.clean().orEmpty(),
+            authors = naverAuthors(item.author),
+            publisher = item.publisher.clean(),
+            publishedDate = date(item.pubdate, DateTimeFormatter.BASIC_ISO_DATE),
+            description = item.description.clean(),
+            thumbnail = item.image.clean(),
+            listPrice = price(item.price),
+            salePrice = price(item.discount),
+            sources = listOf(BookProvider.NAVER.id()),
+            links = link(BookProvider.NAVER, item.link)
+        )
+    }
+
+    // 아래 정규화 규칙은 스트리밍 projection 디코더(ProjectionDecoder)도 같이 쓴다
+
+    // "로버트 C. 마틴 (지은이), 박재호 (옮긴이)" -> 지은이만
+    @JvmStatic
+    fun aladinAuthors(author: String?): List<String> =
+        author.orEmpty().split(',')
+            .filterNot { it.contains("옮긴이") }
+            .mapNotNull { it.replace(ROLE, "").clean() }
+
+    // 네이버는 여러 저자를 '^' 로 구분
+    @JvmStatic
+    fun naverAuthors(author: String?): List<String> =
+        author.orEmpty().split('^').mapNotNull { it.clean() }
+
+    // HTML 태그 제거 + trim, 비어 있으면 null
+    @JvmStatic
+    fun text(value: String?): String? = value.clean()
+
+    private fun String?.clean(): String? = this?.replace(HTML_TAG, "")?.trim()?.takeIf { it.isNotEmpty() }
+
+    @JvmStatic
+    fun price(value: String?): Long? = value?.trim()?.toLongOrNull()?.takeIf { it > 0 }
+
+    private fun link(provider: BookProvider, url: String?): Map<String, String> =
+        url.clean()?.let { mapOf(provider.id() to it) }.orEmpty()
+
+    @JvmStatic
+    fun date(value: String?, formatter: DateTimeFormatter): LocalDate? {
+        val text = value.clean() ?: return null
+
+        return try {
+            LocalDate.parse(text, formatter)
+        } catch (e: DateTimeParseException) {
+            null
+        }
+    }
+}
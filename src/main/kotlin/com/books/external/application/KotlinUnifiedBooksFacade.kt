@@ -1,5 +1,8 @@
 package com.books.external.application
 
+import com.books.book.application.BookCatalogWriter
+import com.books.book.domain.Book
+import com.books.book.domain.BookMerger
 import com.books.external.api.payload.kakao.request.KotlinKakaoSearchRequest
 import com.books.external.api.payload.kakao.response.KotlinKakaoSearchResponse
 import com.books.external.api.payload.request.aladin.KotlinAladinBookRequest
@@ -7,72 +10,107 @@ import com.books.external.api.payload.request.naver.KotlinNaverSearchRequest
 import com.books.external.api.payload.response.aladin.KotlinAladinBookResponse
 import com.books.external.api.payload.response.naver.KotlinNaverBookResponse
 import com.books.external.application.aladin.KotlinAladinBookService
+import com.books.external.application.cache.SearchResponseCache
+import com.books.external.application.cache.getOrLoad
+import com.books.external.application.canonical.CanonicalRequest
+import com.books.external.application.canonical.QueryCanonicalizer
+import com.books.external.application.canonical.SearchKey
+import com.books.external.application.hotkeys.HotKeywordTracker
 import com.books.external.application.kakao.KotlinKakaoBooksService
+import com.books.external.application.metrics.FacadeMetrics
+import com.books.external.application.metrics.timed
 import com.books.external.application.naver.KotlinNaverBookService
+import com.books.external.application.resilience.CallNotPermittedException
+import com.books.external.application.resilience.RateLimitExceededException
+import com.books.external.application.searchlog.ProviderOutcome
+import com.books.external.application.searchlog.SearchLogEntry
+import com.books.external.application.searchlog.SearchLogStatistics
+import com.books.external.application.searchlog.SearchLogWriter
+import com.fasterxml.jackson.annotation.JsonIgnore
+import kotlinx.coroutines.CancellationException
 import kotlinx.coroutines.async
 import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.channelFlow
+import kotlinx.coroutines.launch
 import org.springframework.stereotype.Service
+import reactor.core.publisher.Flux
 import reactor.core.publisher.Mono
+import java.time.Duration
+import java.time.Instant
+import java.util.concurrent.ConcurrentHashMap
 
 @Service
 class KotlinUnifiedBooksFacade(
     private val aladinBookService: KotlinAladinBookService,
     private val kakaoBookService: KotlinKakaoBooksService,
-    private val naverBookService: KotlinNaverBookService
+    private val naverBookService: KotlinNaverBookService,
+    private val searchResponseCache: SearchResponseCache,
+    private val bookCatalogWriter: BookCatalogWriter,
+    private val facadeMetrics: FacadeMetrics,
+    private val searchLogWriter: SearchLogWriter,
+    private val searchLogStatistics: SearchLogStatistics,
+    private val hotKeywordTracker: HotKeywordTracker,
+    private val queryCanonicalizer: QueryCanonicalizer
 ) {
 
-    // 개별 API 검색
-    suspend fun searchAladin(request: KotlinAladinBookRequest): KotlinAladinBookResponse {
-        return aladinBookService.search(request)
-    }
+    // 개별 API 검색 (Java facade 와 같이 정규화한 SearchKey 로 캐시 우선, 미스일 때만 upstream 호출하고 결과를 카탈로그 큐에 넣는다)
+    // 서킷 브레이커는 서비스의 single-flight 안에서 합쳐진 upstream 호출 하나에 걸린다
+    suspend fun searchAladin(request: KotlinAladinBookRequest): KotlinAladinBookResponse =
+        cachedAladin(queryCanonicalizer.canonicalize(request))
 
-    suspend fun searchKakao(request: KotlinKakaoSearchRequest): KotlinKakaoSearchResponse {
-        return kakaoBookService.search(request)
-    }
+    suspend fun searchKakao(request: KotlinKakaoSearchRequest): KotlinKakaoSearchResponse =
+        cachedKakao(queryCanonicalizer.canonicalize(request))
 
-    suspend fun searchNaver(request: KotlinNaverSearchRequest): KotlinNaverBookResponse {
-        return naverBookService.search(request)
-    }
+    suspend fun searchNaver(request: KotlinNaverSearchRequest): KotlinNaverBookResponse =
+        cachedNaver(queryCanonicalizer.canonicalize(request))
 
-    // 통합 검색 (모든 API 동시 호출)
-    suspend fun searchAll(keyword: String): UnifiedSearchResult = coroutineScope {
-        
-        val aladinRequest = KotlinAladinBookRequest(query = keyword)
-        val kakaoRequest = KotlinKakaoSearchRequest(query = keyword, target = "title")
-        val naverRequest = KotlinNaverSearchRequest(keyword = keyword)
-
-        // 비동기 병렬 호출
-        val aladinDeferred = async { 
-            try { 
-                aladinBookService.search(aladinRequest) 
-            } catch (e: Exception) { 
-                null 
-            } 
+    // loader 가 불리면 정규화 후에도 미스라 규칙별 미스로 센다
+    private suspend fun cachedAladin(canonical: CanonicalRequest<KotlinAladinBookRequest>): KotlinAladinBookResponse =
+        searchResponseCache.getOrLoad(BookProvider.ALADIN, canonical.key()) {
+            queryCanonicalizer.recordMiss(canonical.rules())
+            aladinBookService.search(canonical.request()).also { catalog(it) }
         }
-        
-        val kakaoDeferred = async { 
-            try { 
-                kakaoBookService.search(kakaoRequest) 
-            } catch (e: Exception) { 
-                null 
-            } 
+
+    private suspend fun cachedKakao(canonical: CanonicalRequest<KotlinKakaoSearchRequest>): KotlinKakaoSearchResponse =
+        searchResponseCache.getOrLoad(BookProvider.KAKAO, canonical.key()) {
+            queryCanonicalizer.recordMiss(canonical.rules())
+            kakaoBookService.search(canonical.request()).also { catalog(it) }
         }
-        
-        val naverDeferred = async { 
-            try { 
-                naverBookService.search(naverRequest) 
-            } catch (e: Exception) { 
-                null 
-            } 
+
+    private suspend fun cachedNaver(canonical: CanonicalRequest<KotlinNaverSearchRequest>): KotlinNaverBookResponse =
+        searchResponseCache.getOrLoad(BookProvider.NAVER, canonical.key()) {
+            queryCanonicalizer.recordMiss(canonical.rules())
+            naverBookService.search(canonical.request()).also { catalog(it) }
         }
 
-        UnifiedSearchResult(
-            keyword = keyword,
-            aladinResult = aladinDeferred.await(),
-            kakaoResult = kakaoDeferred.await(),
-            naverResult = naverDeferred.await(),
-            searchTimestamp = System.currentTimeMillis()
-        )
+    // 페이지 순회 한 번을 인기 검색어 1회로 센다 (KotlinBooksPager, 페이지마다 부르는 searchXxx 는 세지 않는다)
+    fun recordKeyword(keyword: String) {
+        hotKeywordTracker.record(queryCanonicalizer.keyword(keyword))
+    }
+
+    // 통합 검색 (모든 API 동시 호출)
+    // 응답에는 받은 키워드를 그대로 싣고, 캐시 / 인기 검색어 / 검색 로그는 Java facade 와 같은 정규화한 키워드를 쓴다
+    suspend fun searchAll(keyword: String): UnifiedSearchResult = facadeMetrics.timed("searchAll") {
+        val canonical = queryCanonicalizer.canonicalize(keyword)
+        hotKeywordTracker.record(canonical.request())
+        searchAllProviders(keyword, canonical)
+    }
+
+    private suspend fun searchAllProviders(keyword: String, canonical: CanonicalRequest<String>): UnifiedSearchResult = coroutineScope {
+        val query = canonical.request()
+
+        // 비동기 병렬 호출 (서킷이 열렸거나 rate limit 에 걸린 제공자는 대기 없이 SKIPPED)
+        val aladinDeferred = async { call { cachedAladin(unifiedAladin(canonical.request(), canonical.rules())) } }
+        val kakaoDeferred = async { call { cachedKakao(unifiedKakao(canonical.request(), canonical.rules())) } }
+        val naverDeferred = async { call { cachedNaver(unifiedNaver(canonical.request(), canonical.rules())) } }
+
+        val aladin = aladinDeferred.await()
+        val kakao = kakaoDeferred.await()
+        val naver = naverDeferred.await()
+
+        record(query, "unified", BookProvider.ALADIN to aladin, BookProvider.KAKAO to kakao, BookProvider.NAVER to naver)
+        unifiedResult(keyword, aladin, kakao, naver)
     }
 
     // 특정 API들만 검색 (선택적 병렬 호출)
@@ -81,97 +119,222 @@ class KotlinUnifiedBooksFacade(
         includeAladin: Boolean = true,
         includeKakao: Boolean = true,
         includeNaver: Boolean = true
+    ): UnifiedSearchResult = facadeMetrics.timed("searchMultiple") {
+        val canonical = queryCanonicalizer.canonicalize(keyword)
+        hotKeywordTracker.record(canonical.request())
+        searchProviders(keyword, canonical, includeAladin, includeKakao, includeNaver)
+    }
+
+    private suspend fun searchProviders(
+        keyword: String,
+        canonical: CanonicalRequest<String>,
+        includeAladin: Boolean,
+        includeKakao: Boolean,
+        includeNaver: Boolean
     ): UnifiedSearchResult = coroutineScope {
+        val query = canonical.request()
 
-        val aladinResult = if (includeAladin) {
-            async { 
-                try { 
-                    aladinBookService.search(KotlinAladinBookRequest(query = keyword)) 
-                } catch (e: Exception) { 
-                    null 
-                } 
-            }
+        val aladinDeferred = if (includeAladin) {
+            async { call { cachedAladin(unifiedAladin(canonical.request(), canonical.rules())) } }
         } else null
 
-        val kakaoResult = if (includeKakao) {
-            async { 
-                try { 
-                    kakaoBookService.search(KotlinKakaoSearchRequest(query = keyword, target = "title")) 
-                } catch (e: Exception) { 
-                    null 
-                } 
-            }
+        val kakaoDeferred = if (includeKakao) {
+            async { call { cachedKakao(unifiedKakao(canonical.request(), canonical.rules())) } }
         } else null
 
-        val naverResult = if (includeNaver) {
-            async { 
-                try { 
-                    naverBookService.search(KotlinNaverSearchRequest(keyword = keyword)) 
-                } catch (e: Exception) { 
-                    null 
-                } 
-            }
+        val naverDeferred = if (includeNaver) {
+            async { call { cachedNaver(unifiedNaver(canonical.request(), canonical.rules())) } }
         } else null
 
-        UnifiedSearchResult(
+        val aladin = aladinDeferred?.await()
+        val kakao = kakaoDeferred?.await()
+        val naver = naverDeferred?.await()
+
+        record(query, "multiple", BookProvider.ALADIN to aladin, BookProvider.KAKAO to kakao, BookProvider.NAVER to naver)
+        unifiedResult(keyword, aladin, kakao, naver)
+    }
+
+    private fun unifiedResult(
+        keyword: String,
+        aladin: ProviderCall<KotlinAladinBookResponse>?,
+        kakao: ProviderCall<KotlinKakaoSearchResponse>?,
+        naver: ProviderCall<KotlinNaverBookResponse>?
+    ): UnifiedSearchResult {
+        return UnifiedSearchResult(
             keyword = keyword,
-            aladinResult = aladinResult?.await(),
-            kakaoResult = kakaoResult?.await(),
-            naverResult = naverResult?.await(),
-            searchTimestamp = System.currentTimeMillis()
+            aladinResult = aladin?.result,
+            kakaoResult = kakao?.result,
+            naverResult = naver?.result,
+            searchTimestamp = System.currentTimeMillis(),
+            books = BookMerger.merge(
+                aladin?.result?.item.orEmpty().map { BookMapper.from(it) } +
+                    kakao?.result?.documents.orEmpty().map { BookMapper.from(it) } +
+                    naver?.result?.items.orEmpty().map { BookMapper.from(it) }
+            ),
+            providerStatus = listOfNotNull(
+                aladin?.let { BookProvider.ALADIN.id() to it.status },
+                kakao?.let { BookProvider.KAKAO.id() to it.status },
+                naver?.let { BookProvider.NAVER.id() to it.status }
+            ).toMap()
         )
     }
 
+    private suspend fun <T> call(search: suspend () -> T): ProviderCall<T> {
+        val startedAt = System.nanoTime()
+
+        return try {
+            ProviderCall(ProviderStatus.SUCCESS, search(), elapsedMillis(startedAt))
+        } catch (e: CancellationException) {
+            throw e
+        } catch (e: CallNotPermittedException) {
+            ProviderCall(ProviderStatus.SKIPPED, null, elapsedMillis(startedAt), e.message)
+        } catch (e: RateLimitExceededException) {
+            ProviderCall(ProviderStatus.SKIPPED, null, elapsedMillis(startedAt), e.message)
+        } catch (e: Exception) {
+            ProviderCall(ProviderStatus.FAILED, null, elapsedMillis(startedAt), e.message)
+        }
+    }
+
+    // 검색 로그 ring buffer 에 넣기만 한다 (H2 반영은 SearchLogWriter 스레드)
+    private fun record(keyword: String, operation: String, vararg calls: Pair<BookProvider, ProviderCall<*>?>) {
+        val outcomes = calls.mapNotNull { (provider, call) ->
+            call?.let { ProviderOutcome(provider, it.status, it.elapsedMillis, ProviderOutcome.resultCount(it.result), it.error) }
+        }
+        searchLogWriter.record(SearchLogEntry(keyword, operation, Instant.now(), outcomes))
+    }
+
+    // 스트리밍 통합 검색 (제공자 응답이 도착하는 순서대로 하나씩 방출)
+    // 세 제공자가 모두 끝나면 검색 로그에 남긴다 (도중에 구독이 취소되면 남기지 않음)
+    fun searchStream(keyword: String): Flow<ProviderSearchEvent> = channelFlow {
+        val canonical = queryCanonicalizer.canonicalize(keyword)
+        hotKeywordTracker.record(canonical.request())
+        val calls = ConcurrentHashMap<BookProvider, ProviderCall<*>>()
+
+        coroutineScope {
+            launch {
+                send(timed(keyword, BookProvider.ALADIN, calls) { cachedAladin(unifiedAladin(canonical.request(), canonical.rules())) })
+            }
+            launch {
+                send(timed(keyword, BookProvider.KAKAO, calls) { cachedKakao(unifiedKakao(canonical.request(), canonical.rules())) })
+            }
+            launch {
+                send(timed(keyword, BookProvider.NAVER, calls) { cachedNaver(unifiedNaver(canonical.request(), canonical.rules())) })
+            }
+        }
+
+        record(canonical.request(), "stream", *BookProvider.values().map { it to calls[it] }.toTypedArray())
+    }
+
+    // 통합 검색 요청은 이미 정규화한 키워드와 모든 필드를 채워 만들므로 키만 붙이고 규칙은 키워드 것을 쓴다
+    private fun unifiedAladin(query: String, rules: Int): CanonicalRequest<KotlinAladinBookRequest> =
+        KotlinAladinBookRequest(query = query).let { CanonicalRequest(it, SearchKey.of(it), rules) }
+
+    private fun unifiedKakao(query: String, rules: Int): CanonicalRequest<KotlinKakaoSearchRequest> =
+        KotlinKakaoSearchRequest(query = query, target = "title", page = 1, size = 10)
+            .let { CanonicalRequest(it, SearchKey.of(it), rules) }
+
+    private fun unifiedNaver(query: String, rules: Int): CanonicalRequest<KotlinNaverSearchRequest> =
+        KotlinNaverSearchRequest(keyword = query).let { CanonicalRequest(it, SearchKey.of(it), rules) }
+
+    private suspend fun timed(
+        keyword: String,
+        provider: BookProvider,
+        calls: MutableMap<BookProvider, ProviderCall<*>>,
+        search: suspend () -> Any
+    ): ProviderSearchEvent {
+        val outcome = call(search)
+        calls[provider] = outcome
+
+        return ProviderSearchEvent(
+            keyword, provider.id(), outcome.status, outcome.result, outcome.elapsedMillis, outcome.error
+        )
+    }
+
+    private fun catalog(response: Any) = bookCatalogWriter.enqueue(BookMapper.fromResponse(response))
+
+    private fun elapsedMillis(startedAt: Long): Long = (System.nanoTime() - startedAt) / 1_000_000
+
     // Reactor 호환성을 위한 메서드들
     fun searchAladinMono(request: KotlinAladinBookRequest): Mono<KotlinAladinBookResponse> {
-        return aladinBookService.searchMono(request)
+        val canonical = queryCanonicalizer.canonicalize(request)
+        hotKeywordTracker.record(canonical.request().query)
+        return searchResponseCache.get(BookProvider.ALADIN, canonical.key()) {
+            queryCanonicalizer.recordMiss(canonical.rules())
+            loadAladin(canonical.request())
+        }
     }
 
     fun searchKakaoMono(request: KotlinKakaoSearchRequest): Mono<KotlinKakaoSearchResponse> {
-        return kakaoBookService.searchMono(request)
+        val canonical = queryCanonicalizer.canonicalize(request)
+        hotKeywordTracker.record(canonical.request().query)
+        return searchResponseCache.get(BookProvider.KAKAO, canonical.key()) {
+            queryCanonicalizer.recordMiss(canonical.rules())
+            loadKakao(canonical.request())
+        }
     }
 
     fun searchNaverMono(request: KotlinNaverSearchRequest): Mono<KotlinNaverBookResponse> {
-        return naverBookService.searchMono(request)
-    }
-
-    // 검색 결과 통계
-    suspend fun getSearchStatistics(keyword: String): SearchStatistics {
-        val result = searchAll(keyword)
-        
-        return SearchStatistics(
-            totalResults = listOfNotNull(
-                result.aladinResult?.totalResults,
-                result.kakaoResult?.meta?.total_count?.toLong(),
-                result.naverResult?.total?.toLong()
-            ).sum(),
-            
-            successfulApis = listOfNotNull(
-                result.aladinResult?.let { "Aladin" },
-                result.kakaoResult?.let { "Kakao" },
-                result.naverResult?.let { "Naver" }
-            ).size,
-            
-            failedApis = 3 - listOfNotNull(
-                result.aladinResult,
-                result.kakaoResult,
-                result.naverResult
-            ).size,
-            
-            searchKeyword = keyword
-        )
+        val canonical = queryCanonicalizer.canonicalize(request)
+        hotKeywordTracker.record(canonical.request().keyword)
+        return searchResponseCache.get(BookProvider.NAVER, canonical.key()) {
+            queryCanonicalizer.recordMiss(canonical.rules())
+            loadNaver(canonical.request())
+        }
+    }
+
+    // 인기 키워드 pre-warm: 통합 검색이 쓰는 캐시 항목 중 ahead 안에 만료될 것만 다시 받아 둔다. 갱신한 항목 수를 돌려주고,
+    // 한 제공자가 실패해도 나머지는 끝까지 갱신한 뒤 오류를 낸다. 키는 searchAll 과 같게 정규화한 키워드로 만든다
+    fun refresh(keyword: String, ahead: Duration): Mono<Long> {
+        val query = queryCanonicalizer.keyword(keyword)
+        val aladin = unifiedAladin(query, 0)
+        val kakao = unifiedKakao(query, 0)
+        val naver = unifiedNaver(query, 0)
+
+        return Flux.mergeDelayError(
+            3,
+            searchResponseCache.refreshIfExpiring(BookProvider.ALADIN, aladin.key(), ahead) { loadAladin(aladin.request()) },
+            searchResponseCache.refreshIfExpiring(BookProvider.KAKAO, kakao.key(), ahead) { loadKakao(kakao.request()) },
+            searchResponseCache.refreshIfExpiring(BookProvider.NAVER, naver.key(), ahead) { loadNaver(naver.request()) }
+        ).filter { it }.count()
+    }
+
+    private fun loadAladin(request: KotlinAladinBookRequest): Mono<KotlinAladinBookResponse> =
+        aladinBookService.searchMono(request).doOnNext { catalog(it) }
+
+    private fun loadKakao(request: KotlinKakaoSearchRequest): Mono<KotlinKakaoSearchResponse> =
+        kakaoBookService.searchMono(request).doOnNext { catalog(it) }
+
+    private fun loadNaver(request: KotlinNaverSearchRequest): Mono<KotlinNaverBookResponse> =
+        naverBookService.searchMono(request).doOnNext { catalog(it) }
+
+    // 검색 결과 통계 (제공자를 다시 호출하지 않고 검색 로그 집계를 읽는다)
+    suspend fun getSearchStatistics(keyword: String): SearchStatistics = facadeMetrics.timed("getSearchStatistics") {
+        searchLogStatistics.statistics(queryCanonicalizer.keyword(keyword))
     }
 }
 
+// 제공자 1건 호출 결과
+private data class ProviderCall<T>(
+    val status: ProviderStatus,
+    val result: T?,
+    val elapsedMillis: Long,
+    val error: String? = null
+)
+
 // 통합 검색 결과 데이터 클래스
+// 원본 응답은 통계용으로만 두고, 응답 본문에는 ISBN13 기준으로 병합한 books 만 내보낸다
 data class UnifiedSearchResult(
     val keyword: String,
-    val aladinResult: KotlinAladinBookResponse?,
-    val kakaoResult: KotlinKakaoSearchResponse?,
-    val naverResult: KotlinNaverBookResponse?,
-    val searchTimestamp: Long
+    @get:JsonIgnore val aladinResult: KotlinAladinBookResponse?,
+    @get:JsonIgnore val kakaoResult: KotlinKakaoSearchResponse?,
+    @get:JsonIgnore val naverResult: KotlinNaverBookResponse?,
+    val searchTimestamp: Long,
+    val books: List<Book> = emptyList(),
+    val providerStatus: Map<String, ProviderStatus> = emptyMap()
 ) {
     fun hasAnyResults(): Boolean = aladinResult != null || kakaoResult != null || naverResult != null
+
+    fun getSkippedApis(): List<String> = providerStatus.filterValues { it == ProviderStatus.SKIPPED }.keys.toList()
     
     fun getSuccessfulApiCount(): Int = listOfNotNull(aladinResult, kakaoResult, naverResult).size
     
@@ -184,14 +347,38 @@ data class UnifiedSearchResult(
     }
 }
 
-// 검색 통계 데이터 클래스
+// 스트리밍 통합 검색 이벤트 (제공자별 1건)
+data class ProviderSearchEvent(
+    val keyword: String,
+    val provider: String,
+    val status: ProviderStatus,
+    val result: Any?,
+    val elapsedMillis: Long,
+    val error: String? = null
+)
+
+// 검색 통계 데이터 클래스 (검색 로그의 키워드 x 제공자 집계, 제공자별 값은 가장 최근 호출 기준)
 data class SearchStatistics(
     val totalResults: Long,
     val successfulApis: Int,
     val failedApis: Int,
-    val searchKeyword: String
+    val searchKeyword: String,
+    val providers: List<ProviderSearchStatistics> = emptyList()
 ) {
     val successRate: Double = if (successfulApis + failedApis > 0) {
         (successfulApis.toDouble() / (successfulApis + failedApis)) * 100
     } else 0.0
-}
\ No newline at end of file
+}
+
+// 제공자 1곳의 누적 호출 수 / 결과 / 평균 지연과 최근 호출 상태
+data class ProviderSearchStatistics(
+    val provider: String,
+    val searches: Long,
+    val successes: Long,
+    val failures: Long,
+    val skipped: Long,
+    val averageLatencyMillis: Long,
+    val lastStatus: ProviderStatus?,
+    val lastResultCount: Long?,
+    val lastSearchedAt: Instant?
+)
@@ -2,8 +2,11 @@ package com.books.external.application.aladin
 
 import com.books.external.api.payload.request.aladin.KotlinAladinBookRequest
 import com.books.external.api.payload.response.aladin.KotlinAladinBookResponse
+import com.books.external.application.BookProvider
+import com.books.external.application.SingleFlight
+import com.books.external.application.resilience.ProviderCircuitBreakers
+import com.books.external.application.resilience.ProviderRetries
 import kotlinx.coroutines.reactor.awaitSingle
-import kotlinx.coroutines.reactor.mono
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.stereotype.Service
 import org.springframework.web.reactive.function.client.WebClient
@@ -11,13 +14,26 @@ import reactor.core.publisher.Mono
 
 @Service
 class KotlinAladinBookServiceImpl(
-    private val aladinWebClient: WebClient
+    private val aladinWebClient: WebClient,
+    private val circuitBreakers: ProviderCircuitBreakers
 ) : KotlinAladinBookService {
 
     @Value("\${books.aladin.api.TTBKey}")
     private lateinit var ttbKey: String
 
+    private val inFlight = SingleFlight<KotlinAladinBookRequest, KotlinAladinBookResponse>()
+
     override suspend fun search(request: KotlinAladinBookRequest): KotlinAladinBookResponse {
+        return searchMono(request).awaitSingle()
+    }
+
+    // 동일 요청이 진행 중이면 해당 호출에 합류 (취소는 마지막 구독자가 떠날 때만 전파)
+    // 서킷 브레이커는 합쳐진 upstream 호출 하나에만 걸어 결과를 한 번만 센다
+    override fun searchMono(request: KotlinAladinBookRequest): Mono<KotlinAladinBookResponse> {
+        return inFlight.execute(request) { circuitBreakers.protect(BookProvider.ALADIN, fetch(request)) }
+    }
+
+    private fun fetch(request: KotlinAladinBookRequest): Mono<KotlinAladinBookResponse> {
         return aladinWebClient.post()
             .uri { uriBuilder ->
                 uriBuilder
@@ -33,12 +49,9 @@ class KotlinAladinBookServiceImpl(
                     .queryParam("Version", request.version)
                     .build()
             }
+            // 조회 전용 POST 라 재시도해도 안전하다
+            .attribute(ProviderRetries.IDEMPOTENT, true)
             .retrieve()
             .bodyToMono(KotlinAladinBookResponse::class.java)
-            .awaitSingle()
-    }
-
-    override fun searchMono(request: KotlinAladinBookRequest): Mono<KotlinAladinBookResponse> {
-        return mono { search(request) }
     }
 }
\ No newline at end of file
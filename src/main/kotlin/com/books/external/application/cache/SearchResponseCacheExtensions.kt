@@ -0,0 +1,16 @@
+package com.books.external.application.cache
+
+import com.books.external.application.BookProvider
+import kotlinx.coroutines.reactor.awaitSingleOrNull
+
+// suspend 검색용 read-through (Mono 기반 get 과 동일한 정책, L2 는 BlockingIo 에서 읽는다)
+suspend fun <T : Any> SearchResponseCache.getOrLoad(
+    provider: BookProvider,
+    request: Any,
+    loader: suspend () -> T
+): T {
+    getIfPresentInMemory<T>(provider, request)?.let { return it }
+    getFromDisk<T>(provider, request).awaitSingleOrNull()?.let { return it }
+
+    return loader().also { put(provider, request, it) }
+}
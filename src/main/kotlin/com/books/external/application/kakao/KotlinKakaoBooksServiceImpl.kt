@@ -2,34 +2,49 @@ package com.books.external.application.kakao
 
 import com.books.external.api.payload.kakao.request.KotlinKakaoSearchRequest
 import com.books.external.api.payload.kakao.response.KotlinKakaoSearchResponse
+import com.books.external.application.BookProvider
+import com.books.external.application.SingleFlight
+import com.books.external.application.resilience.ProviderCircuitBreakers
 import kotlinx.coroutines.reactor.awaitSingle
-import kotlinx.coroutines.reactor.mono
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.stereotype.Service
 import org.springframework.web.reactive.function.client.WebClient
 import reactor.core.publisher.Mono
+import java.util.Optional
 
 @Service
-class KotlinKakaoBooksServiceImpl(private val kakaoWebClient: WebClient) : KotlinKakaoBooksService {
+class KotlinKakaoBooksServiceImpl(
+    private val kakaoWebClient: WebClient,
+    private val circuitBreakers: ProviderCircuitBreakers
+) : KotlinKakaoBooksService {
 
     @Value("\${books.kakao.api.kakaoAK}")
     private lateinit var kakaoAK: String
 
+    private val inFlight = SingleFlight<KotlinKakaoSearchRequest, KotlinKakaoSearchResponse>()
+
     override suspend fun search(request: KotlinKakaoSearchRequest): KotlinKakaoSearchResponse {
+        return searchMono(request).awaitSingle()
+    }
+
+    // 동일 요청이 진행 중이면 해당 호출에 합류 (취소는 마지막 구독자가 떠날 때만 전파)
+    // 서킷 브레이커는 합쳐진 upstream 호출 하나에만 걸어 결과를 한 번만 센다
+    override fun searchMono(request: KotlinKakaoSearchRequest): Mono<KotlinKakaoSearchResponse> {
+        return inFlight.execute(request) { circuitBreakers.protect(BookProvider.KAKAO, fetch(request)) }
+    }
+
+    private fun fetch(request: KotlinKakaoSearchRequest): Mono<KotlinKakaoSearchResponse> {
         return kakaoWebClient.get()
             .uri { uriBuilder ->
                 uriBuilder.path("/v3/search/book")
                     .queryParam("query", request.query)
                     .queryParam("target", request.target)
+                    .queryParamIfPresent("page", Optional.ofNullable(request.page))
+                    .queryParamIfPresent("size", Optional.ofNullable(request.size))
                     .build()
             }
             .header("Authorization", "KakaoAK $kakaoAK")
             .retrieve()
             .bodyToMono(KotlinKakaoSearchResponse::class.java)
-            .awaitSingle()
-    }
-
-    override fun searchMono(request: KotlinKakaoSearchRequest): Mono<KotlinKakaoSearchResponse> {
-        return mono { search(request) }
     }
 }
\ No newline at end of file
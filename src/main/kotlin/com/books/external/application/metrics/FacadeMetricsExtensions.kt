@@ -0,0 +1,17 @@
+package com.books.external.application.metrics
+
+import kotlinx.coroutines.CancellationException
+
+// suspend 파사드용 타이머 (Mono 기반 timed 와 같은 outcome 태그)
+suspend fun <T> FacadeMetrics.timed(operation: String, block: suspend () -> T): T {
+    val sample = start()
+    try {
+        return block().also { stop(sample, operation, "SUCCESS") }
+    } catch (e: CancellationException) {
+        stop(sample, operation, "CANCELLED")
+        throw e
+    } catch (e: Throwable) {
+        stop(sample, operation, "ERROR")
+        throw e
+    }
+}
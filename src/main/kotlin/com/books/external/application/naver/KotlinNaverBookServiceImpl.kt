@@ -2,8 +2,10 @@ package com.books.external.application.naver
 
 import com.books.external.api.payload.request.naver.KotlinNaverSearchRequest
 import com.books.external.api.payload.response.naver.KotlinNaverBookResponse
+import com.books.external.application.BookProvider
+import com.books.external.application.SingleFlight
+import com.books.external.application.resilience.ProviderCircuitBreakers
 import kotlinx.coroutines.reactor.awaitSingle
-import kotlinx.coroutines.reactor.mono
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.stereotype.Service
 import org.springframework.web.reactive.function.client.WebClient
@@ -11,7 +13,8 @@ import reactor.core.publisher.Mono
 
 @Service
 class KotlinNaverBookServiceImpl(
-    private val naverWebClient: WebClient
+    private val naverWebClient: WebClient,
+    private val circuitBreakers: ProviderCircuitBreakers
 ) : KotlinNaverBookService {
 
     @Value("\${books.naver.api.client-id}")
@@ -20,7 +23,19 @@ class KotlinNaverBookServiceImpl(
     @Value("\${books.naver.api.client-secret}")
     private lateinit var clientSecret: String
 
+    private val inFlight = SingleFlight<KotlinNaverSearchRequest, KotlinNaverBookResponse>()
+
     override suspend fun search(request: KotlinNaverSearchRequest): KotlinNaverBookResponse {
+        return searchMono(request).awaitSingle()
+    }
+
+    // 동일 요청이 진행 중이면 해당 호출에 합류 (취소는 마지막 구독자가 떠날 때만 전파)
+    // 서킷 브레이커는 합쳐진 upstream 호출 하나에만 걸어 결과를 한 번만 센다
+    override fun searchMono(request: KotlinNaverSearchRequest): Mono<KotlinNaverBookResponse> {
+        return inFlight.execute(request) { circuitBreakers.protect(BookProvider.NAVER, fetch(request)) }
+    }
+
+    private fun fetch(request: KotlinNaverSearchRequest): Mono<KotlinNaverBookResponse> {
         return naverWebClient.get()
             .uri { uriBuilder ->
                 uriBuilder
@@ -34,10 +49,5 @@ class KotlinNaverBookServiceImpl(
             .header("X-Naver-Client-Secret", clientSecret)
             .retrieve()
             .bodyToMono(KotlinNaverBookResponse::class.java)
-            .awaitSingle()
-    }
-
-    override fun searchMono(request: KotlinNaverSearchRequest): Mono<KotlinNaverBookResponse> {
-        return mono { search(request) }
     }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.books.external.application.paging
+
+import com.books.book.domain.Book
+import com.books.external.api.payload.kakao.request.KotlinKakaoSearchRequest
+import com.books.external.api.payload.kakao.response.KotlinKakaoDocument
+import com.books.external.api.payload.request.aladin.KotlinAladinBookRequest
+import com.books.external.api.payload.request.naver.KotlinNaverSearchRequest
+import com.books.external.api.payload.response.aladin.KotlinAladinSearchResponse
+import com.books.external.api.payload.response.naver.KotlinNaverSearchResponse
+import com.books.external.application.BookMapper
+import com.books.external.application.BookProvider
+import com.books.external.application.KotlinUnifiedBooksFacade
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.buffer
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.map
+import kotlinx.coroutines.flow.transform
+import org.springframework.stereotype.Component
+
+// 검색어 하나의 전체 결과를 페이지 한도까지 순회하는 cold Flow.
+// 수집하는 쪽이 느리면 prefetchPages 만큼만 앞서 가져오고, 수집을 멈추면 다음 페이지는 요청하지 않는다.
+// 인기 검색어는 페이지마다가 아니라 수집 한 번에 한 번 센다.
+@Component
+class KotlinBooksPager(
+    private val kotlinUnifiedBooksFacade: KotlinUnifiedBooksFacade
+) {
+
+    fun naver(keyword: String, prefetchPages: Int = 1): Flow<KotlinNaverSearchResponse> =
+        pages(keyword, KotlinNaverSearchRequest(keyword = keyword, display = NAVER_MAX_DISPLAY, start = 1),
+            { kotlinUnifiedBooksFacade.searchNaver(it) }
+        ) { request, response ->
+            val next = request.start + request.display
+            if (response.items.isNotEmpty() && next <= minOf(NAVER_MAX_START, response.total)) {
+                request.copy(start = next)
+            } else null
+        }
+            .buffer(prefetchPages)
+            .transform { response -> response.items.forEach { emit(it) } }
+
+    fun kakao(keyword: String, target: String = "title", prefetchPages: Int = 1): Flow<KotlinKakaoDocument> =
+        pages(keyword, KotlinKakaoSearchRequest(query = keyword, target = target, page = 1, size = KAKAO_MAX_SIZE),
+            { kotlinUnifiedBooksFacade.searchKakao(it) }
+        ) { request, response ->
+            val page = request.page ?: 1
+            if (!response.meta.is_end && page < KAKAO_MAX_PAGE) request.copy(page = page + 1) else null
+        }
+            .buffer(prefetchPages)
+            .transform { response -> response.documents.forEach { emit(it) } }
+
+    fun aladin(keyword: String, prefetchPages: Int = 1): Flow<KotlinAladinSearchResponse> =
+        pages(
+            keyword,
+            KotlinAladinBookRequest(query = keyword, maxResults = ALADIN_MAX_RESULTS.toString(), start = "1", sort = "Accuracy"),
+            { kotlinUnifiedBooksFacade.searchAladin(it) }
+        ) { request, response ->
+            val page = request.start.toInt()
+            val reachable = minOf(ALADIN_MAX_ITEMS, response.totalResults)
+            if (response.item.isNotEmpty() && page.toLong() * ALADIN_MAX_RESULTS < reachable) {
+                request.copy(start = (page + 1).toString())
+            } else null
+        }
+            .buffer(prefetchPages)
+            .transform { response -> response.item.forEach { emit(it) } }
+
+    fun books(provider: BookProvider, keyword: String, prefetchPages: Int = 1): Flow<Book> = when (provider) {
+        BookProvider.ALADIN -> aladin(keyword, prefetchPages).map { BookMapper.from(it) }
+        BookProvider.KAKAO -> kakao(keyword, prefetchPages = prefetchPages).map { BookMapper.from(it) }
+        BookProvider.NAVER -> naver(keyword, prefetchPages).map { BookMapper.from(it) }
+    }
+
+    // 첫 요청부터 next 가 null 을 돌려줄 때까지 한 페이지씩 이어서 요청
+    private fun <Q, P> pages(keyword: String, first: Q, fetch: suspend (Q) -> P, next: (Q, P) -> Q?): Flow<P> = flow {
+        kotlinUnifiedBooksFacade.recordKeyword(keyword)
+        var request: Q? = first
+        while (request != null) {
+            val response = fetch(request)
+            emit(response)
+            request = next(request, response)
+        }
+    }
+
+    companion object {
+        // 네이버: start 최대 1000, display 최대 100
+        const val NAVER_MAX_START = 1000
+        const val NAVER_MAX_DISPLAY = 100
+
+        // 카카오: page 최대 50, size 최대 50, meta.is_end 로 종료
+        const val KAKAO_MAX_PAGE = 50
+        const val KAKAO_MAX_SIZE = 50
+
+        // 알라딘: start 는 페이지 번호, MaxResults 최대 50, 검색 결과는 200건까지만 조회 가능
+        const val ALADIN_MAX_RESULTS = 50
+        const val ALADIN_MAX_ITEMS = 200L
+    }
+}
@@ -0,0 +1,73 @@
+package com.books.external.application.searchlog
+
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicLongArray
+import java.util.concurrent.atomic.AtomicReferenceArray
+
+/**
+ * 여러 생산자 / 단일 소비자용 고정 크기 lock-free ring buffer (슬롯별 시퀀스 번호 방식).
+ * 생산자는 tail 을 CAS 로 한 칸 확보한 뒤 값을 쓰고 시퀀스를 올려 공개한다. 가득 차면 기다리지 않고 false.
+ * poll / drainTo 는 한 스레드에서만 호출해야 한다.
+ */
+class MpscRingBuffer<T : Any>(capacity: Int) {
+
+    private val size: Int = Integer.highestOneBit(maxOf(2, capacity) * 2 - 1)
+    private val mask: Long = size - 1L
+    private val slots = AtomicReferenceArray<T?>(size)
+
+    // 슬롯 i 의 시퀀스 == 위치면 쓰기 가능, 위치 + 1 이면 읽기 가능
+    private val sequences = AtomicLongArray(size).also { for (i in 0 until size) it.set(i, i.toLong()) }
+    private val tail = AtomicLong()
+
+    @Volatile
+    private var head = 0L
+
+    fun capacity(): Int = size
+
+    fun offer(value: T): Boolean {
+        while (true) {
+            val position = tail.get()
+            val index = (position and mask).toInt()
+            val gap = sequences.get(index) - position
+
+            when {
+                gap == 0L -> if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, value)
+                    sequences.lazySet(index, position + 1)
+                    return true
+                }
+                gap < 0L -> return false
+                // gap > 0: 다른 생산자가 먼저 이 위치를 가져갔다. tail 을 다시 읽는다
+            }
+        }
+    }
+
+    fun poll(): T? {
+        val position = head
+        val index = (position and mask).toInt()
+
+        if (sequences.get(index) != position + 1) {
+            return null
+        }
+
+        val value = slots.get(index)
+        slots.lazySet(index, null)
+        // 한 바퀴 뒤의 같은 위치에서 다시 쓸 수 있게 한다
+        sequences.lazySet(index, position + size)
+        head = position + 1
+        return value
+    }
+
+    fun drainTo(target: MutableCollection<T>, max: Int): Int {
+        var drained = 0
+        while (drained < max) {
+            val value = poll() ?: break
+            target.add(value)
+            drained++
+        }
+        return drained
+    }
+
+    // 근사값 (생산자가 자리만 잡고 아직 공개하지 않은 항목 포함)
+    fun size(): Int = (tail.get() - head).coerceIn(0, size.toLong()).toInt()
+}
@@ -0,0 +1,46 @@
+package com.books.external.application.searchlog
+
+import jakarta.persistence.Column
+import jakarta.persistence.Embeddable
+import jakarta.persistence.EmbeddedId
+import jakarta.persistence.Entity
+import jakarta.persistence.Table
+import java.io.Serializable
+import java.time.Instant
+
+// 키워드 x 제공자별 누적 집계. SearchLogWriter 가 batch 마다 MERGE 로 더하고 /search/statistics 가 읽는다
+@Entity
+@Table(name = "search_keyword_stats")
+class SearchKeywordStatsEntity(
+
+    @EmbeddedId
+    var id: SearchKeywordStatsId = SearchKeywordStatsId(),
+
+    var searches: Long = 0,
+
+    var successes: Long = 0,
+
+    // TIMEOUT 포함
+    var failures: Long = 0,
+
+    var skipped: Long = 0,
+
+    var latencyMillis: Long = 0,
+
+    @Column(length = 10)
+    var lastStatus: String? = null,
+
+    var lastResultCount: Long? = null,
+
+    var lastSearchedAt: Instant? = null
+)
+
+@Embeddable
+data class SearchKeywordStatsId(
+
+    @Column(length = 200)
+    var keyword: String = "",
+
+    @Column(length = 10)
+    var provider: String = ""
+) : Serializable
@@ -0,0 +1,48 @@
+package com.books.external.application.searchlog
+
+import jakarta.persistence.Column
+import jakarta.persistence.Entity
+import jakarta.persistence.GeneratedValue
+import jakarta.persistence.GenerationType
+import jakarta.persistence.Id
+import jakarta.persistence.Index
+import jakarta.persistence.Table
+import java.time.Instant
+
+// append-only 검색 로그 (제공자 호출 1건당 1행). 쓰기와 오래된 행 정리는 SearchLogWriter 의 JDBC 로만 한다
+@Entity
+@Table(
+    name = "search_log",
+    indexes = [
+        Index(name = "idx_search_log_keyword", columnList = "keyword"),
+        Index(name = "idx_search_log_searched_at", columnList = "searched_at")
+    ]
+)
+class SearchLogEntity(
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    var id: Long? = null,
+
+    @Column(nullable = false)
+    var searchedAt: Instant = Instant.EPOCH,
+
+    @Column(nullable = false, length = 200)
+    var keyword: String = "",
+
+    @Column(nullable = false, length = 20)
+    var operation: String = "",
+
+    @Column(nullable = false, length = 10)
+    var provider: String = "",
+
+    @Column(nullable = false, length = 10)
+    var status: String = "",
+
+    var latencyMillis: Long = 0,
+
+    var resultCount: Long? = null,
+
+    @Column(length = 500)
+    var error: String? = null
+)
@@ -0,0 +1,43 @@
+package com.books.external.application.searchlog
+
+import com.books.external.api.payload.kakao.response.KotlinKakaoSearchResponse
+import com.books.external.api.payload.response.aladin.AladinBookResponse
+import com.books.external.api.payload.response.aladin.KotlinAladinBookResponse
+import com.books.external.api.payload.response.kakao.KakaoBookResponse
+import com.books.external.api.payload.response.naver.KotlinNaverBookResponse
+import com.books.external.api.payload.response.naver.NaverBookResponse
+import com.books.external.application.BookProvider
+import com.books.external.application.ProviderStatus
+import java.time.Instant
+
+// 검색 1건 (통합 / 선택 / 스트리밍). 호출한 제공자마다 outcome 1개
+data class SearchLogEntry(
+    val keyword: String,
+    val operation: String,
+    val searchedAt: Instant,
+    val outcomes: List<ProviderOutcome>
+)
+
+data class ProviderOutcome(
+    val provider: BookProvider,
+    val status: ProviderStatus,
+    val latencyMillis: Long,
+    val resultCount: Long?,
+    val error: String? = null
+) {
+
+    companion object {
+
+        // 제공자가 알려준 전체 결과 수 (Java / Kotlin 응답 모델 모두, 알 수 없는 타입은 null)
+        @JvmStatic
+        fun resultCount(response: Any?): Long? = when (response) {
+            is AladinBookResponse -> response.totalResults()
+            is KakaoBookResponse -> response.meta()?.total_count()?.toLong()
+            is NaverBookResponse -> response.total().toLong()
+            is KotlinAladinBookResponse -> response.totalResults
+            is KotlinKakaoSearchResponse -> response.meta.total_count.toLong()
+            is KotlinNaverBookResponse -> response.total.toLong()
+            else -> null
+        }
+    }
+}
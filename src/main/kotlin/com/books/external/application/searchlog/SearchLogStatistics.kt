@@ -0,0 +1,63 @@
+package com.books.external.application.searchlog
+
+import com.books.config.BlockingIo
+import com.books.external.application.BookProvider
+import com.books.external.application.ProviderSearchStatistics
+import com.books.external.application.ProviderStatus
+import com.books.external.application.SearchStatistics
+import kotlinx.coroutines.withContext
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.stereotype.Component
+
+/**
+ * search_keyword_stats 에 미리 집계된 값으로 키워드 통계를 만든다 (제공자 호출 없음).
+ * 아직 ring buffer 에 있는 검색은 다음 flush(books.search-log.flush-interval) 이후에 반영된다.
+ */
+@Component
+class SearchLogStatistics(
+    private val jdbcTemplate: JdbcTemplate,
+    private val blockingIo: BlockingIo
+) {
+
+    suspend fun statistics(keyword: String): SearchStatistics = withContext(blockingIo.dispatcher()) {
+        read(keyword)
+    }
+
+    fun read(keyword: String): SearchStatistics {
+        val providers = jdbcTemplate.query(SELECT_SQL, { rs, _ ->
+            val searches = rs.getLong("searches")
+
+            ProviderSearchStatistics(
+                provider = rs.getString("provider"),
+                searches = searches,
+                successes = rs.getLong("successes"),
+                failures = rs.getLong("failures"),
+                skipped = rs.getLong("skipped"),
+                averageLatencyMillis = if (searches > 0) rs.getLong("latency_millis") / searches else 0,
+                lastStatus = rs.getString("last_status")?.let { ProviderStatus.valueOf(it) },
+                lastResultCount = rs.getLong("last_result_count").takeUnless { rs.wasNull() },
+                lastSearchedAt = rs.getTimestamp("last_searched_at")?.toInstant()
+            )
+        }, keyword.take(200))
+
+        val successful = providers.count { it.lastStatus == ProviderStatus.SUCCESS }
+
+        return SearchStatistics(
+            totalResults = providers.sumOf { it.lastResultCount ?: 0 },
+            successfulApis = successful,
+            failedApis = providers.size - successful,
+            searchKeyword = keyword,
+            providers = providers.sortedBy { p -> BookProvider.values().indexOfFirst { it.id() == p.provider } }
+        )
+    }
+
+    companion object {
+
+        private val SELECT_SQL = """
+            SELECT provider, searches, successes, failures, skipped, latency_millis,
+                   last_status, last_result_count, last_searched_at
+            FROM search_keyword_stats
+            WHERE keyword = ?
+        """.trimIndent()
+    }
+}
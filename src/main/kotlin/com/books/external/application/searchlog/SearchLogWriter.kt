@@ -0,0 +1,250 @@
+package com.books.external.application.searchlog
+
+import com.books.config.BooksProperties
+import com.books.external.application.ProviderStatus
+import io.micrometer.core.instrument.FunctionCounter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.MeterBinder
+import org.slf4j.LoggerFactory
+import org.springframework.context.SmartLifecycle
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.stereotype.Component
+import java.time.Instant
+import java.time.ZoneOffset
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.locks.LockSupport
+
+/**
+ * 검색 로그 write-behind. 요청 스레드는 lock-free ring buffer 에 넣기만 하고(가득 차면 dropped), 전용 스레드가
+ * batch-size 단위로 search_log 에 JDBC batch INSERT 한 뒤 같은 batch 를 키워드 x 제공자로 묶어 search_keyword_stats 에 MERGE 한다.
+ * 같은 스레드가 prune-interval 마다 retention 이 지났거나 최근 max-rows 행 밖의 search_log 행을 지운다 (H2 메모리 상한).
+ * 기록하는 검색은 통합 / 선택 / 스트리밍 검색뿐이다. 제공자 1곳 검색은 통합 검색이 안에서 쓰는 경로와 같아 남기지 않는다
+ */
+@Component
+class SearchLogWriter(
+    private val jdbcTemplate: JdbcTemplate,
+    properties: BooksProperties
+) : SmartLifecycle, MeterBinder {
+
+    private val searchLog = properties.searchLog()
+    private val buffer = MpscRingBuffer<SearchLogEntry>(searchLog.bufferCapacity())
+    private val written = AtomicLong()
+    private val dropped = AtomicLong()
+    private val failed = AtomicLong()
+    private val pruned = AtomicLong()
+
+    @Volatile
+    private var running = false
+    private var worker: Thread? = null
+
+    fun record(entry: SearchLogEntry) {
+        if (entry.outcomes.isNotEmpty() && !buffer.offer(entry)) {
+            dropped.incrementAndGet()
+        }
+    }
+
+    override fun start() {
+        running = true
+        worker = Thread.ofPlatform()
+            .name("search-log-writer")
+            .daemon(true)
+            .start { drainLoop() }
+    }
+
+    // 진행 중인 batch 를 마치고 남은 항목까지 반영한 뒤 종료
+    override fun stop() {
+        running = false
+        worker?.let {
+            LockSupport.unpark(it)
+            it.join(TimeUnit.SECONDS.toMillis(5))
+        }
+        flushRemaining()
+    }
+
+    override fun isRunning(): Boolean = running
+
+    override fun bindTo(registry: MeterRegistry) {
+        Gauge.builder("books.searchlog.buffer.size", buffer) { it.size().toDouble() }
+            .register(registry)
+        FunctionCounter.builder("books.searchlog.written", written) { it.get().toDouble() }
+            .register(registry)
+        FunctionCounter.builder("books.searchlog.dropped", dropped) { it.get().toDouble() }
+            .register(registry)
+        FunctionCounter.builder("books.searchlog.failed", failed) { it.get().toDouble() }
+            .register(registry)
+        FunctionCounter.builder("books.searchlog.pruned", pruned) { it.get().toDouble() }
+            .register(registry)
+    }
+
+    // 테스트 / 종료 시 버퍼를 바로 비운다 (소비자 스레드가 멈춘 뒤에만 호출)
+    internal fun flushRemaining() {
+        val batch = ArrayList<SearchLogEntry>(searchLog.batchSize())
+        while (buffer.drainTo(batch, searchLog.batchSize()) > 0) {
+            flush(batch)
+            batch.clear()
+        }
+    }
+
+    // retention 이 지난 행과 최근 max-rows 행 밖의 행을 지운다. id 는 INSERT 순서대로 늘어나므로 id 로 행 수를 자른다
+    internal fun prune(now: Instant = Instant.now()) {
+        try {
+            var deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, now.minus(searchLog.retention()).atOffset(ZoneOffset.UTC))
+            deleted += jdbcTemplate.update(DELETE_OVERFLOW_SQL, searchLog.maxRows())
+            pruned.addAndGet(deleted.toLong())
+        } catch (e: Exception) {
+            log.warn("search log prune failed: {}", e.toString())
+        }
+    }
+
+    // 가득 찬 batch 는 바로, 덜 찬 batch 는 flush-interval 마다 반영한다. 소비자가 하나라 락 없이 버퍼를 비운다
+    private fun drainLoop() {
+        val batch = ArrayList<SearchLogEntry>(searchLog.batchSize())
+        var lastFlush = System.nanoTime()
+        var lastPrune = lastFlush
+
+        while (running) {
+            buffer.drainTo(batch, searchLog.batchSize() - batch.size)
+
+            val due = System.nanoTime() - lastFlush >= searchLog.flushInterval().toNanos()
+            if (batch.size >= searchLog.batchSize() || (due && batch.isNotEmpty())) {
+                flush(batch)
+                batch.clear()
+                lastFlush = System.nanoTime()
+            } else {
+                LockSupport.parkNanos(PARK_NANOS)
+            }
+
+            if (System.nanoTime() - lastPrune >= searchLog.pruneInterval().toNanos()) {
+                prune()
+                lastPrune = System.nanoTime()
+            }
+        }
+
+        if (batch.isNotEmpty()) {
+            flush(batch)
+        }
+    }
+
+    private fun flush(batch: List<SearchLogEntry>) {
+        try {
+            write(batch)
+            written.addAndGet(batch.size.toLong())
+        } catch (e: Exception) {
+            failed.addAndGet(batch.size.toLong())
+            log.warn("search log batch of {} failed: {}", batch.size, e.toString())
+        }
+    }
+
+    private fun write(batch: List<SearchLogEntry>) {
+        val rows = ArrayList<Array<Any?>>()
+        val stats = LinkedHashMap<SearchKeywordStatsId, KeywordStats>()
+
+        for (entry in batch) {
+            val keyword = entry.keyword.take(KEYWORD_LENGTH)
+            val searchedAt = entry.searchedAt.atOffset(ZoneOffset.UTC)
+
+            for (outcome in entry.outcomes) {
+                rows += arrayOf(
+                    searchedAt, keyword, entry.operation, outcome.provider.id(), outcome.status.name,
+                    outcome.latencyMillis, outcome.resultCount, outcome.error?.take(ERROR_LENGTH)
+                )
+                stats.getOrPut(SearchKeywordStatsId(keyword, outcome.provider.id())) { KeywordStats() }
+                    .add(entry, outcome)
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows)
+        jdbcTemplate.batchUpdate(MERGE_SQL, stats.map { (id, s) -> s.toRow(id) })
+    }
+
+    // batch 안의 키워드 x 제공자 증분
+    private class KeywordStats {
+        var searches = 0L
+        var successes = 0L
+        var failures = 0L
+        var skipped = 0L
+        var latencyMillis = 0L
+        var lastStatus: ProviderStatus? = null
+        var lastSearchedAt: Instant? = null
+
+        // 실패 / 건너뜀은 결과 수가 없으므로 결과 수가 있었던 가장 최근 호출 기준
+        var lastResultCount: Long? = null
+        var lastCountedAt: Instant? = null
+
+        fun add(entry: SearchLogEntry, outcome: ProviderOutcome) {
+            searches++
+            when (outcome.status) {
+                ProviderStatus.SUCCESS -> successes++
+                ProviderStatus.SKIPPED -> skipped++
+                ProviderStatus.FAILED, ProviderStatus.TIMEOUT -> failures++
+            }
+            latencyMillis += outcome.latencyMillis
+
+            if (lastSearchedAt?.isAfter(entry.searchedAt) != true) {
+                lastStatus = outcome.status
+                lastSearchedAt = entry.searchedAt
+            }
+            if (outcome.resultCount != null && lastCountedAt?.isAfter(entry.searchedAt) != true) {
+                lastResultCount = outcome.resultCount
+                lastCountedAt = entry.searchedAt
+            }
+        }
+
+        fun toRow(id: SearchKeywordStatsId): Array<Any?> = arrayOf(
+            id.keyword, id.provider, searches, successes, failures, skipped, latencyMillis,
+            lastStatus?.name, lastResultCount, lastSearchedAt?.atOffset(ZoneOffset.UTC)
+        )
+    }
+
+    companion object {
+
+        private val log = LoggerFactory.getLogger(SearchLogWriter::class.java)
+
+        private const val KEYWORD_LENGTH = 200
+        private const val ERROR_LENGTH = 500
+        private val PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10)
+
+        private val INSERT_SQL = """
+            INSERT INTO search_log
+                (searched_at, keyword, operation, provider, status, latency_millis, result_count, error)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """.trimIndent()
+
+        private const val DELETE_EXPIRED_SQL = "DELETE FROM search_log WHERE searched_at < ?"
+
+        private const val DELETE_OVERFLOW_SQL =
+            "DELETE FROM search_log WHERE id <= (SELECT MAX(id) FROM search_log) - ?"
+
+        // 카운터는 더하고, last_* 는 더 최근 검색일 때만 바꾼다 (실패한 호출은 last_result_count 를 지우지 않는다)
+        private val MERGE_SQL = """
+            MERGE INTO search_keyword_stats t
+            USING (SELECT CAST(? AS VARCHAR(200)) keyword, CAST(? AS VARCHAR(10)) provider,
+                          CAST(? AS BIGINT) searches, CAST(? AS BIGINT) successes,
+                          CAST(? AS BIGINT) failures, CAST(? AS BIGINT) skipped,
+                          CAST(? AS BIGINT) latency_millis, CAST(? AS VARCHAR(10)) last_status,
+                          CAST(? AS BIGINT) last_result_count,
+                          CAST(? AS TIMESTAMP WITH TIME ZONE) last_searched_at) s
+            ON t.keyword = s.keyword AND t.provider = s.provider
+            WHEN MATCHED THEN UPDATE SET
+                searches = t.searches + s.searches,
+                successes = t.successes + s.successes,
+                failures = t.failures + s.failures,
+                skipped = t.skipped + s.skipped,
+                latency_millis = t.latency_millis + s.latency_millis,
+                last_status = CASE WHEN s.last_searched_at >= t.last_searched_at
+                    THEN s.last_status ELSE t.last_status END,
+                last_result_count = CASE WHEN s.last_searched_at >= t.last_searched_at
+                    THEN COALESCE(s.last_result_count, t.last_result_count)
+                    ELSE COALESCE(t.last_result_count, s.last_result_count) END,
+                last_searched_at = GREATEST(s.last_searched_at, t.last_searched_at)
+            WHEN NOT MATCHED THEN INSERT
+                (keyword, provider, searches, successes, failures, skipped, latency_millis,
+                 last_status, last_result_count, last_searched_at)
+            VALUES
+                (s.keyword, s.provider, s.searches, s.successes, s.failures, s.skipped, s.latency_millis,
+                 s.last_status, s.last_result_count, s.last_searched_at)
+        """.trimIndent()
+    }
+}
@@ -0,0 +1,87 @@
+package com.books.config;
+
+import com.books.performance.load.FakeProviders;
+import com.books.performance.load.ProviderBehavior;
+import java.io.IOException;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * reactive 프로필: Tomcat 없이 Reactor Netty 로 뜨고, 기존 컨트롤러 / suspend 엔드포인트가 그대로 동작하는지 확인한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "reactive"})
+class ReactiveServerConfigTest {
+
+    private static final FakeProviders providers = FakeProviders.start(ProviderBehavior.instant());
+
+    @DynamicPropertySource
+    static void providerProperties(DynamicPropertyRegistry registry) {
+        providers.register(registry);
+    }
+
+    @AfterAll
+    static void stopProviders() throws IOException {
+        providers.close();
+    }
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void reactive_프로필이면_Netty_로_실행() {
+        // Then
+        assertThat(context).isInstanceOf(ReactiveWebServerApplicationContext.class);
+        assertThat(((ReactiveWebServerApplicationContext) context).getWebServer()).isInstanceOf(NettyWebServer.class);
+    }
+
+    @Test
+    void ResponseEntity_Mono_를_반환하는_통합_검색() {
+        // When & Then
+        webTestClient.get().uri("/api/external/unified?keyword={keyword}", "클린 코드")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.books").isArray();
+    }
+
+    @Test
+    void suspend_통합_검색() {
+        // When & Then
+        webTestClient.get().uri("/api/external/kotlin/advanced/search/unified?keyword={keyword}", "클린 코드")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void NDJSON_ISBN_일괄_조회는_본문을_줄_단위로_읽음() {
+        // Given
+        String body = "9788966260959\n\"9791158391690\"\n\nnot-an-isbn\n";
+
+        // When & Then
+        webTestClient.post().uri("/api/external/isbn/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(Map.class)
+                .hasSize(3);
+    }
+}
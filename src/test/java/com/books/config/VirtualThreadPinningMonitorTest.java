@@ -0,0 +1,59 @@
+package com.books.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private VirtualThreadPinningMonitor monitor;
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void synchronized_안에서_블로킹하면_고정_시간을_호출_위치별로_기록() throws Exception {
+        // Given
+        BooksProperties properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "books.virtual-threads.pinned-threshold", "5ms")))
+                .bindOrCreate("books", BooksProperties.class);
+        monitor = new VirtualThreadPinningMonitor(registry, properties);
+        monitor.start();
+
+        // When: Java 21 은 synchronized 안의 sleep 동안 캐리어 스레드를 놓지 못한다
+        Object lock = new Object();
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleep(50);
+            }
+        }).join();
+
+        // Then: JFR 스트림은 비동기로 흘러오므로 잠시 기다린다
+        Timer pinned = null;
+        for (int i = 0; i < 50 && pinned == null; i++) {
+            pinned = registry.find("books.virtualthreads.pinned").timer();
+            Thread.sleep(100);
+        }
+        assertThat(pinned).isNotNull();
+        assertThat(pinned.count()).isGreaterThanOrEqualTo(1);
+        assertThat(pinned.getId().getTag("site")).startsWith(VirtualThreadPinningMonitorTest.class.getName());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
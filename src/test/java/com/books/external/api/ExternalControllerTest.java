@@ -5,9 +5,15 @@ import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
 import com.books.external.api.payload.request.naver.NaverSearchRequest;
 import com.books.external.api.payload.response.aladin.AladinBookResponse;
 import com.books.external.api.payload.response.kakao.KakaoBookResponse;
+import com.books.external.api.payload.response.kakao.KakaoMeta;
 import com.books.external.api.payload.response.naver.NaverBookResponse;
+import com.books.external.api.payload.response.projection.ProjectedSearchResponse;
 import com.books.external.application.ExternalBooksFacade;
+import com.books.external.application.hotkeys.HotKeyword;
+import com.books.external.application.projection.BookField;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.EnumSet;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -17,7 +23,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import reactor.core.publisher.Mono;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -58,7 +67,7 @@ class ExternalControllerTest {
                 "Spring Boot",
                 0,
                 "전체",
-                java.util.List.of()
+                List.of()
         );
 
         when(externalBooksFacade.search(any(AladinBookRequest.class)))
@@ -78,8 +87,8 @@ class ExternalControllerTest {
         KakaoSearchRequest request = new KakaoSearchRequest("Spring Boot", "title");
 
         KakaoBookResponse response = new KakaoBookResponse(
-                java.util.List.of(),
-                new com.books.external.api.payload.response.kakao.KakaoMeta(false, 50, 100)
+                List.of(),
+                new KakaoMeta(false, 50, 100)
         );
 
         when(externalBooksFacade.search(any(KakaoSearchRequest.class)))
@@ -103,7 +112,7 @@ class ExternalControllerTest {
                 100,
                 1,
                 10,
-                java.util.List.of()
+                List.of()
         );
 
         when(externalBooksFacade.search(any(NaverSearchRequest.class)))
@@ -116,4 +125,49 @@ class ExternalControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
     }
-}
\ No newline at end of file
+
+    @Test
+    void search_fields_파라미터가_있으면_projection_경로로_호출() throws Exception {
+        // Given
+        KakaoSearchRequest request = new KakaoSearchRequest("Spring Boot", "title");
+
+        when(externalBooksFacade.search(any(KakaoSearchRequest.class), eq(EnumSet.of(BookField.TITLE, BookField.ISBN))))
+                .thenReturn(Mono.just(new ProjectedSearchResponse("kakao", 0, List.of())));
+
+        // When & Then
+        mockMvc.perform(post("/api/external/kakao")
+                        .param("fields", "title,isbn")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        verify(externalBooksFacade).search(any(KakaoSearchRequest.class), eq(EnumSet.of(BookField.TITLE, BookField.ISBN)));
+    }
+
+    @Test
+    void search_알_수_없는_fields_는_400() throws Exception {
+        // Given
+        NaverSearchRequest request = new NaverSearchRequest("Spring Boot", 10, 1);
+
+        // When & Then
+        mockMvc.perform(post("/api/external/naver")
+                        .param("fields", "title,lastBuildDate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void hotKeywords_인기_키워드를_추정치_순으로_반환() throws Exception {
+        // Given
+        when(externalBooksFacade.hotKeywords(2))
+                .thenReturn(List.of(new HotKeyword("클린코드", 42), new HotKeyword("토비", 7)));
+
+        // When & Then
+        mockMvc.perform(get("/api/external/keywords/hot").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].keyword").value("클린코드"))
+                .andExpect(jsonPath("$[0].count").value(42))
+                .andExpect(jsonPath("$[1].keyword").value("토비"));
+    }
+}
@@ -1,7 +1,9 @@
 package com.books.external.application;
 
+import com.books.config.BooksProperties;
 import com.books.external.api.payload.request.aladin.AladinBookRequest;
 import com.books.external.api.payload.response.aladin.AladinBookResponse;
+import com.books.external.application.resilience.ProviderCircuitBreakers;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.mockwebserver.MockResponse;
@@ -11,7 +13,9 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.StandardEnvironment;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -46,7 +50,9 @@ class AladinBookServiceTest {
                 .baseUrl(mockWebServer.url("/").toString())
                 .build();
 
-        aladinBookService = new AladinBookServiceImpl(webClient);
+        ProviderCircuitBreakers circuitBreakers = new ProviderCircuitBreakers(Binder.get(new StandardEnvironment())
+                .bindOrCreate("books", BooksProperties.class));
+        aladinBookService = new AladinBookServiceImpl(webClient, circuitBreakers);
         setTtbKey(aladinBookService, "test-ttb-key");
 
         objectMapper = new ObjectMapper();
@@ -1,20 +1,45 @@
 package com.books.external.application;
 
+import com.books.book.application.BookCatalogWriter;
+import com.books.config.BooksProperties;
 import com.books.external.api.payload.request.aladin.AladinBookRequest;
 import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
 import com.books.external.api.payload.request.naver.NaverSearchRequest;
 import com.books.external.api.payload.response.aladin.AladinBookResponse;
 import com.books.external.api.payload.response.kakao.KakaoBookResponse;
 import com.books.external.api.payload.response.naver.NaverBookResponse;
+import com.books.external.application.cache.MissingIsbnFilter;
+import com.books.external.application.cache.SearchResponseCache;
+import com.books.external.application.canonical.QueryCanonicalizer;
+import com.books.external.application.hotkeys.HotKeyword;
+import com.books.external.application.hotkeys.HotKeywordTracker;
+import com.books.external.application.metrics.FacadeMetrics;
+import com.books.external.application.resilience.ProviderCircuitBreakers;
+import com.books.external.application.searchlog.ProviderOutcome;
+import com.books.external.application.searchlog.SearchLogEntry;
+import com.books.external.application.searchlog.SearchLogWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.env.StandardEnvironment;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,15 +54,21 @@ class ExternalBooksFacadeTest {
     @Mock
     private NaverBookService naverBookService;
 
+    @Mock
+    private BookCatalogWriter bookCatalogWriter;
+
+    @Mock
+    private SearchLogWriter searchLogWriter;
+
+    private MissingIsbnFilter missingIsbnFilter;
     private ExternalBooksFacade externalBooksFacade;
 
     @BeforeEach
     void setUp() {
-        externalBooksFacade = new ExternalBooksFacade(
-                aladinBookService,
-                kakaoBookService,
-                naverBookService
-        );
+        BooksProperties properties = Binder.get(new StandardEnvironment())
+                .bindOrCreate("books", BooksProperties.class);
+        missingIsbnFilter = new MissingIsbnFilter(properties);
+        externalBooksFacade = facade(properties);
     }
 
     @Test
@@ -126,4 +157,224 @@ class ExternalBooksFacadeTest {
                 .expectNext(expectedResponse)
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void searchAll_세_제공자_병렬_호출_성공() {
+        // Given
+        AladinBookResponse aladinResponse = new AladinBookResponse(
+                "20131101", null, "알라딘 검색결과 - Spring Boot", null, null,
+                145, 1, "Spring Boot", 0, "전체", java.util.List.of());
+        KakaoBookResponse kakaoResponse = new KakaoBookResponse(
+                java.util.List.of(),
+                new com.books.external.api.payload.response.kakao.KakaoMeta(false, 50, 100));
+        NaverBookResponse naverResponse = new NaverBookResponse(
+                "Wed, 06 Nov 2024 17:34:14 +0900", 100, 1, 10, java.util.List.of());
+
+        when(aladinBookService.search(any(AladinBookRequest.class))).thenReturn(Mono.just(aladinResponse));
+        when(kakaoBookService.search(any(KakaoSearchRequest.class))).thenReturn(Mono.just(kakaoResponse));
+        when(naverBookService.search(any(NaverSearchRequest.class))).thenReturn(Mono.just(naverResponse));
+
+        // When & Then
+        StepVerifier.create(externalBooksFacade.searchAll("Spring Boot"))
+                .assertNext(result -> {
+                    assertThat(result.keyword()).isEqualTo("Spring Boot");
+                    assertThat(result.aladin().status()).isEqualTo(ProviderStatus.SUCCESS);
+                    assertThat(result.aladin().body()).isEqualTo(aladinResponse);
+                    assertThat(result.kakao().body()).isEqualTo(kakaoResponse);
+                    assertThat(result.naver().body()).isEqualTo(naverResponse);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void searchAll_실패와_deadline_초과는_부분_결과로_반환() {
+        // Given
+        KakaoBookResponse kakaoResponse = new KakaoBookResponse(
+                java.util.List.of(),
+                new com.books.external.api.payload.response.kakao.KakaoMeta(false, 50, 100));
+
+        when(aladinBookService.search(any(AladinBookRequest.class))).thenReturn(Mono.never());
+        when(kakaoBookService.search(any(KakaoSearchRequest.class))).thenReturn(Mono.just(kakaoResponse));
+        when(naverBookService.search(any(NaverSearchRequest.class)))
+                .thenReturn(Mono.error(new IllegalStateException("Naver API Error")));
+
+        // When & Then
+        StepVerifier.withVirtualTime(() -> externalBooksFacade.searchAll("Spring Boot"))
+                .thenAwait(Duration.ofSeconds(5))
+                .assertNext(result -> {
+                    assertThat(result.aladin().status()).isEqualTo(ProviderStatus.TIMEOUT);
+                    assertThat(result.kakao().status()).isEqualTo(ProviderStatus.SUCCESS);
+                    assertThat(result.naver().status()).isEqualTo(ProviderStatus.FAILED);
+                    assertThat(result.naver().error()).isEqualTo("Naver API Error");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void searchAll_제공자별_상태와_결과_수를_검색_로그에_기록() {
+        // Given
+        KakaoBookResponse kakaoResponse = new KakaoBookResponse(
+                java.util.List.of(),
+                new com.books.external.api.payload.response.kakao.KakaoMeta(false, 50, 100));
+
+        when(aladinBookService.search(any(AladinBookRequest.class)))
+                .thenReturn(Mono.error(new IllegalStateException("Aladin API Error")));
+        when(kakaoBookService.search(any(KakaoSearchRequest.class))).thenReturn(Mono.just(kakaoResponse));
+        when(naverBookService.search(any(NaverSearchRequest.class)))
+                .thenReturn(Mono.error(new IllegalStateException("Naver API Error")));
+
+        // When
+        externalBooksFacade.searchAll("Spring Boot").block();
+
+        // Then
+        ArgumentCaptor<SearchLogEntry> entry = ArgumentCaptor.forClass(SearchLogEntry.class);
+        verify(searchLogWriter).record(entry.capture());
+
+        assertThat(entry.getValue().getKeyword()).isEqualTo("spring boot");
+        assertThat(entry.getValue().getOutcomes())
+                .extracting(ProviderOutcome::getProvider, ProviderOutcome::getStatus, ProviderOutcome::getResultCount)
+                .containsExactly(
+                        tuple(BookProvider.ALADIN, ProviderStatus.FAILED, null),
+                        tuple(BookProvider.KAKAO, ProviderStatus.SUCCESS, 100L),
+                        tuple(BookProvider.NAVER, ProviderStatus.FAILED, null));
+    }
+
+    @Test
+    void searchAll_과_개별_검색은_정규화한_키워드를_한_번씩_인기_검색어로_셈() {
+        // Given
+        KakaoBookResponse kakaoResponse = new KakaoBookResponse(
+                java.util.List.of(),
+                new com.books.external.api.payload.response.kakao.KakaoMeta(false, 50, 100));
+
+        when(kakaoBookService.search(any(KakaoSearchRequest.class))).thenReturn(Mono.just(kakaoResponse));
+
+        // When: 통합 검색 안의 제공자 호출은 따로 세지 않는다 (구독 전 조립 시점에 센다)
+        externalBooksFacade.searchAll("Spring Boot");
+        externalBooksFacade.search(new KakaoSearchRequest(" spring  BOOT ", "title")).block();
+
+        // Then
+        assertThat(externalBooksFacade.hotKeywords(10))
+                .containsExactly(new HotKeyword("spring boot", 2));
+    }
+
+    @Test
+    void refresh_캐시에_있는_통합_검색_항목만_다시_받음() {
+        // Given: 카카오만 성공해 캐시에 남는다
+        KakaoBookResponse stale = new KakaoBookResponse(
+                java.util.List.of(),
+                new com.books.external.api.payload.response.kakao.KakaoMeta(false, 50, 100));
+        KakaoBookResponse fresh = new KakaoBookResponse(
+                java.util.List.of(),
+                new com.books.external.api.payload.response.kakao.KakaoMeta(false, 60, 120));
+
+        when(aladinBookService.search(any(AladinBookRequest.class)))
+                .thenReturn(Mono.error(new IllegalStateException("Aladin API Error")));
+        when(kakaoBookService.search(any(KakaoSearchRequest.class)))
+                .thenReturn(Mono.just(stale), Mono.just(fresh));
+        when(naverBookService.search(any(NaverSearchRequest.class)))
+                .thenReturn(Mono.error(new IllegalStateException("Naver API Error")));
+
+        externalBooksFacade.searchAll("Spring Boot").block();
+
+        // When: ahead 가 TTL(10m) 이상이면 남은 항목은 모두 만료 임박. 키워드는 인기 검색어처럼 정규화된 값
+        StepVerifier.create(externalBooksFacade.refresh("spring boot", Duration.ofMinutes(10)))
+                .expectNext(1L)
+                .verifyComplete();
+
+        // Then
+        StepVerifier.create(externalBooksFacade.search(new KakaoSearchRequest("Spring Boot", "title")))
+                .expectNext(fresh)
+                .verifyComplete();
+        verify(aladinBookService).search(any(AladinBookRequest.class));
+        verify(naverBookService).search(any(NaverSearchRequest.class));
+    }
+
+    @Test
+    void search_없다고_확인된_ISBN_은_제공자를_호출하지_않고_0건으로_답함() {
+        // Given
+        missingIsbnFilter.confirm("9791100000001");
+
+        // When & Then
+        StepVerifier.create(externalBooksFacade.search(new KakaoSearchRequest("979-11-0000000-1", "isbn")))
+                .assertNext(response -> assertThat(response.documents()).isEmpty())
+                .verifyComplete();
+        StepVerifier.create(externalBooksFacade.search(new NaverSearchRequest("9791100000001", 10, 1)))
+                .assertNext(response -> assertThat(response.items()).isEmpty())
+                .verifyComplete();
+
+        verifyNoInteractions(kakaoBookService, naverBookService);
+    }
+
+    @Test
+    void search_DEFAULTS_규칙이_꺼져_page_가_비어_있어도_첫_페이지로_봄() {
+        // Given
+        ExternalBooksFacade withoutDefaults = facade(new Binder(new MapConfigurationPropertySource(Map.of(
+                "books.canonical.disabled-rules", "defaults")))
+                .bindOrCreate("books", BooksProperties.class));
+        missingIsbnFilter.confirm("9791100000001");
+
+        // When & Then
+        StepVerifier.create(withoutDefaults.search(new KakaoSearchRequest("9791100000001", "isbn")))
+                .assertNext(response -> assertThat(response.documents()).isEmpty())
+                .verifyComplete();
+
+        verifyNoInteractions(kakaoBookService);
+    }
+
+    @Test
+    void search_없다고_확인된_ISBN_이라도_ISBN_조회의_첫_페이지가_아니면_제공자를_호출() {
+        // Given
+        missingIsbnFilter.confirm("9791100000001");
+        KakaoBookResponse kakaoResponse = new KakaoBookResponse(
+                java.util.List.of(),
+                new com.books.external.api.payload.response.kakao.KakaoMeta(true, 0, 0));
+
+        when(kakaoBookService.search(any(KakaoSearchRequest.class))).thenReturn(Mono.just(kakaoResponse));
+
+        // When
+        externalBooksFacade.search(new KakaoSearchRequest("9791100000001", "title")).block();
+        externalBooksFacade.search(new KakaoSearchRequest("9791100000001", "isbn", 2, 10)).block();
+
+        // Then
+        verify(kakaoBookService, times(2)).search(any(KakaoSearchRequest.class));
+    }
+
+    @Test
+    void search_표기만_다른_요청은_같은_캐시_항목과_통합_검색_항목을_씀() {
+        // Given
+        KakaoBookResponse response = new KakaoBookResponse(
+                java.util.List.of(),
+                new com.books.external.api.payload.response.kakao.KakaoMeta(false, 10, 10));
+
+        when(kakaoBookService.search(new KakaoSearchRequest("클린코드", "title", 1, 10)))
+                .thenReturn(Mono.just(response));
+
+        // When: 띄어쓰기 / NFD 분해형 / 생략된 page, size
+        KakaoBookResponse first = externalBooksFacade.search(new KakaoSearchRequest(" 클린 코드 ", "title")).block();
+        KakaoBookResponse second = externalBooksFacade.search(
+                new KakaoSearchRequest(java.text.Normalizer.normalize("클린코드", java.text.Normalizer.Form.NFD), "title", 1, 10))
+                .block();
+
+        // Then
+        assertThat(first).isSameAs(response);
+        assertThat(second).isSameAs(response);
+        verify(kakaoBookService).search(any(KakaoSearchRequest.class));
+    }
+
+    private ExternalBooksFacade facade(BooksProperties properties) {
+        return new ExternalBooksFacade(
+                aladinBookService,
+                kakaoBookService,
+                naverBookService,
+                new SearchResponseCache(properties),
+                new ProviderCircuitBreakers(properties),
+                bookCatalogWriter,
+                new FacadeMetrics(new SimpleMeterRegistry()),
+                searchLogWriter,
+                new HotKeywordTracker(properties),
+                missingIsbnFilter,
+                new QueryCanonicalizer(properties),
+                properties
+        );
+    }
+}
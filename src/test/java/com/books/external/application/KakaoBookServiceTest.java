@@ -1,8 +1,14 @@
 package com.books.external.application;
 
+import com.books.config.BooksProperties;
 import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
 import com.books.external.api.payload.response.kakao.KakaoBookResponse;
 import com.books.external.api.payload.response.kakao.KakaoMeta;
+import com.books.external.api.payload.response.projection.ProjectedBook;
+import com.books.external.api.payload.response.projection.ProjectedSearchResponse;
+import com.books.external.application.projection.BookField;
+import com.books.external.application.resilience.CircuitBreaker;
+import com.books.external.application.resilience.ProviderCircuitBreakers;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.mockwebserver.MockResponse;
@@ -12,14 +18,24 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -47,7 +63,9 @@ class KakaoBookServiceTest {
                 .baseUrl(mockWebServer.url("/").toString())
                 .build();
 
-        kakaoBookService = new KakaoBookServiceImpl(webClient);
+        ProviderCircuitBreakers circuitBreakers = new ProviderCircuitBreakers(Binder.get(new StandardEnvironment())
+                .bindOrCreate("books", BooksProperties.class));
+        kakaoBookService = new KakaoBookServiceImpl(webClient, circuitBreakers);
         setKakaoAK(kakaoBookService, "test-kakao-ak");
 
         objectMapper = new ObjectMapper();
@@ -100,6 +118,89 @@ class KakaoBookServiceTest {
                 .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    void search_합쳐진_요청의_실패는_서킷_브레이커에_한_번만_기록() {
+        // Given: 실패 2건이면 열리는 브레이커
+        ProviderCircuitBreakers breakers = new ProviderCircuitBreakers(new Binder(new MapConfigurationPropertySource(Map.of(
+                "books.kakao.circuit-breaker.minimum-number-of-calls", "2")))
+                .bindOrCreate("books", BooksProperties.class));
+        KakaoBookServiceImpl service = new KakaoBookServiceImpl(
+                WebClient.builder().baseUrl(mockWebServer.url("/").toString()).build(), breakers);
+        KakaoSearchRequest request = new KakaoSearchRequest("Spring Boot", "title");
+
+        mockWebServer.enqueue(new MockResponse().setResponseCode(500).setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+
+        // When: 12개 요청이 느린 실패 응답 하나에 합류
+        Flux.range(0, 12)
+                .flatMap(i -> service.search(request).onErrorResume(error -> Mono.empty()))
+                .blockLast(Duration.ofSeconds(5));
+
+        // Then: 실패 1건으로 기록되어 닫혀 있고, 다음 upstream 실패에서 열린다
+        assertThat(breakers.get(BookProvider.KAKAO).state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        StepVerifier.create(service.search(request))
+                .expectError()
+                .verify(Duration.ofSeconds(5));
+        assertThat(breakers.get(BookProvider.KAKAO).state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void passthrough_상태_코드와_Content_Type_본문을_그대로_전달() throws InterruptedException {
+        // Given
+        KakaoSearchRequest request = new KakaoSearchRequest("Spring Boot", "title");
+        String errorBody = "{\"errorType\":\"InvalidArgument\",\"message\":\"size is more than max\"}";
+
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(400)
+                .setBody(errorBody)
+                .addHeader("Content-Type", "application/json;charset=UTF-8"));
+
+        // When
+        Mono<String> result = kakaoBookService.passthrough(request)
+                .flatMap(response -> {
+                    assertThat(response.getStatusCode().value()).isEqualTo(400);
+                    assertThat(response.getHeaders().getContentType())
+                            .isEqualTo(MediaType.parseMediaType("application/json;charset=UTF-8"));
+                    return DataBufferUtils.join(response.getBody())
+                            .map(buffer -> {
+                                String body = buffer.toString(StandardCharsets.UTF_8);
+                                DataBufferUtils.release(buffer);
+                                return body;
+                            });
+                });
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(errorBody)
+                .verifyComplete();
+
+        assertThat(mockWebServer.takeRequest().getHeader("Authorization")).isEqualTo("KakaoAK test-kakao-ak");
+    }
+
+    @Test
+    void search_fields_요청한_필드만_디코딩() {
+        // Given
+        KakaoSearchRequest request = new KakaoSearchRequest("Spring Boot", "title");
+        String responseBody = """
+                {"documents":[{"authors":["김영한"],"contents":"긴 소개글","isbn":"8966262260 9788966262267",
+                  "price":32000,"salePrice":28800,"title":"스프링 부트","translators":[]}],
+                 "meta":{"is_end":true,"pageable_count":1,"total_count":1}}""";
+
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(responseBody)
+                .addHeader("Content-Type", "application/json"));
+
+        // When
+        Mono<ProjectedSearchResponse> result = kakaoBookService.search(request, EnumSet.of(BookField.TITLE, BookField.PRICE));
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(new ProjectedSearchResponse("kakao", 1, List.of(
+                        new ProjectedBook("스프링 부트", null, null, null, 32000L, 28800L, null, null, null, null, null))))
+                .verifyComplete();
+    }
+
     private void setKakaoAK(KakaoBookServiceImpl service, String kakaoAK) {
         try {
             var field = KakaoBookServiceImpl.class.getDeclaredField("kakaoAK");
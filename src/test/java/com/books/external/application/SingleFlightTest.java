@@ -0,0 +1,121 @@
+package com.books.external.application;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void execute_진행중인_동일_요청은_upstream_한번만_호출() {
+        // Given
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+        Supplier<Mono<String>> call = () -> {
+            upstreamCalls.incrementAndGet();
+            return upstream.asMono();
+        };
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        // When
+        singleFlight.execute("클린코드", call).subscribe(results::add);
+        singleFlight.execute("클린코드", call).subscribe(results::add);
+        upstream.tryEmitValue("결과");
+
+        // Then
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(results).containsExactly("결과", "결과");
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void execute_값과_완료_사이에_합류해도_같은_값을_받음() {
+        // Given: 값을 보낸 뒤 완료를 따로 보내는 upstream
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Sinks.Many<String> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        Supplier<Mono<String>> call = () -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.fromDirect(upstream.asFlux());
+        };
+        List<String> results = new CopyOnWriteArrayList<>();
+        AtomicBoolean lateCompleted = new AtomicBoolean();
+
+        singleFlight.execute("클린코드", call).subscribe(results::add);
+        upstream.tryEmitNext("결과");
+
+        // When
+        singleFlight.execute("클린코드", call).subscribe(results::add, error -> { }, () -> lateCompleted.set(true));
+        upstream.tryEmitComplete();
+
+        // Then
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(results).containsExactly("결과", "결과");
+        assertThat(lateCompleted).isTrue();
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void execute_다른_키는_각각_호출() {
+        // Given
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Supplier<Mono<String>> call = () -> Mono.<String>never().doOnSubscribe(s -> upstreamCalls.incrementAndGet());
+
+        // When
+        Disposable first = singleFlight.execute("자바", call).subscribe();
+        Disposable second = singleFlight.execute("코틀린", call).subscribe();
+
+        // Then
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+        first.dispose();
+        second.dispose();
+    }
+
+    @Test
+    void execute_마지막_구독자가_떠날때만_upstream_취소() {
+        // Given
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Supplier<Mono<String>> call = () -> Mono.<String>never().doOnCancel(() -> cancelled.set(true));
+
+        Disposable first = singleFlight.execute("스프링", call).subscribe();
+        Disposable second = singleFlight.execute("스프링", call).subscribe();
+
+        // When
+        first.dispose();
+
+        // Then
+        assertThat(cancelled).isFalse();
+        assertThat(singleFlight.inFlightCount()).isEqualTo(1);
+
+        second.dispose();
+
+        assertThat(cancelled).isTrue();
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void execute_에러도_합류한_구독자에게_공유() {
+        // Given
+        Sinks.One<String> upstream = Sinks.one();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+        singleFlight.execute("에러", upstream::asMono).subscribe(value -> { }, errors::add);
+        singleFlight.execute("에러", upstream::asMono).subscribe(value -> { }, errors::add);
+
+        // When
+        upstream.tryEmitError(new IllegalStateException("upstream 실패"));
+
+        // Then
+        assertThat(errors).hasSize(2);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+}
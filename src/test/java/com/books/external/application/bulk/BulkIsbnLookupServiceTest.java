@@ -0,0 +1,190 @@
+package com.books.external.application.bulk;
+
+import com.books.book.application.BookCatalogWriter;
+import com.books.book.entity.BookEntity;
+import com.books.book.entity.BookRepository;
+import com.books.config.BlockingIo;
+import com.books.config.BooksProperties;
+import com.books.external.api.payload.request.aladin.AladinBookRequest;
+import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
+import com.books.external.api.payload.request.naver.NaverSearchRequest;
+import com.books.external.api.payload.response.bulk.IsbnLookupResult;
+import com.books.external.api.payload.response.kakao.KakaoBookResponse;
+import com.books.external.api.payload.response.kakao.KakaoDocument;
+import com.books.external.api.payload.response.kakao.KakaoMeta;
+import com.books.external.api.payload.response.naver.NaverBookResponse;
+import com.books.external.api.payload.response.naver.NaverSearchResponse;
+import com.books.external.application.AladinBookService;
+import com.books.external.application.KakaoBookService;
+import com.books.external.application.NaverBookService;
+import com.books.external.application.cache.MissingIsbnFilter;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkIsbnLookupServiceTest {
+
+    private static final String ISBN13 = "9788966260959";
+
+    @Mock
+    private AladinBookService aladinBookService;
+
+    @Mock
+    private KakaoBookService kakaoBookService;
+
+    @Mock
+    private NaverBookService naverBookService;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BookCatalogWriter bookCatalogWriter;
+
+    private BulkIsbnLookupService bulkIsbnLookupService;
+
+    @BeforeEach
+    void setUp() {
+        BooksProperties properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "books.bulk.concurrency", "8",
+                "books.bulk.max-items", "20",
+                "books.kakao.bulk-concurrency", "2")))
+                .bindOrCreate("books", BooksProperties.class);
+
+        bulkIsbnLookupService = new BulkIsbnLookupService(aladinBookService, kakaoBookService, naverBookService,
+                bookRepository, bookCatalogWriter, BlockingIo.platform(), new MissingIsbnFilter(properties), properties);
+    }
+
+    @Test
+    void lookup_카탈로그에_있으면_제공자를_호출하지_않음() {
+        // Given
+        when(bookRepository.findById(ISBN13)).thenReturn(Optional.of(new BookEntity(ISBN13, null, "클린 코드",
+                "로버트 C. 마틴", null, null, null, null, null, null, null)));
+
+        // When & Then
+        StepVerifier.create(bulkIsbnLookupService.lookup(List.of("89-6626-095-0")))
+                .assertNext(result -> {
+                    assertThat(result.status()).isEqualTo(IsbnLookupResult.Status.FOUND);
+                    assertThat(result.source()).isEqualTo("catalog");
+                    assertThat(result.book().getTitle()).isEqualTo("클린 코드");
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(kakaoBookService, aladinBookService, naverBookService);
+    }
+
+    @Test
+    void lookup_앞_제공자가_못찾거나_실패하면_다음_제공자로_넘어감() {
+        // Given
+        when(kakaoBookService.search(any(KakaoSearchRequest.class)))
+                .thenReturn(Mono.just(new KakaoBookResponse(List.of(), new KakaoMeta(true, 0, 0))));
+        when(aladinBookService.search(any(AladinBookRequest.class)))
+                .thenReturn(Mono.error(new IllegalStateException("aladin down")));
+        when(naverBookService.search(any(NaverSearchRequest.class)))
+                .thenReturn(Mono.just(new NaverBookResponse("", 1, 1, 10, List.of(
+                        new NaverSearchResponse("클린 코드", "", "", "로버트 C. 마틴", "", "인사이트", "", ISBN13, "")))));
+
+        // When & Then
+        StepVerifier.create(bulkIsbnLookupService.lookup(List.of(ISBN13)))
+                .assertNext(result -> {
+                    assertThat(result.status()).isEqualTo(IsbnLookupResult.Status.FOUND);
+                    assertThat(result.source()).isEqualTo("naver");
+                    assertThat(result.isbn13()).isEqualTo(ISBN13);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void lookup_모든_제공자에서_없다고_확인된_ISBN_은_다시_묻지_않음() {
+        // Given
+        when(kakaoBookService.search(any(KakaoSearchRequest.class)))
+                .thenReturn(Mono.just(new KakaoBookResponse(List.of(), new KakaoMeta(true, 0, 0))));
+        when(aladinBookService.search(any(AladinBookRequest.class)))
+                .thenReturn(Mono.empty());
+        when(naverBookService.search(any(NaverSearchRequest.class)))
+                .thenReturn(Mono.just(new NaverBookResponse("", 0, 1, 10, List.of())));
+
+        // When: 두 번째는 ISBN-10 표기로 같은 책을 묻는다
+        StepVerifier.create(bulkIsbnLookupService.lookup(List.of(ISBN13)))
+                .assertNext(result -> assertThat(result.status()).isEqualTo(IsbnLookupResult.Status.NOT_FOUND))
+                .verifyComplete();
+        StepVerifier.create(bulkIsbnLookupService.lookup(List.of("89-6626-095-0")))
+                .assertNext(result -> {
+                    assertThat(result.status()).isEqualTo(IsbnLookupResult.Status.NOT_FOUND);
+                    assertThat(result.isbn13()).isEqualTo(ISBN13);
+                })
+                .verifyComplete();
+
+        // Then
+        verify(kakaoBookService, times(1)).search(any(KakaoSearchRequest.class));
+        verify(aladinBookService, times(1)).search(any(AladinBookRequest.class));
+        verify(naverBookService, times(1)).search(any(NaverSearchRequest.class));
+    }
+
+    @Test
+    void lookup_ISBN_형식이_아니면_INVALID() {
+        // When & Then
+        StepVerifier.create(bulkIsbnLookupService.lookup(List.of("클린코드")))
+                .assertNext(result -> assertThat(result.status()).isEqualTo(IsbnLookupResult.Status.INVALID))
+                .verifyComplete();
+    }
+
+    @Test
+    void lookup_제공자별_동시_호출_수를_넘지_않음() {
+        // Given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        when(kakaoBookService.search(any(KakaoSearchRequest.class))).thenAnswer(invocation -> {
+            KakaoSearchRequest request = invocation.getArgument(0);
+            KakaoDocument document = new KakaoDocument(new String[0], "", "", request.query(), 0, "", 0, "", "",
+                    "title", new String[0], "");
+
+            return Mono.delay(Duration.ofMillis(20))
+                    .map(tick -> new KakaoBookResponse(List.of(document), new KakaoMeta(true, 1, 1)))
+                    .doOnSubscribe(subscription -> maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max))
+                    .doFinally(signal -> running.decrementAndGet());
+        });
+
+        List<String> isbns = IntStream.range(0, 10).mapToObj(i -> "978896626095" + i).toList();
+
+        // When & Then
+        StepVerifier.create(bulkIsbnLookupService.lookup(Flux.fromIterable(isbns)))
+                .expectNextCount(10)
+                .verifyComplete();
+
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    void lookup_최대_개수를_넘으면_거절() {
+        // Given
+        List<String> isbns = IntStream.range(0, 21).mapToObj(i -> "invalid-" + i).toList();
+
+        // When & Then
+        StepVerifier.create(bulkIsbnLookupService.lookup(Flux.fromIterable(isbns)))
+                .expectNextCount(20)
+                .verifyError(TooManyIsbnsException.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.books.external.application.bulk;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimiterTest {
+
+    @Test
+    void execute_permit이_없으면_대기했다가_앞선_호출이_끝나면_실행() {
+        // Given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+        Sinks.One<String> first = Sinks.one();
+
+        Disposable running = limiter.execute(first::asMono).subscribe();
+
+        // When
+        Mono<String> second = limiter.execute(() -> Mono.just("second"));
+
+        // Then
+        StepVerifier.create(second)
+                .then(() -> {
+                    assertThat(limiter.waiting()).isEqualTo(1);
+                    first.tryEmitValue("first");
+                })
+                .expectNext("second")
+                .verifyComplete();
+
+        assertThat(limiter.active()).isZero();
+        running.dispose();
+    }
+
+    @Test
+    void execute_대기_중에_취소하면_대기열에서_빠짐() {
+        // Given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+        Disposable running = limiter.execute(Mono::never).subscribe();
+
+        // When
+        limiter.execute(() -> Mono.just("waiting")).subscribe().dispose();
+
+        // Then
+        assertThat(limiter.waiting()).isZero();
+
+        running.dispose();
+        assertThat(limiter.active()).isZero();
+    }
+
+    @Test
+    void execute_바로_끝나는_대기자가_많아도_스택이_쌓이지_않음() {
+        // Given: permit 하나를 잡은 호출 뒤에 바로 끝나는 호출 10만 개가 대기
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+        Sinks.One<String> first = Sinks.one();
+        limiter.execute(first::asMono).subscribe();
+
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < 100_000; i++) {
+            limiter.execute(() -> Mono.just("waiting")).subscribe(ignored -> completed.incrementAndGet());
+        }
+
+        // When
+        first.tryEmitValue("first");
+
+        // Then
+        assertThat(completed.get()).isEqualTo(100_000);
+        assertThat(limiter.waiting()).isZero();
+        assertThat(limiter.active()).isZero();
+    }
+}
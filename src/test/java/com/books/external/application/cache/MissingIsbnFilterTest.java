@@ -0,0 +1,128 @@
+package com.books.external.application.cache;
+
+import com.books.book.domain.Isbn;
+import com.books.config.BooksProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MissingIsbnFilterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private MissingIsbnFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        BooksProperties properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "books.missing-isbn.expected-entries", "1000",
+                "books.missing-isbn.false-positive-rate", "0.001",
+                "books.missing-isbn.ttl", "1h")))
+                .bindOrCreate("books", BooksProperties.class);
+
+        filter = new MissingIsbnFilter(properties, nanos::get);
+    }
+
+    @Test
+    void key_ISBN_10_과_하이픈_표기를_같은_ISBN_13_으로_봄() {
+        // When & Then
+        assertThat(MissingIsbnFilter.key("89-6626-095-0")).isEqualTo(Long.parseLong(Isbn.toIsbn13("8966260950")));
+        assertThat(MissingIsbnFilter.key("080442957X")).isEqualTo(Long.parseLong(Isbn.toIsbn13("080442957X")));
+        assertThat(MissingIsbnFilter.key("978-89-6626-095-9")).isEqualTo(9788966260959L);
+        assertThat(MissingIsbnFilter.key("클린코드")).isEqualTo(-1);
+        assertThat(MissingIsbnFilter.key("97889662609591")).isEqualTo(-1);
+        assertThat(MissingIsbnFilter.key("")).isEqualTo(-1);
+    }
+
+    @Test
+    void isConfirmedMissing_확인된_ISBN_만_없다고_답함() {
+        // Given
+        filter.confirm("9791100000001");
+
+        // When & Then
+        assertThat(filter.isConfirmedMissing("979-11-0000000-1")).isTrue();
+        assertThat(filter.isConfirmedMissing("9788966260959")).isFalse();
+        assertThat(filter.isConfirmedMissing("9791100000001 ")).isTrue();
+        assertThat(filter.isConfirmedMissing("클린코드")).isFalse();
+    }
+
+    @Test
+    void isConfirmedMissing_Bloom_filter_오탐은_확인_목록에서_걸러냄() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        filter.bindTo(registry);
+        LongStream.range(0, 1000).forEach(i -> filter.confirm(String.valueOf(9791100000000L + i * 7)));
+
+        // When
+        long missing = LongStream.range(0, 100_000)
+                .filter(i -> filter.isConfirmedMissing(String.valueOf(9788900000000L + i)))
+                .count();
+
+        // Then: 오탐은 목표 0.1% (100건) 의 몇 배를 넘지 않고, 그중 없다고 답한 것은 없다
+        assertThat(missing).isZero();
+        assertThat(registry.get("books.isbn.missing.false-positives").functionCounter().count())
+                .isPositive()
+                .isLessThan(300);
+        assertThat(filter.isConfirmedMissing("9791100000007")).isTrue();
+    }
+
+    @Test
+    void isConfirmedMissing_ttl_이_지난_ISBN_은_rebuild_전에도_없다고_답하지_않음() {
+        // Given
+        filter.confirm("9791100000001");
+
+        // When
+        nanos.addAndGet(Duration.ofMinutes(61).toNanos());
+
+        // Then
+        assertThat(filter.isConfirmedMissing("9791100000001")).isFalse();
+    }
+
+    @Test
+    void rebuild_ttl_이_지난_ISBN_은_filter_에서_빠짐() {
+        // Given
+        filter.confirm("9791100000001");
+        nanos.addAndGet(Duration.ofMinutes(40).toNanos());
+        filter.confirm("9791100000002");
+
+        // When
+        nanos.addAndGet(Duration.ofMinutes(30).toNanos());
+        filter.rebuild();
+
+        // Then
+        assertThat(filter.isConfirmedMissing("9791100000001")).isFalse();
+        assertThat(filter.isConfirmedMissing("9791100000002")).isTrue();
+    }
+
+    @Test
+    void isConfirmedMissing_조회는_할당_없이_동작() {
+        // Given
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        String missing = "979-11-0000000-1";
+        String present = "9788966260959";
+        filter.confirm(missing);
+        for (int i = 0; i < 20_000; i++) {
+            filter.isConfirmedMissing(missing);
+            filter.isConfirmedMissing(present);
+        }
+
+        // When
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 100_000; i++) {
+            filter.isConfirmedMissing(missing);
+            filter.isConfirmedMissing(present);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Then
+        assertThat(allocated).isLessThan(1024);
+    }
+}
@@ -0,0 +1,156 @@
+package com.books.external.application.cache;
+
+import com.books.config.BooksProperties;
+import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
+import com.books.external.api.payload.response.kakao.KakaoBookResponse;
+import com.books.external.api.payload.response.kakao.KakaoMeta;
+import com.books.external.application.BookProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchResponseCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private SearchResponseCache searchResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        BooksProperties properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "books.kakao.cache.ttl", "1m",
+                "books.kakao.cache.max-size", "1MB",
+                "books.kakao.cache.negative-ttl", "10s")))
+                .bindOrCreate("books", BooksProperties.class);
+
+        searchResponseCache = new SearchResponseCache(properties, null, nanos::get);
+    }
+
+    @Test
+    void get_동일_요청은_두번째부터_캐시에서_반환() {
+        // Given
+        KakaoSearchRequest request = new KakaoSearchRequest("클린코드", "title");
+        KakaoBookResponse response = new KakaoBookResponse(List.of(), new KakaoMeta(true, 0, 0));
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        // When
+        Mono<KakaoBookResponse> first = searchResponseCache.get(BookProvider.KAKAO, request,
+                () -> Mono.fromSupplier(() -> {
+                    upstreamCalls.incrementAndGet();
+                    return response;
+                }));
+
+        // Then
+        StepVerifier.create(first).expectNext(response).verifyComplete();
+        StepVerifier.create(first).expectNext(response).verifyComplete();
+        StepVerifier.create(searchResponseCache.get(BookProvider.KAKAO, new KakaoSearchRequest("클린코드", "title"),
+                        () -> Mono.error(new IllegalStateException("upstream 호출 불필요"))))
+                .expectNext(response)
+                .verifyComplete();
+
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void get_에러는_캐시하지_않음() {
+        // Given
+        KakaoSearchRequest request = new KakaoSearchRequest("자바", "title");
+        KakaoBookResponse response = new KakaoBookResponse(List.of(), new KakaoMeta(true, 0, 0));
+
+        // When
+        StepVerifier.create(searchResponseCache.get(BookProvider.KAKAO, request,
+                        () -> Mono.<KakaoBookResponse>error(new IllegalStateException("upstream 실패"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Then
+        StepVerifier.create(searchResponseCache.get(BookProvider.KAKAO, request, () -> Mono.just(response)))
+                .expectNext(response)
+                .verifyComplete();
+    }
+
+    @Test
+    void get_제공자별로_분리된_캐시_사용() {
+        // Given
+        KakaoSearchRequest request = new KakaoSearchRequest("코틀린", "title");
+        searchResponseCache.put(BookProvider.KAKAO, request, new KakaoBookResponse(List.of(), new KakaoMeta(true, 0, 0)));
+
+        // When & Then
+        assertThat((Object) searchResponseCache.getIfPresent(BookProvider.KAKAO, request)).isNotNull();
+        assertThat((Object) searchResponseCache.getIfPresent(BookProvider.NAVER, request)).isNull();
+    }
+
+    @Test
+    void bindTo_히트_미스_카운터_노출() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        searchResponseCache.bindTo(registry);
+        KakaoSearchRequest request = new KakaoSearchRequest("스프링", "title");
+
+        // When
+        searchResponseCache.getIfPresent(BookProvider.KAKAO, request);
+        searchResponseCache.put(BookProvider.KAKAO, request, new KakaoBookResponse(List.of(), new KakaoMeta(true, 0, 0)));
+        searchResponseCache.getIfPresent(BookProvider.KAKAO, request);
+
+        // Then
+        assertThat(registry.get("cache.gets").tags("provider", "kakao", "result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tags("provider", "kakao", "result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void refreshIfExpiring_만료가_가까운_항목만_다시_받고_없는_항목은_만들지_않음() {
+        // Given: ttl 1m
+        KakaoSearchRequest cached = new KakaoSearchRequest("리팩터링", "title");
+        KakaoSearchRequest missing = new KakaoSearchRequest("디자인 패턴", "title");
+        KakaoBookResponse stale = new KakaoBookResponse(List.of(), new KakaoMeta(true, 5, 5));
+        KakaoBookResponse fresh = new KakaoBookResponse(List.of(), new KakaoMeta(true, 7, 7));
+        searchResponseCache.put(BookProvider.KAKAO, cached, stale);
+
+        // When & Then: 남은 수명(약 1m)이 ahead 보다 길면 그대로 둔다
+        StepVerifier.create(searchResponseCache.refreshIfExpiring(BookProvider.KAKAO, cached, Duration.ofSeconds(10),
+                        () -> Mono.error(new IllegalStateException("upstream 호출 불필요"))))
+                .expectNext(false)
+                .verifyComplete();
+
+        StepVerifier.create(searchResponseCache.refreshIfExpiring(BookProvider.KAKAO, cached, Duration.ofMinutes(1),
+                        () -> Mono.just(fresh)))
+                .expectNext(true)
+                .verifyComplete();
+
+        StepVerifier.create(searchResponseCache.refreshIfExpiring(BookProvider.KAKAO, missing, Duration.ofMinutes(1),
+                        () -> Mono.error(new IllegalStateException("upstream 호출 불필요"))))
+                .expectNext(false)
+                .verifyComplete();
+
+        assertThat((Object) searchResponseCache.getIfPresent(BookProvider.KAKAO, cached)).isSameAs(fresh);
+        assertThat((Object) searchResponseCache.getIfPresent(BookProvider.KAKAO, missing)).isNull();
+    }
+
+    @Test
+    void put_결과가_0건인_응답은_negative_ttl_동안만_보관하고_미리_갱신하지_않음() {
+        // Given: ttl 1m, negative-ttl 10s
+        KakaoSearchRequest missing = new KakaoSearchRequest("9791100000001", "isbn");
+        KakaoSearchRequest found = new KakaoSearchRequest("9788966260959", "isbn");
+        searchResponseCache.put(BookProvider.KAKAO, missing, new KakaoBookResponse(List.of(), new KakaoMeta(true, 0, 0)));
+        searchResponseCache.put(BookProvider.KAKAO, found, new KakaoBookResponse(List.of(), new KakaoMeta(true, 1, 1)));
+
+        // When & Then
+        assertThat(searchResponseCache.expiresWithin(BookProvider.KAKAO, missing, Duration.ofMinutes(1))).isFalse();
+
+        nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+        assertThat((Object) searchResponseCache.getIfPresent(BookProvider.KAKAO, missing)).isNull();
+        assertThat((Object) searchResponseCache.getIfPresent(BookProvider.KAKAO, found)).isNotNull();
+    }
+}
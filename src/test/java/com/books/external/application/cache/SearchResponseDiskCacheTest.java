@@ -0,0 +1,227 @@
+package com.books.external.application.cache;
+
+import com.books.config.BooksProperties;
+import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
+import com.books.external.api.payload.response.kakao.KakaoBookResponse;
+import com.books.external.api.payload.response.kakao.KakaoDocument;
+import com.books.external.api.payload.response.kakao.KakaoMeta;
+import com.books.external.application.BookProvider;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchResponseDiskCacheTest {
+
+    @TempDir
+    private Path directory;
+
+    private final AtomicLong millis = new AtomicLong(1_000_000);
+    private BooksProperties properties;
+    private SearchResponseDiskCache diskCache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "books.disk-cache.enabled", "true",
+                "books.disk-cache.directory", directory.toString(),
+                "books.disk-cache.ttl", "1h",
+                "books.kakao.cache.ttl", "10m",
+                "books.disk-cache.segment-size", "16KB",
+                "books.disk-cache.max-size", "1MB")))
+                .bindOrCreate("books", BooksProperties.class);
+
+        diskCache = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        diskCache.close();
+    }
+
+    @Test
+    void get_기록한_응답을_요청_키로_다시_읽음() {
+        // Given
+        KakaoSearchRequest request = new KakaoSearchRequest("클린코드", "title");
+        KakaoBookResponse response = response("클린 코드", 3);
+
+        // When
+        diskCache.put(BookProvider.KAKAO, request, response);
+        diskCache.flushRemaining();
+
+        // Then
+        assertThat(diskCache.get(BookProvider.KAKAO, new KakaoSearchRequest("클린코드", "title")).value())
+                .usingRecursiveComparison()
+                .isEqualTo(response);
+        assertThat(diskCache.get(BookProvider.KAKAO, new KakaoSearchRequest("클린코드", "isbn"))).isNull();
+        assertThat(diskCache.get(BookProvider.NAVER, request)).isNull();
+    }
+
+    @Test
+    void open_재시작하면_segment_를_다시_읽어_L1_미스를_디스크에서_채움() throws IOException {
+        // Given
+        KakaoSearchRequest request = new KakaoSearchRequest("리팩터링", "title");
+        KakaoBookResponse response = response("리팩터링 2판", 5);
+        new SearchResponseCache(properties, diskCache).put(BookProvider.KAKAO, request, response);
+        diskCache.flushRemaining();
+
+        // When: 힙 캐시는 비어 있는 새 인스턴스
+        diskCache.close();
+        diskCache = open();
+        SearchResponseCache restarted = new SearchResponseCache(properties, diskCache);
+
+        // Then
+        assertThat((Object) restarted.getIfPresent(BookProvider.KAKAO, request))
+                .usingRecursiveComparison()
+                .isEqualTo(response);
+    }
+
+    @Test
+    void getIfPresent_L2_응답은_기록된_때부터_남은_L1_ttl_만큼만_L1_에_올림() {
+        // Given: L1 ttl 10m, L2 ttl 1h
+        KakaoSearchRequest fresh = new KakaoSearchRequest("클린코드", "title");
+        KakaoSearchRequest stale = new KakaoSearchRequest("리팩터링", "title");
+        diskCache.put(BookProvider.KAKAO, stale, response("리팩터링 2판", 5));
+        diskCache.flushRemaining();
+        millis.addAndGet(Duration.ofMinutes(7).toMillis());
+        diskCache.put(BookProvider.KAKAO, fresh, response("클린 코드", 3));
+        diskCache.flushRemaining();
+
+        // When: 처음 기록하고 11분, 두 번째 기록하고 4분 뒤
+        millis.addAndGet(Duration.ofMinutes(4).toMillis());
+        SearchResponseCache searchResponseCache = new SearchResponseCache(properties, diskCache);
+
+        // Then
+        assertThat((Object) searchResponseCache.getIfPresent(BookProvider.KAKAO, stale)).isNull();
+        assertThat((Object) searchResponseCache.getIfPresent(BookProvider.KAKAO, fresh)).isNotNull();
+        assertThat(searchResponseCache.expiresWithin(BookProvider.KAKAO, fresh, Duration.ofMinutes(6))).isTrue();
+        assertThat(searchResponseCache.expiresWithin(BookProvider.KAKAO, fresh, Duration.ofMinutes(5))).isFalse();
+    }
+
+    @Test
+    void open_만료된_항목은_색인에_올리지_않음() throws IOException {
+        // Given
+        KakaoSearchRequest request = new KakaoSearchRequest("자바", "title");
+        diskCache.put(BookProvider.KAKAO, request, response("이펙티브 자바", 1));
+        diskCache.flushRemaining();
+        diskCache.close();
+
+        // When
+        millis.addAndGet(Duration.ofHours(1).toMillis());
+        diskCache = open();
+
+        // Then
+        assertThat(diskCache.get(BookProvider.KAKAO, request)).isNull();
+    }
+
+    @Test
+    void compact_덮어쓴_항목만_남은_segment_는_지우고_최신_값은_유지() throws IOException {
+        // Given: 같은 키 4개를 여러 번 덮어써 앞쪽 segment 들은 거의 죽은 레코드만 남는다
+        List<KakaoSearchRequest> requests = IntStream.range(0, 4)
+                .mapToObj(i -> new KakaoSearchRequest("키워드" + i, "title"))
+                .toList();
+        for (int round = 0; round < 30; round++) {
+            for (KakaoSearchRequest request : requests) {
+                diskCache.put(BookProvider.KAKAO, request, response(request.query() + " 판" + round, 3));
+            }
+            diskCache.flushRemaining();
+        }
+        long before = segmentFiles();
+
+        // When
+        diskCache.compact();
+
+        // Then
+        assertThat(before).isGreaterThan(2);
+        assertThat(segmentFiles()).isLessThan(before);
+        for (KakaoSearchRequest request : requests) {
+            assertThat(diskCache.get(BookProvider.KAKAO, request).value())
+                    .usingRecursiveComparison()
+                    .isEqualTo(response(request.query() + " 판29", 3));
+        }
+
+        diskCache.close();
+        diskCache = open();
+        assertThat(diskCache.get(BookProvider.KAKAO, requests.get(0)).value())
+                .usingRecursiveComparison()
+                .isEqualTo(response("키워드0 판29", 3));
+    }
+
+    @Test
+    void get_체크섬이_맞지_않는_레코드는_미스로_봄() throws IOException {
+        // Given
+        KakaoSearchRequest request = new KakaoSearchRequest("토비의 스프링", "title");
+        diskCache.put(BookProvider.KAKAO, request, response("토비의 스프링 3.1", 2));
+        diskCache.flushRemaining();
+        diskCache.close();
+
+        // When: 첫 레코드 값 중간의 한 바이트를 바꾼다
+        try (Stream<Path> files = Files.list(directory);
+             FileChannel channel = FileChannel.open(
+                     files.filter(path -> path.getFileName().toString().startsWith("segment-")).findFirst().orElseThrow(),
+                     StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(8);
+            channel.read(header, 0);
+            int length = header.getInt(4);
+
+            ByteBuffer target = ByteBuffer.allocate(1);
+            channel.read(target, length - 10);
+            target.put(0, (byte) ~target.get(0));
+            channel.write(target.rewind(), length - 10);
+        }
+        diskCache = open();
+
+        // Then
+        assertThat(diskCache.get(BookProvider.KAKAO, request)).isNull();
+    }
+
+    @Test
+    void open_같은_디렉터리를_이미_쓰고_있으면_L2_없이_동작() throws IOException {
+        // Given
+        SearchResponseDiskCache second = new SearchResponseDiskCache(properties, millis::get);
+
+        // When & Then
+        assertThat(second.open()).isFalse();
+        assertThat(second.get(BookProvider.KAKAO, new KakaoSearchRequest("클린코드", "title"))).isNull();
+    }
+
+    private SearchResponseDiskCache open() throws IOException {
+
+        SearchResponseDiskCache cache = new SearchResponseDiskCache(properties, millis::get);
+        assertThat(cache.open()).isTrue();
+        return cache;
+    }
+
+    private long segmentFiles() throws IOException {
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("segment-")).count();
+        }
+    }
+
+    private static KakaoBookResponse response(String title, int count) {
+
+        List<KakaoDocument> documents = IntStream.range(0, count)
+                .mapToObj(i -> new KakaoDocument(new String[]{"저자" + i}, "소개 " + title, "2020-01-01T00:00:00.000+09:00",
+                        "89" + i + " 979118" + i, 30000, "출판사", 27000, "정상판매", null, title, new String[0], "https://example.com/" + i))
+                .toList();
+
+        return new KakaoBookResponse(documents, new KakaoMeta(true, count, count));
+    }
+}
@@ -0,0 +1,133 @@
+package com.books.external.application.canonical;
+
+import com.books.config.BooksProperties;
+import com.books.external.api.payload.kakao.request.KotlinKakaoSearchRequest;
+import com.books.external.api.payload.request.aladin.AladinBookRequest;
+import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
+import com.books.external.api.payload.request.naver.NaverSearchRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.text.Normalizer;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCanonicalizerTest {
+
+    private QueryCanonicalizer canonicalizer;
+
+    @BeforeEach
+    void setUp() {
+        BooksProperties properties = Binder.get(new StandardEnvironment())
+                .bindOrCreate("books", BooksProperties.class);
+
+        canonicalizer = new QueryCanonicalizer(properties);
+    }
+
+    @Test
+    void canonicalize_띄어쓰기_NFD_대소문자_문장부호만_다른_검색어는_같은_키() {
+        // Given
+        String nfd = Normalizer.normalize("클린코드", Normalizer.Form.NFD);
+
+        // When
+        SearchKey key = canonicalizer.canonicalize(new KakaoSearchRequest("클린코드", "title")).key();
+
+        // Then
+        assertThat(canonicalizer.canonicalize(new KakaoSearchRequest(" 클린 코드 ", "title")).key()).isEqualTo(key);
+        assertThat(canonicalizer.canonicalize(new KakaoSearchRequest(nfd, "title", 1, 10)).key()).isEqualTo(key);
+        assertThat(canonicalizer.canonicalize(new KakaoSearchRequest("「클린 코드」", "title")).key()).isEqualTo(key);
+        assertThat(canonicalizer.canonicalize("  Clean   Code ").request()).isEqualTo("clean code");
+        assertThat(canonicalizer.canonicalize("C# 프로그래밍: .NET 8").request()).isEqualTo("c# 프로그래밍 .net 8");
+    }
+
+    @Test
+    void canonicalize_ISBN_10_과_하이픈_표기는_하이픈_없는_ISBN_13() {
+        // When
+        CanonicalRequest<NaverSearchRequest> naver = canonicalizer.canonicalize(new NaverSearchRequest("89-6626-095-0", 10, 1));
+        CanonicalRequest<KakaoSearchRequest> kakao = canonicalizer.canonicalize(new KakaoSearchRequest("978-89-6626-095-9", "isbn"));
+
+        // Then
+        assertThat(naver.request().keyword()).isEqualTo("9788966260959");
+        assertThat(naver.rules()).isEqualTo(CanonicalRule.ISBN.bit());
+        assertThat(kakao.request().query()).isEqualTo("9788966260959");
+    }
+
+    @Test
+    void canonicalize_생략된_필드는_제공자_기본값으로_채움() {
+        // When
+        AladinBookRequest aladin = canonicalizer.canonicalize(
+                new AladinBookRequest("클린코드", null, null, null, null, null, null, null)).request();
+        NaverSearchRequest naver = canonicalizer.canonicalize(new NaverSearchRequest("클린코드", 0, 0)).request();
+        KakaoSearchRequest kakao = canonicalizer.canonicalize(new KakaoSearchRequest("클린코드", null)).request();
+
+        // Then
+        assertThat(aladin).isEqualTo(new AladinBookRequest("클린코드", "Keyword", "10", "1", "Book", "Accuracy", "JS", "20131101"));
+        assertThat(naver).isEqualTo(new NaverSearchRequest("클린코드", 10, 1));
+        assertThat(kakao).isEqualTo(new KakaoSearchRequest("클린코드", null, 1, 10));
+    }
+
+    @Test
+    void canonicalize_Kotlin_요청도_같게_정규화하되_Java_요청과_키는_겹치지_않음() {
+        // When
+        CanonicalRequest<KotlinKakaoSearchRequest> kotlin = canonicalizer.canonicalize(new KotlinKakaoSearchRequest(" Clean Code ", "title", null, null));
+        CanonicalRequest<KakaoSearchRequest> java = canonicalizer.canonicalize(new KakaoSearchRequest(" Clean Code ", "title"));
+
+        // Then
+        assertThat(kotlin.request()).isEqualTo(new KotlinKakaoSearchRequest("clean code", "title", 1, 10));
+        assertThat(kotlin.rules()).isEqualTo(java.rules());
+        assertThat(kotlin.key()).isNotEqualTo(java.key());
+    }
+
+    @Test
+    void canonicalize_바꿀_것이_없으면_요청을_그대로_씀() {
+        // Given
+        KakaoSearchRequest request = new KakaoSearchRequest("클린코드", "title", 1, 10);
+
+        // When
+        CanonicalRequest<KakaoSearchRequest> canonical = canonicalizer.canonicalize(request);
+
+        // Then
+        assertThat(canonical.request()).isSameAs(request);
+        assertThat(canonical.rules()).isZero();
+    }
+
+    @Test
+    void bindTo_규칙별로_바꾼_요청과_그중_미스를_셈() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        canonicalizer.bindTo(registry);
+
+        // When
+        CanonicalRequest<KakaoSearchRequest> first = canonicalizer.canonicalize(new KakaoSearchRequest("Clean Code", "title", 1, 10));
+        canonicalizer.recordMiss(first.rules());
+        canonicalizer.canonicalize(new KakaoSearchRequest("CLEAN CODE", "title", 1, 10));
+        canonicalizer.canonicalize(new KakaoSearchRequest("clean code", "title", 1, 10));
+
+        // Then
+        assertThat(registry.get("books.query.canonical.requests").functionCounter().count()).isEqualTo(3.0);
+        assertThat(registry.get("books.query.canonical").tags("rule", "case", "outcome", "applied").functionCounter().count())
+                .isEqualTo(2.0);
+        assertThat(registry.get("books.query.canonical").tags("rule", "case", "outcome", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void canonicalize_꺼둔_규칙은_적용하지_않음() {
+        // Given
+        BooksProperties properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "books.canonical.disabled-rules", "case,whitespace")))
+                .bindOrCreate("books", BooksProperties.class);
+        QueryCanonicalizer partial = new QueryCanonicalizer(properties);
+
+        // When
+        CanonicalRequest<String> canonical = partial.canonicalize(" Clean Code ");
+
+        // Then
+        assertThat(canonical.request()).isEqualTo(" Clean Code ");
+        assertThat(canonical.rules()).isZero();
+    }
+}
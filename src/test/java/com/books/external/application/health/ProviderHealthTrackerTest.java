@@ -0,0 +1,138 @@
+package com.books.external.application.health;
+
+import com.books.config.BooksProperties;
+import com.books.external.application.BookProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProviderHealthTrackerTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private ProviderHealthTracker healthTracker;
+
+    @BeforeEach
+    void setUp() {
+        BooksProperties properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "books.health.sample-size", "10",
+                "books.health.window", "1m",
+                "books.health.idle-probe-after", "30s",
+                "books.health.slow-call-threshold", "50ms")))
+                .bindOrCreate("books", BooksProperties.class);
+
+        healthTracker = new ProviderHealthTracker(properties, clock::get);
+    }
+
+    @Test
+    void health_호출_기록이_없으면_UNKNOWN() {
+        // When
+        ProviderHealth health = healthTracker.health(BookProvider.KAKAO);
+
+        // Then
+        assertThat(health.status()).isEqualTo(ProviderHealth.Status.UNKNOWN);
+        assertThat(health.sampleCount()).isZero();
+        assertThat(healthTracker.isIdle(BookProvider.KAKAO)).isTrue();
+    }
+
+    @Test
+    void health_성공률과_지연_백분위_계산() {
+        // Given
+        for (int i = 1; i <= 9; i++) {
+            healthTracker.recordSuccess(BookProvider.KAKAO, Duration.ofMillis(i * 10L).toNanos());
+        }
+        healthTracker.recordFailure(BookProvider.KAKAO, Duration.ofMillis(1000).toNanos(), "HTTP 503");
+
+        // When
+        ProviderHealth health = healthTracker.health(BookProvider.KAKAO);
+
+        // Then
+        assertThat(health.sampleCount()).isEqualTo(10);
+        assertThat(health.successRate()).isEqualTo(0.9);
+        assertThat(health.status()).isEqualTo(ProviderHealth.Status.UP);
+        assertThat(health.p50Millis()).isEqualTo(50);
+        assertThat(health.p99Millis()).isEqualTo(1000);
+        assertThat(health.lastError()).isEqualTo("HTTP 503");
+    }
+
+    @Test
+    void health_실패가_많으면_DOWN_이고_다른_제공자와_분리() {
+        // Given
+        healthTracker.recordSuccess(BookProvider.NAVER, Duration.ofMillis(10).toNanos());
+        healthTracker.recordFailure(BookProvider.NAVER, Duration.ofMillis(10).toNanos(), "connection refused");
+        healthTracker.recordFailure(BookProvider.NAVER, Duration.ofMillis(10).toNanos(), "connection refused");
+
+        // When & Then
+        assertThat(healthTracker.health(BookProvider.NAVER).status()).isEqualTo(ProviderHealth.Status.DOWN);
+        assertThat(healthTracker.health(BookProvider.ALADIN).status()).isEqualTo(ProviderHealth.Status.UNKNOWN);
+    }
+
+    @Test
+    void health_window_밖의_호출은_제외하고_유휴_여부_판단() {
+        // Given
+        healthTracker.recordFailure(BookProvider.ALADIN, Duration.ofMillis(10).toNanos(), "HTTP 500");
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(10).toMillis());
+        boolean idleSoon = healthTracker.isIdle(BookProvider.ALADIN);
+        clock.addAndGet(Duration.ofMinutes(1).toMillis());
+
+        // Then
+        assertThat(idleSoon).isFalse();
+        assertThat(healthTracker.isIdle(BookProvider.ALADIN)).isTrue();
+        assertThat(healthTracker.health(BookProvider.ALADIN).status()).isEqualTo(ProviderHealth.Status.UNKNOWN);
+        assertThat(healthTracker.health(BookProvider.ALADIN).lastError()).isEqualTo("HTTP 500");
+    }
+
+    @Test
+    void filter_slow_call_threshold_를_넘겨_취소된_호출은_실패로_기록() {
+        // Given: 응답하지 않는 제공자
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/v3/search/book")).build();
+        ExchangeFilterFunction filter = healthTracker.filter(BookProvider.KAKAO);
+
+        // When: 바로 떠난 호출과 deadline (100ms) 에 취소된 호출
+        filter.filter(request, ignored -> Mono.never()).subscribe().dispose();
+        StepVerifier.create(filter.filter(request, ignored -> Mono.never()).timeout(Duration.ofMillis(100)))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+
+        // Then
+        ProviderHealth health = healthTracker.health(BookProvider.KAKAO);
+        assertThat(health.sampleCount()).isEqualTo(1);
+        assertThat(health.successRate()).isZero();
+        assertThat(health.lastError()).startsWith("cancelled after");
+    }
+
+    @Test
+    void filter_400_404_가_아닌_4xx_응답은_실패로_기록() {
+        // Given
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/v1/search/book.json")).build();
+        ExchangeFilterFunction filter = healthTracker.filter(BookProvider.NAVER);
+
+        // When
+        for (HttpStatus status : new HttpStatus[]{HttpStatus.OK, HttpStatus.BAD_REQUEST, HttpStatus.NOT_FOUND,
+                HttpStatus.UNAUTHORIZED, HttpStatus.FORBIDDEN, HttpStatus.TOO_MANY_REQUESTS}) {
+            filter.filter(request, ignored -> Mono.just(ClientResponse.create(status).build())).block();
+        }
+
+        // Then
+        ProviderHealth health = healthTracker.health(BookProvider.NAVER);
+        assertThat(health.sampleCount()).isEqualTo(6);
+        assertThat(health.successRate()).isEqualTo(0.5);
+        assertThat(health.lastError()).isEqualTo("HTTP 429");
+    }
+}
@@ -0,0 +1,65 @@
+package com.books.external.application.hotkeys;
+
+import com.books.config.BooksProperties;
+import com.books.external.application.ExternalBooksFacade;
+import com.books.external.application.KotlinUnifiedBooksFacade;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.StandardEnvironment;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HotKeywordPrewarmerTest {
+
+    @Mock
+    private ExternalBooksFacade externalBooksFacade;
+
+    @Mock
+    private KotlinUnifiedBooksFacade kotlinUnifiedBooksFacade;
+
+    private HotKeywordPrewarmer prewarmer;
+    private Duration ahead;
+
+    @BeforeEach
+    void setUp() {
+        BooksProperties properties = Binder.get(new StandardEnvironment())
+                .bindOrCreate("books", BooksProperties.class);
+        ahead = properties.hotKeywords().refreshAhead();
+
+        prewarmer = new HotKeywordPrewarmer(new HotKeywordTracker(properties),
+                externalBooksFacade, kotlinUnifiedBooksFacade, properties);
+    }
+
+    @Test
+    void refresh_키워드마다_두_facade_의_통합_검색_캐시를_갱신하고_실패는_따로_셈() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        prewarmer.bindTo(registry);
+
+        when(externalBooksFacade.refresh("클린코드", ahead)).thenReturn(Mono.just(3L));
+        when(kotlinUnifiedBooksFacade.refresh("클린코드", ahead)).thenReturn(Mono.just(1L));
+        when(externalBooksFacade.refresh("토비", ahead)).thenReturn(Mono.error(new IllegalStateException("naver down")));
+        when(kotlinUnifiedBooksFacade.refresh("토비", ahead)).thenReturn(Mono.just(2L));
+
+        // When & Then
+        StepVerifier.create(prewarmer.refresh(List.of(new HotKeyword("클린코드", 10), new HotKeyword("토비", 5))))
+                .expectNext(6L)
+                .verifyComplete();
+
+        assertThat(registry.get("books.hotkeys.prewarm").tag("outcome", "refreshed").functionCounter().count())
+                .isEqualTo(6.0);
+        assertThat(registry.get("books.hotkeys.prewarm").tag("outcome", "failed").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,143 @@
+package com.books.external.application.hotkeys;
+
+import com.books.config.BooksProperties;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotKeywordTrackerTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private HotKeywordTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        BooksProperties properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "books.hot-keywords.window", "10m",
+                "books.hot-keywords.buckets", "10",
+                "books.hot-keywords.top-k", "5")))
+                .bindOrCreate("books", BooksProperties.class);
+
+        tracker = new HotKeywordTracker(properties, nanos::get);
+    }
+
+    @Test
+    void top_드물게_검색된_키워드_사이에서_많이_검색된_키워드를_찾음() {
+        // Given
+        for (int i = 0; i < 3000; i++) {
+            tracker.record("rare-" + i);
+            if (i % 3 == 0) {
+                tracker.record("클린코드");
+            }
+            if (i % 10 == 0) {
+                tracker.record("토비의 스프링");
+            }
+        }
+        tracker.compact();
+
+        // When
+        List<HotKeyword> top = tracker.top(2);
+
+        // Then: Count-Min 은 과대 추정만 한다
+        assertThat(top).extracting(HotKeyword::keyword).containsExactly("클린코드", "토비의 스프링");
+        assertThat(top.get(0).count()).isGreaterThanOrEqualTo(1000);
+        assertThat(top.get(1).count()).isGreaterThanOrEqualTo(300);
+    }
+
+    @Test
+    void top_window_가_지나면_이전_검색은_빠짐() {
+        // Given
+        record("자바", 50);
+        nanos.addAndGet(Duration.ofMinutes(5).toNanos());
+        record("코틀린", 20);
+
+        // When
+        List<HotKeyword> within = tracker.top(5);
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        List<HotKeyword> slid = tracker.top(5);
+
+        // Then
+        assertThat(within).containsExactly(new HotKeyword("자바", 50), new HotKeyword("코틀린", 20));
+        assertThat(slid).containsExactly(new HotKeyword("코틀린", 20));
+    }
+
+    @Test
+    void record_한_window_뒤_같은_자리의_bucket_은_새_bucket_으로_교체() {
+        // Given
+        record("자바", 50);
+
+        // When: window (10m) 가 지나 같은 자리로 돌아온 주기
+        nanos.addAndGet(Duration.ofMinutes(10).toNanos());
+        record("자바", 3);
+
+        // Then
+        assertThat(tracker.top(5)).containsExactly(new HotKeyword("자바", 3));
+    }
+
+    @Test
+    void compact_후보_문자열은_topK_의_몇_배까지만_보관() {
+        // Given
+        record("클린코드", 100);
+        IntStream.range(0, 10_000).forEach(i -> tracker.record("unique-" + i));
+
+        // When
+        tracker.compact();
+
+        // Then: compact 후 상위 topK * 2 개만 남는다
+        List<HotKeyword> candidates = tracker.top(Integer.MAX_VALUE);
+        assertThat(candidates).hasSizeLessThanOrEqualTo(10);
+        assertThat(candidates.get(0).keyword()).isEqualTo("클린코드");
+        assertThat(candidates.get(0).count()).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    void record_여러_스레드에서_동시에_올려도_빠짐없이_셈() throws InterruptedException {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> record("동시성", 10_000));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(tracker.top(1)).containsExactly(new HotKeyword("동시성", 80_000));
+    }
+
+    @Test
+    void record_이미_후보인_키워드는_할당_없이_셈() {
+        // Given
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        String keyword = "클린코드";
+        record(keyword, 20_000);
+
+        // When
+        long before = threads.getCurrentThreadAllocatedBytes();
+        record(keyword, 100_000);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Then
+        assertThat(allocated).isLessThan(1024);
+    }
+
+    private void record(String keyword, int times) {
+
+        for (int i = 0; i < times; i++) {
+            tracker.record(keyword);
+        }
+    }
+}
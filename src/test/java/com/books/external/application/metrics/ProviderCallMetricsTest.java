@@ -0,0 +1,102 @@
+package com.books.external.application.metrics;
+
+import com.books.external.application.BookProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProviderCallMetricsTest {
+
+    private MockWebServer mockWebServer;
+    private SimpleMeterRegistry registry;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+
+        registry = new SimpleMeterRegistry();
+        webClient = WebClient.builder()
+                .baseUrl(mockWebServer.url("/").toString())
+                .filter(new ProviderCallMetrics(registry).filter(BookProvider.NAVER))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void filter_성공_응답의_시간과_본문_크기를_기록() {
+        // Given
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("{\"total\":0}"));
+
+        // When
+        StepVerifier.create(webClient.get().uri("/v1/search/book.json").retrieve().bodyToMono(String.class))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Then
+        assertThat(registry.get("books.provider.requests")
+                .tags("provider", "naver", "outcome", "SUCCESS", "status", "200")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("books.provider.response.size").tag("provider", "naver")
+                .summary().totalAmount()).isEqualTo(11);
+        assertThat(registry.get("books.provider.inflight").tag("provider", "naver")
+                .gauge().value()).isZero();
+    }
+
+    @Test
+    void filter_5xx_응답은_에러_카운터에_상태코드로_기록() {
+        // Given
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+        // When
+        StepVerifier.create(webClient.get().uri("/v1/search/book.json").retrieve().bodyToMono(String.class))
+                .expectError(WebClientResponseException.ServiceUnavailable.class)
+                .verify();
+
+        // Then
+        assertThat(registry.get("books.provider.errors")
+                .tags("provider", "naver", "status", "503")
+                .counter().count()).isEqualTo(1);
+        assertThat(registry.get("books.provider.inflight").tag("provider", "naver")
+                .gauge().value()).isZero();
+    }
+
+    @Test
+    void filter_본문을_읽는_중에_취소되면_CANCELLED_로_기록() {
+        // Given: 헤더는 바로, 본문은 천천히 보내는 제공자
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+                .setBody("{\"total\":0,\"items\":[]}")
+                .throttleBody(1, 1, TimeUnit.SECONDS));
+
+        // When
+        StepVerifier.create(webClient.get().uri("/v1/search/book.json").retrieve().bodyToMono(String.class)
+                        .timeout(Duration.ofMillis(300)))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(registry.get("books.provider.requests")
+                .tags("provider", "naver", "outcome", "CANCELLED")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.find("books.provider.requests").tags("outcome", "SUCCESS").timer()).isNull();
+        assertThat(registry.get("books.provider.inflight").tag("provider", "naver")
+                .gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,131 @@
+package com.books.external.application.paging;
+
+import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
+import com.books.external.api.payload.request.naver.NaverSearchRequest;
+import com.books.external.api.payload.response.kakao.KakaoBookResponse;
+import com.books.external.api.payload.response.kakao.KakaoDocument;
+import com.books.external.api.payload.response.kakao.KakaoMeta;
+import com.books.external.api.payload.response.naver.NaverBookResponse;
+import com.books.external.api.payload.response.naver.NaverSearchResponse;
+import com.books.external.application.ExternalBooksFacade;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExternalBooksPagerTest {
+
+    @Mock
+    private ExternalBooksFacade booksFacade;
+
+    private final AtomicInteger fetchedPages = new AtomicInteger();
+
+    private ExternalBooksPager pager;
+
+    @BeforeEach
+    void setUp() {
+        pager = new ExternalBooksPager(booksFacade);
+    }
+
+    @Test
+    void naver_total_까지_start_를_display_만큼_이동하며_순회() {
+        // Given
+        naverWithTotal(250);
+
+        // When & Then
+        StepVerifier.create(pager.naver("클린코드", 1))
+                .expectNextCount(250)
+                .verifyComplete();
+
+        assertThat(fetchedPages.get()).isEqualTo(3);
+    }
+
+    @Test
+    void naver_구독을_취소하면_남은_페이지는_요청하지_않음() {
+        // Given
+        naverWithTotal(1000);
+
+        // When
+        StepVerifier.create(pager.naver("클린코드", 1).take(150))
+                .expectNextCount(150)
+                .verifyComplete();
+
+        // Then
+        assertThat(fetchedPages.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void naver_소비한_만큼만_페이지를_요청() {
+        // Given
+        naverWithTotal(1000);
+
+        // When & Then
+        StepVerifier.create(pager.naver("클린코드", 1), 0)
+                .thenRequest(10)
+                .expectNextCount(10)
+                .then(() -> assertThat(fetchedPages.get()).isLessThanOrEqualTo(2))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void kakao_is_end_이면_종료() {
+        // Given
+        when(booksFacade.searchPage(any(KakaoSearchRequest.class))).thenAnswer(invocation -> {
+            KakaoSearchRequest request = invocation.getArgument(0);
+            return Mono.fromSupplier(() -> {
+                fetchedPages.incrementAndGet();
+                List<KakaoDocument> documents = IntStream.range(0, request.size())
+                        .mapToObj(i -> new KakaoDocument(new String[0], "", "", "isbn-" + request.page() + "-" + i,
+                                0, "", 0, "", "", "title", new String[0], ""))
+                        .toList();
+                return new KakaoBookResponse(documents, new KakaoMeta(request.page() == 2, 100, 100));
+            });
+        });
+
+        // When & Then
+        StepVerifier.create(pager.kakao("클린코드", "title", 1))
+                .expectNextCount(100)
+                .verifyComplete();
+
+        assertThat(fetchedPages.get()).isEqualTo(2);
+        verify(booksFacade).recordKeyword("클린코드");
+        verify(booksFacade, never()).search(any(KakaoSearchRequest.class));
+    }
+
+    @Test
+    void naver_구독하기_전에는_인기_검색어를_세지_않음() {
+        // When
+        pager.naver("클린코드", 1);
+
+        // Then
+        verify(booksFacade, never()).recordKeyword(any());
+    }
+
+    private void naverWithTotal(int total) {
+        when(booksFacade.searchPage(any(NaverSearchRequest.class))).thenAnswer(invocation -> {
+            NaverSearchRequest request = invocation.getArgument(0);
+            return Mono.fromSupplier(() -> {
+                fetchedPages.incrementAndGet();
+                int count = Math.max(0, Math.min(request.display(), total - request.start() + 1));
+                List<NaverSearchResponse> items = IntStream.range(0, count)
+                        .mapToObj(i -> new NaverSearchResponse("title", "", "", "", "", "", "", "", ""))
+                        .toList();
+                return new NaverBookResponse("", total, request.start(), request.display(), items);
+            });
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package com.books.external.application.passthrough;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonFieldStripperTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    @Test
+    void 지정한_필드를_모든_깊이에서_값째로_제거() throws IOException {
+        // Given
+        String json = """
+                {"version":"20131101","logo":"x","item":[
+                  {"title":"클린 코드","mileage":1500,"subInfo":{"ebookList":[{"isbn":"1"}],"packing":{"weight":500}},"priceSales":29700},
+                  {"title":"리팩터링","mileage":null,"subInfo":[1,[2,{"a":3}]],"ratio":1.10}
+                ]}""";
+        JsonFieldStripper stripper = new JsonFieldStripper(objectMapper.getFactory(), Set.of("version", "logo", "mileage", "subInfo"));
+
+        // When
+        String result = strip(stripper, chunks(json.getBytes(StandardCharsets.UTF_8), 1024));
+
+        // Then
+        assertThat(objectMapper.readTree(result)).isEqualTo(objectMapper.readTree("""
+                {"item":[
+                  {"title":"클린 코드","priceSales":29700},
+                  {"title":"리팩터링","ratio":1.10}
+                ]}"""));
+        assertThat(result).contains("1.10");
+    }
+
+    @Test
+    void 토큰이_버퍼_경계에_걸쳐도_결과가_같음() throws IOException {
+        // Given: 한글(멀티바이트)과 숫자가 버퍼 경계에서 잘리도록 3바이트씩
+        byte[] fixture = fixture("/fixtures/aladin-search-50.json");
+        JsonFieldStripper stripper = new JsonFieldStripper(objectMapper.getFactory(),
+                Set.of("logo", "mallType", "stockStatus", "mileage", "seriesInfo"));
+
+        // When
+        String whole = strip(stripper, chunks(fixture, fixture.length));
+        String split = strip(stripper, chunks(fixture, 3));
+
+        // Then
+        assertThat(split).isEqualTo(whole);
+
+        JsonNode expected = objectMapper.readTree(fixture);
+        ((ObjectNode) expected).remove("logo");
+        expected.get("item").forEach(item -> ((ObjectNode) item).remove(List.of("mallType", "stockStatus", "mileage", "seriesInfo")));
+        assertThat(objectMapper.readTree(whole)).isEqualTo(expected);
+    }
+
+    @Test
+    void 입력_버퍼를_모두_반납() {
+        // Given
+        NettyDataBufferFactory nettyFactory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+        byte[] json = "{\"a\":1,\"b\":[1,2,3],\"c\":\"x\"}".getBytes(StandardCharsets.UTF_8);
+        List<NettyDataBuffer> inputs = new ArrayList<>();
+        for (int offset = 0; offset < json.length; offset += 4) {
+            inputs.add(nettyFactory.wrap(Arrays.copyOfRange(json, offset, Math.min(json.length, offset + 4))));
+        }
+        JsonFieldStripper stripper = new JsonFieldStripper(objectMapper.getFactory(), Set.of("b"));
+
+        // When
+        String result = strip(stripper, List.<DataBuffer>copyOf(inputs));
+
+        // Then
+        assertThat(result).isEqualTo("{\"a\":1,\"c\":\"x\"}");
+        assertThat(inputs).allSatisfy(buffer -> assertThat(buffer.getNativeBuffer().refCnt()).isZero());
+    }
+
+    private String strip(JsonFieldStripper stripper, List<DataBuffer> inputs) {
+        DataBuffer joined = DataBufferUtils.join(stripper.strip(Flux.fromIterable(inputs), bufferFactory)).block();
+        String result = joined.toString(StandardCharsets.UTF_8);
+        DataBufferUtils.release(joined);
+        return result;
+    }
+
+    private List<DataBuffer> chunks(byte[] bytes, int size) {
+        List<DataBuffer> chunks = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += size) {
+            chunks.add(bufferFactory.wrap(Arrays.copyOfRange(bytes, offset, Math.min(bytes.length, offset + size))));
+        }
+        return chunks;
+    }
+
+    private static byte[] fixture(String path) throws IOException {
+        try (InputStream in = JsonFieldStripperTest.class.getResourceAsStream(path)) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.books.external.application.passthrough;
+
+import com.books.config.BooksProperties;
+import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
+import com.books.external.api.payload.request.naver.NaverSearchRequest;
+import com.books.external.application.AladinBookService;
+import com.books.external.application.BookProvider;
+import com.books.external.application.KakaoBookService;
+import com.books.external.application.NaverBookService;
+import com.books.external.application.metrics.FacadeMetrics;
+import com.books.external.application.resilience.CircuitBreaker;
+import com.books.external.application.resilience.ProviderCircuitBreakers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProviderPassthroughTest {
+
+    @Mock
+    private AladinBookService aladinBookService;
+
+    @Mock
+    private KakaoBookService kakaoBookService;
+
+    @Mock
+    private NaverBookService naverBookService;
+
+    private ProviderCircuitBreakers circuitBreakers;
+
+    private ProviderPassthrough passthrough;
+
+    @BeforeEach
+    void setUp() {
+        BooksProperties properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "books.naver.passthrough.strip-fields", "lastBuildDate",
+                "books.kakao.circuit-breaker.minimum-number-of-calls", "1",
+                "books.kakao.circuit-breaker.sliding-window-size", "1")))
+                .bindOrCreate("books", BooksProperties.class);
+
+        circuitBreakers = new ProviderCircuitBreakers(properties);
+        passthrough = new ProviderPassthrough(aladinBookService, kakaoBookService, naverBookService, circuitBreakers,
+                new FacadeMetrics(new SimpleMeterRegistry()), properties, new ObjectMapper());
+    }
+
+    @Test
+    void 제거할_필드가_없으면_본문과_Content_Length_를_그대로_전달() {
+        // Given
+        String body = "{\"documents\":[],\"meta\":{\"is_end\":true}}";
+        when(kakaoBookService.passthrough(any(KakaoSearchRequest.class)))
+                .thenReturn(Mono.just(upstream(HttpStatus.OK, MediaType.APPLICATION_JSON, body)));
+
+        // When & Then
+        StepVerifier.create(passthrough.search(new KakaoSearchRequest("클린 코드", "title")))
+                .assertNext(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+                    assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+                    assertThat(response.getHeaders().getContentLength()).isEqualTo(body.length());
+                    assertThat(read(response)).isEqualTo(body);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void 제거할_필드가_있으면_스트리밍으로_걷어내고_Content_Length_는_빼기() {
+        // Given
+        String body = "{\"lastBuildDate\":\"Mon, 13 Oct 2025 19:12:45 +0900\",\"total\":1,\"items\":[{\"title\":\"클린 코드\"}]}";
+        when(naverBookService.passthrough(any(NaverSearchRequest.class)))
+                .thenReturn(Mono.just(upstream(HttpStatus.OK, MediaType.APPLICATION_JSON, body)));
+
+        // When & Then
+        StepVerifier.create(passthrough.search(new NaverSearchRequest("클린 코드", 10, 1)))
+                .assertNext(response -> {
+                    assertThat(response.getHeaders().getContentLength()).isEqualTo(-1);
+                    assertThat(read(response)).isEqualTo("{\"total\":1,\"items\":[{\"title\":\"클린 코드\"}]}");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void upstream_5xx_는_상태_그대로_전달하고_서킷_브레이커에는_실패로_기록() {
+        // Given
+        when(kakaoBookService.passthrough(any(KakaoSearchRequest.class)))
+                .thenReturn(Mono.just(upstream(HttpStatus.BAD_GATEWAY, MediaType.TEXT_HTML, "<html>bad gateway</html>")));
+
+        // When & Then
+        StepVerifier.create(passthrough.search(new KakaoSearchRequest("클린 코드", "title")))
+                .assertNext(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY);
+                    assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.TEXT_HTML);
+                    assertThat(read(response)).isEqualTo("<html>bad gateway</html>");
+                })
+                .verifyComplete();
+
+        assertThat(circuitBreakers.get(BookProvider.KAKAO).state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private static ResponseEntity<Flux<DataBuffer>> upstream(HttpStatus status, MediaType contentType, String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(contentType);
+        headers.setContentLength(bytes.length);
+
+        return new ResponseEntity<>(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes)), headers, status);
+    }
+
+    private static String read(ResponseEntity<Flux<DataBuffer>> response) {
+        DataBuffer joined = DataBufferUtils.join(response.getBody()).block();
+        String body = joined.toString(StandardCharsets.UTF_8);
+        DataBufferUtils.release(joined);
+        return body;
+    }
+}
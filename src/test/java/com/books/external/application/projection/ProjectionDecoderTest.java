@@ -0,0 +1,185 @@
+package com.books.external.application.projection;
+
+import com.books.book.domain.Book;
+import com.books.external.api.payload.response.aladin.AladinBookResponse;
+import com.books.external.api.payload.response.kakao.KakaoBookResponse;
+import com.books.external.api.payload.response.naver.NaverBookResponse;
+import com.books.external.api.payload.response.projection.ProjectedBook;
+import com.books.external.api.payload.response.projection.ProjectedSearchResponse;
+import com.books.external.application.BookMapper;
+import com.books.external.application.BookProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProjectionDecoderTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void 요청한_필드만_채우고_나머지는_비워둠() throws IOException {
+        // Given
+        byte[] kakao = fixture("/fixtures/kakao-search-50.json");
+
+        // When
+        ProjectedSearchResponse response = ProjectionDecoder.decode(BookProvider.KAKAO,
+                new ByteArrayInputStream(kakao), EnumSet.of(BookField.TITLE, BookField.ISBN));
+
+        // Then
+        KakaoBookResponse full = objectMapper.readValue(kakao, KakaoBookResponse.class);
+        assertThat(response.provider()).isEqualTo("kakao");
+        assertThat(response.total()).isEqualTo(full.meta().total_count());
+        assertThat(response.items()).hasSize(full.documents().size());
+        assertThat(response.items()).allSatisfy(book -> {
+            assertThat(book.title()).isNotNull();
+            assertThat(book.isbn13()).isNotNull();
+            assertThat(book.authors()).isNull();
+            assertThat(book.salePrice()).isNull();
+            assertThat(book.description()).isNull();
+            assertThat(book.cover()).isNull();
+        });
+    }
+
+    @Test
+    void 제공자별로_전체_디코딩_후_BookMapper_와_같은_값() throws IOException {
+        // Given
+        Set<BookField> all = EnumSet.allOf(BookField.class);
+        byte[] aladin = fixture("/fixtures/aladin-search-50.json");
+        byte[] kakao = fixture("/fixtures/kakao-search-50.json");
+        byte[] naver = fixture("/fixtures/naver-search-100.json");
+
+        // When
+        ProjectedSearchResponse aladinProjected = ProjectionDecoder.decode(BookProvider.ALADIN, new ByteArrayInputStream(aladin), all);
+        ProjectedSearchResponse kakaoProjected = ProjectionDecoder.decode(BookProvider.KAKAO, new ByteArrayInputStream(kakao), all);
+        ProjectedSearchResponse naverProjected = ProjectionDecoder.decode(BookProvider.NAVER, new ByteArrayInputStream(naver), all);
+
+        // Then
+        AladinBookResponse aladinFull = objectMapper.readValue(aladin, AladinBookResponse.class);
+        assertThat(aladinProjected.total()).isEqualTo(aladinFull.totalResults());
+        assertSameBooks(aladinProjected.items(), aladinFull.item().stream().map(BookMapper::from).toList());
+
+        KakaoBookResponse kakaoFull = objectMapper.readValue(kakao, KakaoBookResponse.class);
+        assertSameBooks(kakaoProjected.items(), kakaoFull.documents().stream().map(BookMapper::from).toList());
+
+        NaverBookResponse naverFull = objectMapper.readValue(naver, NaverBookResponse.class);
+        assertThat(naverProjected.total()).isEqualTo(naverFull.total());
+        assertSameBooks(naverProjected.items(), naverFull.items().stream().map(BookMapper::from).toList());
+    }
+
+    @Test
+    void 항목_안의_중첩_객체와_배열과_null_을_건너뜀() throws IOException {
+        // Given
+        String json = """
+                {"totalResults":"2","item":[
+                  {"title":"<b>클린</b> 코드","seriesInfo":{"seriesId":1,"links":[{"a":[1,2]}]},"isbn13":"9788966260959","cover":null},
+                  {"subInfo":[[],{}],"priceSales":0,"priceStandard":33000}
+                ],"query":"클린"}""";
+
+        // When
+        ProjectedSearchResponse response = ProjectionDecoder.decode(BookProvider.ALADIN,
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), EnumSet.allOf(BookField.class));
+
+        // Then
+        assertThat(response.total()).isEqualTo(2);
+        assertThat(response.items()).containsExactly(
+                new ProjectedBook("클린 코드", null, "9788966260959", null, null, null, null, null, null, null, null),
+                new ProjectedBook(null, null, null, null, 33000L, null, null, null, null, null, null));
+    }
+
+    @Test
+    void DataBuffer_는_디코딩_후_반납() {
+        // Given
+        NettyDataBuffer buffer = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT)
+                .wrap("{\"total\":1,\"items\":[]}".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        ProjectedSearchResponse response = ProjectionDecoder.decode(BookProvider.NAVER, buffer, EnumSet.of(BookField.TITLE));
+
+        // Then
+        assertThat(response.total()).isEqualTo(1);
+        assertThat(response.items()).isEmpty();
+        assertThat(buffer.getNativeBuffer().refCnt()).isZero();
+    }
+
+    @Test
+    void 일부_필드만_요청하면_전체_역직렬화보다_적게_할당() throws IOException {
+        // Given
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        byte[] kakao = fixture("/fixtures/kakao-search-50.json");
+        Set<BookField> fields = EnumSet.of(BookField.TITLE, BookField.AUTHORS, BookField.ISBN, BookField.PRICE, BookField.COVER);
+
+        for (int i = 0; i < 200; i++) {
+            objectMapper.readValue(kakao, KakaoBookResponse.class);
+            ProjectionDecoder.decode(BookProvider.KAKAO, new ByteArrayInputStream(kakao), fields);
+        }
+
+        // When
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 50; i++) {
+            objectMapper.readValue(kakao, KakaoBookResponse.class);
+        }
+        long full = threads.getCurrentThreadAllocatedBytes() - before;
+
+        before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 50; i++) {
+            ProjectionDecoder.decode(BookProvider.KAKAO, new ByteArrayInputStream(kakao), fields);
+        }
+        long projected = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Then: contents(긴 소개글) / translators / status 를 만들지 않는다
+        assertThat(projected).isLessThan(full * 7 / 10);
+    }
+
+    @Test
+    void 알_수_없는_필드나_빈_목록은_거부() {
+        assertThat(BookField.parse("title, Authors,publishedDate"))
+                .containsExactlyInAnyOrder(BookField.TITLE, BookField.AUTHORS, BookField.PUBLISHED_DATE);
+
+        assertThatThrownBy(() -> BookField.parse("title,seriesInfo"))
+                .isInstanceOf(InvalidFieldsException.class)
+                .hasMessageContaining("seriesInfo");
+        assertThatThrownBy(() -> BookField.parse(" , "))
+                .isInstanceOf(InvalidFieldsException.class);
+    }
+
+    private static void assertSameBooks(List<ProjectedBook> projected, List<Book> mapped) {
+
+        assertThat(projected).hasSize(mapped.size());
+
+        for (int i = 0; i < mapped.size(); i++) {
+            ProjectedBook actual = projected.get(i);
+            Book expected = mapped.get(i);
+
+            assertThat(actual.title()).isEqualTo(expected.getTitle());
+            assertThat(actual.authors()).isEqualTo(expected.getAuthors());
+            assertThat(actual.isbn13()).isEqualTo(expected.getIsbn13());
+            assertThat(actual.isbn10()).isEqualTo(expected.getIsbn10());
+            assertThat(actual.salePrice()).isEqualTo(expected.getSalePrice());
+            assertThat(actual.cover()).isEqualTo(expected.getThumbnail());
+            assertThat(actual.publisher()).isEqualTo(expected.getPublisher());
+            assertThat(actual.publishedDate()).isEqualTo(expected.getPublishedDate());
+            assertThat(actual.description()).isEqualTo(expected.getDescription());
+        }
+    }
+
+    private byte[] fixture(String path) throws IOException {
+
+        try (InputStream in = getClass().getResourceAsStream(path)) {
+            return in.readAllBytes();
+        }
+    }
+}
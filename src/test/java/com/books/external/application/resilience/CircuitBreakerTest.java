@@ -0,0 +1,126 @@
+package com.books.external.application.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(100).toNanos();
+    private static final long SLOW = Duration.ofSeconds(3).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker(
+                4, 4, 50, Duration.ofSeconds(2), 75, Duration.ofSeconds(30), 2, clock::get);
+    }
+
+    @Test
+    void 최소_호출수_전에는_실패해도_닫힌_상태_유지() {
+        // When
+        record(false, FAST);
+        record(false, FAST);
+        record(false, FAST);
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void 실패율_임계치_초과시_열리고_호출_거부() {
+        // When
+        record(true, FAST);
+        record(true, FAST);
+        record(false, FAST);
+        record(false, FAST);
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void 느린_호출_비율_임계치_초과시_열림() {
+        // When
+        record(true, SLOW);
+        record(true, SLOW);
+        record(true, SLOW);
+        record(true, FAST);
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void 대기_시간_경과후_시험_호출이_성공하면_닫힘() {
+        // Given
+        open();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // When
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onSuccess(FAST);
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 시험_호출이_실패하면_다시_열림() {
+        // Given
+        open();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // When
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onError(FAST);
+        circuitBreaker.onSuccess(FAST);
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void 빠르게_취소된_시험_호출은_허가만_반납() {
+        // Given
+        open();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.tryAcquirePermission();
+
+        // When
+        circuitBreaker.onCancel(FAST);
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            record(true, FAST);
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void record(boolean failure, long durationNanos) {
+        circuitBreaker.tryAcquirePermission();
+        if (failure) {
+            circuitBreaker.onError(durationNanos);
+        } else {
+            circuitBreaker.onSuccess(durationNanos);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.books.external.application.resilience;
+
+import com.books.config.BooksProperties;
+import com.books.external.application.BookProvider;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProviderRateLimitersTest {
+
+    private final ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("https://dapi.kakao.com")).build();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final ExchangeFunction upstream = request -> Mono.fromSupplier(() -> {
+        upstreamCalls.incrementAndGet();
+        return ClientResponse.create(HttpStatus.OK).build();
+    });
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2025-01-01T00:00:00Z"));
+
+    @Test
+    void filter_버스트를_넘고_대기_한도를_넘으면_upstream_호출없이_거절() {
+        // Given
+        ExchangeFilterFunction filter = filter(Map.of(
+                "books.kakao.rate-limit.permits-per-second", "1",
+                "books.kakao.rate-limit.burst", "2",
+                "books.kakao.rate-limit.max-wait", "0s"));
+
+        // When & Then
+        StepVerifier.create(filter.filter(request, upstream)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(filter.filter(request, upstream)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(filter.filter(request, upstream)).verifyError(RateLimitExceededException.class);
+
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void filter_토큰이_없으면_대기_한도_안에서_기다렸다가_전송() {
+        // Given
+        ExchangeFilterFunction filter = filter(Map.of(
+                "books.kakao.rate-limit.permits-per-second", "10",
+                "books.kakao.rate-limit.burst", "1",
+                "books.kakao.rate-limit.max-wait", "500ms"));
+
+        StepVerifier.create(filter.filter(request, upstream)).expectNextCount(1).verifyComplete();
+
+        // When & Then
+        StepVerifier.withVirtualTime(() -> filter.filter(request, upstream))
+                .expectSubscription()
+                .then(() -> assertThat(upstreamCalls.get()).isEqualTo(1))
+                .thenAwait(Duration.ofMillis(100))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void filter_일일_쿼터를_다_쓰면_거절하고_다음날_초기화() {
+        // Given
+        ExchangeFilterFunction filter = filter(Map.of(
+                "books.kakao.rate-limit.permits-per-second", "1000",
+                "books.kakao.rate-limit.burst", "100",
+                "books.kakao.rate-limit.daily-quota", "2"));
+
+        // When & Then
+        StepVerifier.create(filter.filter(request, upstream)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(filter.filter(request, upstream)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(filter.filter(request, upstream)).verifyError(RateLimitExceededException.class);
+
+        now.set(now.get().plus(Duration.ofDays(1)));
+
+        StepVerifier.create(filter.filter(request, upstream)).expectNextCount(1).verifyComplete();
+        assertThat(upstreamCalls.get()).isEqualTo(3);
+    }
+
+    private ExchangeFilterFunction filter(Map<String, String> rateLimit) {
+        BooksProperties properties = new Binder(new MapConfigurationPropertySource(rateLimit))
+                .bindOrCreate("books", BooksProperties.class);
+
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneId.of("Asia/Seoul");
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+
+        // 버킷 시간은 고정해 토큰이 저절로 채워지지 않게 한다
+        return new ProviderRateLimiters(properties, clock, () -> 0L).filter(BookProvider.KAKAO);
+    }
+}
@@ -0,0 +1,116 @@
+package com.books.external.application.resilience;
+
+import com.books.config.BooksProperties;
+import com.books.external.application.BookProvider;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProviderRetriesTest {
+
+    private MockWebServer mockWebServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void get_503이면_백오프_후_재시도해_성공() {
+        // Given
+        WebClient webClient = webClient(Map.of());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("ok"));
+
+        // When & Then
+        StepVerifier.create(get(webClient))
+                .expectNext("ok")
+                .verifyComplete();
+
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void get_Retry_After_가_최대_백오프보다_길면_재시도하지_않음() {
+        // Given
+        WebClient webClient = webClient(Map.of());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "30"));
+
+        // When & Then
+        StepVerifier.create(get(webClient))
+                .expectError(WebClientResponseException.TooManyRequests.class)
+                .verify();
+
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void post_멱등_속성이_없으면_재시도하지_않음() {
+        // Given
+        WebClient webClient = webClient(Map.of());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+        // When & Then
+        StepVerifier.create(webClient.post().uri("/search").retrieve().bodyToMono(String.class))
+                .expectError(WebClientResponseException.ServiceUnavailable.class)
+                .verify();
+
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_재시도_예산을_다_쓰면_더_이상_재시도하지_않음() {
+        // Given
+        WebClient webClient = webClient(Map.of(
+                "books.kakao.retry.budget-percent", "0",
+                "books.kakao.retry.budget-burst", "1"));
+        for (int i = 0; i < 3; i++) {
+            mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+        }
+
+        // When & Then
+        StepVerifier.create(get(webClient)).expectError(WebClientResponseException.class).verify();
+        StepVerifier.create(get(webClient)).expectError(WebClientResponseException.class).verify();
+
+        // 첫 요청 2회 (재시도 1회) + 두 번째 요청 1회
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(3);
+    }
+
+    private WebClient webClient(Map<String, String> overrides) {
+        Map<String, String> retry = new HashMap<>(Map.of(
+                "books.kakao.retry.initial-backoff", "1ms",
+                "books.kakao.retry.max-backoff", "100ms"));
+        retry.putAll(overrides);
+
+        BooksProperties properties = new Binder(new MapConfigurationPropertySource(retry))
+                .bindOrCreate("books", BooksProperties.class);
+
+        return WebClient.builder()
+                .baseUrl(mockWebServer.url("/").toString())
+                .filter(new ProviderRetries(properties).filter(BookProvider.KAKAO))
+                .build();
+    }
+
+    private static Mono<String> get(WebClient webClient) {
+        return webClient.get().uri("/search").retrieve().bodyToMono(String.class);
+    }
+}
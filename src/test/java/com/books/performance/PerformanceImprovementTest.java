@@ -3,16 +3,22 @@ package com.books.performance;
 import com.books.external.application.ExternalBooksFacade;
 import com.books.external.api.payload.request.kakao.KakaoSearchRequest;
 import com.books.external.api.payload.response.kakao.KakaoBookResponse;
+import com.books.performance.load.FakeProviders;
+import com.books.performance.load.ProviderBehavior;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -28,11 +34,26 @@ import static org.junit.jupiter.api.Assertions.*;
  * 2. 응답 시간 측정
  * 3. 동시 요청 처리 능력 검증
  * 4. 타임아웃 설정 검증
+ *
+ * 실제 제공자 대신 픽스처를 재생하는 가짜 제공자를 호출하므로 네트워크 없이 실행된다.
  */
 @SpringBootTest
 @ActiveProfiles("test")
 class PerformanceImprovementTest {
 
+    private static final FakeProviders providers =
+        FakeProviders.start(ProviderBehavior.typical(Duration.ofMillis(20), Duration.ofMillis(200)));
+
+    @DynamicPropertySource
+    static void providerProperties(DynamicPropertyRegistry registry) {
+        providers.register(registry);
+    }
+
+    @AfterAll
+    static void stopProviders() throws IOException {
+        providers.close();
+    }
+
     @Autowired
     private ExternalBooksFacade externalBooksFacade;
 
@@ -0,0 +1,144 @@
+package com.books.performance.load;
+
+import com.books.external.application.BookProvider;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+/**
+ * 실제 응답 크기의 픽스처(src/test/resources/fixtures)를 재생하는 가짜 제공자 서버.
+ * 제공자 API 경로가 아니면 404, ProviderBehavior 에 따라 지연 / 503 / 느린 본문을 섞는다.
+ */
+public final class FakeProviderServer implements Closeable {
+
+    private final BookProvider provider;
+    private final MockWebServer server = new MockWebServer();
+    private final byte[] payload;
+    private volatile ProviderBehavior behavior;
+
+    private final LongAdder served = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private FakeProviderServer(BookProvider provider, ProviderBehavior behavior) {
+
+        this.provider = provider;
+        this.payload = fixture(provider);
+        this.behavior = behavior;
+    }
+
+    public static FakeProviderServer start(BookProvider provider, ProviderBehavior behavior) {
+
+        FakeProviderServer fake = new FakeProviderServer(provider, behavior);
+        fake.server.setDispatcher(fake.new Replay());
+
+        try {
+            fake.server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return fake;
+    }
+
+    public BookProvider provider() {
+
+        return provider;
+    }
+
+    public String baseUrl() {
+
+        String url = server.url("/").toString();
+        return url.substring(0, url.length() - 1);
+    }
+
+    // 측정 구간마다 동작을 바꿀 수 있다
+    public void behave(ProviderBehavior behavior) {
+
+        this.behavior = behavior;
+    }
+
+    public long served() {
+
+        return served.sum();
+    }
+
+    public long failed() {
+
+        return failed.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        server.shutdown();
+    }
+
+    private final class Replay extends Dispatcher {
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+
+            if (request.getRequestUrl() == null || !path(provider).equals(request.getRequestUrl().encodedPath())) {
+                return new MockResponse().setResponseCode(404);
+            }
+
+            ProviderBehavior current = behavior;
+            MockResponse response = new MockResponse();
+
+            long latency = current.latency().sampleMillis();
+            if (latency > 0) {
+                response.setHeadersDelay(latency, TimeUnit.MILLISECONDS);
+            }
+
+            if (current.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < current.errorRate()) {
+                failed.increment();
+                return response.setResponseCode(503);
+            }
+
+            served.increment();
+            response.setResponseCode(200)
+                .setHeader("Content-Type", "application/json;charset=UTF-8")
+                .setBody(new Buffer().write(payload));
+
+            if (current.dripBytes() > 0) {
+                response.throttleBody(current.dripBytes(), current.dripPeriod().toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return response;
+        }
+    }
+
+    static String path(BookProvider provider) {
+
+        return switch (provider) {
+            case ALADIN -> "/ttb/api/ItemSearch.aspx";
+            case KAKAO -> "/v3/search/book";
+            case NAVER -> "/v1/search/book.json";
+        };
+    }
+
+    private static byte[] fixture(BookProvider provider) {
+
+        String name = switch (provider) {
+            case ALADIN -> "/fixtures/aladin-search-50.json";
+            case KAKAO -> "/fixtures/kakao-search-50.json";
+            case NAVER -> "/fixtures/naver-search-100.json";
+        };
+
+        try (InputStream in = FakeProviderServer.class.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalStateException("fixture not found: " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
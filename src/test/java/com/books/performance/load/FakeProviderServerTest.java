@@ -0,0 +1,106 @@
+package com.books.performance.load;
+
+import com.books.external.application.BookProvider;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FakeProviderServerTest {
+
+    private FakeProviderServer server;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void 제공자_경로로_픽스처를_재생() {
+        // Given
+        server = FakeProviderServer.start(BookProvider.KAKAO, ProviderBehavior.instant());
+
+        // When & Then
+        StepVerifier.create(get("/v3/search/book?query=test"))
+                .assertNext(body -> assertThat(body).contains("\"documents\""))
+                .verifyComplete();
+
+        assertThat(server.served()).isEqualTo(1);
+    }
+
+    @Test
+    void 다른_경로는_404() {
+        // Given
+        server = FakeProviderServer.start(BookProvider.NAVER, ProviderBehavior.instant());
+
+        // When & Then
+        StepVerifier.create(status("/v3/search/book"))
+                .expectNext(HttpStatus.NOT_FOUND.value())
+                .verifyComplete();
+    }
+
+    @Test
+    void 오류율이_1이면_모두_503() {
+        // Given
+        server = FakeProviderServer.start(BookProvider.ALADIN, ProviderBehavior.instant().withErrorRate(1));
+
+        // When & Then
+        StepVerifier.create(status("/ttb/api/ItemSearch.aspx"))
+                .expectNext(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .verifyComplete();
+
+        assertThat(server.failed()).isEqualTo(1);
+    }
+
+    @Test
+    void 느린_본문은_drip_속도만큼_늦게_끝남() {
+        // Given: 네이버 픽스처(수십 KB)를 10ms 마다 8KB 씩
+        server = FakeProviderServer.start(BookProvider.NAVER,
+                ProviderBehavior.instant().withSlowDrip(8 * 1024, Duration.ofMillis(10)));
+
+        // When
+        long start = System.nanoTime();
+        String body = get("/v1/search/book.json").block(Duration.ofSeconds(10));
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // Then
+        assertThat(body).isNotEmpty();
+        long expectedMillis = (body.getBytes().length / (8 * 1024)) * 10L;
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(expectedMillis / 2);
+    }
+
+    @Test
+    void 로그_정규_분포는_중앙값_근처에_모임() {
+        // Given
+        LatencyDistribution latency = LatencyDistribution.logNormal(Duration.ofMillis(100), Duration.ofMillis(500));
+
+        // When
+        long[] samples = new long[10_000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = latency.sampleMillis();
+        }
+        Arrays.sort(samples);
+
+        // Then
+        assertThat(samples[samples.length / 2]).isBetween(85L, 115L);
+        assertThat(samples[(int) (samples.length * 0.99)]).isBetween(350L, 700L);
+    }
+
+    private Mono<String> get(String path) {
+        return WebClient.create(server.baseUrl()).get().uri(path)
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+
+    private Mono<Integer> status(String path) {
+        return WebClient.create(server.baseUrl()).get().uri(path)
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()));
+    }
+}
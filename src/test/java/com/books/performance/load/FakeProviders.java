@@ -0,0 +1,70 @@
+package com.books.performance.load;
+
+import com.books.external.application.BookProvider;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+/**
+ * 세 제공자의 가짜 서버 묶음. register 로 books.&lt;provider&gt;.base-url 을 가짜 서버로 돌리고,
+ * 부하 측정이 우리 쪽 토큰 버킷 / 일일 쿼터에 막히지 않도록 rate limit 을 끈다.
+ */
+public final class FakeProviders implements Closeable {
+
+    private final Map<BookProvider, FakeProviderServer> servers = new EnumMap<>(BookProvider.class);
+
+    private FakeProviders() {
+    }
+
+    public static FakeProviders start(ProviderBehavior behavior) {
+
+        FakeProviders providers = new FakeProviders();
+        for (BookProvider provider : BookProvider.values()) {
+            providers.servers.put(provider, FakeProviderServer.start(provider, behavior));
+        }
+        return providers;
+    }
+
+    public FakeProviderServer server(BookProvider provider) {
+
+        return servers.get(provider);
+    }
+
+    public void behave(ProviderBehavior behavior) {
+
+        servers.values().forEach(server -> server.behave(behavior));
+    }
+
+    public void register(DynamicPropertyRegistry registry) {
+
+        servers.forEach((provider, server) -> {
+            String prefix = "books." + provider.id();
+            registry.add(prefix + ".base-url", server::baseUrl);
+            registry.add(prefix + ".rate-limit.enabled", () -> "false");
+        });
+    }
+
+    // SpringApplicationBuilder 로 직접 띄울 때 쓰는 같은 설정의 명령행 인자
+    public List<String> arguments() {
+
+        List<String> arguments = new ArrayList<>();
+        servers.forEach((provider, server) -> {
+            String prefix = "--books." + provider.id();
+            arguments.add(prefix + ".base-url=" + server.baseUrl());
+            arguments.add(prefix + ".rate-limit.enabled=false");
+        });
+        return arguments;
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        for (FakeProviderServer server : servers.values()) {
+            server.close();
+        }
+    }
+}
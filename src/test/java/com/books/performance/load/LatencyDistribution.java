@@ -0,0 +1,40 @@
+package com.books.performance.load;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 가짜 제공자의 응답 지연 분포. 실제 제공자 응답 시간은 꼬리가 긴 로그 정규 분포에 가깝다.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    // 표준 정규 분포의 99 백분위
+    double Z_99 = 2.3263;
+
+    long sampleMillis();
+
+    static LatencyDistribution none() {
+
+        return () -> 0;
+    }
+
+    static LatencyDistribution fixed(Duration latency) {
+
+        long millis = latency.toMillis();
+        return () -> millis;
+    }
+
+    // median / p99 로부터 mu, sigma 를 정한다
+    static LatencyDistribution logNormal(Duration median, Duration p99) {
+
+        if (p99.compareTo(median) < 0) {
+            throw new IllegalArgumentException("p99 must not be less than median");
+        }
+
+        double mu = Math.log(Math.max(1, median.toMillis()));
+        double sigma = (Math.log(Math.max(1, p99.toMillis())) - mu) / Z_99;
+
+        return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+}
@@ -0,0 +1,90 @@
+package com.books.performance.load;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 엔드포인트에 고정 동시성으로 요청을 흘려보내고 처리량 / 지연 백분위 / 힙 증가량 / 최대 스레드 수를 잰다.
+ * 요청 i 의 URI 는 uriFor(i) 로 정하므로 키워드 풀을 돌려 캐시 적중 / 미스를 섞을 수 있다.
+ */
+public final class LoadDriver {
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final WebClient client;
+    private final Duration requestTimeout;
+
+    public LoadDriver(String baseUrl, Duration requestTimeout) {
+
+        this.client = WebClient.builder()
+            .baseUrl(baseUrl)
+            // 통합 응답은 기본 256KB 를 넘을 수 있다
+            .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
+            .build();
+        this.requestTimeout = requestTimeout;
+    }
+
+    public LoadReport run(String target, IntFunction<String> uriFor, int concurrency, int requests) {
+
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+
+        long heapBefore = settledHeap();
+        THREADS.resetPeakThreadCount();
+        long start = System.nanoTime();
+
+        Flux.range(0, requests)
+            .flatMap(i -> Mono.defer(() -> {
+                long begin = System.nanoTime();
+
+                return call(uriFor.apply(i))
+                    .doOnNext(ok -> {
+                        latencies[i] = System.nanoTime() - begin;
+                        if (!ok) {
+                            errors.incrementAndGet();
+                        }
+                    });
+            }), concurrency)
+            .blockLast();
+
+        long elapsed = System.nanoTime() - start;
+        int peakThreads = THREADS.getPeakThreadCount();
+        long heapGrowth = settledHeap() - heapBefore;
+
+        return LoadReport.of(target, concurrency, latencies, errors.get(), elapsed, heapGrowth, peakThreads);
+    }
+
+    public List<LoadReport> ramp(String target, IntFunction<String> uriFor, List<Integer> concurrencyLevels,
+                                 int requestsPerLevel) {
+
+        return concurrencyLevels.stream()
+            .map(concurrency -> run(target, uriFor, concurrency, requestsPerLevel))
+            .toList();
+    }
+
+    private Mono<Boolean> call(String uri) {
+
+        return client.get()
+            .uri(uri)
+            .exchangeToMono(response -> response.releaseBody()
+                .thenReturn(response.statusCode().is2xxSuccessful()))
+            .timeout(requestTimeout)
+            .onErrorReturn(false);
+    }
+
+    // GC 직후의 힙 사용량. 단계 사이에 남은 객체(캐시, 커넥션 풀 등)가 누적되는지 본다
+    private static long settledHeap() {
+
+        System.gc();
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+}
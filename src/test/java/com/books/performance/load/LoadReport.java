@@ -0,0 +1,65 @@
+package com.books.performance.load;
+
+import java.util.Arrays;
+
+/**
+ * 한 동시성 단계의 측정 결과. 지연은 성공 / 실패 모두 포함한 요청 왕복 시간.
+ * peakThreads 는 측정 중 JVM 전체(부하 드라이버와 가짜 제공자 포함)의 최대 라이브 스레드 수.
+ */
+public record LoadReport(
+
+        String target,
+        int concurrency,
+        int requests,
+        int errors,
+        double throughputPerSecond,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis,
+        long heapGrowthBytes,
+        int peakThreads) {
+
+    static LoadReport of(String target, int concurrency, long[] latencyNanos, int errors,
+                         long elapsedNanos, long heapGrowthBytes, int peakThreads) {
+
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+
+        return new LoadReport(target, concurrency, sorted.length, errors,
+            sorted.length / (elapsedNanos / 1e9),
+            percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+            sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6,
+            heapGrowthBytes, peakThreads);
+    }
+
+    // nearest-rank
+    private static double percentile(long[] sorted, double quantile) {
+
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1e6;
+    }
+
+    public double errorRate() {
+
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    public static String header() {
+
+        return String.format("%-8s %6s %8s %7s %10s %9s %9s %9s %9s %10s %8s",
+            "target", "conc", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "heap(KB)",
+            "threads");
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format("%-8s %6d %8d %7d %10.1f %9.1f %9.1f %9.1f %9.1f %10d %8d",
+            target, concurrency, requests, errors, throughputPerSecond,
+            p50Millis, p95Millis, p99Millis, maxMillis, heapGrowthBytes / 1024, peakThreads);
+    }
+}
@@ -0,0 +1,116 @@
+package com.books.performance.load;
+
+import com.books.external.application.BookProvider;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가짜 제공자를 상대로 Java / Kotlin 통합 검색 엔드포인트의 동시성 단계별 처리량, 지연 백분위, 힙 증가량을 잰다.
+ * 네트워크 없이 돌지만 오래 걸리므로 기본 test 에서 빠지고 ./gradlew loadTest 로 실행한다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class OfflineLoadTest {
+
+    private static final List<Integer> CONCURRENCY = List.of(1, 8, 32, 128);
+    private static final int REQUESTS_PER_LEVEL = 2_000;
+
+    // 80% 는 인기 키워드(캐시 적중), 20% 는 매번 새 키워드(캐시 미스 -> 제공자 호출)
+    private static final List<String> HOT_KEYWORDS = IntStream.range(0, 100)
+        .mapToObj(i -> "부하테스트 " + i)
+        .toList();
+    private static final double HOT_RATIO = 0.8;
+
+    // 실제 제공자와 비슷한 지연 분포, 1% 503, 알라딘은 본문을 천천히 흘린다
+    private static final ProviderBehavior BEHAVIOR = ProviderBehavior.typical(Duration.ofMillis(80), Duration.ofMillis(400))
+        .withErrorRate(0.01);
+
+    private static final FakeProviders providers = FakeProviders.start(BEHAVIOR);
+
+    @DynamicPropertySource
+    static void providerProperties(DynamicPropertyRegistry registry) {
+        providers.register(registry);
+        // 2,000 요청 x 3 제공자가 한 번에 몰려도 풀 대기에서 떨어지지 않게 한다
+        for (String provider : List.of("aladin", "kakao", "naver")) {
+            registry.add("books." + provider + ".http.max-connections", () -> "256");
+            registry.add("books." + provider + ".http.pending-acquire-max-count", () -> "4096");
+        }
+    }
+
+    @AfterAll
+    static void stopProviders() throws IOException {
+        providers.close();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    private LoadDriver driver;
+
+    @BeforeEach
+    void setUp() {
+        driver = new LoadDriver("http://localhost:" + port, Duration.ofSeconds(10));
+        providers.server(BookProvider.ALADIN)
+            .behave(BEHAVIOR.withSlowDrip(8 * 1024, Duration.ofMillis(10)));
+    }
+
+    @Test
+    void java_통합_검색_동시성_단계별_측정() {
+        // Given
+        IntFunction<String> uri = i -> "/api/external/unified?keyword=" + keyword(i);
+        driver.run("warmup", uri, 8, 200);
+
+        // When
+        List<LoadReport> reports = driver.ramp("java", uri, CONCURRENCY, REQUESTS_PER_LEVEL);
+
+        // Then
+        print(reports);
+        assertThat(reports).allSatisfy(report -> assertThat(report.errorRate()).isLessThan(0.01));
+    }
+
+    @Test
+    void kotlin_통합_검색_동시성_단계별_측정() {
+        // Given
+        IntFunction<String> uri = i -> "/api/external/kotlin/advanced/search/unified?keyword=" + keyword(i);
+        driver.run("warmup", uri, 8, 200);
+
+        // When
+        List<LoadReport> reports = driver.ramp("kotlin", uri, CONCURRENCY, REQUESTS_PER_LEVEL);
+
+        // Then
+        print(reports);
+        assertThat(reports).allSatisfy(report -> assertThat(report.errorRate()).isLessThan(0.01));
+    }
+
+    private static String keyword(int i) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String keyword = random.nextDouble() < HOT_RATIO
+            ? HOT_KEYWORDS.get(random.nextInt(HOT_KEYWORDS.size()))
+            : "부하테스트 " + UUID.randomUUID();
+        return URLEncoder.encode(keyword, StandardCharsets.UTF_8);
+    }
+
+    private static void print(List<LoadReport> reports) {
+        System.out.println(LoadReport.header());
+        reports.forEach(System.out::println);
+    }
+}
@@ -0,0 +1,36 @@
+package com.books.performance.load;
+
+import java.time.Duration;
+
+/**
+ * 가짜 제공자 한 곳의 동작.
+ * latency - 헤더를 보내기 전 지연, errorRate - 503 을 돌려줄 비율 (0 ~ 1),
+ * dripBytes / dripPeriod - 0 보다 크면 본문을 dripPeriod 마다 dripBytes 씩 흘려보낸다 (느린 본문)
+ */
+public record ProviderBehavior(
+
+        LatencyDistribution latency,
+        double errorRate,
+        long dripBytes,
+        Duration dripPeriod) {
+
+    public static ProviderBehavior instant() {
+
+        return new ProviderBehavior(LatencyDistribution.none(), 0, 0, Duration.ZERO);
+    }
+
+    public static ProviderBehavior typical(Duration median, Duration p99) {
+
+        return new ProviderBehavior(LatencyDistribution.logNormal(median, p99), 0, 0, Duration.ZERO);
+    }
+
+    public ProviderBehavior withErrorRate(double errorRate) {
+
+        return new ProviderBehavior(latency, errorRate, dripBytes, dripPeriod);
+    }
+
+    public ProviderBehavior withSlowDrip(long dripBytes, Duration dripPeriod) {
+
+        return new ProviderBehavior(latency, errorRate, dripBytes, dripPeriod);
+    }
+}
@@ -0,0 +1,87 @@
+package com.books.performance.load;
+
+import com.books.BooksApplication;
+import com.books.external.application.BookProvider;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 같은 가짜 제공자를 상대로 서블릿(Tomcat) 모드와 reactive(Netty) 모드를 차례로 띄워
+ * 동시성 단계별 처리량, 지연 백분위, 최대 스레드 수를 비교한다. ./gradlew loadTest 로 실행.
+ */
+@Tag("load")
+class RuntimeModeLoadTest {
+
+    private static final List<Integer> CONCURRENCY = List.of(8, 64, 256, 512);
+    private static final int REQUESTS_PER_LEVEL = 4_000;
+
+    // 캐시에 가려지지 않도록 매 요청 새 키워드로 제공자 호출 경로 전체를 잰다
+    private static final IntFunction<String> UNIFIED = i -> "/api/external/unified?keyword="
+        + URLEncoder.encode("런타임비교 " + UUID.randomUUID(), StandardCharsets.UTF_8);
+    private static final IntFunction<String> KOTLIN_UNIFIED = i -> "/api/external/kotlin/advanced/search/unified?keyword="
+        + URLEncoder.encode("런타임비교 " + UUID.randomUUID(), StandardCharsets.UTF_8);
+
+    private static final FakeProviders providers =
+        FakeProviders.start(ProviderBehavior.typical(Duration.ofMillis(50), Duration.ofMillis(250)));
+
+    @AfterAll
+    static void stopProviders() throws IOException {
+        providers.close();
+    }
+
+    @Test
+    void 서블릿_모드와_reactive_모드_비교() {
+        // Given & When
+        List<LoadReport> reports = new ArrayList<>();
+        reports.addAll(measure(WebApplicationType.SERVLET, "servlet"));
+        reports.addAll(measure(WebApplicationType.REACTIVE, "netty"));
+
+        // Then
+        System.out.println(LoadReport.header());
+        reports.forEach(System.out::println);
+    }
+
+    private List<LoadReport> measure(WebApplicationType type, String label) {
+        try (ConfigurableApplicationContext context = start(type)) {
+            String port = context.getEnvironment().getRequiredProperty("local.server.port");
+            LoadDriver driver = new LoadDriver("http://localhost:" + port, Duration.ofSeconds(10));
+
+            driver.run("warmup", UNIFIED, 16, 500);
+
+            List<LoadReport> reports = new ArrayList<>(driver.ramp(label, UNIFIED, CONCURRENCY, REQUESTS_PER_LEVEL));
+            reports.addAll(driver.ramp(label + "-kt", KOTLIN_UNIFIED, CONCURRENCY, REQUESTS_PER_LEVEL));
+            return reports;
+        }
+    }
+
+    private static ConfigurableApplicationContext start(WebApplicationType type) {
+        List<String> args = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--spring.profiles.active=test",
+            "--logging.level.com.books=INFO",
+            "--logging.level.org.springframework.web.reactive=INFO"));
+
+        args.addAll(providers.arguments());
+        for (BookProvider provider : BookProvider.values()) {
+            String prefix = "--books." + provider.id();
+            args.add(prefix + ".http.max-connections=512");
+            args.add(prefix + ".http.pending-acquire-max-count=8192");
+        }
+
+        return new SpringApplicationBuilder(BooksApplication.class)
+            .web(type)
+            .run(args.toArray(String[]::new));
+    }
+}
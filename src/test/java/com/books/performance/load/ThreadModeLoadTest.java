@@ -0,0 +1,102 @@
+package com.books.performance.load;
+
+import com.books.BooksApplication;
+import com.books.book.entity.BookEntity;
+import com.books.book.entity.BookRepository;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 플랫폼 스레드 모드와 가상 스레드 모드(spring.threads.virtual.enabled)를 같은 가짜 제공자 상대로 비교한다.
+ * 요청 절반은 카탈로그(H2 / JPA) 적중 ISBN 조회, 절반은 매번 새 키워드의 통합 검색(캐시 미스 -> 제공자 호출).
+ * 두 모드 모두 Tomcat 스레드 상한을 같게 두어 블로킹 동시성이 풀 크기에 묶이는지 본다. ./gradlew loadTest 로 실행.
+ */
+@Tag("load")
+class ThreadModeLoadTest {
+
+    private static final List<Integer> CONCURRENCY = List.of(16, 128, 512, 1024);
+    private static final int REQUESTS_PER_LEVEL = 4_000;
+    private static final int CATALOG_SIZE = 1_000;
+
+    private static final List<String> CATALOG_ISBNS = IntStream.range(0, CATALOG_SIZE)
+        .mapToObj(i -> isbn13(String.format("979%09d", i)))
+        .toList();
+
+    private static final IntFunction<String> MIXED = i -> i % 2 == 0
+        ? "/kotlin/api/books/name?isbn=" + CATALOG_ISBNS.get(i % CATALOG_SIZE)
+        : "/api/external/unified?keyword=" + URLEncoder.encode("스레드비교 " + UUID.randomUUID(), StandardCharsets.UTF_8);
+
+    private static final FakeProviders providers =
+        FakeProviders.start(ProviderBehavior.typical(Duration.ofMillis(50), Duration.ofMillis(250)));
+
+    @AfterAll
+    static void stopProviders() throws IOException {
+        providers.close();
+    }
+
+    @Test
+    void 플랫폼_스레드와_가상_스레드_비교() {
+        // Given & When
+        List<LoadReport> reports = new ArrayList<>();
+        reports.addAll(measure(false, "platform"));
+        reports.addAll(measure(true, "virtual"));
+
+        // Then
+        System.out.println(LoadReport.header());
+        reports.forEach(System.out::println);
+    }
+
+    private List<LoadReport> measure(boolean virtualThreads, String label) {
+        try (ConfigurableApplicationContext context = start(virtualThreads)) {
+            seedCatalog(context.getBean(BookRepository.class));
+
+            String port = context.getEnvironment().getRequiredProperty("local.server.port");
+            LoadDriver driver = new LoadDriver("http://localhost:" + port, Duration.ofSeconds(10));
+
+            driver.run("warmup", MIXED, 16, 500);
+            return driver.ramp(label, MIXED, CONCURRENCY, REQUESTS_PER_LEVEL);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        List<String> args = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--spring.profiles.active=test",
+            "--spring.threads.virtual.enabled=" + virtualThreads,
+            "--server.tomcat.threads.max=200",
+            "--server.tomcat.max-connections=8192",
+            "--spring.datasource.hikari.maximum-pool-size=32",
+            "--logging.level.com.books=INFO",
+            "--logging.level.org.springframework.web.reactive=INFO"));
+        args.addAll(providers.arguments());
+
+        return new SpringApplicationBuilder(BooksApplication.class)
+            .run(args.toArray(String[]::new));
+    }
+
+    private static void seedCatalog(BookRepository bookRepository) {
+        bookRepository.saveAll(CATALOG_ISBNS.stream()
+            .map(isbn -> new BookEntity(isbn, null, "부하테스트 " + isbn, "테스트 저자", null, null, null, null, null, null, null))
+            .toList());
+    }
+
+    private static String isbn13(String first12) {
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            sum += (first12.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return first12 + (10 - sum % 10) % 10;
+    }
+}
@@ -0,0 +1,64 @@
+package com.books.book.application
+
+import com.books.book.domain.Book
+import com.books.book.entity.BookRepository
+import com.books.config.BooksProperties
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.context.properties.EnableConfigurationProperties
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.boot.test.context.TestConfiguration
+import org.springframework.context.annotation.Import
+import org.springframework.data.repository.findByIdOrNull
+
+@DataJpaTest
+@Import(BookCatalogWriter::class)
+class BookCatalogWriterTest @Autowired constructor(
+    private val bookCatalogWriter: BookCatalogWriter,
+    private val bookRepository: BookRepository
+) {
+
+    @TestConfiguration
+    @EnableConfigurationProperties(BooksProperties::class)
+    class Config
+
+    @Test
+    fun `upsert_같은_ISBN13은_비어있지_않은_값만_덮어씀`() {
+        // Given
+        bookCatalogWriter.upsert(listOf(book(publisher = "인사이트", description = null)))
+
+        // When
+        bookCatalogWriter.upsert(listOf(book(publisher = null, description = "애자일 소프트웨어 장인 정신")))
+
+        // Then
+        val saved = bookRepository.findByIdOrNull("9788966260959")
+        assertThat(saved).isNotNull
+        assertThat(saved!!.publisher).isEqualTo("인사이트")
+        assertThat(saved.description).isEqualTo("애자일 소프트웨어 장인 정신")
+        assertThat(bookRepository.count()).isEqualTo(1)
+    }
+
+    @Test
+    fun `upsert_ISBN13이_없는_책은_저장하지_않음`() {
+        // When
+        bookCatalogWriter.upsert(listOf(book(publisher = null, description = null).copy(isbn13 = null)))
+
+        // Then
+        assertThat(bookRepository.count()).isZero()
+    }
+
+    private fun book(publisher: String?, description: String?) = Book(
+        isbn13 = "9788966260959",
+        isbn10 = "8966260950",
+        title = "클린 코드",
+        authors = listOf("로버트 C. 마틴"),
+        publisher = publisher,
+        publishedDate = null,
+        description = description,
+        thumbnail = null,
+        listPrice = 33000,
+        salePrice = null,
+        sources = listOf("kakao")
+    )
+}
@@ -1,47 +1,112 @@
 package com.books.book.application
 
+import com.books.book.entity.BookEntity
+import com.books.book.entity.BookRepository
+import com.books.config.BlockingIo
+import com.books.external.api.payload.kakao.request.KotlinKakaoSearchRequest
+import com.books.external.api.payload.kakao.response.KotlinKakaoDocument
+import com.books.external.api.payload.kakao.response.KotlinKakaoMeta
+import com.books.external.api.payload.kakao.response.KotlinKakaoSearchResponse
+import com.books.external.application.KotlinUnifiedBooksFacade
+import kotlinx.coroutines.runBlocking
 import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
-import org.springframework.boot.test.context.SpringBootTest
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.Mock
+import org.mockito.Mockito.`when`
+import org.mockito.junit.jupiter.MockitoExtension
+import org.mockito.kotlin.any
+import org.mockito.kotlin.never
+import org.mockito.kotlin.verify
+import java.util.Optional
 
-@SpringBootTest
+@ExtendWith(MockitoExtension::class)
 class KotlinBookServiceTest {
 
-    private val kotlinBookService: KotlinBookService = KotlinBookServiceImpl()
+    @Mock
+    private lateinit var bookRepository: BookRepository
+
+    @Mock
+    private lateinit var kotlinUnifiedBooksFacade: KotlinUnifiedBooksFacade
+
+    @Mock
+    private lateinit var bookCatalogWriter: BookCatalogWriter
+
+    private lateinit var kotlinBookService: KotlinBookService
+
+    @BeforeEach
+    fun setUp() {
+        kotlinBookService = KotlinBookServiceImpl(bookRepository, kotlinUnifiedBooksFacade, bookCatalogWriter, BlockingIo.platform())
+    }
 
     @Test
-    fun `getBookNameByIsbn_올바른_ISBN으로_책_이름_반환`() {
+    fun `getBookNameByIsbn_카탈로그에_있으면_제공자_호출없이_반환`() = runBlocking<Unit> {
         // Given
         val isbn = "9788966260959"
+        `when`(bookRepository.findById(isbn)).thenReturn(Optional.of(BookEntity(isbn13 = isbn, title = "클린코드")))
 
         // When
         val result = kotlinBookService.getBookNameByIsbn(isbn)
 
         // Then
         assertThat(result).isEqualTo("클린코드")
+        verify(kotlinUnifiedBooksFacade, never()).searchKakao(any<KotlinKakaoSearchRequest>())
     }
 
     @Test
-    fun `getBookNameByIsbn_다른_ISBN으로도_동일한_책_이름_반환`() {
+    fun `getBookNameByIsbn_ISBN10도_ISBN13으로_변환해_조회`() = runBlocking<Unit> {
         // Given
-        val isbn = "9788966261000"
+        `when`(bookRepository.findById("9788966260959"))
+            .thenReturn(Optional.of(BookEntity(isbn13 = "9788966260959", title = "클린코드")))
 
         // When
-        val result = kotlinBookService.getBookNameByIsbn(isbn)
+        val result = kotlinBookService.getBookNameByIsbn("8966260950")
 
         // Then
         assertThat(result).isEqualTo("클린코드")
     }
 
     @Test
-    fun `getBookNameByIsbn_빈_문자열_ISBN으로_책_이름_반환`() {
+    fun `getBookNameByIsbn_카탈로그에_없으면_제공자_검색후_바로_저장`() = runBlocking<Unit> {
         // Given
-        val isbn = ""
+        val isbn = "9788966262472"
+        `when`(bookRepository.findById(isbn)).thenReturn(Optional.empty())
+        `when`(kotlinUnifiedBooksFacade.searchKakao(any<KotlinKakaoSearchRequest>())).thenReturn(
+            KotlinKakaoSearchResponse(
+                documents = listOf(
+                    KotlinKakaoDocument(
+                        authors = arrayOf("로버트 C. 마틴"),
+                        contents = "",
+                        datetime = "2019-08-20T00:00:00.000+09:00",
+                        isbn = "8966262473 9788966262472",
+                        price = 29000,
+                        publisher = "인사이트",
+                        salePrice = 26100,
+                        status = "정상판매",
+                        thumbnail = "",
+                        title = "클린 아키텍처",
+                        translators = emptyArray(),
+                        url = ""
+                    )
+                ),
+                meta = KotlinKakaoMeta(is_end = true, pageable_count = 1, total_count = 1)
+            )
+        )
 
         // When
         val result = kotlinBookService.getBookNameByIsbn(isbn)
 
         // Then
-        assertThat(result).isEqualTo("클린코드")
+        assertThat(result).isEqualTo("클린 아키텍처")
+        verify(bookCatalogWriter).upsert(any())
+    }
+
+    @Test
+    fun `getBookNameByIsbn_빈_문자열_ISBN은_찾을수_없음`() {
+        // When & Then
+        assertThatThrownBy { runBlocking { kotlinBookService.getBookNameByIsbn("") } }
+            .isInstanceOf(BookNotFoundException::class.java)
     }
-}
\ No newline at end of file
+}
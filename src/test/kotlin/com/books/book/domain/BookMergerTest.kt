@@ -0,0 +1,90 @@
+package com.books.book.domain
+
+import com.books.external.api.payload.kakao.response.KotlinKakaoDocument
+import com.books.external.api.payload.response.naver.KotlinNaverSearchResponse
+import com.books.external.application.BookMapper
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+import java.time.LocalDate
+
+class BookMergerTest {
+
+    @Test
+    fun `parse_카카오_ISBN10_ISBN13_분리`() {
+        // When
+        val isbn = Isbn.parse("8966260950 9788966260959")
+
+        // Then
+        assertThat(isbn.isbn10).isEqualTo("8966260950")
+        assertThat(isbn.isbn13).isEqualTo("9788966260959")
+    }
+
+    @Test
+    fun `parse_ISBN10만_있으면_ISBN13_계산`() {
+        // When
+        val isbn = Isbn.parse("89-6626-095-0 ")
+
+        // Then
+        assertThat(isbn.isbn13).isEqualTo("9788966260959")
+    }
+
+    @Test
+    fun `merge_같은_ISBN13은_하나로_합치고_빈_필드만_채움`() {
+        // Given
+        val kakao = BookMapper.from(
+            KotlinKakaoDocument(
+                authors = arrayOf("로버트 C. 마틴"),
+                contents = "",
+                datetime = "2013-12-24T00:00:00.000+09:00",
+                isbn = "8966260950 9788966260959",
+                price = 33000,
+                publisher = "인사이트",
+                salePrice = 29700,
+                status = "정상판매",
+                thumbnail = "https://thumbnail/kakao.jpg",
+                title = "Clean Code(클린 코드)",
+                translators = arrayOf("박재호"),
+                url = "https://search.daum.net/clean-code"
+            )
+        )
+        val naver = BookMapper.from(
+            KotlinNaverSearchResponse(
+                title = "<b>클린 코드</b>",
+                image = "https://thumbnail/naver.jpg",
+                author = "로버트 C. 마틴^박재호",
+                price = "33000",
+                discount = "29700",
+                publisher = "인사이트",
+                pubdate = "20131224",
+                isbn = "9788966260959",
+                description = "애자일 소프트웨어 장인 정신",
+                link = "https://search.shopping.naver.com/book/clean-code"
+            )
+        )
+        val other = naver.copy(isbn13 = "9788966262472", title = "클린 아키텍처")
+
+        // When
+        val merged = BookMerger.merge(listOf(kakao, naver, other))
+
+        // Then
+        assertThat(merged).hasSize(2)
+        assertThat(merged[0].title).isEqualTo("Clean Code(클린 코드)")
+        assertThat(merged[0].description).isEqualTo("애자일 소프트웨어 장인 정신")
+        assertThat(merged[0].publishedDate).isEqualTo(LocalDate.of(2013, 12, 24))
+        assertThat(merged[0].sources).containsExactly("kakao", "naver")
+        assertThat(merged[0].links).containsOnlyKeys("kakao", "naver")
+        assertThat(merged[1].title).isEqualTo("클린 아키텍처")
+    }
+
+    @Test
+    fun `merge_ISBN이_없는_책은_합치지_않음`() {
+        // Given
+        val book = Book(null, null, "무제", emptyList(), null, null, null, null, null, null, listOf("naver"))
+
+        // When
+        val merged = BookMerger.merge(listOf(book, book))
+
+        // Then
+        assertThat(merged).hasSize(2)
+    }
+}
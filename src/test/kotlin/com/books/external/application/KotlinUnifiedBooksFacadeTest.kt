@@ -7,9 +7,29 @@ import com.books.external.api.payload.request.aladin.KotlinAladinBookRequest
 import com.books.external.api.payload.request.naver.KotlinNaverSearchRequest
 import com.books.external.api.payload.response.aladin.KotlinAladinBookResponse
 import com.books.external.api.payload.response.naver.KotlinNaverBookResponse
+import com.books.external.api.payload.request.aladin.AladinBookRequest
+import com.books.external.api.payload.request.kakao.KakaoSearchRequest
+import com.books.external.api.payload.request.naver.NaverSearchRequest
+import com.books.external.api.payload.response.aladin.AladinBookResponse
+import com.books.external.api.payload.response.kakao.KakaoBookResponse
+import com.books.external.api.payload.response.naver.NaverBookResponse
+import com.books.book.application.BookCatalogWriter
+import com.books.config.BooksProperties
 import com.books.external.application.aladin.KotlinAladinBookService
+import com.books.external.application.cache.MissingIsbnFilter
+import com.books.external.application.cache.SearchResponseCache
+import com.books.external.application.canonical.QueryCanonicalizer
+import com.books.external.application.hotkeys.HotKeyword
+import com.books.external.application.hotkeys.HotKeywordTracker
 import com.books.external.application.kakao.KotlinKakaoBooksService
 import com.books.external.application.naver.KotlinNaverBookService
+import com.books.external.application.metrics.FacadeMetrics
+import com.books.external.application.resilience.ProviderCircuitBreakers
+import com.books.external.application.searchlog.SearchLogEntry
+import com.books.external.application.searchlog.SearchLogStatistics
+import com.books.external.application.searchlog.SearchLogWriter
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.runBlocking
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.BeforeEach
@@ -17,8 +37,15 @@ import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
 import org.mockito.Mock
 import org.mockito.Mockito.`when`
+import org.mockito.Mockito.verifyNoInteractions
 import org.mockito.junit.jupiter.MockitoExtension
 import org.mockito.kotlin.any
+import org.mockito.kotlin.argumentCaptor
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.times
+import org.mockito.kotlin.verify
+import org.springframework.boot.context.properties.bind.Binder
+import org.springframework.core.env.StandardEnvironment
 import reactor.core.publisher.Mono
 import reactor.test.StepVerifier
 
@@ -34,14 +61,36 @@ class KotlinUnifiedBooksFacadeTest {
     @Mock
     private lateinit var naverBookService: KotlinNaverBookService
 
+    @Mock
+    private lateinit var bookCatalogWriter: BookCatalogWriter
+
+    @Mock
+    private lateinit var searchLogWriter: SearchLogWriter
+
+    @Mock
+    private lateinit var searchLogStatistics: SearchLogStatistics
+
+    private lateinit var properties: BooksProperties
+    private lateinit var hotKeywordTracker: HotKeywordTracker
     private lateinit var kotlinUnifiedBooksFacade: KotlinUnifiedBooksFacade
 
     @BeforeEach
     fun setUp() {
+        properties = Binder.get(StandardEnvironment())
+            .bindOrCreate("books", BooksProperties::class.java)
+        hotKeywordTracker = HotKeywordTracker(properties)
+
         kotlinUnifiedBooksFacade = KotlinUnifiedBooksFacade(
             aladinBookService,
             kakaoBookService,
-            naverBookService
+            naverBookService,
+            SearchResponseCache(properties),
+            bookCatalogWriter,
+            FacadeMetrics(SimpleMeterRegistry()),
+            searchLogWriter,
+            searchLogStatistics,
+            hotKeywordTracker,
+            QueryCanonicalizer(properties)
         )
     }
 
@@ -107,6 +156,26 @@ class KotlinUnifiedBooksFacadeTest {
         assertThat(result).isEqualTo(expectedResponse)
     }
 
+    @Test
+    fun `searchKakao_표기만_다른_검색어는_정규화한_요청으로_한_번만_호출`() = runBlocking {
+        // Given
+        val response = KotlinKakaoSearchResponse(
+            meta = KotlinKakaoMeta(total_count = 100, pageable_count = 50, is_end = false),
+            documents = emptyList()
+        )
+        `when`(kakaoBookService.search(any<KotlinKakaoSearchRequest>())).thenReturn(response)
+
+        // When
+        kotlinUnifiedBooksFacade.searchKakao(KotlinKakaoSearchRequest(" Clean  Code ", "title"))
+        kotlinUnifiedBooksFacade.searchKakao(KotlinKakaoSearchRequest("clean code", "title", 1, 10))
+        kotlinUnifiedBooksFacade.searchKakaoMono(KotlinKakaoSearchRequest("CLEAN CODE", "title")).block()
+
+        // Then
+        val captor = argumentCaptor<KotlinKakaoSearchRequest>()
+        verify(kakaoBookService, times(1)).search(captor.capture())
+        assertThat(captor.firstValue).isEqualTo(KotlinKakaoSearchRequest("clean code", "title", 1, 10))
+    }
+
     @Test
     fun `searchNaver_네이버_서비스_정상_호출`() = runBlocking {
         // Given
@@ -226,24 +295,10 @@ class KotlinUnifiedBooksFacadeTest {
     }
 
     @Test
-    fun `getSearchStatistics_검색_통계_정상_반환`() = runBlocking {
+    fun `searchAll_제공자별_결과를_검색_로그에_기록`() = runBlocking {
         // Given
         val keyword = "Spring Boot"
 
-        val aladinResponse = KotlinAladinBookResponse(
-            version = "20131101",
-            logo = "http://image.aladin.co.kr/img/header/2003/aladin_logo_new.gif",
-            title = "알라딘 검색결과 - Spring Boot",
-            link = "http://www.aladin.co.kr/search/wsearchresult.aspx",
-            pubDate = "Wed, 06 Nov 2024 17:34:14 GMT",
-            totalResults = 145,
-            startIndex = 1,
-            query = keyword,
-            searchCategoryId = 0,
-            searchCategoryName = "전체",
-            item = emptyList()
-        )
-
         val kakaoResponse = KotlinKakaoSearchResponse(
             meta = KotlinKakaoMeta(
                 total_count = 100,
@@ -254,19 +309,134 @@ class KotlinUnifiedBooksFacadeTest {
         )
 
         `when`(aladinBookService.search(any<KotlinAladinBookRequest>()))
-            .thenReturn(aladinResponse)
+            .thenThrow(RuntimeException("Aladin API Error"))
         `when`(kakaoBookService.search(any<KotlinKakaoSearchRequest>()))
             .thenReturn(kakaoResponse)
         `when`(naverBookService.search(any<KotlinNaverSearchRequest>()))
             .thenThrow(RuntimeException("Naver API Error"))
 
+        // When
+        kotlinUnifiedBooksFacade.searchAll(keyword)
+
+        // Then
+        val entry = argumentCaptor<SearchLogEntry>()
+        verify(searchLogWriter).record(entry.capture())
+
+        assertThat(entry.firstValue.keyword).isEqualTo("spring boot")
+        assertThat(entry.firstValue.operation).isEqualTo("unified")
+        assertThat(entry.firstValue.outcomes.map { Triple(it.provider, it.status, it.resultCount) }).containsExactly(
+            Triple(BookProvider.ALADIN, ProviderStatus.FAILED, null),
+            Triple(BookProvider.KAKAO, ProviderStatus.SUCCESS, 100L),
+            Triple(BookProvider.NAVER, ProviderStatus.FAILED, null)
+        )
+    }
+
+    @Test
+    fun `getSearchStatistics_제공자를_호출하지_않고_검색_로그_집계를_반환`() = runBlocking {
+        // Given
+        val keyword = "Spring Boot"
+        val statistics = SearchStatistics(
+            totalResults = 245,
+            successfulApis = 2,
+            failedApis = 1,
+            searchKeyword = keyword
+        )
+
+        `when`(searchLogStatistics.statistics("spring boot")).thenReturn(statistics)
+
         // When
         val result = kotlinUnifiedBooksFacade.getSearchStatistics(keyword)
 
         // Then
-        assertThat(result.searchKeyword).isEqualTo(keyword)
-        assertThat(result.successfulApis).isEqualTo(2)
-        assertThat(result.failedApis).isEqualTo(1)
+        assertThat(result).isEqualTo(statistics)
         assertThat(result.successRate).isEqualTo(66.66666666666667)
+        verifyNoInteractions(aladinBookService, kakaoBookService, naverBookService)
+    }
+
+    @Test
+    fun `searchStream_제공자별_이벤트를_하나씩_방출`() = runBlocking<Unit> {
+        // Given
+        val keyword = "Spring Boot"
+
+        val kakaoResponse = KotlinKakaoSearchResponse(
+            meta = KotlinKakaoMeta(
+                total_count = 100,
+                pageable_count = 50,
+                is_end = false
+            ),
+            documents = emptyList()
+        )
+
+        val naverResponse = KotlinNaverBookResponse(
+            lastBuildDate = "Wed, 06 Nov 2024 17:34:14 +0900",
+            total = 100,
+            start = 1,
+            display = 10,
+            items = emptyList()
+        )
+
+        `when`(aladinBookService.search(any<KotlinAladinBookRequest>()))
+            .thenThrow(RuntimeException("Aladin API Error"))
+        `when`(kakaoBookService.search(any<KotlinKakaoSearchRequest>()))
+            .thenReturn(kakaoResponse)
+        `when`(naverBookService.search(any<KotlinNaverSearchRequest>()))
+            .thenReturn(naverResponse)
+
+        // When
+        val events = kotlinUnifiedBooksFacade.searchStream(keyword).toList()
+
+        // Then
+        assertThat(events).hasSize(3)
+        assertThat(events.map { it.provider }).containsExactlyInAnyOrder("aladin", "kakao", "naver")
+
+        val byProvider = events.associateBy { it.provider }
+        assertThat(byProvider.getValue("aladin").status).isEqualTo(ProviderStatus.FAILED)
+        assertThat(byProvider.getValue("aladin").error).isEqualTo("Aladin API Error")
+        assertThat(byProvider.getValue("kakao").result).isEqualTo(kakaoResponse)
+        assertThat(byProvider.getValue("naver").result).isEqualTo(naverResponse)
+    }
+
+    @Test
+    fun `searchAll_Java_와_Kotlin_facade_는_같은_정규화_키워드로_로그와_인기_검색어를_남김`() = runBlocking {
+        // Given
+        val aladinService = mock<AladinBookService>()
+        val kakaoService = mock<KakaoBookService>()
+        val naverService = mock<NaverBookService>()
+        val externalBooksFacade = ExternalBooksFacade(
+            aladinService,
+            kakaoService,
+            naverService,
+            SearchResponseCache(properties),
+            ProviderCircuitBreakers(properties),
+            bookCatalogWriter,
+            FacadeMetrics(SimpleMeterRegistry()),
+            searchLogWriter,
+            hotKeywordTracker,
+            MissingIsbnFilter(properties),
+            QueryCanonicalizer(properties),
+            properties
+        )
+
+        `when`(aladinService.search(any<AladinBookRequest>())).thenReturn(Mono.error<AladinBookResponse>(RuntimeException("Aladin API Error")))
+        `when`(kakaoService.search(any<KakaoSearchRequest>())).thenReturn(Mono.error<KakaoBookResponse>(RuntimeException("Kakao API Error")))
+        `when`(naverService.search(any<NaverSearchRequest>())).thenReturn(Mono.error<NaverBookResponse>(RuntimeException("Naver API Error")))
+        `when`(aladinBookService.search(any<KotlinAladinBookRequest>())).thenThrow(RuntimeException("Aladin API Error"))
+        `when`(kakaoBookService.search(any<KotlinKakaoSearchRequest>())).thenThrow(RuntimeException("Kakao API Error"))
+        `when`(naverBookService.search(any<KotlinNaverSearchRequest>())).thenThrow(RuntimeException("Naver API Error"))
+        `when`(searchLogStatistics.statistics("clean code"))
+            .thenReturn(SearchStatistics(totalResults = 0, successfulApis = 0, failedApis = 6, searchKeyword = "clean code"))
+
+        // When
+        externalBooksFacade.searchAll("Clean Code").block()
+        kotlinUnifiedBooksFacade.searchAll("clean  code")
+        val statistics = kotlinUnifiedBooksFacade.getSearchStatistics("CLEAN CODE")
+
+        // Then
+        val entries = argumentCaptor<SearchLogEntry>()
+        verify(searchLogWriter, times(2)).record(entries.capture())
+
+        assertThat(entries.allValues.map { it.keyword }).containsOnly("clean code")
+        assertThat(hotKeywordTracker.top(10)).containsExactly(HotKeyword("clean code", 2))
+        assertThat(statistics.failedApis).isEqualTo(6)
     }
-}
\ No newline at end of file
+}
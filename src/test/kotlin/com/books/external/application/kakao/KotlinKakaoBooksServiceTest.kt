@@ -1,8 +1,10 @@
 package com.books.external.application.kakao
 
+import com.books.config.BooksProperties
 import com.books.external.api.payload.kakao.request.KotlinKakaoSearchRequest
 import com.books.external.api.payload.kakao.response.KotlinKakaoSearchResponse
 import com.books.external.api.payload.kakao.response.KotlinKakaoMeta
+import com.books.external.application.resilience.ProviderCircuitBreakers
 import com.fasterxml.jackson.databind.ObjectMapper
 import kotlinx.coroutines.runBlocking
 import okhttp3.mockwebserver.MockResponse
@@ -12,7 +14,9 @@ import org.junit.jupiter.api.AfterAll
 import org.junit.jupiter.api.BeforeAll
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
+import org.springframework.boot.context.properties.bind.Binder
 import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.core.env.StandardEnvironment
 import org.springframework.web.reactive.function.client.WebClient
 import reactor.test.StepVerifier
 import java.io.IOException
@@ -48,7 +52,8 @@ class KotlinKakaoBooksServiceTest {
             .baseUrl(mockWebServer.url("/").toString())
             .build()
 
-        kotlinKakaoBooksService = KotlinKakaoBooksServiceImpl(webClient)
+        val properties = Binder.get(StandardEnvironment()).bindOrCreate("books", BooksProperties::class.java)
+        kotlinKakaoBooksService = KotlinKakaoBooksServiceImpl(webClient, ProviderCircuitBreakers(properties))
         setKakaoAK(kotlinKakaoBooksService, "test-kakao-ak")
 
         objectMapper = ObjectMapper()
@@ -0,0 +1,106 @@
+package com.books.external.application.paging
+
+import com.books.external.api.payload.kakao.request.KotlinKakaoSearchRequest
+import com.books.external.api.payload.kakao.response.KotlinKakaoDocument
+import com.books.external.api.payload.kakao.response.KotlinKakaoMeta
+import com.books.external.api.payload.kakao.response.KotlinKakaoSearchResponse
+import com.books.external.api.payload.request.naver.KotlinNaverSearchRequest
+import com.books.external.api.payload.response.naver.KotlinNaverBookResponse
+import com.books.external.api.payload.response.naver.KotlinNaverSearchResponse
+import com.books.external.application.KotlinUnifiedBooksFacade
+import kotlinx.coroutines.flow.count
+import kotlinx.coroutines.flow.take
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+import org.mockito.kotlin.any
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.stub
+import org.mockito.kotlin.verify
+import java.util.concurrent.atomic.AtomicInteger
+
+class KotlinBooksPagerTest {
+
+    private val kotlinUnifiedBooksFacade = mock<KotlinUnifiedBooksFacade>()
+    private val kotlinBooksPager = KotlinBooksPager(kotlinUnifiedBooksFacade)
+    private val fetchedPages = AtomicInteger()
+
+    @Test
+    fun `naver_total_까지_start_를_display_만큼_이동하며_순회`() = runBlocking {
+        // Given
+        naverWithTotal(250)
+
+        // When
+        val count = kotlinBooksPager.naver("클린코드").count()
+
+        // Then
+        assertThat(count).isEqualTo(250)
+        assertThat(fetchedPages.get()).isEqualTo(3)
+        verify(kotlinUnifiedBooksFacade).recordKeyword("클린코드")
+    }
+
+    @Test
+    fun `naver_수집을_멈추면_남은_페이지는_요청하지_않음`() = runBlocking {
+        // Given
+        naverWithTotal(1000)
+
+        // When
+        val count = kotlinBooksPager.naver("클린코드").take(150).count()
+
+        // Then
+        assertThat(count).isEqualTo(150)
+        assertThat(fetchedPages.get()).isLessThanOrEqualTo(3)
+    }
+
+    @Test
+    fun `kakao_is_end_이면_종료`() = runBlocking {
+        // Given
+        kotlinUnifiedBooksFacade.stub {
+            onBlocking { searchKakao(any()) }.doAnswer { invocation ->
+                val request = invocation.getArgument<KotlinKakaoSearchRequest>(0)
+                fetchedPages.incrementAndGet()
+                KotlinKakaoSearchResponse(
+                    documents = List(request.size!!) { i -> document("isbn-${request.page}-$i") },
+                    meta = KotlinKakaoMeta(is_end = request.page == 2, pageable_count = 100, total_count = 100)
+                )
+            }
+        }
+
+        // When
+        val count = kotlinBooksPager.kakao("클린코드").count()
+
+        // Then
+        assertThat(count).isEqualTo(100)
+        assertThat(fetchedPages.get()).isEqualTo(2)
+    }
+
+    @Test
+    fun `pages_수집하기_전에는_인기_검색어를_세지_않음`() {
+        // When
+        kotlinBooksPager.naver("클린코드")
+
+        // Then
+        verify(kotlinUnifiedBooksFacade, never()).recordKeyword(any())
+    }
+
+    private fun naverWithTotal(total: Int) {
+        kotlinUnifiedBooksFacade.stub {
+            onBlocking { searchNaver(any()) }.doAnswer { invocation ->
+                val request = invocation.getArgument<KotlinNaverSearchRequest>(0)
+                fetchedPages.incrementAndGet()
+                val count = maxOf(0, minOf(request.display, total - request.start + 1))
+                KotlinNaverBookResponse(
+                    lastBuildDate = "",
+                    total = total,
+                    start = request.start,
+                    display = request.display,
+                    items = List(count) { KotlinNaverSearchResponse("title", "", "", "", "", "", "", "", "") }
+                )
+            }
+        }
+    }
+
+    private fun document(isbn: String) =
+        KotlinKakaoDocument(emptyArray(), "", "", isbn, 0, "", 0, "", "", "title", emptyArray(), "")
+}
@@ -0,0 +1,79 @@
+package com.books.external.application.searchlog
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class MpscRingBufferTest {
+
+    @Test
+    fun `capacity_는_2의_거듭제곱으로_올림`() {
+        assertThat(MpscRingBuffer<Int>(1000).capacity()).isEqualTo(1024)
+        assertThat(MpscRingBuffer<Int>(1024).capacity()).isEqualTo(1024)
+        assertThat(MpscRingBuffer<Int>(1).capacity()).isEqualTo(2)
+    }
+
+    @Test
+    fun `가득_차면_offer_는_기다리지_않고_false`() {
+        // Given
+        val buffer = MpscRingBuffer<Int>(4)
+        repeat(4) { assertThat(buffer.offer(it)).isTrue() }
+
+        // When & Then
+        assertThat(buffer.offer(4)).isFalse()
+
+        assertThat(buffer.poll()).isEqualTo(0)
+        assertThat(buffer.offer(4)).isTrue()
+        assertThat(generateSequence { buffer.poll() }.toList()).containsExactly(1, 2, 3, 4)
+    }
+
+    @Test
+    fun `여러_생산자가_동시에_넣어도_유실이나_중복_없이_한_소비자가_모두_꺼냄`() {
+        // Given
+        val producers = 8
+        val perProducer = 50_000
+        val buffer = MpscRingBuffer<Int>(1024)
+        val executor = Executors.newFixedThreadPool(producers)
+        val start = CountDownLatch(1)
+        val rejected = AtomicInteger()
+
+        // When
+        repeat(producers) { p ->
+            executor.execute {
+                start.await()
+                for (i in 0 until perProducer) {
+                    // 가득 차면 소비자가 비울 때까지 다시 시도
+                    while (!buffer.offer(p * perProducer + i)) {
+                        rejected.incrementAndGet()
+                        Thread.onSpinWait()
+                    }
+                }
+            }
+        }
+        start.countDown()
+
+        val seen = BooleanArray(producers * perProducer)
+        val lastByProducer = IntArray(producers) { -1 }
+        var received = 0
+        while (received < seen.size) {
+            val value = buffer.poll() ?: continue
+            assertThat(seen[value]).isFalse()
+            seen[value] = true
+
+            // 같은 생산자가 넣은 값은 넣은 순서대로 나온다
+            val producer = value / perProducer
+            assertThat(value).isGreaterThan(lastByProducer[producer])
+            lastByProducer[producer] = value
+            received++
+        }
+        executor.shutdown()
+
+        // Then
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue()
+        assertThat(buffer.poll()).isNull()
+        assertThat(seen.all { it }).isTrue()
+    }
+}
@@ -0,0 +1,131 @@
+package com.books.external.application.searchlog
+
+import com.books.config.BlockingIo
+import com.books.config.BooksProperties
+import com.books.external.application.BookProvider
+import com.books.external.application.ProviderStatus
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.context.properties.EnableConfigurationProperties
+import org.springframework.boot.context.properties.bind.Binder
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.boot.test.context.TestConfiguration
+import org.springframework.jdbc.core.JdbcTemplate
+import java.time.Instant
+
+@DataJpaTest
+class SearchLogWriterTest @Autowired constructor(
+    private val jdbcTemplate: JdbcTemplate,
+    private val properties: BooksProperties
+) {
+
+    @TestConfiguration
+    @EnableConfigurationProperties(BooksProperties::class)
+    class Config
+
+    // 소비자 스레드를 띄우지 않고 테스트 스레드에서 flushRemaining 으로 반영한다 (테스트 트랜잭션 안에서 실행)
+    private lateinit var searchLogWriter: SearchLogWriter
+    private lateinit var searchLogStatistics: SearchLogStatistics
+
+    @BeforeEach
+    fun setUp() {
+        searchLogWriter = SearchLogWriter(jdbcTemplate, properties)
+        searchLogStatistics = SearchLogStatistics(jdbcTemplate, BlockingIo.platform())
+    }
+
+    @Test
+    fun `flush_제공자_호출마다_로그_1행과_키워드별_집계를_남김`() {
+        // Given
+        val t0 = Instant.parse("2025-10-13T10:00:00Z")
+        searchLogWriter.record(entry("클린코드", t0, outcome(BookProvider.ALADIN, ProviderStatus.SUCCESS, 120, 412),
+            outcome(BookProvider.KAKAO, ProviderStatus.SUCCESS, 80, 418), outcome(BookProvider.NAVER, ProviderStatus.FAILED, 30, null)))
+        searchLogWriter.record(entry("클린코드", t0.plusSeconds(1), outcome(BookProvider.ALADIN, ProviderStatus.SUCCESS, 100, 413),
+            outcome(BookProvider.KAKAO, ProviderStatus.TIMEOUT, 4000, null), outcome(BookProvider.NAVER, ProviderStatus.SUCCESS, 50, 1204)))
+        searchLogWriter.record(entry("리팩터링", t0, outcome(BookProvider.KAKAO, ProviderStatus.SKIPPED, 0, null)))
+
+        // When
+        searchLogWriter.flushRemaining()
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM search_log", Long::class.java)).isEqualTo(7)
+
+        val statistics = searchLogStatistics.read("클린코드")
+        assertThat(statistics.providers.map { it.provider }).containsExactly("aladin", "kakao", "naver")
+
+        val kakao = statistics.providers[1]
+        assertThat(kakao.searches).isEqualTo(2)
+        assertThat(kakao.successes).isEqualTo(1)
+        assertThat(kakao.failures).isEqualTo(1)
+        assertThat(kakao.averageLatencyMillis).isEqualTo(2040)
+        assertThat(kakao.lastStatus).isEqualTo(ProviderStatus.TIMEOUT)
+        // 실패한 최근 호출은 마지막 결과 수를 지우지 않는다
+        assertThat(kakao.lastResultCount).isEqualTo(418)
+
+        assertThat(statistics.totalResults).isEqualTo(413 + 418 + 1204)
+        assertThat(statistics.successfulApis).isEqualTo(2)
+        assertThat(statistics.failedApis).isEqualTo(1)
+    }
+
+    @Test
+    fun `flush_batch_를_나눠_반영해도_집계는_누적`() {
+        // Given
+        val t0 = Instant.parse("2025-10-13T10:00:00Z")
+        searchLogWriter.record(entry("클린코드", t0, outcome(BookProvider.NAVER, ProviderStatus.SUCCESS, 40, 1204)))
+        searchLogWriter.flushRemaining()
+
+        // When
+        searchLogWriter.record(entry("클린코드", t0.plusSeconds(1), outcome(BookProvider.NAVER, ProviderStatus.SUCCESS, 60, 1205)))
+        searchLogWriter.flushRemaining()
+
+        // Then
+        val naver = searchLogStatistics.read("클린코드").providers.single()
+        assertThat(naver.searches).isEqualTo(2)
+        assertThat(naver.averageLatencyMillis).isEqualTo(50)
+        assertThat(naver.lastResultCount).isEqualTo(1205)
+        assertThat(naver.lastSearchedAt).isEqualTo(t0.plusSeconds(1))
+    }
+
+    @Test
+    fun `prune_retention_이_지난_행과_max_rows_밖의_행은_지우고_집계는_남김`() {
+        // Given
+        val writer = SearchLogWriter(jdbcTemplate, Binder(MapConfigurationPropertySource(mapOf(
+            "books.search-log.retention" to "1h",
+            "books.search-log.max-rows" to "2"
+        ))).bindOrCreate("books", BooksProperties::class.java))
+
+        val now = Instant.parse("2025-10-13T10:00:00Z")
+        writer.record(entry("클린코드", now.minusSeconds(7200), outcome(BookProvider.ALADIN, ProviderStatus.SUCCESS, 100, 412)))
+        for (seconds in 30L downTo 10L step 10) {
+            writer.record(entry("클린코드", now.minusSeconds(seconds), outcome(BookProvider.ALADIN, ProviderStatus.SUCCESS, 100, 412)))
+        }
+        writer.flushRemaining()
+
+        // When
+        writer.prune(now)
+
+        // Then
+        assertThat(jdbcTemplate.queryForList("SELECT searched_at FROM search_log ORDER BY id", Instant::class.java))
+            .containsExactly(now.minusSeconds(20), now.minusSeconds(10))
+        assertThat(searchLogStatistics.read("클린코드").providers.single().searches).isEqualTo(4)
+    }
+
+    @Test
+    fun `read_기록이_없는_키워드는_빈_통계`() {
+        // When
+        val statistics = searchLogStatistics.read("없는키워드")
+
+        // Then
+        assertThat(statistics.providers).isEmpty()
+        assertThat(statistics.totalResults).isZero()
+        assertThat(statistics.successRate).isZero()
+    }
+
+    private fun entry(keyword: String, searchedAt: Instant, vararg outcomes: ProviderOutcome) =
+        SearchLogEntry(keyword, "unified", searchedAt, outcomes.toList())
+
+    private fun outcome(provider: BookProvider, status: ProviderStatus, latencyMillis: Long, resultCount: Long?) =
+        ProviderOutcome(provider, status, latencyMillis, resultCount, if (status == ProviderStatus.SUCCESS) null else status.name)
+}